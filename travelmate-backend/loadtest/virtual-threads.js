@@ -0,0 +1,48 @@
+// 플랫폼 스레드 / 가상 스레드 모드 처리량·p99 비교용 k6 시나리오
+//
+// 1) 같은 이미지를 JDK 21 로 빌드: docker build --build-arg JAVA_VERSION=21 -t travelmate-backend:jdk21 .
+// 2) VIRTUAL_THREADS_ENABLED=false / true 로 각각 기동한 뒤 같은 조건으로 실행
+//    k6 run -e BASE_URL=http://localhost:8080/api -e EMAIL=... -e PASSWORD=... -e MODE=platform loadtest/virtual-threads.js
+//    k6 run -e BASE_URL=http://localhost:8080/api -e EMAIL=... -e PASSWORD=... -e MODE=virtual  loadtest/virtual-threads.js
+// 3) 요약의 http_reqs(처리량)와 http_req_duration p(99)를 비교한다.
+//    가상 스레드 고정 여부는 JAVA_OPTS 에 -Djdk.tracePinnedThreads=short 를 추가해 로그로 확인한다.
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080/api';
+const MODE = __ENV.MODE || 'platform';
+
+export const options = {
+  scenarios: {
+    // 요청 수를 고정해 두 모드의 지연 분포를 같은 부하에서 비교
+    constant: {
+      executor: 'constant-arrival-rate',
+      rate: Number(__ENV.RATE || 500),
+      timeUnit: '1s',
+      duration: __ENV.DURATION || '2m',
+      preAllocatedVUs: 200,
+      maxVUs: Number(__ENV.MAX_VUS || 2000),
+    },
+  },
+  summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+  tags: { mode: MODE },
+};
+
+export function setup() {
+  const res = http.post(`${BASE_URL}/auth/login`,
+    JSON.stringify({ email: __ENV.EMAIL, password: __ENV.PASSWORD }),
+    { headers: { 'Content-Type': 'application/json' } });
+  check(res, { 'login 200': (r) => r.status === 200 });
+  return { token: res.json('accessToken') };
+}
+
+export default function (data) {
+  const params = { headers: { Authorization: `Bearer ${data.token}` } };
+  // DB 조회 위주의 블로킹 엔드포인트
+  const responses = http.batch([
+    ['GET', `${BASE_URL}/groups?page=0&size=20`, null, params],
+    ['GET', `${BASE_URL}/groups/my-groups`, null, params],
+    ['GET', `${BASE_URL}/auth/me`, null, params],
+  ]);
+  responses.forEach((r) => check(r, { 'status 200': (res) => res.status === 200 }));
+}
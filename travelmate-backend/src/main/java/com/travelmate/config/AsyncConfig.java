@@ -2,23 +2,80 @@ package com.travelmate.config;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
 
+/**
+ * 작업 유형별 비동기 실행기
+ * 느린 SMTP/RPC 호출이 알림 처리를 막지 않도록 작업 유형마다 풀을 분리한다.
+ * 각 실행기는 app.async.{이름}.core-pool-size / max-pool-size / queue-capacity / policy 로 조정한다.
+ * 가상 스레드 모드에서도 풀 크기가 동시 실행 상한 역할을 한다.
+ */
 @Configuration
 @EnableAsync
 public class AsyncConfig {
 
+    public static final String NOTIFICATION_EXECUTOR = "notificationExecutor";
+    public static final String MAIL_EXECUTOR = "mailExecutor";
+    public static final String BLOCKCHAIN_EXECUTOR = "blockchainExecutor";
+    public static final String NOTIFICATION_FANOUT_EXECUTOR = "notificationFanoutExecutor";
+
+    private final Environment environment;
+    private final ExecutorMetrics executorMetrics;
+    private final VirtualThreadMode virtualThreadMode;
+
+    public AsyncConfig(Environment environment, ExecutorMetrics executorMetrics, VirtualThreadMode virtualThreadMode) {
+        this.environment = environment;
+        this.executorMetrics = executorMetrics;
+        this.virtualThreadMode = virtualThreadMode;
+    }
+
+    // 이름을 지정하지 않은 @Async 기본 실행기
     @Bean(name = "taskExecutor")
     public Executor taskExecutor() {
+        return executor("default", "TravelMate-Async-", 5, 10, 100, "abort");
+    }
+
+    // 알림 저장/전송 (가득 차면 호출 스레드에서 실행해 유실 없이 속도 조절)
+    @Bean(name = NOTIFICATION_EXECUTOR)
+    public ThreadPoolTaskExecutor notificationExecutor() {
+        return executor("notification", "TravelMate-Notify-", 4, 8, 1000, "caller-runs");
+    }
+
+    // 메일 발송 (SMTP 지연이 요청 스레드로 번지지 않도록 가득 차면 거부)
+    @Bean(name = MAIL_EXECUTOR)
+    public ThreadPoolTaskExecutor mailExecutor() {
+        return executor("mail", "TravelMate-Mail-", 2, 4, 500, "abort");
+    }
+
+    // 블록체인 RPC (민팅)
+    @Bean(name = BLOCKCHAIN_EXECUTOR)
+    public ThreadPoolTaskExecutor blockchainExecutor() {
+        return executor("blockchain", "TravelMate-Chain-", 2, 4, 200, "abort");
+    }
+
+    // 알림 팬아웃 전용
+    @Bean(name = NOTIFICATION_FANOUT_EXECUTOR)
+    public ThreadPoolTaskExecutor notificationFanoutExecutor() {
+        return executor("notification-fanout", "TravelMate-Fanout-", 4, 4, 1000, "caller-runs");
+    }
+
+    private ThreadPoolTaskExecutor executor(String name, String threadNamePrefix,
+                                            int corePoolSize, int maxPoolSize, int queueCapacity, String policy) {
+        String prefix = "app.async." + name + ".";
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(5);
-        executor.setMaxPoolSize(10);
-        executor.setQueueCapacity(100);
-        executor.setThreadNamePrefix("TravelMate-Async-");
+        executor.setCorePoolSize(environment.getProperty(prefix + "core-pool-size", Integer.class, corePoolSize));
+        executor.setMaxPoolSize(environment.getProperty(prefix + "max-pool-size", Integer.class, maxPoolSize));
+        executor.setQueueCapacity(environment.getProperty(prefix + "queue-capacity", Integer.class, queueCapacity));
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        executorMetrics.register(name, executor, environment.getProperty(prefix + "policy", policy));
+        virtualThreadMode.apply(executor);
         executor.initialize();
         return executor;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,50 @@
+package com.travelmate.config;
+
+import com.travelmate.repository.ChatMessageRepository;
+import com.travelmate.repository.ChatParticipantRepository;
+import com.travelmate.service.chat.ChatMessageIdGenerator;
+import com.travelmate.service.chat.ChatMessageWriter;
+import com.travelmate.service.chat.ChatUnreadCounters;
+import com.travelmate.service.chat.InMemoryChatUnreadCounters;
+import com.travelmate.service.chat.RedisChatUnreadCounters;
+import com.travelmate.service.chat.UncachedChatUnreadCounters;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+
+/**
+ * 읽지 않은 메시지 카운터 설정
+ * simple 브로커(단일 인스턴스)는 인메모리, 그 외에는 Redis 로 인스턴스 간에 공유하고
+ * Redis 를 쓰지 않으면 카운터 없이 DB 로 집계한다.
+ */
+@Configuration
+@Slf4j
+public class ChatUnreadCountersConfig {
+
+    @Bean
+    public ChatUnreadCounters chatUnreadCounters(
+            @Value("${app.websocket.broker.mode:simple}") String brokerMode,
+            @Value("${app.redis.enabled:false}") boolean redisEnabled,
+            @Value("${app.chat.unread.reconcile-lock-ms:600000}") long reconcileLockMillis,
+            ObjectProvider<StringRedisTemplate> stringRedisTemplate,
+            ChatParticipantRepository chatParticipantRepository,
+            ChatMessageRepository chatMessageRepository,
+            ChatMessageWriter chatMessageWriter,
+            ChatMessageIdGenerator idGenerator) {
+        if ("simple".equals(brokerMode)) {
+            return new InMemoryChatUnreadCounters(chatParticipantRepository, chatMessageRepository,
+                    chatMessageWriter, idGenerator);
+        }
+        if (redisEnabled) {
+            return new RedisChatUnreadCounters(stringRedisTemplate.getObject(), chatParticipantRepository,
+                    chatMessageRepository, chatMessageWriter, idGenerator, Duration.ofMillis(reconcileLockMillis));
+        }
+        log.warn("브로커 모드 {} 에서 Redis 미사용: 읽지 않은 메시지 수를 DB 로 집계", brokerMode);
+        return new UncachedChatUnreadCounters();
+    }
+}
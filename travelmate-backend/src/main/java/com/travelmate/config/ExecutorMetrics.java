@@ -0,0 +1,70 @@
+package com.travelmate.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 작업 유형별 실행기 상태 집계
+ * 실행기별 대기열/활성 스레드/완료/거부 수를 모아 두고 주기적으로 로그에 남긴다. (추후 모니터링 연동)
+ */
+@Component
+@Slf4j
+public class ExecutorMetrics {
+
+    private final Map<String, ThreadPoolTaskExecutor> executors = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> rejections = new ConcurrentHashMap<>();
+
+    /**
+     * 실행기 등록 후 포화 정책에 거부 집계를 붙임
+     *
+     * @param policy caller-runs | abort | discard | discard-oldest
+     */
+    public ThreadPoolTaskExecutor register(String name, ThreadPoolTaskExecutor executor, String policy) {
+        RejectedExecutionHandler delegate = switch (policy) {
+            case "caller-runs" -> new ThreadPoolExecutor.CallerRunsPolicy();
+            case "abort" -> new ThreadPoolExecutor.AbortPolicy();
+            case "discard" -> new ThreadPoolExecutor.DiscardPolicy();
+            case "discard-oldest" -> new ThreadPoolExecutor.DiscardOldestPolicy();
+            default -> throw new IllegalStateException("지원하지 않는 포화 정책입니다: " + name + "=" + policy);
+        };
+        LongAdder rejected = rejections.computeIfAbsent(name, n -> new LongAdder());
+        executor.setRejectedExecutionHandler((task, pool) -> {
+            rejected.increment();
+            delegate.rejectedExecution(task, pool);
+        });
+        executors.put(name, executor);
+        return executor;
+    }
+
+    /**
+     * 실행기별 현재 상태 (이름 순)
+     */
+    public Map<String, Snapshot> snapshot() {
+        Map<String, Snapshot> result = new TreeMap<>();
+        executors.forEach((name, executor) -> {
+            ThreadPoolExecutor pool = executor.getThreadPoolExecutor();
+            result.put(name, new Snapshot(pool.getQueue().size(), pool.getQueue().remainingCapacity(),
+                    pool.getActiveCount(), pool.getPoolSize(), pool.getCompletedTaskCount(),
+                    rejections.get(name).sum()));
+        });
+        return result;
+    }
+
+    @Scheduled(fixedDelayString = "${app.async.metrics.log-interval-ms:300000}")
+    public void log() {
+        snapshot().forEach((name, s) -> log.info("실행기 [{}] 대기열={} (여유 {}) 활성={}/{} 완료={} 거부={}",
+                name, s.queued(), s.remainingCapacity(), s.active(), s.poolSize(), s.completed(), s.rejected()));
+    }
+
+    public record Snapshot(int queued, int remainingCapacity, int active, int poolSize, long completed, long rejected) {
+    }
+}
@@ -0,0 +1,41 @@
+package com.travelmate.config;
+
+import com.travelmate.service.notification.InMemoryNotificationUnreadCounts;
+import com.travelmate.service.notification.NotificationUnreadCounts;
+import com.travelmate.service.notification.RedisNotificationUnreadCounts;
+import com.travelmate.service.notification.UncachedNotificationUnreadCounts;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+
+/**
+ * 읽지 않은 알림 수 캐시 설정
+ * simple 브로커(단일 인스턴스)는 인메모리, 그 외에는 Redis 로 인스턴스 간에 공유하고
+ * Redis 를 쓰지 않으면 캐시 없이 DB 로 센다.
+ */
+@Configuration
+@Slf4j
+public class NotificationUnreadCountsConfig {
+
+    @Bean
+    public NotificationUnreadCounts notificationUnreadCounts(
+            @Value("${app.websocket.broker.mode:simple}") String brokerMode,
+            @Value("${app.redis.enabled:false}") boolean redisEnabled,
+            @Value("${app.notification.unread-cache.max-size:10000}") int maxSize,
+            @Value("${app.notification.unread-cache.ttl-ms:300000}") long ttlMillis,
+            ObjectProvider<StringRedisTemplate> stringRedisTemplate) {
+        if ("simple".equals(brokerMode)) {
+            return new InMemoryNotificationUnreadCounts(maxSize, ttlMillis);
+        }
+        if (redisEnabled) {
+            return new RedisNotificationUnreadCounts(stringRedisTemplate.getObject(), Duration.ofMillis(ttlMillis));
+        }
+        log.warn("브로커 모드 {} 에서 Redis 미사용: 읽지 않은 알림 수를 DB 로 집계", brokerMode);
+        return new UncachedNotificationUnreadCounts();
+    }
+}
@@ -0,0 +1,34 @@
+package com.travelmate.config;
+
+import com.travelmate.service.point.InMemoryPointLeaderboard;
+import com.travelmate.service.point.PointLeaderboard;
+import com.travelmate.service.point.RedisPointLeaderboard;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+
+/**
+ * 포인트 순위표 설정
+ * Redis 사용 시 sorted set 으로 인스턴스 간에 공유하고, 아니면 인메모리 스킵 리스트를 사용한다.
+ */
+@Configuration
+public class PointLeaderboardConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "app.redis.enabled", havingValue = "true")
+    public PointLeaderboard redisPointLeaderboard(
+            StringRedisTemplate stringRedisTemplate,
+            @Value("${app.point.leaderboard.rebuild-lock-ms:600000}") long rebuildLockMillis) {
+        return new RedisPointLeaderboard(stringRedisTemplate, Duration.ofMillis(rebuildLockMillis));
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.redis.enabled", havingValue = "false", matchIfMissing = true)
+    public PointLeaderboard inMemoryPointLeaderboard() {
+        return new InMemoryPointLeaderboard();
+    }
+}
@@ -0,0 +1,38 @@
+package com.travelmate.config;
+
+import com.travelmate.service.recommendation.InMemoryRecommendationStore;
+import com.travelmate.service.recommendation.RecommendationStore;
+import com.travelmate.service.recommendation.RedisRecommendationStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.time.Duration;
+
+/**
+ * 사전 계산된 추천 목록 저장소 설정
+ * Redis 사용 시 RedisConfig 의 redisTemplate 을 공유하고, 아니면 크기 제한이 있는 인메모리 저장소를 사용한다.
+ */
+@Configuration
+public class RecommendationCacheConfig {
+
+    @Value("${app.recommendation.cache.ttl-minutes:30}")
+    private long ttlMinutes;
+
+    @Value("${app.recommendation.cache.max-users:10000}")
+    private int maxUsers;
+
+    @Bean
+    @ConditionalOnProperty(name = "app.redis.enabled", havingValue = "true")
+    public RecommendationStore redisRecommendationStore(RedisTemplate<String, Object> redisTemplate) {
+        return new RedisRecommendationStore(redisTemplate, Duration.ofMinutes(ttlMinutes));
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.redis.enabled", havingValue = "false", matchIfMissing = true)
+    public RecommendationStore inMemoryRecommendationStore() {
+        return new InMemoryRecommendationStore(maxUsers, Duration.ofMinutes(ttlMinutes).toMillis());
+    }
+}
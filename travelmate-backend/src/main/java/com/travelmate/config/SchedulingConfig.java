@@ -3,9 +3,12 @@ package com.travelmate.config;
 // import com.travelmate.security.RateLimitingFilter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 
 @Configuration
 @EnableScheduling
@@ -15,6 +18,18 @@ public class SchedulingConfig {
 
     // private final RateLimitingFilter rateLimitingFilter;
 
+    // 기본 스케줄러는 단일 스레드라 긴 배치 작업(추천 사전 계산)이 짧은 주기 작업(위치 반영)을 막는다
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler(@Value("${app.scheduling.pool-size:4}") int poolSize,
+                                                 VirtualThreadMode virtualThreadMode) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix("TravelMate-Scheduler-");
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        scheduler.setAwaitTerminationSeconds(10);
+        return virtualThreadMode.apply(scheduler);
+    }
+
     // Temporarily disabled rate limiting cleanup
     // @Scheduled(fixedRate = 300000) // 5분마다 실행
     // public void cleanupRateLimitCache() {
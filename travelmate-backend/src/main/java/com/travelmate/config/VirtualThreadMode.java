@@ -0,0 +1,48 @@
+package com.travelmate.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ExecutorConfigurationSupport;
+import org.springframework.stereotype.Component;
+
+/**
+ * 가상 스레드 실행 모드 (JDK 21 이상, spring.threads.virtual.enabled=true 일 때만)
+ * Tomcat 요청 처리는 Spring Boot 가 같은 속성으로 전환하고, 여기서는 직접 만든 @Async 실행기와 스케줄러를 전환한다.
+ * 풀 크기와 큐는 그대로 유지되어 DB 커넥션 등 한정 자원에 대한 동시성 상한은 바뀌지 않는다.
+ */
+@Component
+@Slf4j
+public class VirtualThreadMode {
+
+    static final int MIN_FEATURE_VERSION = 21;
+
+    private final boolean enabled;
+
+    public VirtualThreadMode(@Value("${spring.threads.virtual.enabled:false}") boolean requested) {
+        this(requested, Runtime.version().feature());
+    }
+
+    VirtualThreadMode(boolean requested, int featureVersion) {
+        this.enabled = requested && featureVersion >= MIN_FEATURE_VERSION;
+        if (requested && !enabled) {
+            log.warn("가상 스레드는 JDK {} 이상에서만 사용할 수 있습니다 (현재 {}). 플랫폼 스레드로 실행합니다.",
+                    MIN_FEATURE_VERSION, featureVersion);
+        } else if (enabled) {
+            log.info("가상 스레드 모드로 실행합니다 (JDK {})", featureVersion);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 활성화된 경우 실행기의 작업 스레드를 가상 스레드로 생성 (initialize 전에 호출)
+     */
+    public <T extends ExecutorConfigurationSupport> T apply(T executor) {
+        if (enabled) {
+            executor.setVirtualThreads(true);
+        }
+        return executor;
+    }
+}
@@ -1,31 +1,180 @@
 package com.travelmate.config;
 
+import com.travelmate.security.StompAuthChannelInterceptor;
+import com.travelmate.service.messaging.RedisBrokerFanout;
+import com.travelmate.service.messaging.UserPresenceRegistry;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.env.Environment;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.messaging.simp.config.StompBrokerRelayRegistration;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
 import java.util.Arrays;
 
+/**
+ * STOMP 메시지 브로커 설정
+ * app.websocket.broker.mode 로 브로커를 선택한다.
+ * - simple: 인스턴스 내 심플 브로커 (기본값, 단일 인스턴스)
+ * - relay: 외부 STOMP 브로커(RabbitMQ 등)로 릴레이
+ * - redis: 심플 브로커 + Redis pub/sub 로 다른 인스턴스에 전파 (app.redis.enabled 필요)
+ */
 @Configuration
 @EnableWebSocketMessageBroker
 @RequiredArgsConstructor
+@Slf4j
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    private static final String[] BROKER_PREFIXES = {"/topic", "/queue"};
+
     private final Environment environment;
+    private final ObjectProvider<RedisBrokerFanout> redisBrokerFanout;
+    private final ObjectProvider<StompAuthChannelInterceptor> stompAuthChannelInterceptor;
+    private final ObjectProvider<UserPresenceRegistry> userPresenceRegistry;
+
+    // 심플 브로커 하트비트용 (WebSocket 설정이 만드는 스케줄러라 지연 주입)
+    @Autowired
+    @Lazy
+    @Qualifier("messageBrokerTaskScheduler")
+    private TaskScheduler messageBrokerTaskScheduler;
 
     @Value("${app.cors.allowed-origins:http://localhost:3000}")
     private String allowedOrigins;
 
+    @Value("${app.websocket.broker.mode:simple}")
+    private String brokerMode;
+
+    // 같은 세션으로 가는 메시지를 발행 순서대로 전달 (채팅 메시지 순서 보장)
+    @Value("${app.websocket.preserve-publish-order:true}")
+    private boolean preservePublishOrder;
+
+    // 심플 브로커 하트비트 주기 (접속 상태 추적이 클라이언트 하트비트를 활동으로 사용)
+    @Value("${app.websocket.heartbeat-ms:10000}")
+    private long heartbeatMillis;
+
+    // 외부 STOMP 브로커 릴레이 설정
+    @Value("${app.websocket.broker.relay.host:localhost}")
+    private String relayHost;
+
+    @Value("${app.websocket.broker.relay.port:61613}")
+    private int relayPort;
+
+    @Value("${app.websocket.broker.relay.login:guest}")
+    private String relayLogin;
+
+    @Value("${app.websocket.broker.relay.passcode:guest}")
+    private String relayPasscode;
+
+    @Value("${app.websocket.broker.relay.virtual-host:}")
+    private String relayVirtualHost;
+
+    // 클라이언트 수신/송신 채널 스레드 풀 (큐가 가득 차면 메시지를 거부해 과부하를 막음)
+    @Value("${app.websocket.inbound.core-pool-size:8}")
+    private int inboundCorePoolSize;
+
+    @Value("${app.websocket.inbound.max-pool-size:16}")
+    private int inboundMaxPoolSize;
+
+    @Value("${app.websocket.inbound.queue-capacity:10000}")
+    private int inboundQueueCapacity;
+
+    @Value("${app.websocket.outbound.core-pool-size:8}")
+    private int outboundCorePoolSize;
+
+    @Value("${app.websocket.outbound.max-pool-size:16}")
+    private int outboundMaxPoolSize;
+
+    @Value("${app.websocket.outbound.queue-capacity:10000}")
+    private int outboundQueueCapacity;
+
+    // 느린 클라이언트 제한: 전송 시간/세션별 송신 버퍼를 넘으면 세션 종료
+    @Value("${app.websocket.transport.send-time-limit-ms:10000}")
+    private int sendTimeLimitMillis;
+
+    @Value("${app.websocket.transport.send-buffer-size-limit:524288}")
+    private int sendBufferSizeLimit;
+
+    @Value("${app.websocket.transport.message-size-limit:65536}")
+    private int messageSizeLimit;
+
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
-        config.enableSimpleBroker("/topic", "/queue");
+        switch (brokerMode) {
+            case "relay" -> {
+                StompBrokerRelayRegistration relay = config.enableStompBrokerRelay(BROKER_PREFIXES)
+                        .setRelayHost(relayHost)
+                        .setRelayPort(relayPort)
+                        .setClientLogin(relayLogin)
+                        .setClientPasscode(relayPasscode)
+                        .setSystemLogin(relayLogin)
+                        .setSystemPasscode(relayPasscode)
+                        // 다른 인스턴스에 접속한 사용자에게도 /user 메시지가 전달되도록 브로드캐스트
+                        .setUserDestinationBroadcast("/topic/unresolved-user-destination")
+                        .setUserRegistryBroadcast("/topic/simp-user-registry");
+                if (!relayVirtualHost.isBlank()) {
+                    relay.setVirtualHost(relayVirtualHost);
+                }
+                log.info("STOMP 브로커 릴레이 사용: {}:{}", relayHost, relayPort);
+            }
+            case "redis" -> {
+                enableSimpleBroker(config);
+                // 브로커로 가는 메시지를 다른 인스턴스에도 발행 (전파 없이 뜨면 인스턴스마다 메시지가 갈라짐)
+                RedisBrokerFanout fanout = redisBrokerFanout.getIfAvailable();
+                if (fanout == null) {
+                    throw new IllegalStateException("redis 브로커 모드인데 RedisBrokerFanout 빈이 없습니다 (Redis 설정 확인)");
+                }
+                config.configureBrokerChannel().interceptors(fanout);
+                log.info("심플 브로커 + Redis 전파 사용");
+            }
+            case "simple" -> enableSimpleBroker(config);
+            default -> throw new IllegalStateException("지원하지 않는 브로커 모드입니다: " + brokerMode);
+        }
         config.setApplicationDestinationPrefixes("/app");
         config.setUserDestinationPrefix("/user");
+        config.setPreservePublishOrder(preservePublishOrder);
+    }
+
+    private void enableSimpleBroker(MessageBrokerRegistry config) {
+        config.enableSimpleBroker(BROKER_PREFIXES)
+                .setHeartbeatValue(new long[]{heartbeatMillis, heartbeatMillis})
+                .setTaskScheduler(messageBrokerTaskScheduler);
+    }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.taskExecutor()
+                .corePoolSize(inboundCorePoolSize)
+                .maxPoolSize(inboundMaxPoolSize)
+                .queueCapacity(inboundQueueCapacity);
+        // CONNECT 인증 후 접속 상태 기록
+        stompAuthChannelInterceptor.ifAvailable(registration::interceptors);
+        userPresenceRegistry.ifAvailable(registration::interceptors);
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.taskExecutor()
+                .corePoolSize(outboundCorePoolSize)
+                .maxPoolSize(outboundMaxPoolSize)
+                .queueCapacity(outboundQueueCapacity);
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.setSendTimeLimit(sendTimeLimitMillis)
+                .setSendBufferSizeLimit(sendBufferSizeLimit)
+                .setMessageSizeLimit(messageSizeLimit);
     }
 
     @Override
@@ -45,4 +194,4 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
                     .withSockJS();
         }
     }
-}
\ No newline at end of file
+}
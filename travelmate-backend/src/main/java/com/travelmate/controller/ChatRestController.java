@@ -34,12 +34,18 @@ public class ChatRestController {
         return ResponseEntity.ok(rooms);
     }
 
+    /**
+     * 메시지 조회: before(메시지 ID 커서)를 주면 그 이전 메시지, page 는 이전 클라이언트 호환용
+     */
     @GetMapping("/rooms/{roomId}/messages")
     public ResponseEntity<List<ChatDto.MessageResponse>> getChatMessages(
             @PathVariable Long roomId,
+            @RequestParam(required = false) Long before,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "50") int size) {
-        List<ChatDto.MessageResponse> messages = chatService.getChatMessages(roomId, page, size);
+        List<ChatDto.MessageResponse> messages = before != null || page == 0
+            ? chatService.getMessagesBefore(roomId, before, size)
+            : chatService.getChatMessages(roomId, page, size);
         return ResponseEntity.ok(messages);
     }
 
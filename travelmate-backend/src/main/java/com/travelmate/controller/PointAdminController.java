@@ -0,0 +1,51 @@
+package com.travelmate.controller;
+
+import com.travelmate.dto.NftDto;
+import com.travelmate.entity.User;
+import com.travelmate.exception.BusinessException;
+import com.travelmate.repository.UserRepository;
+import com.travelmate.service.point.PointGrantPipeline;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/points")
+@RequiredArgsConstructor
+@Tag(name = "Admin - Points", description = "포인트 관리 API (관리자 전용)")
+public class PointAdminController {
+
+    private final PointGrantPipeline pointGrantPipeline;
+    private final UserRepository userRepository;
+
+    @PostMapping("/grants")
+    @Operation(summary = "포인트 대량 지급", description = "이벤트/시즌 보상 등 여러 사용자에게 포인트 일괄 지급 (참조 키 중복은 건너뜀)")
+    public ResponseEntity<PointGrantPipeline.Result> grantPoints(
+            @AuthenticationPrincipal String userId,
+            @Valid @RequestBody NftDto.BulkPointGrantRequest request) {
+        requireAdmin(userId);
+        List<PointGrantPipeline.Grant> grants = request.getGrants().stream()
+                .map(item -> new PointGrantPipeline.Grant(item.getUserId(), item.getAmount(), item.getSource(),
+                        item.getReferenceId(), item.getReferenceType(), item.getDescription()))
+                .toList();
+        return ResponseEntity.ok(pointGrantPipeline.grant(grants));
+    }
+
+    /**
+     * 토큰에는 권한이 없으므로 DB 의 역할로 관리자 여부 확인
+     */
+    private void requireAdmin(String userId) {
+        boolean admin = userId != null && userRepository.findById(Long.parseLong(userId))
+                .map(user -> user.getRole() == User.Role.ADMIN)
+                .orElse(false);
+        if (!admin) {
+            throw BusinessException.forbidden("관리자 권한이 필요합니다.");
+        }
+    }
+}
@@ -5,6 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.*;
 
 import java.time.LocalDateTime;
@@ -371,6 +372,39 @@ public class NftDto {
         private LocalDateTime updatedAt;
     }
 
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class BulkPointGrantRequest {
+        @NotEmpty(message = "지급 대상은 필수입니다")
+        @Valid
+        private List<PointGrantItem> grants;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class PointGrantItem {
+        @NotNull(message = "사용자 ID는 필수입니다")
+        private Long userId;
+
+        @NotNull(message = "포인트 수량은 필수입니다")
+        @Min(value = 1, message = "최소 1 포인트 이상 지급해야 합니다")
+        private Long amount;
+
+        @NotNull(message = "지급 출처는 필수입니다")
+        private PointSource source;
+
+        // referenceId + referenceType 이 같으면 한 번만 지급
+        private Long referenceId;
+
+        @Size(max = 50)
+        private String referenceType;
+
+        @Size(max = 500)
+        private String description;
+    }
+
     @Data
     @NoArgsConstructor
     @AllArgsConstructor
@@ -4,19 +4,21 @@ import jakarta.persistence.*;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
-import org.hibernate.annotations.CreationTimestamp;
 
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "chat_messages")
+@Table(name = "chat_messages", indexes = {
+    // 채팅방별 ID 커서 페이지 조회
+    @Index(name = "idx_chat_messages_room_id", columnList = "chat_room_id, id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class ChatMessage {
     
+    // ChatMessageIdGenerator 가 전송 시점에 미리 할당
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
     
     @ManyToOne(fetch = FetchType.LAZY)
@@ -50,9 +52,15 @@ public class ChatMessage {
     @Column(name = "is_deleted")
     private Boolean isDeleted = false;
     
-    @CreationTimestamp
     @Column(name = "sent_at")
     private LocalDateTime sentAt;
+
+    @PrePersist
+    protected void onCreate() {
+        if (sentAt == null) {
+            sentAt = LocalDateTime.now();
+        }
+    }
     
     public enum MessageType {
         TEXT,        // 텍스트 메시지
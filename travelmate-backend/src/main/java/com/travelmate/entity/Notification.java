@@ -12,7 +12,9 @@ import java.time.LocalDateTime;
 @Entity
 @Table(name = "notifications", indexes = {
         @Index(name = "idx_user_created", columnList = "user_id, created_at DESC"),
-        @Index(name = "idx_user_read", columnList = "user_id, is_read")
+        @Index(name = "idx_user_read_created", columnList = "user_id, is_read, created_at DESC"),
+        // 보존 기간 정리용
+        @Index(name = "idx_notification_created_at", columnList = "created_at")
 })
 @Data
 @NoArgsConstructor
@@ -11,7 +11,9 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
-@Table(name = "posts")
+@Table(name = "posts", indexes = {
+    @Index(name = "idx_posts_location", columnList = "location_latitude, location_longitude")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -0,0 +1,71 @@
+package com.travelmate.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 전송 대기 중인 푸시 (알림과 같은 트랜잭션에서 기록, PushDispatcher 가 배치로 전송)
+ * 전송에 성공하거나 토큰이 무효화되면 삭제하고, 재시도 한도를 넘으면 DEAD 로 남긴다.
+ */
+@Entity
+@Table(name = "push_outbox", indexes = {
+        @Index(name = "idx_push_outbox_due", columnList = "status, next_attempt_at")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PushOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(nullable = false, length = 512)
+    private String token;
+
+    @Column(nullable = false, length = 200)
+    private String title;
+
+    @Column(nullable = false, length = 500)
+    private String body;
+
+    @Column(name = "action_url")
+    private String actionUrl;
+
+    @Column(name = "notification_id")
+    private Long notificationId;
+
+    @Column(nullable = false, length = 20)
+    @Enumerated(EnumType.STRING)
+    @Builder.Default
+    private Status status = Status.PENDING;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private int attempts = 0;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public enum Status {
+        PENDING,
+        DEAD
+    }
+}
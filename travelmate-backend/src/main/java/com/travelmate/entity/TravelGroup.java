@@ -22,7 +22,8 @@ import java.util.List;
     @Index(name = "idx_travel_groups_active", columnList = "is_active"),
     @Index(name = "idx_travel_groups_public", columnList = "is_public"),
     @Index(name = "idx_travel_groups_travel_style", columnList = "travel_style"),
-    @Index(name = "idx_travel_groups_created_at", columnList = "created_at")
+    @Index(name = "idx_travel_groups_created_at", columnList = "created_at"),
+    @Index(name = "idx_travel_groups_meeting_location", columnList = "meeting_latitude, meeting_longitude")
 })
 @EntityListeners(AuditingEntityListener.class)
 @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
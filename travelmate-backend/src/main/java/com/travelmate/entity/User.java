@@ -5,6 +5,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.UpdateTimestamp;
 import org.hibernate.annotations.Cache;
 import org.hibernate.annotations.CacheConcurrencyStrategy;
@@ -26,6 +27,9 @@ import java.util.List;
 })
 @EntityListeners(AuditingEntityListener.class)
 @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+// 변경된 컬럼만 UPDATE: 위치는 LocationIngestionService 가 별도 배치로 기록하므로
+// 다른 필드를 저장할 때 엔티티에 남은 이전 좌표가 더 새로운 좌표를 덮어쓰지 않도록
+@DynamicUpdate
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
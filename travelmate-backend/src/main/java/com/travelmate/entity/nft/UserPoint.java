@@ -6,6 +6,8 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
@@ -13,6 +15,7 @@ import java.time.LocalDateTime;
 /**
  * 사용자 포인트 엔티티
  * 사용자의 포인트 잔액 및 통계
+ * 변경된 컬럼만 UPDATE 하므로 포인트 변경이 순위 작업이 기록한 current_rank 를 덮어쓰지 않는다.
  */
 @Entity
 @Table(name = "user_points", indexes = {
@@ -23,6 +26,7 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@DynamicUpdate
 public class UserPoint {
 
     @Id
@@ -52,6 +56,13 @@ public class UserPoint {
     @Column(name = "current_rank")
     private Integer currentRank;
 
+    // 다른 인스턴스와의 동시 변경 감지 (PointLedger 가 재시도)
+    @Version
+    @Column(name = "version", nullable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private Long version = 0L;
+
     @UpdateTimestamp
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
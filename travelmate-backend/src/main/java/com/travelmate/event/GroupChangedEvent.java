@@ -0,0 +1,14 @@
+package com.travelmate.event;
+
+/**
+ * 여행 그룹 변경 이벤트
+ */
+public record GroupChangedEvent(Long groupId, Type type) {
+
+    public enum Type {
+        CREATED,   // 새 그룹 생성
+        UPDATED,   // 그룹 정보/상태 변경
+        FILLED,    // 모집 인원 마감
+        DELETED    // 그룹 삭제
+    }
+}
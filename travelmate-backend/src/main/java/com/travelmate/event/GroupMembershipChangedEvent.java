@@ -0,0 +1,7 @@
+package com.travelmate.event;
+
+/**
+ * 그룹 참여/탈퇴 이벤트
+ */
+public record GroupMembershipChangedEvent(Long groupId, Long userId, boolean joined) {
+}
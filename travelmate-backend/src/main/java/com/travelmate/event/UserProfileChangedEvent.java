@@ -0,0 +1,7 @@
+package com.travelmate.event;
+
+/**
+ * 사용자 프로필 변경 이벤트 (프로필 수정, 탈퇴, 정지 등 추천 결과에 영향을 주는 변경)
+ */
+public record UserProfileChangedEvent(Long userId) {
+}
@@ -37,6 +37,16 @@ public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long>
     }
     
     List<ChatMessage> findByChatRoomIdAndIsDeletedFalse(Long chatRoomId, Pageable pageable);
+
+    /**
+     * 커서 이전 메시지를 최신순으로 조회 ((chat_room_id, id) 인덱스 사용, 발신자 함께 로드)
+     */
+    @Query("SELECT cm FROM ChatMessage cm LEFT JOIN FETCH cm.sender " +
+           "WHERE cm.chatRoom.id = :chatRoomId AND cm.id < :beforeId AND cm.isDeleted = false " +
+           "ORDER BY cm.id DESC")
+    List<ChatMessage> findPageBefore(@Param("chatRoomId") Long chatRoomId,
+                                     @Param("beforeId") Long beforeId,
+                                     Pageable pageable);
     
     ChatMessage findTopByChatRoomIdOrderBySentAtDesc(Long chatRoomId);
     
@@ -50,4 +60,10 @@ public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long>
     List<ChatMessage> findRecentMessagesByRoomId(@Param("chatRoomId") Long chatRoomId, Pageable pageable);
     
     void deleteByChatRoomId(Long chatRoomId);
+
+    /**
+     * 채팅방별 마지막 메시지 ID (roomId, maxId)
+     */
+    @Query("SELECT cm.chatRoom.id, MAX(cm.id) FROM ChatMessage cm GROUP BY cm.chatRoom.id")
+    List<Object[]> findLastMessageIdsByRoom();
 }
\ No newline at end of file
@@ -2,6 +2,8 @@ package com.travelmate.repository;
 
 import com.travelmate.entity.ChatParticipant;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -21,4 +23,16 @@ public interface ChatParticipantRepository extends JpaRepository<ChatParticipant
     List<ChatParticipant> findByUserIdAndIsActiveTrue(Long userId);
     
     void deleteByChatRoomId(Long chatRoomId);
+
+    /**
+     * 활성 참가자별 읽지 않은 메시지 수 (roomId, userId, count)
+     * 본인이 보낸 메시지와 경계 ID 이후 메시지는 제외
+     */
+    @Query("SELECT cp.chatRoom.id, cp.user.id, COUNT(cm.id) FROM ChatParticipant cp " +
+           "LEFT JOIN ChatMessage cm ON cm.chatRoom.id = cp.chatRoom.id " +
+           "AND cm.id > COALESCE(cp.lastReadMessageId, 0) AND cm.id <= :boundary " +
+           "AND cm.isDeleted = false AND (cm.sender IS NULL OR cm.sender.id <> cp.user.id) " +
+           "WHERE cp.isActive = true " +
+           "GROUP BY cp.chatRoom.id, cp.user.id")
+    List<Object[]> countUnreadSnapshot(@Param("boundary") Long boundary);
 }
\ No newline at end of file
@@ -3,10 +3,12 @@ package com.travelmate.repository;
 import com.travelmate.entity.ChatRoom;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -44,4 +46,14 @@ public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long> {
     Optional<ChatRoom> findByTravelGroupId(Long travelGroupId);
     
     List<ChatRoom> findByIsActiveTrueOrderByLastMessageAtDesc();
-}
\ No newline at end of file
+
+    /**
+     * 최근 메시지 갱신 (더 최근 메시지가 이미 기록된 경우는 건너뜀)
+     */
+    @Modifying
+    @Query("UPDATE ChatRoom cr SET cr.lastMessage = :content, cr.lastMessageAt = :sentAt " +
+           "WHERE cr.id = :roomId AND (cr.lastMessageAt IS NULL OR cr.lastMessageAt <= :sentAt)")
+    int updateLastMessage(@Param("roomId") Long roomId,
+                          @Param("content") String content,
+                          @Param("sentAt") LocalDateTime sentAt);
+}
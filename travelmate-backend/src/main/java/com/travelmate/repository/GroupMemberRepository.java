@@ -6,6 +6,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -19,4 +21,11 @@ public interface GroupMemberRepository extends JpaRepository<GroupMember, Long>
     Long countAcceptedMembersByGroupId(@Param("groupId") Long groupId);
     
     void deleteByTravelGroupIdAndUserId(Long travelGroupId, Long userId);
+
+    /**
+     * 여러 그룹의 승인된 멤버 ID 일괄 조회 (groupId, userId)
+     */
+    @Query("SELECT gm.travelGroup.id, gm.user.id FROM GroupMember gm " +
+           "WHERE gm.travelGroup.id IN :groupIds AND gm.status = 'ACCEPTED'")
+    List<Object[]> findAcceptedMemberIdsByGroupIds(@Param("groupIds") Collection<Long> groupIds);
 }
\ No newline at end of file
@@ -39,6 +39,18 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     @Query("DELETE FROM Notification n WHERE n.createdAt < :beforeDate")
     int deleteOldNotifications(@Param("beforeDate") LocalDateTime beforeDate);
 
+    // 보존 기간이 지난 알림 ID (청크 단위 정리용)
+    @Query("SELECT n.id FROM Notification n WHERE n.createdAt < :beforeDate ORDER BY n.id")
+    List<Long> findIdsCreatedBefore(@Param("beforeDate") LocalDateTime beforeDate, Pageable pageable);
+
+    // 주어진 알림 중 읽지 않은 알림이 있는 사용자
+    @Query("SELECT DISTINCT n.user.id FROM Notification n WHERE n.id IN :ids AND n.isRead = false")
+    List<Long> findUnreadUserIdsByIds(@Param("ids") List<Long> ids);
+
+    @Modifying
+    @Query("DELETE FROM Notification n WHERE n.id IN :ids")
+    int deleteByIds(@Param("ids") List<Long> ids);
+
     // 특정 타입의 알림 조회
     List<Notification> findByUserIdAndTypeOrderByCreatedAtDesc(Long userId, Notification.NotificationType type);
 }
@@ -1,6 +1,8 @@
 package com.travelmate.repository;
 
 import com.travelmate.entity.Post;
+import com.travelmate.repository.geo.GeoBoundingBox;
+import com.travelmate.repository.geo.GeoResult;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
@@ -42,14 +44,33 @@ public interface PostRepository extends JpaRepository<Post, Long> {
                                    @Param("location") String location,
                                    Pageable pageable);
     
-    @Query("SELECT p FROM Post p WHERE p.locationLatitude IS NOT NULL AND p.locationLongitude IS NOT NULL " +
-           "AND (6371 * acos(cos(radians(:latitude)) * cos(radians(p.locationLatitude)) * " +
+    // 반경 검색: 경계 상자(BETWEEN)로 위치 인덱스 범위를 먼저 좁힌 뒤 정확한 거리 비교
+    String DISTANCE_KM = "(6371 * acos(cos(radians(:latitude)) * cos(radians(p.locationLatitude)) * " +
            "cos(radians(p.locationLongitude) - radians(:longitude)) + " +
-           "sin(radians(:latitude)) * sin(radians(p.locationLatitude)))) <= :radiusKm " +
+           "sin(radians(:latitude)) * sin(radians(p.locationLatitude))))";
+
+    @Query("SELECT p, " + DISTANCE_KM + " FROM Post p " +
+           "WHERE p.locationLatitude BETWEEN :minLat AND :maxLat " +
+           "AND p.locationLongitude BETWEEN :minLng AND :maxLng " +
+           "AND " + DISTANCE_KM + " <= :radiusKm " +
            "ORDER BY p.createdAt DESC")
-    List<Post> findNearbyPosts(@Param("latitude") Double latitude,
-                              @Param("longitude") Double longitude,
-                              @Param("radiusKm") Double radiusKm);
+    List<Object[]> findNearbyPostsInBox(@Param("latitude") Double latitude,
+                                        @Param("longitude") Double longitude,
+                                        @Param("radiusKm") Double radiusKm,
+                                        @Param("minLat") double minLat,
+                                        @Param("maxLat") double maxLat,
+                                        @Param("minLng") double minLng,
+                                        @Param("maxLng") double maxLng);
+
+    default List<GeoResult<Post>> findNearbyPostsWithDistance(Double latitude, Double longitude, Double radiusKm) {
+        GeoBoundingBox box = GeoBoundingBox.around(latitude, longitude, radiusKm);
+        return GeoResult.of(findNearbyPostsInBox(latitude, longitude, radiusKm,
+                box.minLatitude(), box.maxLatitude(), box.minLongitude(), box.maxLongitude()));
+    }
+
+    default List<Post> findNearbyPosts(Double latitude, Double longitude, Double radiusKm) {
+        return GeoResult.contents(findNearbyPostsWithDistance(latitude, longitude, radiusKm));
+    }
     
     @Query("SELECT p FROM Post p WHERE p.createdAt >= :since " +
            "ORDER BY (p.likeCount * 2 + p.commentCount + p.viewCount * 0.1) DESC")
@@ -0,0 +1,42 @@
+package com.travelmate.repository;
+
+import com.travelmate.entity.PushOutbox;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface PushOutboxRepository extends JpaRepository<PushOutbox, Long> {
+
+    // 전송 시점이 된 푸시 (다른 인스턴스가 잠근 행은 건너뜀, lock.timeout -2 = SKIP LOCKED)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT p FROM PushOutbox p WHERE p.status = com.travelmate.entity.PushOutbox.Status.PENDING " +
+           "AND p.nextAttemptAt <= :now ORDER BY p.nextAttemptAt, p.id")
+    List<PushOutbox> findDueForUpdate(@Param("now") LocalDateTime now, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM PushOutbox p WHERE p.id IN :ids")
+    int deleteByIds(@Param("ids") List<Long> ids);
+
+    // 무효화된 토큰으로 대기 중인 나머지 푸시
+    @Modifying
+    @Query("DELETE FROM PushOutbox p WHERE p.token IN :tokens AND p.status = com.travelmate.entity.PushOutbox.Status.PENDING")
+    int deletePendingByTokens(@Param("tokens") List<String> tokens);
+
+    @Modifying
+    @Query("DELETE FROM PushOutbox p WHERE p.status = com.travelmate.entity.PushOutbox.Status.DEAD AND p.createdAt < :beforeDate")
+    int deleteDeadBefore(@Param("beforeDate") LocalDateTime beforeDate);
+
+    long countByStatus(PushOutbox.Status status);
+}
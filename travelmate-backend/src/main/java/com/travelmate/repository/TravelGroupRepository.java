@@ -1,6 +1,8 @@
 package com.travelmate.repository;
 
 import com.travelmate.entity.TravelGroup;
+import com.travelmate.repository.geo.GeoBoundingBox;
+import com.travelmate.repository.geo.GeoResult;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -30,16 +32,51 @@ public interface TravelGroupRepository extends JpaRepository<TravelGroup, Long>
     Optional<TravelGroup> findByIdWithMembers(@Param("id") Long id);
     
     @Query("SELECT tg FROM TravelGroup tg WHERE tg.status = 'RECRUITING' AND " +
-           "(:purpose IS NULL OR tg.purpose = :purpose) AND " +
-           "(:latitude IS NULL OR :longitude IS NULL OR " +
-           "(6371 * acos(cos(radians(:latitude)) * cos(radians(tg.meetingLatitude)) * " +
+           "(:purpose IS NULL OR tg.purpose = :purpose) " +
+           "ORDER BY tg.createdAt DESC")
+    List<TravelGroup> findRecruitingGroups(@Param("purpose") TravelGroup.Purpose purpose);
+
+    // 반경 검색: 경계 상자(BETWEEN)로 모임 위치 인덱스 범위를 먼저 좁힌 뒤 정확한 거리 비교
+    String DISTANCE_KM = "(6371 * acos(cos(radians(:latitude)) * cos(radians(tg.meetingLatitude)) * " +
            "cos(radians(tg.meetingLongitude) - radians(:longitude)) + " +
-           "sin(radians(:latitude)) * sin(radians(tg.meetingLatitude)))) <= :radiusKm) " +
+           "sin(radians(:latitude)) * sin(radians(tg.meetingLatitude))))";
+
+    @Query("SELECT tg, " + DISTANCE_KM + " FROM TravelGroup tg WHERE tg.status = 'RECRUITING' AND " +
+           "(:purpose IS NULL OR tg.purpose = :purpose) " +
+           "AND tg.meetingLatitude BETWEEN :minLat AND :maxLat " +
+           "AND tg.meetingLongitude BETWEEN :minLng AND :maxLng " +
+           "AND " + DISTANCE_KM + " <= :radiusKm " +
            "ORDER BY tg.createdAt DESC")
-    List<TravelGroup> findAvailableGroups(@Param("purpose") TravelGroup.Purpose purpose,
-                                         @Param("latitude") Double latitude,
-                                         @Param("longitude") Double longitude,
-                                         @Param("radiusKm") Double radiusKm);
+    List<Object[]> findRecruitingGroupsInBox(@Param("purpose") TravelGroup.Purpose purpose,
+                                             @Param("latitude") Double latitude,
+                                             @Param("longitude") Double longitude,
+                                             @Param("radiusKm") Double radiusKm,
+                                             @Param("minLat") double minLat,
+                                             @Param("maxLat") double maxLat,
+                                             @Param("minLng") double minLng,
+                                             @Param("maxLng") double maxLng);
+
+    default List<GeoResult<TravelGroup>> findAvailableGroupsWithDistance(TravelGroup.Purpose purpose,
+                                                                          Double latitude, Double longitude,
+                                                                          Double radiusKm) {
+        GeoBoundingBox box = GeoBoundingBox.around(latitude, longitude, radiusKm);
+        return GeoResult.of(findRecruitingGroupsInBox(purpose, latitude, longitude, radiusKm,
+                box.minLatitude(), box.maxLatitude(), box.minLongitude(), box.maxLongitude()));
+    }
+
+    /**
+     * 모집 중인 그룹 조회 - 위치가 주어지면 반경 내 그룹만
+     */
+    default List<TravelGroup> findAvailableGroups(TravelGroup.Purpose purpose,
+                                                  Double latitude, Double longitude, Double radiusKm) {
+        if (latitude == null || longitude == null) {
+            return findRecruitingGroups(purpose);
+        }
+        if (radiusKm == null) {
+            return List.of();
+        }
+        return GeoResult.contents(findAvailableGroupsWithDistance(purpose, latitude, longitude, radiusKm));
+    }
     
     @Query("SELECT tg FROM TravelGroup tg JOIN tg.members gm WHERE gm.user.id = :userId " +
            "AND gm.status = 'ACCEPTED' ORDER BY tg.createdAt DESC")
@@ -2,8 +2,11 @@ package com.travelmate.repository;
 
 import com.travelmate.entity.UserGroupMembership;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -42,4 +45,10 @@ public interface UserGroupMembershipRepository extends JpaRepository<UserGroupMe
      * 사용자가 특정 그룹의 멤버인지 확인
      */
     boolean existsByUserIdAndTravelGroupIdAndStatus(Long userId, Long travelGroupId, UserGroupMembership.MembershipStatus status);
+
+    /**
+     * 여러 사용자의 가입 그룹 ID 일괄 조회 (userId, groupId)
+     */
+    @Query("SELECT m.user.id, m.travelGroup.id FROM UserGroupMembership m WHERE m.user.id IN :userIds")
+    List<Object[]> findGroupIdsByUserIds(@Param("userIds") Collection<Long> userIds);
 }
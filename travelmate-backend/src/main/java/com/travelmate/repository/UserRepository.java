@@ -1,11 +1,17 @@
 package com.travelmate.repository;
 
 import com.travelmate.entity.User;
+import com.travelmate.repository.geo.GeoBoundingBox;
+import com.travelmate.repository.geo.GeoResult;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,26 +24,132 @@ public interface UserRepository extends JpaRepository<User, Long> {
     
     boolean existsByNickname(String nickname);
     
-    @Query("SELECT u FROM User u WHERE u.isLocationEnabled = true AND u.isMatchingEnabled = true " +
-           "AND u.currentLatitude IS NOT NULL AND u.currentLongitude IS NOT NULL " +
-           "AND u.id != :userId " +
-           "AND (6371 * acos(cos(radians(:latitude)) * cos(radians(u.currentLatitude)) * " +
-           "cos(radians(u.currentLongitude) - radians(:longitude)) + " +
-           "sin(radians(:latitude)) * sin(radians(u.currentLatitude)))) <= :radiusKm")
-    List<User> findNearbyUsers(@Param("userId") Long userId, 
-                              @Param("latitude") Double latitude, 
-                              @Param("longitude") Double longitude, 
-                              @Param("radiusKm") Double radiusKm);
-    
-    @Query("SELECT u FROM User u WHERE u.isActive = true AND u.isLocationEnabled = true " +
-           "AND u.currentLatitude IS NOT NULL AND u.currentLongitude IS NOT NULL " +
-           "AND (6371 * acos(cos(radians(:latitude)) * cos(radians(u.currentLatitude)) * " +
+    // 반경 검색 공통 조건: 경계 상자(BETWEEN)로 위치 인덱스 범위를 먼저 좁힌 뒤 정확한 거리 비교
+    String DISTANCE_KM = "(6371 * acos(cos(radians(:latitude)) * cos(radians(u.currentLatitude)) * " +
            "cos(radians(u.currentLongitude) - radians(:longitude)) + " +
-           "sin(radians(:latitude)) * sin(radians(u.currentLatitude)))) <= :radiusKm " +
-           "ORDER BY (6371 * acos(cos(radians(:latitude)) * cos(radians(u.currentLatitude)) * " +
-           "cos(radians(u.currentLongitude) - radians(:longitude)) + " +
-           "sin(radians(:latitude)) * sin(radians(u.currentLatitude))))")
-    List<User> findUsersForShake(@Param("latitude") Double latitude,
-                                @Param("longitude") Double longitude,
-                                @Param("radiusKm") Double radiusKm);
-}
\ No newline at end of file
+           "sin(radians(:latitude)) * sin(radians(u.currentLatitude))))";
+
+    String WITHIN_BOX = "u.currentLatitude BETWEEN :minLat AND :maxLat " +
+           "AND u.currentLongitude BETWEEN :minLng AND :maxLng ";
+
+    @Query("SELECT u, " + DISTANCE_KM + " FROM User u " +
+           "WHERE u.isLocationEnabled = true AND u.isMatchingEnabled = true " +
+           "AND " + WITHIN_BOX +
+           "AND u.id != :userId " +
+           "AND " + DISTANCE_KM + " <= :radiusKm")
+    List<Object[]> findNearbyUsersInBox(@Param("userId") Long userId,
+                                        @Param("latitude") Double latitude,
+                                        @Param("longitude") Double longitude,
+                                        @Param("radiusKm") Double radiusKm,
+                                        @Param("minLat") double minLat,
+                                        @Param("maxLat") double maxLat,
+                                        @Param("minLng") double minLng,
+                                        @Param("maxLng") double maxLng);
+
+    @Query("SELECT u, " + DISTANCE_KM + " FROM User u " +
+           "WHERE u.isActive = true AND u.isLocationEnabled = true " +
+           "AND " + WITHIN_BOX +
+           "AND " + DISTANCE_KM + " <= :radiusKm " +
+           "ORDER BY " + DISTANCE_KM)
+    List<Object[]> findUsersForShakeInBox(@Param("latitude") Double latitude,
+                                          @Param("longitude") Double longitude,
+                                          @Param("radiusKm") Double radiusKm,
+                                          @Param("minLat") double minLat,
+                                          @Param("maxLat") double maxLat,
+                                          @Param("minLng") double minLng,
+                                          @Param("maxLng") double maxLng);
+
+    default List<GeoResult<User>> findNearbyUsersWithDistance(Long userId, Double latitude,
+                                                              Double longitude, Double radiusKm) {
+        GeoBoundingBox box = GeoBoundingBox.around(latitude, longitude, radiusKm);
+        return GeoResult.of(findNearbyUsersInBox(userId, latitude, longitude, radiusKm,
+                box.minLatitude(), box.maxLatitude(), box.minLongitude(), box.maxLongitude()));
+    }
+
+    default List<User> findNearbyUsers(Long userId, Double latitude, Double longitude, Double radiusKm) {
+        return GeoResult.contents(findNearbyUsersWithDistance(userId, latitude, longitude, radiusKm));
+    }
+
+    default List<GeoResult<User>> findUsersForShakeWithDistance(Double latitude, Double longitude, Double radiusKm) {
+        GeoBoundingBox box = GeoBoundingBox.around(latitude, longitude, radiusKm);
+        return GeoResult.of(findUsersForShakeInBox(latitude, longitude, radiusKm,
+                box.minLatitude(), box.maxLatitude(), box.minLongitude(), box.maxLongitude()));
+    }
+
+    default List<User> findUsersForShake(Double latitude, Double longitude, Double radiusKm) {
+        return GeoResult.contents(findUsersForShakeWithDistance(latitude, longitude, radiusKm));
+    }
+
+    /**
+     * 공간 인덱스 적재용 위치 스냅샷 (id, lat, lng, isActive, isMatchingEnabled, travelStyle)
+     */
+    @Query("SELECT u.id, u.currentLatitude, u.currentLongitude, u.isActive, u.isMatchingEnabled, u.travelStyle " +
+           "FROM User u WHERE u.isLocationEnabled = true " +
+           "AND u.currentLatitude IS NOT NULL AND u.currentLongitude IS NOT NULL")
+    List<Object[]> findLocationSnapshot();
+
+    /**
+     * 추천 프로필 인덱스 적재용 스냅샷 (id, travelStyle, age)
+     */
+    @Query("SELECT u.id, u.travelStyle, u.age FROM User u WHERE u.isActive = true")
+    List<Object[]> findActiveProfileSnapshot();
+
+    /**
+     * 추천 프로필 인덱스 적재용 관심사 (id, interest)
+     */
+    @Query("SELECT u.id, i FROM User u JOIN u.interests i WHERE u.isActive = true")
+    List<Object[]> findActiveInterestSnapshot();
+
+    /**
+     * 최근 활동한 활성 사용자 ID (추천 사전 계산 배치용, ID 기준 키셋 페이지)
+     */
+    @Query("SELECT u.id FROM User u WHERE u.isActive = true AND u.lastActivityAt >= :since " +
+           "AND u.id > :afterId ORDER BY u.id")
+    List<Long> findRecentlyActiveUserIds(@Param("since") LocalDateTime since,
+                                         @Param("afterId") Long afterId,
+                                         Pageable pageable);
+
+    /**
+     * 매칭 가능한 사용자 ID (위치 공유, 활성, 매칭 허용)
+     */
+    @Query("SELECT u.id FROM User u WHERE u.id IN :ids AND u.isActive = true " +
+           "AND u.isLocationEnabled = true AND u.isMatchingEnabled = true")
+    List<Long> findMatchableUserIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 알림용 닉네임 일괄 조회 (id, nickname)
+     */
+    @Query("SELECT u.id, u.nickname FROM User u WHERE u.id IN :ids")
+    List<Object[]> findNicknamesByIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 채팅 표시용 사용자 요약 일괄 조회 (id, nickname, profileImageUrl)
+     */
+    @Query("SELECT u.id, u.nickname, u.profileImageUrl FROM User u WHERE u.id IN :ids")
+    List<Object[]> findSummariesByIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 순위표 표시용 사용자 정보 일괄 조회 (id, nickname, profileImageUrl, totalNftsCollected)
+     */
+    @Query("SELECT u.id, u.nickname, u.profileImageUrl, u.totalNftsCollected FROM User u WHERE u.id IN :ids")
+    List<Object[]> findLeaderboardProfilesByIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 존재하는 사용자 ID만 추림 (대량 포인트 지급 대상 확인)
+     */
+    @Query("SELECT u.id FROM User u WHERE u.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 푸시 대상 토큰 일괄 조회 (id, fcmToken)
+     */
+    @Query("SELECT u.id, u.fcmToken FROM User u WHERE u.id IN :ids AND u.fcmToken IS NOT NULL AND u.fcmToken <> ''")
+    List<Object[]> findFcmTokensByIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 푸시 서버가 무효로 판정한 토큰 제거 (그 사이 새 토큰으로 바뀌었으면 유지)
+     */
+    @Modifying
+    @Query("UPDATE User u SET u.fcmToken = NULL WHERE u.id = :userId AND u.fcmToken = :token")
+    int clearFcmToken(@Param("userId") Long userId, @Param("token") String token);
+}
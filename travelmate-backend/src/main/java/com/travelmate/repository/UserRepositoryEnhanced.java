@@ -1,6 +1,8 @@
 package com.travelmate.repository;
 
 import com.travelmate.entity.User;
+import com.travelmate.repository.geo.GeoBoundingBox;
+import com.travelmate.repository.geo.GeoResult;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
@@ -54,59 +56,79 @@ public interface UserRepositoryEnhanced extends JpaRepository<User, Long> {
                            @Param("travelStyle") User.TravelStyle travelStyle,
                            Pageable pageable);
     
-    // Location-based queries with improved security and performance
-    @Query("SELECT u FROM User u WHERE u.isLocationEnabled = true AND u.isMatchingEnabled = true " +
-           "AND u.currentLatitude IS NOT NULL AND u.currentLongitude IS NOT NULL " +
-           "AND u.id != :userId AND u.isActive = true AND u.privacyLocationVisible = true " +
-           "AND u.lastActivityAt > :recentActivity " +
-           "AND (6371 * acos(cos(radians(:latitude)) * cos(radians(u.currentLatitude)) * " +
-           "cos(radians(u.currentLongitude) - radians(:longitude)) + " +
-           "sin(radians(:latitude)) * sin(radians(u.currentLatitude)))) <= :radiusKm " +
-           "ORDER BY (6371 * acos(cos(radians(:latitude)) * cos(radians(u.currentLatitude)) * " +
-           "cos(radians(u.currentLongitude) - radians(:longitude)) + " +
-           "sin(radians(:latitude)) * sin(radians(u.currentLatitude))))")
-    Page<User> findNearbyUsers(@Param("userId") Long userId, 
-                              @Param("latitude") Double latitude, 
-                              @Param("longitude") Double longitude, 
-                              @Param("radiusKm") Double radiusKm,
-                              @Param("recentActivity") LocalDateTime recentActivity,
-                              Pageable pageable);
-    
-    @Query("SELECT u FROM User u WHERE u.isLocationEnabled = true AND u.isMatchingEnabled = true " +
-           "AND u.currentLatitude IS NOT NULL AND u.currentLongitude IS NOT NULL " +
+    // Location-based queries: bounding box prefilter (uses idx_users_location) before the exact distance check
+    String NEARBY_FROM = "FROM User u WHERE u.isLocationEnabled = true AND u.isMatchingEnabled = true " +
+           "AND " + UserRepository.WITHIN_BOX +
            "AND u.id != :userId AND u.isActive = true AND u.privacyLocationVisible = true " +
            "AND u.lastActivityAt > :recentActivity " +
            "AND (:travelStyle IS NULL OR u.travelStyle = :travelStyle) " +
-           "AND (6371 * acos(cos(radians(:latitude)) * cos(radians(u.currentLatitude)) * " +
-           "cos(radians(u.currentLongitude) - radians(:longitude)) + " +
-           "sin(radians(:latitude)) * sin(radians(u.currentLatitude)))) <= :radiusKm " +
-           "ORDER BY (6371 * acos(cos(radians(:latitude)) * cos(radians(u.currentLatitude)) * " +
-           "cos(radians(u.currentLongitude) - radians(:longitude)) + " +
-           "sin(radians(:latitude)) * sin(radians(u.currentLatitude))))")
-    Page<User> findNearbyUsersWithTravelStyle(@Param("userId") Long userId,
-                                             @Param("latitude") Double latitude,
-                                             @Param("longitude") Double longitude,
-                                             @Param("radiusKm") Double radiusKm,
-                                             @Param("travelStyle") User.TravelStyle travelStyle,
-                                             @Param("recentActivity") LocalDateTime recentActivity,
-                                             Pageable pageable);
+           "AND " + UserRepository.DISTANCE_KM + " <= :radiusKm ";
+
+    @Query(value = "SELECT u, " + UserRepository.DISTANCE_KM + " " + NEARBY_FROM +
+                   "ORDER BY " + UserRepository.DISTANCE_KM,
+           countQuery = "SELECT COUNT(u) " + NEARBY_FROM)
+    Page<Object[]> findNearbyUsersInBox(@Param("userId") Long userId,
+                                        @Param("latitude") Double latitude,
+                                        @Param("longitude") Double longitude,
+                                        @Param("radiusKm") Double radiusKm,
+                                        @Param("travelStyle") User.TravelStyle travelStyle,
+                                        @Param("recentActivity") LocalDateTime recentActivity,
+                                        @Param("minLat") double minLat,
+                                        @Param("maxLat") double maxLat,
+                                        @Param("minLng") double minLng,
+                                        @Param("maxLng") double maxLng,
+                                        Pageable pageable);
+
+    default Page<GeoResult<User>> findNearbyUsersWithDistance(Long userId, Double latitude, Double longitude,
+                                                              Double radiusKm, User.TravelStyle travelStyle,
+                                                              LocalDateTime recentActivity, Pageable pageable) {
+        GeoBoundingBox box = GeoBoundingBox.around(latitude, longitude, radiusKm);
+        return findNearbyUsersInBox(userId, latitude, longitude, radiusKm, travelStyle, recentActivity,
+                box.minLatitude(), box.maxLatitude(), box.minLongitude(), box.maxLongitude(), pageable)
+                .map(row -> new GeoResult<>((User) row[0], ((Number) row[1]).doubleValue()));
+    }
+
+    default Page<User> findNearbyUsers(Long userId, Double latitude, Double longitude, Double radiusKm,
+                                       LocalDateTime recentActivity, Pageable pageable) {
+        return findNearbyUsersWithDistance(userId, latitude, longitude, radiusKm, null, recentActivity, pageable)
+                .map(GeoResult::content);
+    }
+
+    default Page<User> findNearbyUsersWithTravelStyle(Long userId, Double latitude, Double longitude,
+                                                      Double radiusKm, User.TravelStyle travelStyle,
+                                                      LocalDateTime recentActivity, Pageable pageable) {
+        return findNearbyUsersWithDistance(userId, latitude, longitude, radiusKm, travelStyle, recentActivity, pageable)
+                .map(GeoResult::content);
+    }
     
     // Shake feature with additional security
-    @Query("SELECT u FROM User u WHERE u.isActive = true AND u.isLocationEnabled = true " +
+    @Query("SELECT u, " + UserRepository.DISTANCE_KM + " FROM User u " +
+           "WHERE u.isActive = true AND u.isLocationEnabled = true " +
            "AND u.isMatchingEnabled = true AND u.privacyLocationVisible = true " +
-           "AND u.currentLatitude IS NOT NULL AND u.currentLongitude IS NOT NULL " +
+           "AND " + UserRepository.WITHIN_BOX +
            "AND u.lastActivityAt > :recentActivity " +
-           "AND (6371 * acos(cos(radians(:latitude)) * cos(radians(u.currentLatitude)) * " +
-           "cos(radians(u.currentLongitude) - radians(:longitude)) + " +
-           "sin(radians(:latitude)) * sin(radians(u.currentLatitude)))) <= :radiusKm " +
-           "ORDER BY u.rating DESC, " +
-           "(6371 * acos(cos(radians(:latitude)) * cos(radians(u.currentLatitude)) * " +
-           "cos(radians(u.currentLongitude) - radians(:longitude)) + " +
-           "sin(radians(:latitude)) * sin(radians(u.currentLatitude))))")
-    List<User> findUsersForShake(@Param("latitude") Double latitude,
-                                @Param("longitude") Double longitude,
-                                @Param("radiusKm") Double radiusKm,
-                                @Param("recentActivity") LocalDateTime recentActivity);
+           "AND " + UserRepository.DISTANCE_KM + " <= :radiusKm " +
+           "ORDER BY u.rating DESC, " + UserRepository.DISTANCE_KM)
+    List<Object[]> findUsersForShakeInBox(@Param("latitude") Double latitude,
+                                          @Param("longitude") Double longitude,
+                                          @Param("radiusKm") Double radiusKm,
+                                          @Param("recentActivity") LocalDateTime recentActivity,
+                                          @Param("minLat") double minLat,
+                                          @Param("maxLat") double maxLat,
+                                          @Param("minLng") double minLng,
+                                          @Param("maxLng") double maxLng);
+
+    default List<GeoResult<User>> findUsersForShakeWithDistance(Double latitude, Double longitude, Double radiusKm,
+                                                                LocalDateTime recentActivity) {
+        GeoBoundingBox box = GeoBoundingBox.around(latitude, longitude, radiusKm);
+        return GeoResult.of(findUsersForShakeInBox(latitude, longitude, radiusKm, recentActivity,
+                box.minLatitude(), box.maxLatitude(), box.minLongitude(), box.maxLongitude()));
+    }
+
+    default List<User> findUsersForShake(Double latitude, Double longitude, Double radiusKm,
+                                         LocalDateTime recentActivity) {
+        return GeoResult.contents(findUsersForShakeWithDistance(latitude, longitude, radiusKm, recentActivity));
+    }
     
     // Activity tracking
     @Query("SELECT u FROM User u WHERE u.lastActivityAt < :cutoff AND u.isActive = true")
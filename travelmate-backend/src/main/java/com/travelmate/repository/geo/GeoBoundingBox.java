@@ -0,0 +1,42 @@
+package com.travelmate.repository.geo;
+
+import com.travelmate.service.geo.GeoMath;
+
+/**
+ * 반경 검색용 위경도 경계 상자
+ * 위도/경도 BETWEEN 조건으로 인덱스를 먼저 타게 한 뒤, 상자 안의 행에만 정확한 거리 계산을 적용한다.
+ */
+public record GeoBoundingBox(
+        double minLatitude,
+        double maxLatitude,
+        double minLongitude,
+        double maxLongitude
+) {
+
+    /**
+     * 중심 좌표와 반경(km)을 모두 포함하는 최소 경계 상자
+     * 극지방을 포함하거나 날짜변경선을 넘는 경우 경도 범위는 전체로 넓힌다.
+     */
+    public static GeoBoundingBox around(double latitude, double longitude, double radiusKm) {
+        double angularRadius = Math.toDegrees(radiusKm / GeoMath.EARTH_RADIUS_KM);
+        double minLat = latitude - angularRadius;
+        double maxLat = latitude + angularRadius;
+
+        if (minLat <= -90.0 || maxLat >= 90.0) {
+            return new GeoBoundingBox(Math.max(minLat, -90.0), Math.min(maxLat, 90.0), -180.0, 180.0);
+        }
+
+        double ratio = Math.sin(radiusKm / GeoMath.EARTH_RADIUS_KM) / Math.cos(Math.toRadians(latitude));
+        if (ratio >= 1.0) {
+            return new GeoBoundingBox(minLat, maxLat, -180.0, 180.0);
+        }
+        double deltaLng = Math.toDegrees(Math.asin(ratio));
+        double minLng = longitude - deltaLng;
+        double maxLng = longitude + deltaLng;
+
+        if (minLng < -180.0 || maxLng > 180.0) {
+            return new GeoBoundingBox(minLat, maxLat, -180.0, 180.0);
+        }
+        return new GeoBoundingBox(minLat, maxLat, minLng, maxLng);
+    }
+}
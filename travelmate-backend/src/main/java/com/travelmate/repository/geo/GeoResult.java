@@ -0,0 +1,23 @@
+package com.travelmate.repository.geo;
+
+import java.util.List;
+
+/**
+ * 반경 검색 결과 - 엔티티와 DB에서 계산한 거리(km)
+ */
+public record GeoResult<T>(T content, double distanceKm) {
+
+    /**
+     * {@code SELECT e, <거리식> FROM ...} 형태의 조회 결과 변환
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> List<GeoResult<T>> of(List<Object[]> rows) {
+        return rows.stream()
+                .map(row -> new GeoResult<>((T) row[0], ((Number) row[1]).doubleValue()))
+                .toList();
+    }
+
+    public static <T> List<T> contents(List<GeoResult<T>> results) {
+        return results.stream().map(GeoResult::content).toList();
+    }
+}
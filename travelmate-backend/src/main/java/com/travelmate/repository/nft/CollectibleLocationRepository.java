@@ -3,6 +3,8 @@ package com.travelmate.repository.nft;
 import com.travelmate.entity.nft.CollectibleLocation;
 import com.travelmate.entity.nft.LocationCategory;
 import com.travelmate.entity.nft.Rarity;
+import com.travelmate.repository.geo.GeoBoundingBox;
+import com.travelmate.repository.geo.GeoResult;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -41,19 +43,11 @@ public interface CollectibleLocationRepository extends JpaRepository<Collectible
     List<CollectibleLocation> findByRarityAndIsActiveTrue(Rarity rarity);
 
     /**
-     * 반경 내 장소 조회 (Haversine 공식)
+     * 반경 내 장소 조회 (미터 단위)
      */
-    @Query(value = """
-        SELECT * FROM collectible_locations cl
-        WHERE cl.is_active = true
-        AND (6371000 * acos(cos(radians(:lat)) * cos(radians(cl.latitude))
-            * cos(radians(cl.longitude) - radians(:lng))
-            + sin(radians(:lat)) * sin(radians(cl.latitude)))) <= :radiusMeters
-        """, nativeQuery = true)
-    List<CollectibleLocation> findNearbyLocations(
-            @Param("lat") double latitude,
-            @Param("lng") double longitude,
-            @Param("radiusMeters") double radiusMeters);
+    default List<CollectibleLocation> findNearbyLocations(double latitude, double longitude, double radiusMeters) {
+        return findNearbyActiveLocations(latitude, longitude, radiusMeters / 1000.0);
+    }
 
     /**
      * 이벤트 장소 조회
@@ -81,22 +75,44 @@ public interface CollectibleLocationRepository extends JpaRepository<Collectible
     Page<CollectibleLocation> findByCategoryAndIsActiveTrue(LocationCategory category, Pageable pageable);
 
     /**
-     * 반경 내 활성 장소 조회 (km 단위)
+     * 반경 검색 거리식 (km)
+     * 경계 상자(BETWEEN)로 idx_collectible_location 범위를 먼저 좁힌 뒤 정확한 거리 비교
      */
-    @Query(value = """
-        SELECT * FROM collectible_locations cl
-        WHERE cl.is_active = true
-        AND (6371 * acos(cos(radians(:lat)) * cos(radians(cl.latitude))
-            * cos(radians(cl.longitude) - radians(:lng))
-            + sin(radians(:lat)) * sin(radians(cl.latitude)))) <= :radiusKm
-        ORDER BY (6371 * acos(cos(radians(:lat)) * cos(radians(cl.latitude))
-            * cos(radians(cl.longitude) - radians(:lng))
-            + sin(radians(:lat)) * sin(radians(cl.latitude)))) ASC
-        """, nativeQuery = true)
-    List<CollectibleLocation> findNearbyActiveLocations(
+    String DISTANCE_KM = "(6371 * acos(cos(radians(:lat)) * cos(radians(cl.latitude)) * " +
+           "cos(radians(cl.longitude) - radians(:lng)) + " +
+           "sin(radians(:lat)) * sin(radians(cl.latitude))))";
+
+    @Query("SELECT cl, " + DISTANCE_KM + " FROM CollectibleLocation cl " +
+           "WHERE cl.isActive = true " +
+           "AND cl.latitude BETWEEN :minLat AND :maxLat " +
+           "AND cl.longitude BETWEEN :minLng AND :maxLng " +
+           "AND " + DISTANCE_KM + " <= :radiusKm " +
+           "ORDER BY " + DISTANCE_KM + " ASC")
+    List<Object[]> findNearbyActiveLocationsInBox(
             @Param("lat") Double latitude,
             @Param("lng") Double longitude,
-            @Param("radiusKm") Double radiusKm);
+            @Param("radiusKm") Double radiusKm,
+            @Param("minLat") double minLat,
+            @Param("maxLat") double maxLat,
+            @Param("minLng") double minLng,
+            @Param("maxLng") double maxLng);
+
+    /**
+     * 반경 내 활성 장소와 거리(km) 조회 - 가까운 순
+     */
+    default List<GeoResult<CollectibleLocation>> findNearbyActiveLocationsWithDistance(
+            Double latitude, Double longitude, Double radiusKm) {
+        GeoBoundingBox box = GeoBoundingBox.around(latitude, longitude, radiusKm);
+        return GeoResult.of(findNearbyActiveLocationsInBox(latitude, longitude, radiusKm,
+                box.minLatitude(), box.maxLatitude(), box.minLongitude(), box.maxLongitude()));
+    }
+
+    /**
+     * 반경 내 활성 장소 조회 (km 단위)
+     */
+    default List<CollectibleLocation> findNearbyActiveLocations(Double latitude, Double longitude, Double radiusKm) {
+        return GeoResult.contents(findNearbyActiveLocationsWithDistance(latitude, longitude, radiusKm));
+    }
 
     /**
      * 검색 (이름 또는 설명에 키워드 포함)
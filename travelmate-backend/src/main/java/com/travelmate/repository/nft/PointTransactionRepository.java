@@ -11,6 +11,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -70,6 +71,17 @@ public interface PointTransactionRepository extends JpaRepository<PointTransacti
     boolean existsByUserIdAndReferenceIdAndReferenceType(
             Long userId, Long referenceId, String referenceType);
 
+    /**
+     * 이미 기록된 참조 키 일괄 조회 (userId, referenceId, referenceType) - 대량 지급 중복 제거용
+     * 세 조건의 곱집합으로 넓게 찾으므로 호출 측에서 정확히 맞춰 본다.
+     */
+    @Query("SELECT pt.user.id, pt.referenceId, pt.referenceType FROM PointTransaction pt " +
+           "WHERE pt.referenceType IN :referenceTypes AND pt.referenceId IN :referenceIds AND pt.user.id IN :userIds")
+    List<Object[]> findReferenceKeys(
+            @Param("userIds") Collection<Long> userIds,
+            @Param("referenceIds") Collection<Long> referenceIds,
+            @Param("referenceTypes") Collection<String> referenceTypes);
+
     /**
      * 최근 거래 내역 조회
      */
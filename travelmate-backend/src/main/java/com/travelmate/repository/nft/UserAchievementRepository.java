@@ -2,10 +2,13 @@ package com.travelmate.repository.nft;
 
 import com.travelmate.entity.nft.UserAchievement;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -80,4 +83,46 @@ public interface UserAchievementRepository extends JpaRepository<UserAchievement
     List<UserAchievement> findByUserIdAndAchievementIds(
             @Param("userId") Long userId,
             @Param("achievementIds") List<Long> achievementIds);
+
+    /**
+     * 진행 중인 업적들의 진행도를 한 번에 +1 (수집 이벤트, 완료된 업적은 제외)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE UserAchievement ua SET ua.currentProgress = ua.currentProgress + 1 " +
+           "WHERE ua.user.id = :userId AND ua.achievement.id IN :achievementIds AND ua.isCompleted = false")
+    int incrementProgress(
+            @Param("userId") Long userId,
+            @Param("achievementIds") Collection<Long> achievementIds);
+
+    /**
+     * 진행 중인 업적의 진행도를 주어진 값으로 맞춤 (완료된 업적은 그대로)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE UserAchievement ua SET ua.currentProgress = :progress " +
+           "WHERE ua.user.id = :userId AND ua.achievement.id = :achievementId AND ua.isCompleted = false")
+    int resetProgress(
+            @Param("userId") Long userId,
+            @Param("achievementId") Long achievementId,
+            @Param("progress") int progress);
+
+    /**
+     * 업적 진행 상황 일괄 조회 (achievementId, currentProgress, targetProgress, isCompleted)
+     */
+    @Query("SELECT ua.achievement.id, ua.currentProgress, ua.targetProgress, ua.isCompleted FROM UserAchievement ua " +
+           "WHERE ua.user.id = :userId AND ua.achievement.id IN :achievementIds")
+    List<Object[]> findProgressByAchievementIds(
+            @Param("userId") Long userId,
+            @Param("achievementIds") Collection<Long> achievementIds);
+
+    /**
+     * 목표에 도달한 업적 완료 처리 (동시에 들어온 수집 중 한 번만 1을 반환)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE UserAchievement ua SET ua.isCompleted = true, ua.completedAt = :completedAt " +
+           "WHERE ua.user.id = :userId AND ua.achievement.id = :achievementId " +
+           "AND ua.isCompleted = false AND ua.currentProgress >= ua.targetProgress")
+    int completeIfReached(
+            @Param("userId") Long userId,
+            @Param("achievementId") Long achievementId,
+            @Param("completedAt") LocalDateTime completedAt);
 }
@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -48,19 +49,22 @@ public interface UserPointRepository extends JpaRepository<UserPoint, Long> {
     List<UserPoint> findTopBySeasonPoints(Pageable pageable);
 
     /**
-     * 랭킹 업데이트
+     * 순위표 적재용 점수 스냅샷 (userId, totalPoints, seasonPoints)
      */
-    @Modifying
-    @Query(value = """
-        UPDATE user_points up
-        SET current_rank = (
-            SELECT ranking FROM (
-                SELECT user_id, ROW_NUMBER() OVER (ORDER BY total_points DESC) as ranking
-                FROM user_points
-            ) r WHERE r.user_id = up.user_id
-        )
-        """, nativeQuery = true)
-    void updateAllRanks();
+    @Query("SELECT up.user.id, up.totalPoints, up.seasonPoints FROM UserPoint up")
+    List<Object[]> findScoreSnapshot();
+
+    /**
+     * 사용자들의 현재 점수 (userId, totalPoints, seasonPoints)
+     */
+    @Query("SELECT up.user.id, up.totalPoints, up.seasonPoints FROM UserPoint up WHERE up.user.id IN :userIds")
+    List<Object[]> findScoresByUserIds(@Param("userIds") Collection<Long> userIds);
+
+    /**
+     * 기록된 랭킹 스냅샷 (userId, currentRank) - 랭킹 증분 기록의 기준
+     */
+    @Query("SELECT up.user.id, up.currentRank FROM UserPoint up WHERE up.currentRank IS NOT NULL")
+    List<Object[]> findRankSnapshot();
 
     /**
      * 사용자의 현재 랭킹 조회
@@ -75,7 +79,7 @@ public interface UserPointRepository extends JpaRepository<UserPoint, Long> {
      * 시즌 리셋
      */
     @Modifying
-    @Query("UPDATE UserPoint up SET up.seasonPoints = 0, up.currentRank = null")
+    @Query("UPDATE VERSIONED UserPoint up SET up.seasonPoints = 0, up.currentRank = null")
     void resetAllSeasonPoints();
 
     /**
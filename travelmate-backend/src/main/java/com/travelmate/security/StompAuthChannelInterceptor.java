@@ -0,0 +1,46 @@
+package com.travelmate.security;
+
+import com.travelmate.service.JwtService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.util.Collections;
+
+/**
+ * STOMP CONNECT 프레임의 Authorization 헤더로 세션 사용자 설정
+ * SockJS 핸드셰이크에는 토큰이 없으므로 CONNECT 시점에 인증해 /user 목적지와 접속 상태 추적에 사용한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StompAuthChannelInterceptor implements ChannelInterceptor {
+
+    private final JwtService jwtService;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() != StompCommand.CONNECT || accessor.getUser() != null) {
+            return message;
+        }
+        String bearerToken = accessor.getFirstNativeHeader("Authorization");
+        if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
+            String jwt = bearerToken.substring(7);
+            if (jwtService.validateToken(jwt)) {
+                Long userId = jwtService.getUserIdFromToken(jwt);
+                accessor.setUser(new UsernamePasswordAuthenticationToken(userId.toString(), null, Collections.emptyList()));
+                log.debug("STOMP 인증 성공: userId={}", userId);
+            }
+        }
+        return message;
+    }
+}
@@ -6,6 +6,8 @@ import com.travelmate.entity.TravelGroup;
 import com.travelmate.repository.UserRepository;
 import com.travelmate.repository.TravelGroupRepository;
 import com.travelmate.repository.UserReviewRepository;
+import com.travelmate.service.geo.UserLocationIndex;
+import com.travelmate.service.recommendation.ParallelScorer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -25,6 +27,18 @@ public class AdvancedRecommendationService {
     private final TravelGroupRepository travelGroupRepository;
     private final UserReviewRepository userReviewRepository;
     private final NotificationService notificationService;
+    private final UserLocationIndex userLocationIndex;
+    private final ParallelScorer parallelScorer;
+    
+    // 여행 스타일 호환성 매트릭스
+    private static final Map<User.TravelStyle, Set<User.TravelStyle>> STYLE_COMPATIBILITY = Map.of(
+            User.TravelStyle.ADVENTURE, Set.of(User.TravelStyle.NATURE, User.TravelStyle.CULTURE),
+            User.TravelStyle.RELAXATION, Set.of(User.TravelStyle.CULTURE, User.TravelStyle.NATURE),
+            User.TravelStyle.CULTURE, Set.of(User.TravelStyle.RELAXATION, User.TravelStyle.ADVENTURE, User.TravelStyle.SHOPPING),
+            User.TravelStyle.FOOD, Set.of(User.TravelStyle.CULTURE, User.TravelStyle.SHOPPING, User.TravelStyle.RELAXATION),
+            User.TravelStyle.SHOPPING, Set.of(User.TravelStyle.CULTURE, User.TravelStyle.FOOD),
+            User.TravelStyle.NATURE, Set.of(User.TravelStyle.ADVENTURE, User.TravelStyle.RELAXATION)
+    );
     
     /**
      * 고급 사용자 추천 시스템
@@ -38,24 +52,22 @@ public class AdvancedRecommendationService {
         }
         
         // 1. 기본 위치 기반 필터링 (10km 반경)
-        List<User> candidates = userRepository.findNearbyUsers(
+        List<User> candidates = userLocationIndex.findNearbyUsers(
             userId, 
             currentUser.getCurrentLatitude(), 
             currentUser.getCurrentLongitude(), 
             10.0
         );
         
-        // 2. 다중 요인 점수 계산 및 정렬
-        List<UserScore> scoredUsers = candidates.stream()
-            .map(user -> calculateCompatibilityScore(currentUser, user))
-            .sorted((a, b) -> Double.compare(b.getScore(), a.getScore()))
-            .limit(10)
-            .collect(Collectors.toList());
+        // 2. 다중 요인 점수 계산 후 상위 10명 (후보가 많으면 병렬 계산)
+        List<ParallelScorer.Scored<User>> scoredUsers = parallelScorer.topK("personalized", candidates,
+            user -> calculateCompatibilityScore(currentUser, user).getScore(),
+            Double.NEGATIVE_INFINITY, 10);
         
         log.info("개인화 추천: 사용자 {} - {}명 추천", userId, scoredUsers.size());
         
         return scoredUsers.stream()
-            .map(userScore -> convertToDto(userScore.getUser()))
+            .map(scored -> convertToDto(scored.item()))
             .collect(Collectors.toList());
     }
     
@@ -67,7 +79,7 @@ public class AdvancedRecommendationService {
             .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
         
         // 같은 활동을 하고 있는 근처 사용자들 찾기
-        List<User> nearbyUsers = userRepository.findNearbyUsers(
+        List<User> nearbyUsers = userLocationIndex.findNearbyUsers(
             userId,
             currentUser.getCurrentLatitude(),
             currentUser.getCurrentLongitude(),
@@ -89,7 +101,9 @@ public class AdvancedRecommendationService {
     
     /**
      * 지능형 매칭 알고리즘
+     * 매칭 알림과 푸시 예약을 기록하므로 읽기 전용이 아닌 트랜잭션에서 실행한다.
      */
+    @Transactional
     public void performIntelligentMatching(Long userId) {
         User currentUser = userRepository.findById(userId)
             .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
@@ -106,10 +120,11 @@ public class AdvancedRecommendationService {
                 notificationService.sendMatchingNotification(
                     userId, match.getId(), match.getNickname()
                 );
-                notificationService.sendMatchingNotification(
-                    match.getId(), userId, currentUser.getNickname()
-                );
             }
+            // 매칭된 사용자들에게는 같은 알림이므로 한 번에 팬아웃
+            notificationService.sendMatchingNotification(
+                immediateMatches.stream().map(User::getId).toList(), userId, currentUser.getNickname()
+            );
             log.info("즉시 매칭 완료: 사용자 {} - {}명", userId, immediateMatches.size());
         }
         
@@ -158,17 +173,7 @@ public class AdvancedRecommendationService {
         
         if (style1 == style2) return 30.0; // 완전 일치
         
-        // 호환성 매트릭스
-        Map<User.TravelStyle, Set<User.TravelStyle>> compatibilityMap = Map.of(
-            User.TravelStyle.ADVENTURE, Set.of(User.TravelStyle.NATURE, User.TravelStyle.CULTURE),
-            User.TravelStyle.RELAXATION, Set.of(User.TravelStyle.CULTURE, User.TravelStyle.NATURE),
-            User.TravelStyle.CULTURE, Set.of(User.TravelStyle.RELAXATION, User.TravelStyle.ADVENTURE, User.TravelStyle.SHOPPING),
-            User.TravelStyle.FOOD, Set.of(User.TravelStyle.CULTURE, User.TravelStyle.SHOPPING, User.TravelStyle.RELAXATION),
-            User.TravelStyle.SHOPPING, Set.of(User.TravelStyle.CULTURE, User.TravelStyle.FOOD),
-            User.TravelStyle.NATURE, Set.of(User.TravelStyle.ADVENTURE, User.TravelStyle.RELAXATION)
-        );
-        
-        Set<User.TravelStyle> compatibleStyles = compatibilityMap.get(style1);
+        Set<User.TravelStyle> compatibleStyles = STYLE_COMPATIBILITY.get(style1);
         if (compatibleStyles != null && compatibleStyles.contains(style2)) {
             return 20.0; // 호환
         }
@@ -215,7 +220,7 @@ public class AdvancedRecommendationService {
     }
     
     private List<User> findImmediateMatches(User currentUser) {
-        return userRepository.findNearbyUsers(
+        return userLocationIndex.findNearbyUsers(
             currentUser.getId(),
             currentUser.getCurrentLatitude(),
             currentUser.getCurrentLongitude(),
@@ -228,7 +233,7 @@ public class AdvancedRecommendationService {
     }
     
     private List<User> findPotentialMatches(User currentUser) {
-        return userRepository.findNearbyUsers(
+        return userLocationIndex.findNearbyUsers(
             currentUser.getId(),
             currentUser.getCurrentLatitude(),
             currentUser.getCurrentLongitude(),
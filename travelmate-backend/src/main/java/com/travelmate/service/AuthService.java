@@ -7,6 +7,7 @@ import com.travelmate.entity.User;
 import com.travelmate.exception.UserException;
 import com.travelmate.repository.RefreshTokenRepository;
 import com.travelmate.repository.UserRepository;
+import com.travelmate.service.recommendation.TravelMateProfileIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -34,6 +35,7 @@ public class AuthService {
     private final RefreshTokenRepository refreshTokenRepository;
     private final JwtService jwtService;
     private final PasswordEncoder passwordEncoder;
+    private final TravelMateProfileIndex travelMateProfileIndex;
     private final RestTemplate restTemplate = new RestTemplate();
 
     @Value("${app.jwt.expiration}")
@@ -369,6 +371,7 @@ public class AuthService {
         user.setIsMatchingEnabled(false);
 
         User savedUser = userRepository.save(user);
+        travelMateProfileIndex.upsert(savedUser);
         log.info("새로운 OAuth 사용자 생성: {} (provider: {})", savedUser.getEmail(), userInfo.getProvider());
 
         return savedUser;
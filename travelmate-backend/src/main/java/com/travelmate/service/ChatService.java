@@ -4,17 +4,29 @@ import com.travelmate.dto.ChatDto;
 import com.travelmate.dto.UserDto;
 import com.travelmate.entity.*;
 import com.travelmate.repository.*;
+import com.travelmate.service.chat.ChatMessageWriter;
+import com.travelmate.service.chat.ChatRecentMessages;
+import com.travelmate.service.chat.ChatTypingIndicators;
+import com.travelmate.service.chat.ChatUnreadCounters;
+import com.travelmate.service.chat.OutgoingMessage;
+import com.travelmate.service.chat.UserSummaryCache;
+import com.travelmate.service.messaging.UserPresenceRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
@@ -30,9 +42,15 @@ public class ChatService {
     private final UserRepository userRepository;
     private final TravelGroupRepository travelGroupRepository;
     private final SimpMessagingTemplate messagingTemplate;
+    private final ChatMessageWriter chatMessageWriter;
+    private final UserSummaryCache userSummaryCache;
+    private final ChatUnreadCounters chatUnreadCounters;
+    private final ChatRecentMessages chatRecentMessages;
+    private final ChatTypingIndicators chatTypingIndicators;
+    private final UserPresenceRegistry userPresenceRegistry;
     
-    // 타이핑 상태 관리용 메모리 저장소
-    private final Map<String, Map<Long, LocalDateTime>> typingStatus = new ConcurrentHashMap<>();
+    // 존재가 확인된 채팅방 (채팅방은 삭제되지 않음)
+    private final Set<Long> knownRoomIds = ConcurrentHashMap.newKeySet();
     
     public ChatDto.ChatRoomResponse createChatRoom(Long creatorId, ChatDto.CreateChatRoomRequest request) {
         User creator = userRepository.findById(creatorId)
@@ -94,14 +112,63 @@ public class ChatService {
 
     /**
      * 여러 채팅방의 읽지 않은 메시지 수를 일괄 조회
+     * 메모리 카운터를 사용하고, 시작 직후 카운터 적재 전에만 DB에서 집계한다.
      */
     private Map<Long, Integer> getUnreadMessageCounts(List<Long> roomIds, Long userId) {
         if (roomIds.isEmpty()) {
             return Map.of();
         }
+        if (chatUnreadCounters.isReady()) {
+            return chatUnreadCounters.countsFor(userId, roomIds);
+        }
         return chatMessageRepository.countUnreadByRoomIds(roomIds, userId);
     }
     
+    /**
+     * 커서 기반 메시지 조회 (beforeId 보다 오래된 메시지를 최신순으로)
+     * 최근 메시지는 링 버퍼에서 읽고, 부족한 부분만 (chat_room_id, id) 인덱스로 DB에서 이어 읽는다.
+     * DB에서 읽은 구간에는 아직 기록 전인 메시지를 합친다.
+     *
+     * @param beforeId null 이면 가장 최근 메시지부터
+     */
+    @Transactional(readOnly = true)
+    public List<ChatDto.MessageResponse> getMessagesBefore(Long roomId, Long beforeId, int size) {
+        ChatRecentMessages.Page buffered = chatRecentMessages.before(roomId, beforeId, size);
+        if (buffered != null && buffered.continueBefore() == null) {
+            return buffered.messages();
+        }
+        
+        List<ChatDto.MessageResponse> result = new ArrayList<>(size);
+        Long cursor = beforeId;
+        if (buffered != null) {
+            result.addAll(buffered.messages());
+            cursor = buffered.continueBefore();
+        }
+        long upper = cursor != null ? cursor : Long.MAX_VALUE;
+        int remaining = size - result.size();
+        // 대기열을 먼저 읽어야 DB 조회 사이에 플러시된 메시지를 놓치지 않음 (겹치면 ID로 제거)
+        List<OutgoingMessage> unflushed = chatMessageWriter.pendingIn(roomId);
+        List<ChatMessage> older = chatMessageRepository.findPageBefore(roomId, upper, PageRequest.of(0, remaining));
+        Map<Long, ChatDto.MessageResponse> merged = new TreeMap<>(Comparator.reverseOrder());
+        for (ChatMessage message : older) {
+            merged.put(message.getId(), convertMessageToDto(message));
+        }
+        for (OutgoingMessage message : unflushed) {
+            if (message.id() < upper && !merged.containsKey(message.id())) {
+                UserSummaryCache.UserSummary sender = message.senderId() != null
+                    ? userSummaryCache.get(message.senderId()) : null;
+                merged.put(message.id(), convertMessageToDto(message, sender));
+            }
+        }
+        merged.values().stream().limit(remaining).forEach(result::add);
+        
+        // 버퍼가 없던 채팅방의 첫 페이지는 버퍼 시작점으로 사용
+        if (buffered == null && beforeId == null) {
+            chatRecentMessages.seed(roomId, result);
+        }
+        return result;
+    }
+    
     @Transactional(readOnly = true)
     public List<ChatDto.MessageResponse> getChatMessages(Long roomId, int page, int size) {
         PageRequest pageRequest = PageRequest.of(page, size, Sort.by("sentAt").descending());
@@ -112,36 +179,38 @@ public class ChatService {
             .collect(Collectors.toList());
     }
     
+    /**
+     * 메시지 전송
+     * 채팅방/발신자 확인은 메모리에서 처리하고, ID를 할당해 바로 브로드캐스트한 뒤 저장은 ChatMessageWriter 에 맡긴다.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public void processMessage(ChatDto.MessageRequest request) {
-        ChatRoom chatRoom = chatRoomRepository.findById(request.getChatRoomId())
-            .orElseThrow(() -> new RuntimeException("채팅방을 찾을 수 없습니다."));
-        
-        User sender = userRepository.findById(request.getSenderId())
-            .orElseThrow(() -> new RuntimeException("발신자를 찾을 수 없습니다."));
-        
-        ChatMessage message = new ChatMessage();
-        message.setChatRoom(chatRoom);
-        message.setSender(sender);
-        message.setContent(request.getContent());
-        message.setMessageType(request.getMessageType());
-        message.setImageUrl(request.getImageUrl());
-        message.setLocationLatitude(request.getLocationLatitude());
-        message.setLocationLongitude(request.getLocationLongitude());
-        message.setLocationName(request.getLocationName());
-        message.setIsDeleted(false);
-        
-        ChatMessage savedMessage = chatMessageRepository.save(message);
-        
-        // 채팅방 최근 메시지 업데이트
-        chatRoom.setLastMessage(request.getContent());
-        chatRoom.setLastMessageAt(LocalDateTime.now());
-        chatRoomRepository.save(chatRoom);
+        Long roomId = request.getChatRoomId();
+        if (!knownRoomIds.contains(roomId)) {
+            if (!chatRoomRepository.existsById(roomId)) {
+                throw new RuntimeException("채팅방을 찾을 수 없습니다.");
+            }
+            knownRoomIds.add(roomId);
+        }
         
-        // 채팅방 참가자들에게 메시지 브로드캐스트
-        ChatDto.MessageResponse messageDto = convertMessageToDto(savedMessage);
-        messagingTemplate.convertAndSend("/topic/chat/" + request.getChatRoomId(), messageDto);
+        UserSummaryCache.UserSummary sender = userSummaryCache.get(request.getSenderId());
+        if (sender == null) {
+            throw new RuntimeException("발신자를 찾을 수 없습니다.");
+        }
         
-        log.debug("메시지 전송: 방 {} - 발신자 {}", request.getChatRoomId(), sender.getNickname());
+        chatMessageWriter.append(roomId,
+            id -> new OutgoingMessage(id, roomId, sender.id(), request.getContent(), request.getMessageType(),
+                request.getImageUrl(), request.getLocationLatitude(), request.getLocationLongitude(),
+                request.getLocationName(), LocalDateTime.now()),
+            message -> {
+                // 채팅방 참가자들에게 메시지 브로드캐스트
+                ChatDto.MessageResponse messageDto = convertMessageToDto(message, sender);
+                broadcastToRoom(roomId, "", messageDto);
+                chatRecentMessages.add(messageDto);
+                chatUnreadCounters.onMessage(roomId, message.id(), sender.id());
+            });
+        
+        log.debug("메시지 전송: 방 {} - 발신자 {}", roomId, sender.nickname());
     }
     
     public void joinChatRoom(ChatDto.JoinRequest request) {
@@ -174,6 +243,8 @@ public class ChatService {
         
         participant.setIsActive(false);
         chatParticipantRepository.save(participant);
+        chatUnreadCounters.leave(request.getChatRoomId(), request.getUserId());
+        chatTypingIndicators.update(request.getChatRoomId(), request.getUserId(), false);
         
         User user = participant.getUser();
         sendSystemMessage(request.getChatRoomId(), String.format("%s님이 퇴장했습니다.", user.getNickname()));
@@ -185,38 +256,60 @@ public class ChatService {
         ChatParticipant participant = chatParticipantRepository.findByChatRoomIdAndUserId(roomId, userId)
             .orElseThrow(() -> new RuntimeException("채팅방 참가자를 찾을 수 없습니다."));
         
-        // 최신 메시지 ID 조회
-        ChatMessage latestMessage = chatMessageRepository.findTopByChatRoomIdOrderBySentAtDesc(roomId);
-        if (latestMessage != null) {
-            participant.setLastReadMessageId(latestMessage.getId());
+        // 최신 메시지 ID 조회 (아직 기록 전인 메시지까지 포함)
+        Long latestMessageId = getLatestMessageId(roomId);
+        if (latestMessageId != null) {
+            participant.setLastReadMessageId(latestMessageId);
             participant.setLastReadAt(LocalDateTime.now());
             chatParticipantRepository.save(participant);
         }
+        chatUnreadCounters.markRead(roomId, userId);
         
         log.debug("메시지 읽음 처리: 방 {} - 사용자 {}", roomId, userId);
     }
     
+    /**
+     * 채팅방 마지막 메시지 ID
+     * 카운터가 모르면 (카운터 미사용/적재 전) DB 와 아직 기록 전인 메시지 중 큰 값을 사용한다.
+     */
+    private Long getLatestMessageId(Long roomId) {
+        Long latestMessageId = chatUnreadCounters.lastMessageId(roomId);
+        if (latestMessageId != null) {
+            return latestMessageId;
+        }
+        ChatMessage latestMessage = chatMessageRepository.findTopByChatRoomIdOrderBySentAtDesc(roomId);
+        Long latest = latestMessage != null ? latestMessage.getId() : null;
+        for (OutgoingMessage message : chatMessageWriter.pendingIn(roomId)) {
+            if (latest == null || message.id() > latest) {
+                latest = message.id();
+            }
+        }
+        return latest;
+    }
+    
     private void addParticipantToRoom(ChatRoom chatRoom, User user) {
         if (!chatParticipantRepository.existsByChatRoomIdAndUserId(chatRoom.getId(), user.getId())) {
             ChatParticipant participant = new ChatParticipant();
             participant.setChatRoom(chatRoom);
             participant.setUser(user);
             participant.setIsActive(true);
+            // 참가 이전 메시지는 읽지 않은 메시지로 세지 않음
+            participant.setLastReadMessageId(getLatestMessageId(chatRoom.getId()));
             chatParticipantRepository.save(participant);
+            chatUnreadCounters.join(chatRoom.getId(), user.getId());
         }
     }
     
     private void sendSystemMessage(Long roomId, String content) {
-        ChatMessage systemMessage = new ChatMessage();
-        systemMessage.setChatRoom(chatRoomRepository.findById(roomId).orElse(null));
-        systemMessage.setContent(content);
-        systemMessage.setMessageType(ChatMessage.MessageType.SYSTEM);
-        systemMessage.setIsDeleted(false);
-        
-        ChatMessage savedMessage = chatMessageRepository.save(systemMessage);
-        
-        ChatDto.MessageResponse messageDto = convertMessageToDto(savedMessage);
-        messagingTemplate.convertAndSend("/topic/chat/" + roomId, messageDto);
+        chatMessageWriter.append(roomId,
+            id -> new OutgoingMessage(id, roomId, null, content, ChatMessage.MessageType.SYSTEM,
+                null, null, null, null, LocalDateTime.now()),
+            message -> {
+                ChatDto.MessageResponse messageDto = convertMessageToDto(message, null);
+                broadcastToRoom(roomId, "", messageDto);
+                chatRecentMessages.add(messageDto);
+                chatUnreadCounters.onMessage(roomId, message.id(), null);
+            });
     }
     
     private Integer getUnreadMessageCount(Long roomId, Long userId) {
@@ -262,6 +355,16 @@ public class ChatService {
         return dto;
     }
     
+    /**
+     * 채팅방 구독자가 없으면 전송 생략
+     */
+    private void broadcastToRoom(Long roomId, String suffix, Object payload) {
+        String destination = "/topic/chat/" + roomId + suffix;
+        if (userPresenceRegistry.hasSubscribers(destination)) {
+            messagingTemplate.convertAndSend(destination, payload);
+        }
+    }
+    
     private ChatDto.MessageResponse convertMessageToDto(ChatMessage message) {
         ChatDto.MessageResponse dto = new ChatDto.MessageResponse();
         dto.setId(message.getId());
@@ -283,6 +386,31 @@ public class ChatService {
         return dto;
     }
     
+    private ChatDto.MessageResponse convertMessageToDto(OutgoingMessage message, UserSummaryCache.UserSummary sender) {
+        ChatDto.MessageResponse dto = new ChatDto.MessageResponse();
+        dto.setId(message.id());
+        dto.setChatRoomId(message.roomId());
+        
+        if (sender != null) {
+            dto.setSender(UserDto.Response.builder()
+                .id(sender.id())
+                .nickname(sender.nickname())
+                .profileImageUrl(sender.profileImageUrl())
+                .build());
+        }
+        
+        dto.setContent(message.content());
+        dto.setMessageType(message.messageType());
+        dto.setImageUrl(message.imageUrl());
+        dto.setLocationLatitude(message.locationLatitude());
+        dto.setLocationLongitude(message.locationLongitude());
+        dto.setLocationName(message.locationName());
+        dto.setSentAt(message.sentAt());
+        dto.setIsDeleted(false);
+        
+        return dto;
+    }
+    
     private UserDto.Response convertUserToDto(User user) {
         return UserDto.Response.builder()
             .id(user.getId())
@@ -315,61 +443,27 @@ public class ChatService {
         response.setCreatedAt(basicDto.getCreatedAt());
         
         // 최근 메시지 10개
-        List<ChatDto.MessageResponse> recentMessages = getChatMessages(roomId, 0, 10);
+        List<ChatDto.MessageResponse> recentMessages = getMessagesBefore(roomId, null, 10);
         response.setRecentMessages(recentMessages);
         
         // 메시지 전송 권한
         response.setCanSendMessage(chatRoom.getIsActive());
         
         // 현재 타이핑 중인 사용자들
-        response.setTypingUsers(getTypingUsers(roomId, userId));
+        response.setTypingUsers(chatTypingIndicators.typingUsers(roomId, userId));
         
         return response;
     }
     
     public void updateTypingStatus(Long roomId, Long userId, boolean isTyping) {
-        String roomKey = "room_" + roomId;
-        
-        if (isTyping) {
-            typingStatus.computeIfAbsent(roomKey, k -> new ConcurrentHashMap<>())
-                .put(userId, LocalDateTime.now());
-        } else {
-            Map<Long, LocalDateTime> roomTyping = typingStatus.get(roomKey);
-            if (roomTyping != null) {
-                roomTyping.remove(userId);
-                if (roomTyping.isEmpty()) {
-                    typingStatus.remove(roomKey);
-                }
-            }
-        }
-        
-        // 타이핑 상태 브로드캐스트
-        List<String> typingUsers = getTypingUsers(roomId, userId);
-        messagingTemplate.convertAndSend("/topic/chat/" + roomId + "/typing", typingUsers);
-    }
-    
-    private List<String> getTypingUsers(Long roomId, Long excludeUserId) {
-        String roomKey = "room_" + roomId;
-        Map<Long, LocalDateTime> roomTyping = typingStatus.get(roomKey);
-        
-        if (roomTyping == null) {
-            return List.of();
-        }
-        
-        // 30초 이상 지난 타이핑 상태는 제거
-        LocalDateTime cutoff = LocalDateTime.now().minusSeconds(30);
-        roomTyping.entrySet().removeIf(entry -> entry.getValue().isBefore(cutoff));
-        
-        return roomTyping.keySet().stream()
-            .filter(userId -> !userId.equals(excludeUserId))
-            .map(userId -> {
-                User user = userRepository.findById(userId).orElse(null);
-                return user != null ? user.getNickname() : "Unknown";
-            })
-            .collect(Collectors.toList());
+        // 브로드캐스트는 ChatTypingIndicators 가 채팅방별로 모아서 전송
+        chatTypingIndicators.update(roomId, userId, isTyping);
     }
     
     public void deleteMessage(Long messageId, Long userId) {
+        // 방금 보낸 메시지가 아직 기록 전일 수 있음
+        chatMessageWriter.flushIfPending(messageId);
+        
         ChatMessage message = chatMessageRepository.findById(messageId)
             .orElseThrow(() -> new RuntimeException("메시지를 찾을 수 없습니다."));
         
@@ -378,10 +472,11 @@ public class ChatService {
             message.setIsDeleted(true);
             message.setContent("[삭제된 메시지입니다]");
             chatMessageRepository.save(message);
+            chatRecentMessages.remove(message.getChatRoom().getId(), messageId);
             
             // 삭제 알림 브로드캐스트
             ChatDto.MessageResponse deletedMessage = convertMessageToDto(message);
-            messagingTemplate.convertAndSend("/topic/chat/" + message.getChatRoom().getId() + "/delete", deletedMessage);
+            broadcastToRoom(message.getChatRoom().getId(), "/delete", deletedMessage);
             
             log.info("메시지 삭제: {} by {}", messageId, userId);
         } else {
@@ -1,5 +1,6 @@
 package com.travelmate.service;
 
+import com.travelmate.config.AsyncConfig;
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
 import lombok.extern.slf4j.Slf4j;
@@ -74,7 +75,7 @@ public class EmailService {
         return token;
     }
 
-    @Async
+    @Async(AsyncConfig.MAIL_EXECUTOR)
     public void sendEmailAsync(String to, String subject, String htmlContent) {
         if (mailSender.isEmpty()) {
             log.warn("JavaMailSender가 구성되지 않았습니다. 이메일을 발송할 수 없습니다: {}", to);
@@ -3,10 +3,14 @@ package com.travelmate.service;
 import com.travelmate.dto.UserDto;
 import com.travelmate.entity.User;
 import com.travelmate.repository.UserRepository;
+import com.travelmate.service.geo.GeoCellIndex;
+import com.travelmate.service.geo.LocationIngestionService;
+import com.travelmate.service.geo.ShakeMatchmaker;
+import com.travelmate.service.geo.UserLocationIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
@@ -20,8 +24,14 @@ public class LocationService {
     
     private final UserRepository userRepository;
     private final NotificationService notificationService;
+    private final UserLocationIndex userLocationIndex;
+    private final ShakeMatchmaker shakeMatchmaker;
+    private final LocationIngestionService locationIngestionService;
     
-    @Async
+    /**
+     * 폰 흔들기 이벤트 접수
+     * 매칭은 ShakeMatchmaker 가 같은 시간대에 근처에서 함께 흔든 사용자끼리 묶어 일괄 처리한다.
+     */
     public void processShakeEvent(UserDto.ShakeRequest request) {
         // 흔들기 강도 계산
         double shakeIntensity = calculateShakeIntensity(
@@ -30,55 +40,28 @@ public class LocationService {
             request.getAccelerationZ()
         );
         
-        log.info("폰 흔들기 감지: 사용자 {} - 강도 {}", request.getUserId(), shakeIntensity);
+        log.debug("폰 흔들기 감지: 사용자 {} - 강도 {}", request.getUserId(), shakeIntensity);
         
         if (shakeIntensity < 15.0) {
             log.debug("흔들기 강도 부족: {}", shakeIntensity);
             return;
         }
         
-        // 강도에 따른 검색 반경 조정
-        double searchRadius = calculateSearchRadius(shakeIntensity);
-        
-        List<User> nearbyUsers = userRepository.findUsersForShake(
-            request.getLatitude(), 
-            request.getLongitude(), 
-            searchRadius
-        );
-        
-        if (!nearbyUsers.isEmpty()) {
-            // 매칭된 사용자들에게 알림
-            User shaker = userRepository.findById(request.getUserId()).orElse(null);
-            if (shaker != null) {
-                for (User nearbyUser : nearbyUsers) {
-                    notificationService.sendMatchingNotification(
-                        nearbyUser.getId(),
-                        shaker.getId(),
-                        shaker.getNickname()
-                    );
-                }
-                
-                // 흔든 사용자에게도 결과 알림
-                String message = String.format("주변에서 %d명의 여행자를 발견했습니다!", nearbyUsers.size());
-                notificationService.sendNotification(request.getUserId(), message);
-            }
-        }
-        
-        log.info("폰 흔들기 결과: {}명 발견, 검색반경 {}km", nearbyUsers.size(), searchRadius);
+        shakeMatchmaker.submit(request.getUserId(), request.getLatitude(), request.getLongitude(), shakeIntensity);
     }
     
     public List<UserDto.Response> getSmartRecommendations(Long userId, Double latitude, Double longitude) {
         User currentUser = userRepository.findById(userId)
             .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
         
-        // 1차: 위치 기반 필터링 (5km 반경)
-        List<User> nearbyUsers = userRepository.findNearbyUsers(userId, latitude, longitude, 5.0);
-        
-        // 2차: 여행 스타일 기반 필터링
-        List<User> compatibleUsers = nearbyUsers.stream()
-            .filter(user -> isCompatibleTravelStyle(currentUser.getTravelStyle(), user.getTravelStyle()))
-            .limit(20)
-            .collect(Collectors.toList());
+        // 위치(5km) + 여행 스타일 필터는 인덱스에서 처리하고, 최종 20명만 DB에서 조회
+        List<GeoCellIndex.Hit> hits = userLocationIndex.findNearbyHits(
+            userId, latitude, longitude, 5.0,
+            entry -> isCompatibleTravelStyle(currentUser.getTravelStyle(), entry.travelStyle()),
+            20
+        );
+        List<User> compatibleUsers = userLocationIndex.hydrate(
+            hits, user -> Boolean.TRUE.equals(user.getIsMatchingEnabled()));
         
         log.info("스마트 추천: 사용자 {} - {}명 추천", userId, compatibleUsers.size());
         
@@ -87,18 +70,13 @@ public class LocationService {
             .collect(Collectors.toList());
     }
     
+    @Transactional(propagation = Propagation.SUPPORTS)
     public void updateLocationWithContext(Long userId, Double latitude, Double longitude, String context) {
-        User user = userRepository.findById(userId)
-            .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
-        
-        user.setCurrentLatitude(latitude);
-        user.setCurrentLongitude(longitude);
-        user.setIsLocationEnabled(true);
-        userRepository.save(user);
+        locationIngestionService.submit(userId, latitude, longitude);
         
         // 컨텍스트 기반 자동 매칭 (예: 공항, 역, 관광지)
         if (isHotspot(context)) {
-            triggerHotspotMatching(user, context);
+            triggerHotspotMatching(userId, latitude, longitude, context);
         }
         
         log.debug("위치 업데이트: 사용자 {} - ({}, {}) 컨텍스트: {}", 
@@ -109,13 +87,6 @@ public class LocationService {
         return Math.sqrt(x * x + y * y + z * z);
     }
     
-    private double calculateSearchRadius(double shakeIntensity) {
-        // 흔들기 강도에 따라 1km ~ 10km 범위로 조정
-        double baseRadius = 1.0;
-        double intensityFactor = Math.min(shakeIntensity / 20.0, 5.0); // 최대 5배
-        return Math.min(baseRadius * intensityFactor, 10.0);
-    }
-    
     private boolean isCompatibleTravelStyle(User.TravelStyle style1, User.TravelStyle style2) {
         if (style1 == null || style2 == null) return true;
         
@@ -144,25 +115,27 @@ public class LocationService {
         return false;
     }
     
-    private void triggerHotspotMatching(User user, String context) {
+    private void triggerHotspotMatching(Long userId, Double latitude, Double longitude, String context) {
         // 같은 핫스팟에 있는 다른 사용자들 찾기
-        List<User> hotspotUsers = userRepository.findNearbyUsers(
-            user.getId(), 
-            user.getCurrentLatitude(), 
-            user.getCurrentLongitude(), 
-            0.5 // 500m 반경
+        List<GeoCellIndex.Hit> hotspotUsers = userLocationIndex.findNearbyHits(
+            userId, 
+            latitude, 
+            longitude, 
+            0.5, // 500m 반경
+            entry -> true,
+            0
         );
         
         if (!hotspotUsers.isEmpty()) {
             String message = String.format("%s 근처에서 %d명의 여행자가 있습니다!", 
                 context, hotspotUsers.size());
-            notificationService.sendNotification(user.getId(), message);
+            notificationService.sendNotification(userId, message);
             
             // 위치 공유 알림
             notificationService.sendLocationShareNotification(
-                user.getId(),
-                user.getCurrentLatitude(),
-                user.getCurrentLongitude(),
+                userId,
+                latitude,
+                longitude,
                 context
             );
         }
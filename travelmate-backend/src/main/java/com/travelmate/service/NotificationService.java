@@ -1,19 +1,33 @@
 package com.travelmate.service;
 
+import com.travelmate.config.AsyncConfig;
 import com.travelmate.entity.Notification;
 import com.travelmate.entity.User;
 import com.travelmate.repository.NotificationRepository;
 import com.travelmate.repository.UserRepository;
+import com.travelmate.service.messaging.UserPresenceRegistry;
+import com.travelmate.service.notification.NotificationCoalescer;
+import com.travelmate.service.notification.NotificationFanout;
+import com.travelmate.service.notification.NotificationRetentionJob;
+import com.travelmate.service.notification.NotificationUnreadCounts;
+import com.travelmate.service.notification.PushOutboxWriter;
+import com.travelmate.service.notification.PushSender;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -21,31 +35,65 @@ import java.util.Map;
 @Service
 @RequiredArgsConstructor
 @Slf4j
-public class NotificationService {
+public class NotificationService implements DisposableBean {
 
     private final SimpMessagingTemplate messagingTemplate;
     private final NotificationRepository notificationRepository;
     private final UserRepository userRepository;
+    private final UserPresenceRegistry userPresenceRegistry;
+    private final NotificationFanout notificationFanout;
+    private final NotificationCoalescer notificationCoalescer;
+    private final NotificationUnreadCounts notificationUnreadCounts;
+    private final NotificationRetentionJob notificationRetentionJob;
+    private final PushOutboxWriter pushOutboxWriter;
+    private final PlatformTransactionManager transactionManager;
     
+    /**
+     * 한 사용자에게 시스템 알림 (위치 핫스팟 안내 등, 실시간 전송만 하고 알림 목록에 기록하지 않음)
+     */
     public void sendNotification(Long userId, String message) {
+        sendNotification(List.of(userId), message);
+    }
+    
+    /**
+     * 여러 사용자에게 같은 시스템 알림 (한 번 직렬화해 팬아웃, 실시간 전송만 하고 알림 목록에 기록하지 않음)
+     */
+    public void sendNotification(Collection<Long> userIds, String message) {
+        publishSystemNotification(userIds, message, null);
+    }
+    
+    /**
+     * 여러 사용자에게 같은 시스템 알림을 알림 목록에 기록하고 전송
+     * 기록은 호출 측 트랜잭션과 함께 커밋되고, 실시간 전송은 커밋된 뒤에 한다.
+     */
+    public void createAndSendSystemNotification(Collection<Long> userIds, String message) {
+        publishSystemNotification(userIds, message,
+            new NotificationFanout.Persisted(Notification.NotificationType.SYSTEM, "알림",
+                truncate(message), null, null, "SYSTEM"));
+    }
+    
+    private void publishSystemNotification(Collection<Long> userIds, String message,
+                                           NotificationFanout.Persisted persisted) {
         Map<String, Object> notification = new HashMap<>();
         notification.put("message", message);
         notification.put("timestamp", LocalDateTime.now());
         notification.put("type", "SYSTEM");
         
         // WebSocket으로 실시간 알림 전송
-        messagingTemplate.convertAndSendToUser(
-            userId.toString(),
-            "/topic/notifications",
-            notification
-        );
+        notificationFanout.publish(userIds, "/topic/notifications", notification, persisted);
         
-        log.debug("알림 전송: User {} - {}", userId, message);
+        log.debug("알림 전송: Users {} - {}", userIds, message);
         
-        sendPushNotification(userId, message);
+        // 접속 중이면 WebSocket 으로 이미 받았으므로 푸시 생략 (호출 측 트랜잭션과 함께 커밋)
+        pushOutboxWriter.enqueueOffline(userIds, new PushSender.PushMessage("TravelMate", truncate(message), null));
     }
     
     public void sendGroupNotification(Long groupId, String message) {
+        if (!userPresenceRegistry.hasSubscribers("/topic/group/" + groupId)) {
+            log.debug("그룹 알림 생략 (구독자 없음): Group {}", groupId);
+            return;
+        }
+        
         Map<String, Object> notification = new HashMap<>();
         notification.put("message", message);
         notification.put("timestamp", LocalDateTime.now());
@@ -79,44 +127,61 @@ public class NotificationService {
     }
     
     public void sendMatchingNotification(Long userId, Long matchedUserId, String matchedUserNickname) {
+        sendMatchingNotification(List.of(userId), matchedUserId, matchedUserNickname);
+    }
+    
+    /**
+     * 같은 사용자와 매칭된 여러 사용자에게 매칭 알림
+     */
+    public void sendMatchingNotification(Collection<Long> userIds, Long matchedUserId, String matchedUserNickname) {
+        String message = String.format("%s님과 매칭되었습니다!", matchedUserNickname);
         Map<String, Object> notification = new HashMap<>();
         notification.put("type", "MATCHING");
         notification.put("matchedUserId", matchedUserId);
         notification.put("matchedUserNickname", matchedUserNickname);
-        notification.put("message", String.format("%s님과 매칭되었습니다!", matchedUserNickname));
+        notification.put("message", message);
         notification.put("timestamp", LocalDateTime.now());
         
-        messagingTemplate.convertAndSendToUser(
-            userId.toString(),
-            "/topic/matching",
-            notification
-        );
+        notificationFanout.publish(userIds, "/topic/matching", notification,
+            new NotificationFanout.Persisted(Notification.NotificationType.SYSTEM, "매칭",
+                truncate(message), null, matchedUserId, "MATCHING"));
         
-        log.info("매칭 알림: User {} matched with User {}", userId, matchedUserId);
+        log.info("매칭 알림: Users {} matched with User {}", userIds, matchedUserId);
     }
     
-    // 푸시 알림 전송 (FCM 연동)
-    private void sendPushNotification(Long userId, String message) {
-        try {
-            // FCM 토큰은 사용자 설정에서 관리
-            // 실제 운영 시 FCM SDK 연동 필요
-            log.info("푸시 알림 대기: User {} - {}", userId, message);
-            
-            // FCM 메시지 포맷 준비
-            Map<String, String> data = new HashMap<>();
-            data.put("title", "TravelMate");
-            data.put("body", message);
-            data.put("userId", userId.toString());
-            
-            // FCM 전송 로직은 별도 구현 필요
-            // fcmService.sendToUser(userId, data);
-            
-        } catch (Exception e) {
-            log.error("푸시 알림 전송 실패: User {}", userId, e);
+    /**
+     * 매칭 알림 일괄 전송 (흔들기 매칭 한 주기에 성사된 매칭을 한 번의 배치 기록과 팬아웃으로)
+     */
+    public void sendMatchingNotifications(List<MatchingNotice> notices) {
+        LocalDateTime now = LocalDateTime.now();
+        List<NotificationFanout.Notice> fanoutNotices = new ArrayList<>(notices.size());
+        for (MatchingNotice notice : notices) {
+            String message = String.format("%s님과 매칭되었습니다!", notice.matchedUserNickname());
+            Map<String, Object> notification = new HashMap<>();
+            notification.put("type", "MATCHING");
+            notification.put("matchedUserId", notice.matchedUserId());
+            notification.put("matchedUserNickname", notice.matchedUserNickname());
+            notification.put("message", message);
+            notification.put("timestamp", now);
+            fanoutNotices.add(new NotificationFanout.Notice(notice.userId(), notification,
+                new NotificationFanout.Persisted(Notification.NotificationType.SYSTEM, "매칭",
+                    truncate(message), null, notice.matchedUserId(), "MATCHING")));
         }
+        notificationFanout.publishEach("/topic/matching", fanoutNotices);
+        log.info("매칭 알림 일괄 전송: {}건", notices.size());
+    }
+    
+    // 알림 목록 message 컬럼 길이 제한
+    private static String truncate(String message) {
+        return message.length() <= 500 ? message : message.substring(0, 500);
     }
     
     public void sendJoinRequestNotification(Long groupId, Long requesterId, String requesterName) {
+        if (!userPresenceRegistry.hasSubscribers("/topic/group/" + groupId + "/admin")) {
+            log.debug("가입 요청 알림 생략 (구독자 없음): Group {}", groupId);
+            return;
+        }
+        
         Map<String, Object> notification = new HashMap<>();
         notification.put("type", "JOIN_REQUEST");
         notification.put("groupId", groupId);
@@ -137,8 +202,9 @@ public class NotificationService {
 
     /**
      * 알림 생성 및 저장 (DB + WebSocket)
+     * 묶음 대상 유형은 창이 닫힐 때 요약 알림 한 건으로 저장/전송한다.
      */
-    @Async
+    @Async(AsyncConfig.NOTIFICATION_EXECUTOR)
     @Transactional
     public void createAndSendNotification(
             Long userId,
@@ -149,29 +215,78 @@ public class NotificationService {
             Long relatedId,
             String relatedType) {
 
+        NotificationCoalescer.Draft draft = new NotificationCoalescer.Draft(
+                userId, type, title, message, actionUrl, relatedId, relatedType);
+        if (notificationCoalescer.offer(draft)) {
+            return;
+        }
+
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("User not found"));
+        saveAndSend(user, draft);
+    }
+
+    /**
+     * 창이 닫힌 묶음 알림 저장/전송
+     */
+    @Scheduled(fixedDelayString = "${app.notification.coalesce.flush-interval-ms:1000}")
+    public void flushCoalescedNotifications() {
+        flushCoalesced(notificationCoalescer.drainDue());
+    }
+
+    @Override
+    public void destroy() {
+        flushCoalesced(notificationCoalescer.drainAll());
+    }
+
+    private void flushCoalesced(List<NotificationCoalescer.Draft> drafts) {
+        if (drafts.isEmpty()) {
+            return;
+        }
+        // 알림과 푸시 예약을 한 트랜잭션으로, 한 건의 실패가 나머지를 되돌리지 않도록 건별로
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        Map<Long, User> users = new HashMap<>();
+        userRepository.findAllById(drafts.stream().map(NotificationCoalescer.Draft::userId).distinct().toList())
+                .forEach(user -> users.put(user.getId(), user));
+        for (NotificationCoalescer.Draft draft : drafts) {
+            User user = users.get(draft.userId());
+            if (user == null) {
+                continue;
+            }
+            try {
+                transactionTemplate.executeWithoutResult(status -> saveAndSend(user, draft));
+            } catch (Exception e) {
+                log.error("묶음 알림 저장 실패: user {} ({}건)", draft.userId(), draft.count(), e);
+            }
+        }
+        log.debug("묶음 알림 {}건 전송", drafts.size());
+    }
 
+    private void saveAndSend(User user, NotificationCoalescer.Draft draft) {
         Notification notification = Notification.builder()
                 .user(user)
-                .type(type)
-                .title(title)
-                .message(message)
-                .actionUrl(actionUrl)
-                .relatedId(relatedId)
-                .relatedType(relatedType)
+                .type(draft.type())
+                .title(draft.title())
+                .message(truncate(draft.message()))
+                .actionUrl(draft.actionUrl())
+                .relatedId(draft.relatedId())
+                .relatedType(draft.relatedType())
                 .isRead(false)
                 .build();
 
         notification = notificationRepository.save(notification);
-        log.info("Notification created: {} for user {}", notification.getId(), userId);
+        log.info("Notification created: {} for user {}", notification.getId(), user.getId());
+        notificationUnreadCounts.added(user.getId());
 
         // WebSocket 실시간 전송
-        sendWebSocketNotification(userId, notification);
+        sendWebSocketNotification(user.getId(), notification);
 
-        // FCM 푸시 (사용자가 FCM 토큰이 있으면)
-        if (user.getFcmToken() != null && !user.getFcmToken().isEmpty()) {
-            sendPushNotificationEnhanced(user.getFcmToken(), title, message, notification);
+        // FCM 푸시 (사용자가 FCM 토큰이 있고 접속 중이 아니면 아웃박스에 예약, PushDispatcher 가 전송)
+        if (user.getFcmToken() != null && !user.getFcmToken().isEmpty() && !userPresenceRegistry.isOnline(user.getId())) {
+            pushOutboxWriter.enqueue(user.getId(), user.getFcmToken(),
+                    new PushSender.PushMessage(draft.title(), notification.getMessage(), draft.actionUrl()),
+                    notification.getId());
+            notification.setSentViaPush(true);
         }
     }
 
@@ -189,16 +304,6 @@ public class NotificationService {
         }
     }
 
-    @Async
-    public void sendPushNotificationEnhanced(String fcmToken, String title, String body, Notification notification) {
-        try {
-            log.info("Push notification would be sent to token: {}", fcmToken);
-            // FCM 구현은 firebase-admin SDK 추가 후 구현
-        } catch (Exception e) {
-            log.error("Failed to send push notification", e);
-        }
-    }
-
     @Transactional(readOnly = true)
     public Page<NotificationDto> getNotifications(Long userId, Pageable pageable) {
         Page<Notification> notifications = notificationRepository.findByUserIdOrderByCreatedAtDesc(userId, pageable);
@@ -213,18 +318,20 @@ public class NotificationService {
 
     @Transactional(readOnly = true)
     public long getUnreadCount(Long userId) {
-        return notificationRepository.countByUserIdAndIsReadFalse(userId);
+        return notificationUnreadCounts.get(userId, () -> notificationRepository.countByUserIdAndIsReadFalse(userId));
     }
 
     @Transactional
     public void markAsRead(List<Long> notificationIds, Long userId) {
         int updated = notificationRepository.markAsRead(notificationIds, userId, LocalDateTime.now());
+        notificationUnreadCounts.evict(userId);
         log.info("Marked {} notifications as read for user {}", updated, userId);
     }
 
     @Transactional
     public void markAllAsRead(Long userId) {
         int updated = notificationRepository.markAllAsRead(userId, LocalDateTime.now());
+        notificationUnreadCounts.cleared(userId);
         log.info("Marked all {} notifications as read for user {}", updated, userId);
     }
 
@@ -238,13 +345,18 @@ public class NotificationService {
         }
 
         notificationRepository.delete(notification);
+        if (!notification.isRead()) {
+            notificationUnreadCounts.evict(userId);
+        }
         log.info("Notification {} deleted by user {}", notificationId, userId);
     }
 
-    @Transactional
+    /**
+     * daysToKeep 이전 알림 정리 (청크 단위, NotificationRetentionJob 참고)
+     */
     public void cleanupOldNotifications(int daysToKeep) {
         LocalDateTime beforeDate = LocalDateTime.now().minusDays(daysToKeep);
-        int deleted = notificationRepository.deleteOldNotifications(beforeDate);
+        int deleted = notificationRetentionJob.purgeOlderThan(beforeDate);
         log.info("Deleted {} old notifications (older than {} days)", deleted, daysToKeep);
     }
 
@@ -320,6 +432,12 @@ public class NotificationService {
                 .build();
     }
 
+    /**
+     * 매칭 알림 한 건 (userId 에게 matchedUserId 와 매칭되었음을 알림)
+     */
+    public record MatchingNotice(Long userId, Long matchedUserId, String matchedUserNickname) {
+    }
+
     @lombok.Builder
     @lombok.Getter
     public static class NotificationDto {
@@ -5,13 +5,19 @@ import com.travelmate.dto.UserDto;
 import com.travelmate.dto.UserPreferenceDto;
 import com.travelmate.entity.TravelGroup;
 import com.travelmate.entity.User;
-import com.travelmate.entity.UserGroupMembership;
 import com.travelmate.repository.TravelGroupRepository;
 import com.travelmate.repository.UserGroupMembershipRepository;
 import com.travelmate.repository.UserRepository;
+import com.travelmate.service.recommendation.GroupProfileAggregate;
+import com.travelmate.service.recommendation.GroupProfileCache;
+import com.travelmate.service.recommendation.ParallelScorer;
+import com.travelmate.service.recommendation.ProfileVector;
+import com.travelmate.service.recommendation.RecommendationStore;
+import com.travelmate.service.recommendation.RecommendationTimings;
+import com.travelmate.service.recommendation.TravelMateProfileIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -27,6 +33,15 @@ public class RecommendationService {
     private final UserRepository userRepository;
     private final TravelGroupRepository travelGroupRepository;
     private final UserGroupMembershipRepository membershipRepository;
+    private final TravelMateProfileIndex profileIndex;
+    private final GroupProfileCache groupProfileCache;
+    private final ParallelScorer parallelScorer;
+    private final RecommendationTimings timings;
+    private final RecommendationStore recommendationStore;
+
+    // 사용자별로 미리 계산해 두는 추천 목록 크기 (이보다 큰 limit 요청은 매번 계산)
+    @Value("${app.recommendation.materialized-size:20}")
+    private int materializedSize = 20;
 
     // 가중치 설정
     private static final double TRAVEL_STYLE_WEIGHT = 0.25;
@@ -207,112 +222,176 @@ public class RecommendationService {
     /**
      * 사용자에게 그룹 추천
      * 하이브리드 방식: 콘텐츠 기반 + 협업 필터링
+     * 사전 계산된 목록이 있으면 그대로 반환하고, 없으면 계산해 저장한다.
      */
     @Transactional(readOnly = true)
-    @Cacheable(value = "groupRecommendations", key = "#userId + '_' + #limit")
     public List<RecommendationDto.GroupRecommendation> recommendGroups(Long userId, int limit) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        List<RecommendationDto.GroupRecommendation> materialized =
+                limit <= materializedSize ? recommendationStore.getGroups(userId) : null;
+        if (materialized == null) {
+            User user = userRepository.findById(userId)
+                    .orElseThrow(() -> new RuntimeException("User not found"));
+            Set<Long> joinedGroupIds = membershipRepository.findByUserId(userId).stream()
+                    .map(m -> m.getTravelGroup().getId())
+                    .collect(Collectors.toSet());
+            int size = Math.max(limit, materializedSize);
+            materialized = computeGroupRecommendations(user, travelGroupRepository.findAll(), joinedGroupIds, size);
+            if (size == materializedSize) {
+                recommendationStore.putGroups(userId, materialized);
+            }
+            log.info("Generated {} group recommendations for user {}", materialized.size(), userId);
+        }
+        return new ArrayList<>(materialized.subList(0, Math.min(limit, materialized.size())));
+    }
 
+    private List<RecommendationDto.GroupRecommendation> computeGroupRecommendations(
+            User user, List<TravelGroup> allGroups, Set<Long> joinedGroupIds, int limit) {
         // 사용자의 선호도 추출
         UserPreferenceDto userPreference = extractUserPreferences(user);
 
-        // 모든 활성 그룹 조회 (사용자가 이미 가입한 그룹 제외)
-        List<TravelGroup> allGroups = travelGroupRepository.findAll();
-        Set<Long> joinedGroupIds = membershipRepository.findByUserId(userId).stream()
-                .map(m -> m.getTravelGroup().getId())
-                .collect(Collectors.toSet());
-
-        List<RecommendationDto.GroupRecommendation> recommendations = allGroups.stream()
+        // 사용자가 이미 가입한 그룹과 마감된 그룹 제외
+        List<TravelGroup> candidateGroups = allGroups.stream()
                 .filter(group -> !joinedGroupIds.contains(group.getId()))
                 .filter(group -> group.getCurrentMembers() < group.getMaxMembers())
-                .map(group -> {
-                    // 콘텐츠 기반 점수 계산
-                    RecommendationDto.ScoreBreakdown breakdown = calculateContentBasedScore(userPreference, group);
-
-                    // 협업 필터링 점수 계산
-                    double collaborativeScore = calculateCollaborativeScore(userId, group);
-                    breakdown.setCollaborativeScore(collaborativeScore);
-
-                    // 최종 점수 계산
-                    double finalScore = calculateFinalScore(breakdown);
-
-                    // 추천 이유 생성
-                    List<String> reasons = generateGroupReasons(breakdown, userPreference, group);
-
-                    return RecommendationDto.GroupRecommendation.builder()
-                            .groupId(group.getId())
-                            .groupName(group.getTitle())
-                            .destination(group.getDestination())
-                            .description(group.getDescription())
-                            .currentMembers(group.getCurrentMembers())
-                            .maxMembers(group.getMaxMembers())
-                            .travelStyle(group.getTravelStyle() != null ? group.getTravelStyle().name() : null)
-                            .tags(parseGroupTags(group))
-                            .recommendationScore(finalScore)
-                            .reasons(reasons)
-                            .scoreBreakdown(breakdown)
-                            .build();
-                })
-                .sorted((r1, r2) -> Double.compare(r2.getRecommendationScore(), r1.getRecommendationScore()))
-                .limit(limit)
                 .collect(Collectors.toList());
 
-        log.info("Generated {} group recommendations for user {}", recommendations.size(), userId);
-        return recommendations;
+        // 협업 필터링: 후보 그룹 멤버 집계를 한 번에 조회하고 그룹당 상수 시간으로 비교
+        ProfileVector userVector = profileIndex.vectorOf(user);
+        Map<Long, GroupProfileAggregate> groupProfiles = groupProfileCache.getAll(
+                candidateGroups.stream().map(TravelGroup::getId).toList());
+
+        // 후보 점수는 엔티티 스칼라 필드만 읽으므로 병렬 계산 후 상위 그룹만 상세 정보를 만든다
+        List<ParallelScorer.Scored<TravelGroup>> topGroups = parallelScorer.topK("groups", candidateGroups,
+                group -> calculateFinalScore(scoreGroup(userPreference, userVector, groupProfiles, group)),
+                Double.NEGATIVE_INFINITY, limit);
+
+        return timings.time("groups.build", () ->
+                topGroups.stream()
+                        .map(scored -> {
+                            TravelGroup group = scored.item();
+                            RecommendationDto.ScoreBreakdown breakdown =
+                                    scoreGroup(userPreference, userVector, groupProfiles, group);
+
+                            // 추천 이유 생성
+                            List<String> reasons = generateGroupReasons(breakdown, userPreference, group);
+
+                            return RecommendationDto.GroupRecommendation.builder()
+                                    .groupId(group.getId())
+                                    .groupName(group.getTitle())
+                                    .destination(group.getDestination())
+                                    .description(group.getDescription())
+                                    .currentMembers(group.getCurrentMembers())
+                                    .maxMembers(group.getMaxMembers())
+                                    .travelStyle(group.getTravelStyle() != null ? group.getTravelStyle().name() : null)
+                                    .tags(parseGroupTags(group))
+                                    .recommendationScore(scored.score())
+                                    .reasons(reasons)
+                                    .scoreBreakdown(breakdown)
+                                    .build();
+                        })
+                        .collect(Collectors.toList()));
     }
 
     /**
      * 사용자에게 동행자 추천 (고급 버전)
+     * 사전 계산된 목록이 있으면 그대로 반환하고, 없으면 계산해 저장한다.
      */
     @Transactional(readOnly = true)
-    @Cacheable(value = "userRecommendations", key = "#userId + '_' + #limit")
     public List<RecommendationDto.UserRecommendation> recommendTravelMates(Long userId, int limit) {
-        User currentUser = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        List<RecommendationDto.UserRecommendation> materialized =
+                limit <= materializedSize ? recommendationStore.getTravelMates(userId) : null;
+        if (materialized == null) {
+            User currentUser = userRepository.findById(userId)
+                    .orElseThrow(() -> new RuntimeException("User not found"));
+            int size = Math.max(limit, materializedSize);
+            materialized = computeTravelMateRecommendations(currentUser, size);
+            if (size == materializedSize) {
+                recommendationStore.putTravelMates(userId, materialized);
+            }
+            log.info("Generated {} user recommendations for user {}", materialized.size(), userId);
+        }
+        return new ArrayList<>(materialized.subList(0, Math.min(limit, materialized.size())));
+    }
 
+    private List<RecommendationDto.UserRecommendation> computeTravelMateRecommendations(User currentUser, int limit) {
         UserPreferenceDto currentUserPref = extractUserPreferences(currentUser);
 
-        List<User> allUsers = userRepository.findAll();
-
-        List<RecommendationDto.UserRecommendation> recommendations = allUsers.stream()
-                .filter(user -> !user.getId().equals(userId))
-                .filter(User::getIsActive)
-                .map(user -> {
-                    UserPreferenceDto otherUserPref = extractUserPreferences(user);
-
-                    // 사용자 유사도 계산
-                    double similarityScore = calculateUserSimilarity(currentUserPref, otherUserPref);
-
-                    // 공통 관심사 찾기
-                    List<String> commonInterests = findCommonInterests(currentUserPref, otherUserPref);
-
-                    // 추천 이유 생성
-                    List<String> reasons = generateUserRecommendationReasons(
-                            currentUserPref, otherUserPref, commonInterests, similarityScore);
-
-                    return RecommendationDto.UserRecommendation.builder()
-                            .userId(user.getId())
-                            .nickname(user.getNickname())
-                            .profileImage(user.getProfileImageUrl())
-                            .travelStyles(otherUserPref.getTravelStyles())
-                            .interests(otherUserPref.getInterests())
-                            .ageGroup(otherUserPref.getAgeGroup() != null ? otherUserPref.getAgeGroup() + "대" : null)
-                            .recommendationScore(similarityScore * 100)
-                            .reasons(reasons)
-                            .commonInterests(commonInterests)
-                            .similarityScore(similarityScore)
-                            .build();
-                })
-                .filter(rec -> rec.getRecommendationScore() > 30) // 최소 30점 이상만
-                .sorted((a, b) -> Double.compare(b.getRecommendationScore(), a.getRecommendationScore()))
-                .limit(limit)
-                .collect(Collectors.toList());
+        // 특성 벡터 인덱스에서 상위 후보만 고른 뒤 해당 사용자만 조회 (최소 30점 이상)
+        if (!profileIndex.isReady()) {
+            profileIndex.warmUp();
+        }
+        List<TravelMateProfileIndex.ScoredUser> topMatches =
+                profileIndex.topK(profileIndex.vectorOf(currentUser), limit, 0.3);
+        Map<Long, User> candidates = timings.time("travel-mates.hydrate", () -> userRepository.findAllById(
+                        topMatches.stream().map(TravelMateProfileIndex.ScoredUser::userId).toList())
+                .stream()
+                .collect(Collectors.toMap(User::getId, user -> user)));
+
+        List<RecommendationDto.UserRecommendation> recommendations = new ArrayList<>();
+        for (TravelMateProfileIndex.ScoredUser match : topMatches) {
+            User user = candidates.get(match.userId());
+            if (user == null || !Boolean.TRUE.equals(user.getIsActive())) {
+                profileIndex.remove(match.userId());
+                continue;
+            }
+            UserPreferenceDto otherUserPref = extractUserPreferences(user);
+            double similarityScore = match.similarity();
+
+            // 공통 관심사 찾기
+            List<String> commonInterests = findCommonInterests(currentUserPref, otherUserPref);
+
+            // 추천 이유 생성
+            List<String> reasons = generateUserRecommendationReasons(
+                    currentUserPref, otherUserPref, commonInterests, similarityScore);
+
+            recommendations.add(RecommendationDto.UserRecommendation.builder()
+                    .userId(user.getId())
+                    .nickname(user.getNickname())
+                    .profileImage(user.getProfileImageUrl())
+                    .travelStyles(otherUserPref.getTravelStyles())
+                    .interests(otherUserPref.getInterests())
+                    .ageGroup(otherUserPref.getAgeGroup() != null ? otherUserPref.getAgeGroup() + "대" : null)
+                    .recommendationScore(similarityScore * 100)
+                    .reasons(reasons)
+                    .commonInterests(commonInterests)
+                    .similarityScore(similarityScore)
+                    .build());
+        }
 
-        log.info("Generated {} user recommendations for user {}", recommendations.size(), userId);
         return recommendations;
     }
 
+    /**
+     * 사용자들의 그룹/동행자 추천 목록을 미리 계산해 저장 (배치 갱신용, 배치마다 짧은 트랜잭션)
+     * 그룹 목록은 갱신 실행마다 한 번 조회해 넘겨받고, 가입 정보는 배치당 한 번만 조회한다.
+     *
+     * @param allGroups 추천 후보 그룹 (스칼라 필드만 읽으므로 트랜잭션 밖에서 조회한 엔티티도 사용 가능)
+     * @return 저장한 사용자 수
+     */
+    @Transactional(readOnly = true)
+    public int materialize(Collection<Long> userIds, List<TravelGroup> allGroups) {
+        if (userIds.isEmpty()) {
+            return 0;
+        }
+        List<User> users = userRepository.findAllById(userIds);
+        Map<Long, Set<Long>> joinedGroupIds = new HashMap<>();
+        for (Object[] row : membershipRepository.findGroupIdsByUserIds(userIds)) {
+            joinedGroupIds.computeIfAbsent((Long) row[0], id -> new HashSet<>()).add((Long) row[1]);
+        }
+
+        int count = 0;
+        for (User user : users) {
+            if (!Boolean.TRUE.equals(user.getIsActive())) {
+                continue;
+            }
+            recommendationStore.putGroups(user.getId(), computeGroupRecommendations(
+                    user, allGroups, joinedGroupIds.getOrDefault(user.getId(), Set.of()), materializedSize));
+            recommendationStore.putTravelMates(user.getId(), computeTravelMateRecommendations(user, materializedSize));
+            count++;
+        }
+        return count;
+    }
+
     /**
      * 콘텐츠 기반 점수 계산
      */
@@ -357,39 +436,16 @@ public class RecommendationService {
     }
 
     /**
-     * 협업 필터링 점수 계산
+     * 콘텐츠 기반 + 협업 필터링 점수 (병렬 점수 계산에서 호출되므로 공유 상태를 변경하지 않는다)
      */
-    private double calculateCollaborativeScore(Long userId, TravelGroup group) {
-        try {
-            User user = userRepository.findById(userId).orElse(null);
-            if (user == null) return 0.0;
-
-            UserPreferenceDto currentUserPref = extractUserPreferences(user);
-
-            // 해당 그룹의 멤버들 조회
-            List<UserGroupMembership> groupMembers = membershipRepository.findByTravelGroupId(group.getId());
-
-            if (groupMembers.isEmpty()) return 0.0;
-
-            // 그룹 멤버들과 현재 사용자의 유사도 평균 계산
-            double totalSimilarity = 0.0;
-            int count = 0;
-
-            for (UserGroupMembership membership : groupMembers) {
-                User member = membership.getUser();
-                if (!member.getId().equals(userId)) {
-                    UserPreferenceDto memberPref = extractUserPreferences(member);
-                    double similarity = calculateUserSimilarity(currentUserPref, memberPref);
-                    totalSimilarity += similarity;
-                    count++;
-                }
-            }
-
-            return count > 0 ? totalSimilarity / count : 0.0;
-        } catch (Exception e) {
-            log.error("Error calculating collaborative score", e);
-            return 0.0;
-        }
+    private RecommendationDto.ScoreBreakdown scoreGroup(UserPreferenceDto userPref, ProfileVector userVector,
+                                                        Map<Long, GroupProfileAggregate> groupProfiles,
+                                                        TravelGroup group) {
+        RecommendationDto.ScoreBreakdown breakdown = calculateContentBasedScore(userPref, group);
+        breakdown.setCollaborativeScore(groupProfiles
+                .getOrDefault(group.getId(), GroupProfileAggregate.EMPTY)
+                .similarity(userVector));
+        return breakdown;
     }
 
     /**
@@ -487,23 +543,6 @@ public class RecommendationService {
         return 0.3;
     }
 
-    /**
-     * 사용자 간 유사도 계산
-     */
-    private double calculateUserSimilarity(UserPreferenceDto user1, UserPreferenceDto user2) {
-        double styleScore = calculateInterestSimilarity(user1.getTravelStyles(), user2.getTravelStyles());
-        double interestScore = calculateInterestSimilarity(user1.getInterests(), user2.getInterests());
-        double regionScore = calculateInterestSimilarity(user1.getPreferredRegions(), user2.getPreferredRegions());
-
-        double ageScore = 0.5;
-        if (user1.getAgeGroup() != null && user2.getAgeGroup() != null) {
-            int ageDiff = Math.abs(user1.getAgeGroup() - user2.getAgeGroup());
-            ageScore = ageDiff == 0 ? 1.0 : (ageDiff <= 10 ? 0.7 : 0.3);
-        }
-
-        return (styleScore * 0.3 + interestScore * 0.4 + regionScore * 0.2 + ageScore * 0.1);
-    }
-
     /**
      * 공통 관심사 찾기
      */
@@ -4,11 +4,15 @@ import com.travelmate.entity.Report;
 import com.travelmate.entity.Report.ReportStatus;
 import com.travelmate.entity.Report.ReportType;
 import com.travelmate.entity.User;
+import com.travelmate.event.UserProfileChangedEvent;
 import com.travelmate.exception.BusinessException;
 import com.travelmate.repository.ReportRepository;
 import com.travelmate.repository.UserRepository;
+import com.travelmate.service.geo.UserLocationIndex;
+import com.travelmate.service.recommendation.TravelMateProfileIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,6 +28,9 @@ public class ReportService {
     private final ReportRepository reportRepository;
     private final UserRepository userRepository;
     private final NotificationService notificationService;
+    private final UserLocationIndex userLocationIndex;
+    private final TravelMateProfileIndex travelMateProfileIndex;
+    private final ApplicationEventPublisher eventPublisher;
 
     private static final int REPORT_COOLDOWN_HOURS = 24;
     private static final int AUTO_SUSPEND_THRESHOLD = 5;
@@ -83,6 +90,9 @@ public class ReportService {
         if (totalValidReports >= AUTO_SUSPEND_THRESHOLD) {
             reportedUser.setIsActive(false);
             userRepository.save(reportedUser);
+            userLocationIndex.track(reportedUser);
+            travelMateProfileIndex.remove(reportedUser.getId());
+            eventPublisher.publishEvent(new UserProfileChangedEvent(reportedUser.getId()));
             log.warn("사용자 {} 자동 정지: 신고 횟수 {}회 초과", reportedUser.getId(), AUTO_SUSPEND_THRESHOLD);
 
             // 사용자에게 알림
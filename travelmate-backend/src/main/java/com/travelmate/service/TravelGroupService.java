@@ -5,12 +5,16 @@ import com.travelmate.dto.UserDto;
 import com.travelmate.entity.GroupMember;
 import com.travelmate.entity.TravelGroup;
 import com.travelmate.entity.User;
+import com.travelmate.event.GroupChangedEvent;
+import com.travelmate.event.GroupMembershipChangedEvent;
 import com.travelmate.exception.TravelGroupException;
 import com.travelmate.repository.GroupMemberRepository;
 import com.travelmate.repository.TravelGroupRepository;
 import com.travelmate.repository.UserRepository;
+import com.travelmate.service.recommendation.GroupProfileCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -28,6 +32,8 @@ public class TravelGroupService {
     private final GroupMemberRepository groupMemberRepository;
     private final UserRepository userRepository;
     private final NotificationService notificationService;
+    private final GroupProfileCache groupProfileCache;
+    private final ApplicationEventPublisher eventPublisher;
     
     public TravelGroupDto.Response createGroup(Long creatorId, TravelGroupDto.CreateRequest request) {
         User creator = userRepository.findById(creatorId)
@@ -57,6 +63,8 @@ public class TravelGroupService {
         creatorMember.setRole(GroupMember.Role.CREATOR);
         creatorMember.setStatus(GroupMember.Status.ACCEPTED);
         groupMemberRepository.save(creatorMember);
+        eventPublisher.publishEvent(new GroupChangedEvent(savedGroup.getId(), GroupChangedEvent.Type.CREATED));
+        eventPublisher.publishEvent(new GroupMembershipChangedEvent(savedGroup.getId(), creatorId, true));
         
         log.info("새 여행 그룹 생성: {} by {}", savedGroup.getId(), creator.getNickname());
         
@@ -147,6 +155,11 @@ public class TravelGroupService {
         member.setRole(GroupMember.Role.MEMBER);
         member.setStatus(GroupMember.Status.ACCEPTED);
         groupMemberRepository.save(member);
+        groupProfileCache.memberJoined(groupId, userId);
+        eventPublisher.publishEvent(new GroupMembershipChangedEvent(groupId, userId, true));
+        if (currentMembers + 1 >= group.getMaxMembers()) {
+            eventPublisher.publishEvent(new GroupChangedEvent(groupId, GroupChangedEvent.Type.FILLED));
+        }
         
         // 그룹 생성자에게 알림
         notificationService.sendNotification(
@@ -166,6 +179,8 @@ public class TravelGroupService {
         }
         
         groupMemberRepository.delete(member);
+        groupProfileCache.memberLeft(groupId, userId);
+        eventPublisher.publishEvent(new GroupMembershipChangedEvent(groupId, userId, false));
         
         log.info("그룹 탈퇴: Group {} - User {}", groupId, userId);
     }
@@ -181,17 +196,15 @@ public class TravelGroupService {
         
         group.setStatus(status);
         travelGroupRepository.save(group);
+        eventPublisher.publishEvent(new GroupChangedEvent(groupId, GroupChangedEvent.Type.UPDATED));
         
         // 모든 멤버에게 알림
-        group.getMembers().stream()
+        List<Long> memberIds = group.getMembers().stream()
             .filter(m -> m.getStatus() == GroupMember.Status.ACCEPTED)
-            .forEach(member -> {
-                notificationService.sendNotification(
-                    member.getUser().getId(),
-                    String.format("'%s' 그룹 상태가 %s로 변경되었습니다.", 
-                        group.getTitle(), status.name())
-                );
-            });
+            .map(member -> member.getUser().getId())
+            .toList();
+        notificationService.createAndSendSystemNotification(memberIds,
+            String.format("'%s' 그룹 상태가 %s로 변경되었습니다.", group.getTitle(), status.name()));
         
         log.info("그룹 상태 변경: {} - {}", groupId, status);
     }
@@ -296,6 +309,7 @@ public class TravelGroupService {
         }
         
         TravelGroup savedGroup = travelGroupRepository.save(group);
+        eventPublisher.publishEvent(new GroupChangedEvent(groupId, GroupChangedEvent.Type.UPDATED));
         log.info("그룹 정보 업데이트: {} by {}", groupId, userId);
         
         return convertToDto(savedGroup);
@@ -311,18 +325,17 @@ public class TravelGroupService {
         }
         
         // 모든 멤버에게 삭제 알림
-        group.getMembers().stream()
+        List<Long> memberIds = group.getMembers().stream()
             .filter(m -> m.getStatus() == GroupMember.Status.ACCEPTED)
-            .forEach(member -> {
-                if (!member.getUser().getId().equals(userId)) {
-                    notificationService.sendNotification(
-                        member.getUser().getId(),
-                        String.format("'%s' 그룹이 삭제되었습니다.", group.getTitle())
-                    );
-                }
-            });
+            .map(member -> member.getUser().getId())
+            .filter(memberId -> !memberId.equals(userId))
+            .toList();
+        notificationService.createAndSendSystemNotification(memberIds,
+            String.format("'%s' 그룹이 삭제되었습니다.", group.getTitle()));
         
         travelGroupRepository.delete(group);
+        groupProfileCache.evict(groupId);
+        eventPublisher.publishEvent(new GroupChangedEvent(groupId, GroupChangedEvent.Type.DELETED));
         log.info("그룹 삭제: {} by {}", groupId, userId);
     }
     
@@ -2,12 +2,18 @@ package com.travelmate.service;
 
 import com.travelmate.dto.UserDto;
 import com.travelmate.entity.User;
+import com.travelmate.event.UserProfileChangedEvent;
 import com.travelmate.exception.UserException;
 import com.travelmate.repository.UserRepository;
+import com.travelmate.service.geo.LocationIngestionService;
+import com.travelmate.service.geo.UserLocationIndex;
+import com.travelmate.service.recommendation.TravelMateProfileIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
@@ -31,6 +37,10 @@ public class UserService {
     private final UserReviewRepository userReviewRepository;
     private final EmailService emailService;
     private final ReportService reportService;
+    private final UserLocationIndex userLocationIndex;
+    private final LocationIngestionService locationIngestionService;
+    private final TravelMateProfileIndex travelMateProfileIndex;
+    private final ApplicationEventPublisher eventPublisher;
     
     public UserDto.Response registerUser(UserDto.RegisterRequest request) {
         if (userRepository.existsByEmail(request.getEmail())) {
@@ -53,6 +63,7 @@ public class UserService {
         user.setPasswordChangedAt(LocalDateTime.now());
         
         User savedUser = userRepository.save(user);
+        travelMateProfileIndex.upsert(savedUser);
         log.info("새로운 사용자 등록: {}", savedUser.getEmail());
 
         // 이메일 인증 발송
@@ -131,24 +142,19 @@ public class UserService {
         return convertToDto(user);
     }
     
+    // 위치 갱신은 수신 버퍼가 모아서 기록하므로 요청마다 트랜잭션을 열지 않음
+    @Transactional(propagation = Propagation.SUPPORTS)
     public void updateUserLocation(UserDto.LocationUpdateRequest request) {
-        User user = userRepository.findById(request.getUserId())
-            .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
-        
-        user.setCurrentLatitude(request.getLatitude());
-        user.setCurrentLongitude(request.getLongitude());
-        user.setIsLocationEnabled(true);
-        
-        userRepository.save(user);
+        locationIngestionService.submit(request.getUserId(), request.getLatitude(), request.getLongitude());
         log.debug("사용자 위치 업데이트: {} - ({}, {})", 
-            user.getId(), request.getLatitude(), request.getLongitude());
+            request.getUserId(), request.getLatitude(), request.getLongitude());
     }
     
     @Transactional(readOnly = true)
     public List<UserDto.Response> getNearbyUsers(Double latitude, Double longitude, Double radiusKm) {
         Long currentUserId = getCurrentUserId(); // JWT에서 추출
         
-        List<User> nearbyUsers = userRepository.findNearbyUsers(
+        List<User> nearbyUsers = userLocationIndex.findNearbyUsers(
             currentUserId, latitude, longitude, radiusKm);
         
         return nearbyUsers.stream()
@@ -173,14 +179,14 @@ public class UserService {
         // 흔들기 강도에 따라 검색 반경 조정 (1km ~ 5km)
         double searchRadius = Math.min(5.0, Math.max(1.0, shakeIntensity / 10));
         
-        List<User> users = userRepository.findUsersForShake(
-            request.getLatitude(), request.getLongitude(), searchRadius);
+        // 최대 10명까지만 반환
+        List<User> users = userLocationIndex.findUsersForShake(
+            request.getUserId(), request.getLatitude(), request.getLongitude(), searchRadius, 10);
         
         log.info("폰 흔들기로 {} 반경 {}km 내 {}명의 사용자 발견", 
             request.getUserId(), searchRadius, users.size());
         
         return users.stream()
-            .limit(10) // 최대 10명까지만 반환
             .map(this::convertToDto)
             .collect(Collectors.toList());
     }
@@ -259,6 +265,8 @@ public class UserService {
         }
         
         User savedUser = userRepository.save(user);
+        travelMateProfileIndex.upsert(savedUser);
+        eventPublisher.publishEvent(new UserProfileChangedEvent(userId));
         log.info("사용자 프로필 업데이트: {}", userId);
         
         return convertToDto(savedUser);
@@ -279,6 +287,9 @@ public class UserService {
         
         user.setIsActive(false);
         userRepository.save(user);
+        userLocationIndex.track(user);
+        travelMateProfileIndex.remove(userId);
+        eventPublisher.publishEvent(new UserProfileChangedEvent(userId));
         log.info("사용자 계정 비활성화: {}", userId);
     }
     
@@ -0,0 +1,76 @@
+package com.travelmate.service.achievement;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.travelmate.entity.nft.LocationCategory;
+import com.travelmate.entity.nft.Rarity;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Map;
+
+/**
+ * 컴파일된 업적 조건 (conditionJson 을 한 번만 파싱)
+ * 수집 업적은 전체/희귀도/카테고리/지역 중 한 차원만 세며, 수집 한 건이 조건에 맞으면 진행도가 1 오른다.
+ */
+@Slf4j
+public record AchievementCondition(Kind kind, int target, Rarity rarity, LocationCategory category, String region) {
+
+    // 파싱 실패 시 기존과 같이 "첫 수집" 으로 취급
+    static final AchievementCondition FALLBACK = new AchievementCondition(Kind.TOTAL_COLLECT, 1, null, null, null);
+
+    public enum Kind {
+        TOTAL_COLLECT,
+        RARITY_COLLECT,
+        CATEGORY_COLLECT,
+        REGION_COLLECT,
+        // 수집으로 진행되지 않는 조건 (알 수 없는 타입, 잘못된 값)
+        NONE
+    }
+
+    /**
+     * 수집한 NFT 가 이 조건의 진행도를 올리는지
+     */
+    public boolean matches(Rarity collectedRarity, LocationCategory collectedCategory, String collectedRegion) {
+        return switch (kind) {
+            case TOTAL_COLLECT -> true;
+            case RARITY_COLLECT -> rarity == collectedRarity;
+            case CATEGORY_COLLECT -> category == collectedCategory;
+            case REGION_COLLECT -> region.equals(collectedRegion);
+            case NONE -> false;
+        };
+    }
+
+    static AchievementCondition compile(String conditionJson, ObjectMapper objectMapper) {
+        Map<String, Object> conditionMap;
+        int target;
+        try {
+            conditionMap = objectMapper.readValue(conditionJson, new TypeReference<Map<String, Object>>() {});
+            target = ((Number) conditionMap.getOrDefault("target", 1)).intValue();
+        } catch (Exception e) {
+            log.error("업적 조건 파싱 실패: {}", conditionJson, e);
+            return FALLBACK;
+        }
+
+        String type = (String) conditionMap.get("type");
+        try {
+            return switch (type != null ? type : "") {
+                case "TOTAL_COLLECT" -> new AchievementCondition(Kind.TOTAL_COLLECT, target, null, null, null);
+                case "RARITY_COLLECT" -> new AchievementCondition(Kind.RARITY_COLLECT, target,
+                        Rarity.valueOf((String) conditionMap.get("rarity")), null, null);
+                case "CATEGORY_COLLECT" -> new AchievementCondition(Kind.CATEGORY_COLLECT, target, null,
+                        LocationCategory.valueOf((String) conditionMap.get("category")), null);
+                case "REGION_COLLECT" -> conditionMap.get("region") instanceof String region
+                        ? new AchievementCondition(Kind.REGION_COLLECT, target, null, null, region)
+                        : none(target, conditionJson);
+                default -> new AchievementCondition(Kind.NONE, target, null, null, null);
+            };
+        } catch (RuntimeException e) {
+            return none(target, conditionJson);
+        }
+    }
+
+    private static AchievementCondition none(int target, String conditionJson) {
+        log.warn("업적 조건 값이 올바르지 않아 수집으로 진행되지 않음: {}", conditionJson);
+        return new AchievementCondition(Kind.NONE, target, null, null, null);
+    }
+}
@@ -0,0 +1,141 @@
+package com.travelmate.service.achievement;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.travelmate.entity.nft.Achievement;
+import com.travelmate.entity.nft.AchievementType;
+import com.travelmate.entity.nft.LocationCategory;
+import com.travelmate.entity.nft.Rarity;
+import com.travelmate.repository.nft.AchievementRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 수집 업적 색인
+ * 활성 COLLECTION 업적의 조건을 한 번 컴파일해 희귀도/카테고리/지역별로 나눠 두고,
+ * 수집 한 건이 진행시킬 수 있는 업적만 바로 찾는다. 업적 변경은 주기적 재적재로 반영한다.
+ */
+@Component
+@Slf4j
+public class AchievementIndex {
+
+    private final AchievementRepository achievementRepository;
+    private final ObjectMapper objectMapper;
+
+    // 업적 ID -> 컴파일된 조건 (conditionJson 이 바뀌면 다시 컴파일)
+    private final Map<Long, Compiled> compiled = new ConcurrentHashMap<>();
+    private final ReentrantLock loadLock = new ReentrantLock();
+    private volatile Snapshot snapshot;
+
+    public AchievementIndex(AchievementRepository achievementRepository, ObjectMapper objectMapper) {
+        this.achievementRepository = achievementRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 업적 조건 (컴파일 결과 재사용)
+     */
+    public AchievementCondition conditionOf(Achievement achievement) {
+        Compiled cached = compiled.get(achievement.getId());
+        if (cached != null && Objects.equals(cached.conditionJson(), achievement.getConditionJson())) {
+            return cached.condition();
+        }
+        AchievementCondition condition = AchievementCondition.compile(achievement.getConditionJson(), objectMapper);
+        compiled.put(achievement.getId(), new Compiled(achievement.getConditionJson(), condition));
+        return condition;
+    }
+
+    /**
+     * 이 수집으로 진행될 수 있는 업적
+     */
+    public List<Entry> candidates(Rarity rarity, LocationCategory category, String region) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            reload();
+            current = snapshot;
+        }
+        List<Entry> result = new ArrayList<>(current.total());
+        result.addAll(current.byRarity().getOrDefault(rarity, List.of()));
+        result.addAll(current.byCategory().getOrDefault(category, List.of()));
+        if (region != null) {
+            result.addAll(current.byRegion().getOrDefault(region, List.of()));
+        }
+        return result;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        reload();
+    }
+
+    @Scheduled(fixedDelayString = "${app.achievement.index.refresh-interval-ms:300000}",
+               initialDelayString = "${app.achievement.index.refresh-interval-ms:300000}")
+    public void reload() {
+        loadLock.lock();
+        try {
+            load();
+        } catch (RuntimeException e) {
+            log.error("업적 색인 적재 실패", e);
+            if (snapshot == null) {
+                throw e;
+            }
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    private void load() {
+        List<Entry> total = new ArrayList<>();
+        Map<Rarity, List<Entry>> byRarity = new EnumMap<>(Rarity.class);
+        Map<LocationCategory, List<Entry>> byCategory = new EnumMap<>(LocationCategory.class);
+        Map<String, List<Entry>> byRegion = new HashMap<>();
+        int indexed = 0;
+        for (Achievement achievement : achievementRepository
+                .findByTypeAndIsActiveTrueOrderByDisplayOrderAsc(AchievementType.COLLECTION)) {
+            AchievementCondition condition = conditionOf(achievement);
+            Entry entry = new Entry(achievement, condition);
+            switch (condition.kind()) {
+                case TOTAL_COLLECT -> total.add(entry);
+                case RARITY_COLLECT -> byRarity.computeIfAbsent(condition.rarity(), key -> new ArrayList<>()).add(entry);
+                case CATEGORY_COLLECT -> byCategory.computeIfAbsent(condition.category(), key -> new ArrayList<>()).add(entry);
+                case REGION_COLLECT -> byRegion.computeIfAbsent(condition.region(), key -> new ArrayList<>()).add(entry);
+                case NONE -> {
+                    continue;
+                }
+            }
+            indexed++;
+        }
+        snapshot = new Snapshot(List.copyOf(total), byRarity, byCategory, byRegion);
+        log.debug("업적 색인 적재: 수집 업적 {}개", indexed);
+    }
+
+    /**
+     * 색인된 업적 (표시용 필드만 쓰는 분리된 엔티티)
+     */
+    public record Entry(Achievement achievement, AchievementCondition condition) {
+
+        public Long achievementId() {
+            return achievement.getId();
+        }
+    }
+
+    private record Compiled(String conditionJson, AchievementCondition condition) {
+    }
+
+    private record Snapshot(List<Entry> total,
+                            Map<Rarity, List<Entry>> byRarity,
+                            Map<LocationCategory, List<Entry>> byCategory,
+                            Map<String, List<Entry>> byRegion) {
+    }
+}
@@ -0,0 +1,63 @@
+package com.travelmate.service.chat;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅 메시지 ID 발급기 (DB 왕복 없이 전송 시점에 할당)
+ * [밀리초 타임스탬프 41비트 | 노드 4비트 | 시퀀스 8비트] 로 구성해 시간순으로 증가하고,
+ * 프런트엔드(JavaScript Number)에서 손실 없이 다룰 수 있도록 53비트 안에 맞춘다.
+ * 기존 IDENTITY 로 발급된 ID보다 항상 크므로 id 기준 정렬/비교가 그대로 유지된다.
+ */
+@Component
+public class ChatMessageIdGenerator {
+
+    // 2024-01-01T00:00:00Z
+    static final long EPOCH_MILLIS = 1_704_067_200_000L;
+    static final int NODE_BITS = 4;
+    static final int SEQUENCE_BITS = 8;
+    static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private final long nodeId;
+    private long lastMillis = -1;
+    private long sequence;
+
+    /**
+     * @param nodeId 인스턴스마다 달라야 함 (다중 인스턴스 배포 시 app.chat.node-id 지정)
+     */
+    public ChatMessageIdGenerator(@Value("${app.chat.node-id:0}") long nodeId) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("app.chat.node-id 는 0~" + MAX_NODE_ID + " 범위여야 합니다: " + nodeId);
+        }
+        this.nodeId = nodeId;
+    }
+
+    public long nextId() {
+        return nextId(System.currentTimeMillis());
+    }
+
+    /**
+     * 시계가 뒤로 가거나 같은 밀리초에 시퀀스가 소진되면 논리 시간을 앞당겨 단조 증가를 보장
+     */
+    synchronized long nextId(long nowMillis) {
+        long millis = Math.max(nowMillis - EPOCH_MILLIS, lastMillis);
+        if (millis == lastMillis) {
+            sequence = (sequence + 1) & SEQUENCE_MASK;
+            if (sequence == 0) {
+                millis++;
+            }
+        } else {
+            sequence = 0;
+        }
+        lastMillis = millis;
+        return (millis << (NODE_BITS + SEQUENCE_BITS)) | (nodeId << SEQUENCE_BITS) | sequence;
+    }
+
+    /**
+     * ID에 담긴 발급 시각 (epoch millis)
+     */
+    public static long timestampOf(long id) {
+        return (id >>> (NODE_BITS + SEQUENCE_BITS)) + EPOCH_MILLIS;
+    }
+}
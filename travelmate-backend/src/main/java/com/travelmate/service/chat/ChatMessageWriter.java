@@ -0,0 +1,340 @@
+package com.travelmate.service.chat;
+
+import com.travelmate.entity.ChatMessage;
+import com.travelmate.entity.ChatRoom;
+import com.travelmate.entity.User;
+import com.travelmate.repository.ChatRoomRepository;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.LongFunction;
+
+/**
+ * 채팅 메시지 쓰기 파이프라인
+ * 메시지에 ID를 먼저 할당해 바로 전달하고, DB에는 주기적으로 채팅방 순으로 묶어 배치 INSERT 한다.
+ * 채팅방 최근 메시지는 플러시마다 방별 마지막 메시지로 한 번만 갱신한다.
+ * - app.chat.persistence.write-through=true: 전달 전에 동기 저장 (유실 없음, 전송 지연 증가)
+ * - app.chat.ordered-delivery=true: 같은 채팅방은 ID 순서와 전달 순서가 일치
+ * 기록 실패 시 제약 위반 같은 행 오류는 배치를 반씩 나눠 문제 행만 골라내고,
+ * DB 장애 같은 일시 오류는 지수 백오프로 재시도한다. 재시도 기간을 넘긴 메시지는
+ * dead-letter 로그(com.travelmate.chat.dead-letter)에 남긴 뒤에만 대기열에서 뺀다.
+ */
+@Service
+@Slf4j
+public class ChatMessageWriter implements DisposableBean {
+
+    private static final int ROOM_LOCK_STRIPES = 64;
+    private static final Logger DEAD_LETTER = LoggerFactory.getLogger("com.travelmate.chat.dead-letter");
+
+    private final EntityManager entityManager;
+    private final ChatRoomRepository chatRoomRepository;
+    private final ChatMessageIdGenerator idGenerator;
+    // write-through 저장은 호출 측 트랜잭션에 참여, 플러시는 항상 별도 트랜잭션
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate flushTransactionTemplate;
+    private final boolean writeThrough;
+    private final boolean orderedDelivery;
+    private final int batchSize;
+    private final int maxPending;
+    private final long retryBackoffMillis;
+    private final long maxRetryBackoffMillis;
+    private final long retryWindowMillis;
+
+    // 잠금 안에서 DB 기록/전송이 일어나므로 synchronized 대신 ReentrantLock (가상 스레드 고정 방지)
+    private final ReentrantLock[] roomLocks = new ReentrantLock[ROOM_LOCK_STRIPES];
+    private final ReentrantLock flushLock = new ReentrantLock();
+    // 메시지 ID -> 아직 DB에 기록되지 않은 메시지
+    private final Map<Long, Entry> pending = new ConcurrentHashMap<>();
+
+    public ChatMessageWriter(EntityManager entityManager,
+                             ChatRoomRepository chatRoomRepository,
+                             ChatMessageIdGenerator idGenerator,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${app.chat.persistence.write-through:false}") boolean writeThrough,
+                             @Value("${app.chat.ordered-delivery:true}") boolean orderedDelivery,
+                             @Value("${app.chat.flush-batch-size:500}") int batchSize,
+                             @Value("${app.chat.max-pending:50000}") int maxPending,
+                             @Value("${app.chat.retry-backoff-ms:1000}") long retryBackoffMillis,
+                             @Value("${app.chat.max-retry-backoff-ms:60000}") long maxRetryBackoffMillis,
+                             @Value("${app.chat.retry-window-ms:900000}") long retryWindowMillis) {
+        this.entityManager = entityManager;
+        this.chatRoomRepository = chatRoomRepository;
+        this.idGenerator = idGenerator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.flushTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.flushTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.writeThrough = writeThrough;
+        this.orderedDelivery = orderedDelivery;
+        this.batchSize = batchSize;
+        this.maxPending = maxPending;
+        this.retryBackoffMillis = retryBackoffMillis;
+        this.maxRetryBackoffMillis = maxRetryBackoffMillis;
+        this.retryWindowMillis = retryWindowMillis;
+        for (int i = 0; i < ROOM_LOCK_STRIPES; i++) {
+            roomLocks[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * 메시지 추가
+     * 진행 중인 트랜잭션(채팅방 생성 등)이 있으면 커밋 후에 ID 할당/기록/전달한다.
+     *
+     * @param factory 할당된 ID로 메시지를 만든다
+     * @param deliver 기록 대기열에 넣은 뒤(write-through 는 저장 후) 호출
+     */
+    public void append(long roomId, LongFunction<OutgoingMessage> factory, Consumer<OutgoingMessage> deliver) {
+        if (!writeThrough && TransactionSynchronizationManager.isActualTransactionActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    appendInOrder(roomId, factory, deliver);
+                }
+            });
+            return;
+        }
+        appendInOrder(roomId, factory, deliver);
+    }
+
+    public boolean isPending(long messageId) {
+        return pending.containsKey(messageId);
+    }
+
+    /**
+     * 채팅방의 아직 기록 전인 메시지 (DB 조회 결과에 합칠 때 사용, 순서 없음)
+     */
+    public List<OutgoingMessage> pendingIn(long roomId) {
+        List<OutgoingMessage> messages = new ArrayList<>();
+        for (Entry entry : pending.values()) {
+            if (entry.message().roomId() == roomId) {
+                messages.add(entry.message());
+            }
+        }
+        return messages;
+    }
+
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * 메시지가 아직 기록 전이면 즉시 플러시 (진행 중인 플러시가 있으면 끝날 때까지 대기)
+     */
+    public void flushIfPending(long messageId) {
+        flushLock.lock();
+        try {
+            if (pending.containsKey(messageId)) {
+                flush();
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 대기 중인 메시지를 배치로 기록
+     * 행 오류는 해당 행만 dead-letter 로 돌리고, 일시 오류는 백오프 후 재시도하며
+     * 첫 실패부터 retry-window 가 지나면 dead-letter 로그에 남기고 대기열에서 뺀다.
+     */
+    @Scheduled(fixedDelayString = "${app.chat.flush-interval-ms:200}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            flushPending();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        flush();
+    }
+
+    private void flushPending() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        List<Entry> entries = new ArrayList<>(pending.size());
+        for (Entry entry : pending.values()) {
+            if (entry.nextAttemptAt() <= now) {
+                entries.add(entry);
+            }
+        }
+        entries.sort(Comparator.comparingLong((Entry e) -> e.message().roomId())
+                .thenComparingLong(e -> e.message().id()));
+
+        for (int from = 0; from < entries.size(); from += batchSize) {
+            List<Entry> chunk = entries.subList(from, Math.min(from + batchSize, entries.size()));
+            RuntimeException failure = writeIsolating(chunk);
+            if (failure != null) {
+                // DB 장애로 보고 이번 주기의 나머지도 시도하지 않고 백오프
+                List<Entry> remaining = entries.subList(from, entries.size());
+                remaining.forEach(entry -> retryLater(entry, now, failure));
+                log.error("채팅 메시지 배치 기록 실패: {}건 백오프 후 재시도", remaining.size(), failure);
+                return;
+            }
+        }
+    }
+
+    /**
+     * 배치 기록 (행 오류면 반씩 나눠 다시 기록하고, 한 건만 남으면 dead-letter)
+     *
+     * @return 일시 오류로 중단했으면 그 예외, 아니면 null
+     */
+    private RuntimeException writeIsolating(List<Entry> chunk) {
+        try {
+            flushTransactionTemplate.executeWithoutResult(status -> write(chunk));
+            chunk.forEach(e -> pending.remove(e.message().id()));
+            log.debug("채팅 메시지 배치 기록: {}건", chunk.size());
+            return null;
+        } catch (RuntimeException ex) {
+            if (!isRowError(ex)) {
+                return ex;
+            }
+            if (chunk.size() == 1) {
+                deadLetter(chunk.get(0), ex);
+                return null;
+            }
+            int mid = chunk.size() / 2;
+            RuntimeException failure = writeIsolating(chunk.subList(0, mid));
+            return failure != null ? failure : writeIsolating(chunk.subList(mid, chunk.size()));
+        }
+    }
+
+    private void retryLater(Entry entry, long now, RuntimeException cause) {
+        long id = entry.message().id();
+        if (!pending.containsKey(id)) {
+            return;
+        }
+        long firstFailedAt = entry.failures() == 0 ? now : entry.firstFailedAt();
+        if (now - firstFailedAt >= retryWindowMillis) {
+            deadLetter(entry, cause);
+            return;
+        }
+        int failures = entry.failures() + 1;
+        long backoff = Math.min(maxRetryBackoffMillis, retryBackoffMillis << Math.min(failures - 1, 20));
+        pending.put(id, new Entry(entry.message(), failures, firstFailedAt, now + backoff));
+    }
+
+    // 기록하지 못한 메시지는 dead-letter 로그에 남긴 뒤에만 대기열에서 뺀다
+    private void deadLetter(Entry entry, RuntimeException cause) {
+        DEAD_LETTER.error("채팅 메시지 기록 포기 (실패 {}회): {} - {}",
+                entry.failures() + 1, entry.message(), rootMessage(cause));
+        pending.remove(entry.message().id());
+    }
+
+    // 제약 위반/잘못된 값(SQLState 22, 23)은 재시도해도 같은 행에서 다시 실패한다
+    private static boolean isRowError(Throwable ex) {
+        for (Throwable t = ex; t != null; t = t.getCause()) {
+            if (t instanceof DataIntegrityViolationException) {
+                return true;
+            }
+            if (t instanceof SQLException sql && sql.getSQLState() != null
+                    && (sql.getSQLState().startsWith("22") || sql.getSQLState().startsWith("23"))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String rootMessage(Throwable ex) {
+        Throwable root = ex;
+        while (root.getCause() != null && root.getCause() != root) {
+            root = root.getCause();
+        }
+        return root.toString();
+    }
+
+    private void appendInOrder(long roomId, LongFunction<OutgoingMessage> factory, Consumer<OutgoingMessage> deliver) {
+        if (!orderedDelivery) {
+            appendNow(factory, deliver);
+            return;
+        }
+        ReentrantLock lock = roomLocks[Math.floorMod(Long.hashCode(roomId), ROOM_LOCK_STRIPES)];
+        lock.lock();
+        try {
+            appendNow(factory, deliver);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void appendNow(LongFunction<OutgoingMessage> factory, Consumer<OutgoingMessage> deliver) {
+        OutgoingMessage message = factory.apply(idGenerator.nextId());
+        if (writeThrough) {
+            transactionTemplate.executeWithoutResult(status -> write(List.of(Entry.of(message))));
+        } else {
+            if (pending.size() >= maxPending) {
+                // 기록이 밀리면 보내는 쪽에서 직접 플러시해 대기열이 무한히 커지지 않게 함
+                log.warn("채팅 메시지 기록 대기열 포화: {}건, 동기 플러시", pending.size());
+                flush();
+            }
+            pending.put(message.id(), Entry.of(message));
+        }
+        deliver.accept(message);
+    }
+
+    private void write(List<Entry> entries) {
+        Map<Long, OutgoingMessage> latestByRoom = new HashMap<>();
+        for (Entry entry : entries) {
+            OutgoingMessage message = entry.message();
+            entityManager.persist(toEntity(message));
+            // 시스템 메시지는 최근 메시지로 표시하지 않음
+            if (!message.isSystem()) {
+                latestByRoom.merge(message.roomId(), message, (a, b) -> b.id() > a.id() ? b : a);
+            }
+        }
+        entityManager.flush();
+        for (OutgoingMessage latest : latestByRoom.values()) {
+            chatRoomRepository.updateLastMessage(latest.roomId(), latest.content(), latest.sentAt());
+        }
+    }
+
+    private ChatMessage toEntity(OutgoingMessage message) {
+        ChatMessage entity = new ChatMessage();
+        entity.setId(message.id());
+        entity.setChatRoom(entityManager.getReference(ChatRoom.class, message.roomId()));
+        if (message.senderId() != null) {
+            entity.setSender(entityManager.getReference(User.class, message.senderId()));
+        }
+        entity.setContent(message.content());
+        entity.setMessageType(message.messageType());
+        entity.setImageUrl(message.imageUrl());
+        entity.setLocationLatitude(message.locationLatitude());
+        entity.setLocationLongitude(message.locationLongitude());
+        entity.setLocationName(message.locationName());
+        entity.setIsDeleted(false);
+        entity.setSentAt(message.sentAt());
+        return entity;
+    }
+
+    // nextAttemptAt 전에는 플러시 대상에서 제외
+    private record Entry(OutgoingMessage message, int failures, long firstFailedAt, long nextAttemptAt) {
+
+        static Entry of(OutgoingMessage message) {
+            return new Entry(message, 0, 0, 0);
+        }
+    }
+}
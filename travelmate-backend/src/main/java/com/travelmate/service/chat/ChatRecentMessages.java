@@ -0,0 +1,199 @@
+package com.travelmate.service.chat;
+
+import com.travelmate.dto.ChatDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 활성 채팅방별 최근 메시지 링 버퍼
+ * 버퍼는 가장 오래된 항목 이후의 (삭제되지 않은) 메시지를 빠짐없이 ID 순으로 담고 있어,
+ * 채팅방 입장과 첫 페이지 조회를 DB 없이 처리하고 부족한 부분만 DB에서 이어 읽는다.
+ * 다른 인스턴스에서 보낸/삭제한 메시지는 이 버퍼에 오지 않으므로 simple 브로커에서만 사용한다.
+ */
+@Service
+public class ChatRecentMessages {
+
+    private final int capacity;
+    private final boolean enabled;
+    private final Map<Long, RoomBuffer> buffers;
+
+    public ChatRecentMessages(@Value("${app.chat.recent.capacity:50}") int capacity,
+                              @Value("${app.chat.recent.max-rooms:1000}") int maxRooms,
+                              @Value("${app.websocket.broker.mode:simple}") String brokerMode) {
+        this.capacity = capacity;
+        this.enabled = "simple".equals(brokerMode);
+        this.buffers = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, RoomBuffer> eldest) {
+                return size() > maxRooms;
+            }
+        };
+    }
+
+    /**
+     * 전송된 메시지 추가 (버퍼가 없으면 이 메시지부터 시작)
+     */
+    public void add(ChatDto.MessageResponse message) {
+        if (!enabled) {
+            return;
+        }
+        buffer(message.getChatRoomId(), true).add(message);
+    }
+
+    /**
+     * DB에서 읽은 최신 페이지로 버퍼 시작 (이미 버퍼가 있으면 무시)
+     *
+     * @param newestFirst ID 내림차순, 해당 시점의 가장 최근 메시지부터 연속이어야 함
+     */
+    public void seed(long roomId, List<ChatDto.MessageResponse> newestFirst) {
+        if (!enabled) {
+            return;
+        }
+        RoomBuffer seeded = new RoomBuffer(capacity);
+        for (int i = newestFirst.size() - 1; i >= 0; i--) {
+            seeded.add(newestFirst.get(i));
+        }
+        synchronized (buffers) {
+            buffers.putIfAbsent(roomId, seeded);
+        }
+    }
+
+    public void remove(long roomId, long messageId) {
+        RoomBuffer buffer = buffer(roomId, false);
+        if (buffer != null) {
+            buffer.remove(messageId);
+        }
+    }
+
+    /**
+     * beforeId 보다 오래된 메시지를 최신순으로 최대 size 개
+     *
+     * @return 버퍼가 없거나 사용하지 않으면 null. 결과가 size 보다 적으면 나머지는 {@link Page#continueBefore()} 이전을 DB에서 읽어야 함
+     */
+    public Page before(long roomId, Long beforeId, int size) {
+        RoomBuffer buffer = buffer(roomId, false);
+        return buffer != null ? buffer.before(beforeId, size) : null;
+    }
+
+    public int roomCount() {
+        synchronized (buffers) {
+            return buffers.size();
+        }
+    }
+
+    private RoomBuffer buffer(long roomId, boolean create) {
+        synchronized (buffers) {
+            RoomBuffer buffer = buffers.get(roomId);
+            if (buffer == null && create) {
+                buffer = new RoomBuffer(capacity);
+                buffers.put(roomId, buffer);
+            }
+            return buffer;
+        }
+    }
+
+    /**
+     * @param messages      최신순
+     * @param continueBefore DB에서 이어 읽을 때 사용할 커서 (버퍼에 남은 메시지가 충분하면 null)
+     */
+    public record Page(List<ChatDto.MessageResponse> messages, Long continueBefore) {
+    }
+
+    /**
+     * 고정 크기 원형 배열 (ID 오름차순, 가득 차면 가장 오래된 항목을 덮어씀)
+     */
+    static final class RoomBuffer {
+
+        private final ChatDto.MessageResponse[] slots;
+        private int head;
+        private int size;
+
+        RoomBuffer(int capacity) {
+            this.slots = new ChatDto.MessageResponse[capacity];
+        }
+
+        synchronized void add(ChatDto.MessageResponse message) {
+            if (size > 0 && message.getId() <= get(size - 1).getId()) {
+                // 순서 보장이 꺼진 경우의 역순 도착: 정렬 위치에 끼워 넣음
+                insertSorted(message);
+                return;
+            }
+            slots[(head + size) % slots.length] = message;
+            if (size < slots.length) {
+                size++;
+            } else {
+                head = (head + 1) % slots.length;
+            }
+        }
+
+        synchronized void remove(long messageId) {
+            List<ChatDto.MessageResponse> kept = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                if (get(i).getId() != messageId) {
+                    kept.add(get(i));
+                }
+            }
+            reset(kept);
+        }
+
+        synchronized Page before(Long beforeId, int limit) {
+            List<ChatDto.MessageResponse> result = new ArrayList<>(Math.min(limit, size));
+            for (int i = size - 1; i >= 0 && result.size() < limit; i--) {
+                ChatDto.MessageResponse message = get(i);
+                if (beforeId == null || message.getId() < beforeId) {
+                    result.add(message);
+                }
+            }
+            if (result.size() >= limit) {
+                return new Page(result, null);
+            }
+            // 버퍼보다 오래된 구간은 DB에서
+            long oldest = size > 0 ? get(0).getId() : Long.MAX_VALUE;
+            long cursor = beforeId != null ? Math.min(beforeId, oldest) : oldest;
+            return new Page(result, cursor);
+        }
+
+        private ChatDto.MessageResponse get(int index) {
+            return slots[(head + index) % slots.length];
+        }
+
+        private void insertSorted(ChatDto.MessageResponse message) {
+            List<ChatDto.MessageResponse> merged = new ArrayList<>(size + 1);
+            boolean inserted = false;
+            for (int i = 0; i < size; i++) {
+                ChatDto.MessageResponse current = get(i);
+                if (current.getId().equals(message.getId())) {
+                    return;
+                }
+                if (!inserted && message.getId() < current.getId()) {
+                    merged.add(message);
+                    inserted = true;
+                }
+                merged.add(current);
+            }
+            if (!inserted) {
+                merged.add(message);
+            }
+            // 가장 오래된 항목보다 오래된 메시지는 버퍼 범위 밖 (DB 조회 구간)
+            if (merged.get(0) == message) {
+                return;
+            }
+            reset(merged.subList(Math.max(0, merged.size() - slots.length), merged.size()));
+        }
+
+        private void reset(List<ChatDto.MessageResponse> ordered) {
+            Arrays.fill(slots, null);
+            for (int i = 0; i < ordered.size(); i++) {
+                slots[i] = ordered.get(i);
+            }
+            head = 0;
+            size = ordered.size();
+        }
+    }
+}
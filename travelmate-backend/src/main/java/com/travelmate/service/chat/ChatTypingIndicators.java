@@ -0,0 +1,150 @@
+package com.travelmate.service.chat;
+
+import com.travelmate.service.messaging.UserPresenceRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 채팅방별 타이핑 상태
+ * 요청 경로에서는 타임스탬프만 갱신하고, 만료 정리와 브로드캐스트는 스케줄러가 처리한다.
+ * 타이핑 사용자 목록이 바뀐 채팅방만 브로드캐스트 주기마다 한 번 전송하며 닉네임은 {@link UserSummaryCache} 에서 읽는다.
+ */
+@Service
+@Slf4j
+public class ChatTypingIndicators {
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final UserSummaryCache userSummaryCache;
+    private final UserPresenceRegistry userPresenceRegistry;
+    private final long ttlNanos;
+
+    // 채팅방 ID -> 타이핑 상태
+    private final Map<Long, RoomTyping> rooms = new ConcurrentHashMap<>();
+
+    public ChatTypingIndicators(SimpMessagingTemplate messagingTemplate,
+                                UserSummaryCache userSummaryCache,
+                                UserPresenceRegistry userPresenceRegistry,
+                                @Value("${app.chat.typing.ttl-ms:30000}") long ttlMillis) {
+        this.messagingTemplate = messagingTemplate;
+        this.userSummaryCache = userSummaryCache;
+        this.userPresenceRegistry = userPresenceRegistry;
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+    }
+
+    public void update(long roomId, long userId, boolean typing) {
+        update(roomId, userId, typing, System.nanoTime());
+    }
+
+    void update(long roomId, long userId, boolean typing, long nowNanos) {
+        if (typing) {
+            rooms.compute(roomId, (id, room) -> {
+                RoomTyping current = room != null ? room : new RoomTyping();
+                // 이미 타이핑 중이면 만료 시각만 연장 (브로드캐스트 없음)
+                if (current.lastSeen.put(userId, nowNanos) == null) {
+                    current.dirty.set(true);
+                }
+                return current;
+            });
+        } else {
+            rooms.computeIfPresent(roomId, (id, room) -> {
+                if (room.lastSeen.remove(userId) != null) {
+                    room.dirty.set(true);
+                }
+                return room;
+            });
+        }
+    }
+
+    /**
+     * 현재 타이핑 중인 사용자 닉네임 (excludeUserId 제외)
+     */
+    public List<String> typingUsers(long roomId, Long excludeUserId) {
+        RoomTyping room = rooms.get(roomId);
+        if (room == null) {
+            return List.of();
+        }
+        long now = System.nanoTime();
+        List<Long> userIds = new ArrayList<>();
+        room.lastSeen.forEach((userId, seenAt) -> {
+            if (now - seenAt <= ttlNanos && !userId.equals(excludeUserId)) {
+                userIds.add(userId);
+            }
+        });
+        return nicknames(userIds);
+    }
+
+    /**
+     * 만료된 타이핑 상태 정리
+     */
+    @Scheduled(fixedDelayString = "${app.chat.typing.sweep-interval-ms:1000}")
+    public void sweep() {
+        sweep(System.nanoTime());
+    }
+
+    void sweep(long nowNanos) {
+        for (Long roomId : rooms.keySet()) {
+            rooms.computeIfPresent(roomId, (id, room) -> {
+                if (room.lastSeen.values().removeIf(seenAt -> nowNanos - seenAt > ttlNanos)) {
+                    room.dirty.set(true);
+                }
+                // 마지막 변경까지 전송한 빈 채팅방은 제거
+                return room.lastSeen.isEmpty() && !room.dirty.get() ? null : room;
+            });
+        }
+    }
+
+    /**
+     * 타이핑 사용자가 바뀐 채팅방에 현재 목록 전송
+     */
+    @Scheduled(fixedDelayString = "${app.chat.typing.broadcast-interval-ms:300}")
+    public void broadcast() {
+        rooms.forEach((roomId, room) -> {
+            if (!room.dirty.compareAndSet(true, false)) {
+                return;
+            }
+            String destination = "/topic/chat/" + roomId + "/typing";
+            if (!userPresenceRegistry.hasSubscribers(destination)) {
+                return;
+            }
+            try {
+                messagingTemplate.convertAndSend(destination,
+                        nicknames(new ArrayList<>(room.lastSeen.keySet())));
+            } catch (Exception e) {
+                log.warn("타이핑 상태 전송 실패: roomId={}", roomId, e);
+            }
+        });
+    }
+
+    public int roomCount() {
+        return rooms.size();
+    }
+
+    private List<String> nicknames(List<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, UserSummaryCache.UserSummary> summaries = userSummaryCache.getAll(userIds);
+        List<String> result = new ArrayList<>(userIds.size());
+        for (Long userId : userIds) {
+            UserSummaryCache.UserSummary summary = summaries.get(userId);
+            result.add(summary != null ? summary.nickname() : "Unknown");
+        }
+        return result;
+    }
+
+    private static final class RoomTyping {
+        // 사용자 ID -> 마지막 타이핑 시각 (System.nanoTime)
+        private final Map<Long, Long> lastSeen = new ConcurrentHashMap<>();
+        private final AtomicBoolean dirty = new AtomicBoolean();
+    }
+}
@@ -0,0 +1,46 @@
+package com.travelmate.service.chat;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * 채팅방별 참가자 읽지 않은 메시지 수
+ * 메시지 전송 시 참가자 카운터를 올리고 읽음 처리 시 0으로 되돌려, 채팅 목록 조회에 집계 쿼리가 필요 없게 한다.
+ * 브로커 모드에 따라 인메모리/Redis 구현체를 사용하거나 카운터 없이 DB 로 조회한다 (ChatUnreadCountersConfig 참고)
+ */
+public interface ChatUnreadCounters {
+
+    // 적재 전에는 호출 측이 DB 로 집계
+    boolean isReady();
+
+    /**
+     * 새 메시지: 발신자를 제외한 참가자 카운터 증가
+     */
+    void onMessage(long roomId, long messageId, Long senderId);
+
+    void markRead(long roomId, long userId);
+
+    /**
+     * 참가 (이후 메시지부터 카운트)
+     */
+    void join(long roomId, long userId);
+
+    void leave(long roomId, long userId);
+
+    /**
+     * 사용자의 채팅방별 읽지 않은 수 (0인 방은 제외)
+     */
+    Map<Long, Integer> countsFor(long userId, Collection<Long> roomIds);
+
+    /**
+     * 채팅방의 마지막 메시지 ID (알 수 없으면 null, 호출 측이 DB 와 기록 대기열로 조회)
+     */
+    Long lastMessageId(long roomId);
+
+    void warmUp();
+
+    /**
+     * DB 기준으로 카운터 재계산
+     */
+    void reconcile();
+}
@@ -0,0 +1,232 @@
+package com.travelmate.service.chat;
+
+import com.travelmate.repository.ChatMessageRepository;
+import com.travelmate.repository.ChatParticipantRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * 채팅방별 참가자 읽지 않은 메시지 수 (인스턴스 메모리, simple 브로커 전용)
+ * 메시지 전송 시 참가자 카운터를 올리고 읽음 처리 시 0으로 되돌려, 채팅 목록 조회에 집계 쿼리가 필요 없게 한다.
+ * 재시작 후와 주기적으로 lastReadMessageId 기준으로 다시 계산해 누락/삭제 메시지로 인한 오차를 바로잡는다.
+ */
+@Slf4j
+public class InMemoryChatUnreadCounters implements ChatUnreadCounters {
+
+    private final ChatParticipantRepository chatParticipantRepository;
+    private final ChatMessageRepository chatMessageRepository;
+    private final ChatMessageWriter chatMessageWriter;
+    private final ChatMessageIdGenerator idGenerator;
+
+    // 카운터 변경은 읽기 잠금(동시 허용), 재계산 결과 교체는 쓰기 잠금
+    private final ReadWriteLock swapLock = new ReentrantReadWriteLock();
+    // 재계산은 한 번에 하나씩 (DB 조회 동안 잡고 있으므로 synchronized 대신 사용)
+    private final ReentrantLock reconcileLock = new ReentrantLock();
+    // 채팅방 ID -> (사용자 ID -> 읽지 않은 수)
+    private Map<Long, Map<Long, AtomicInteger>> counters = new ConcurrentHashMap<>();
+    // 채팅방 ID -> 마지막 메시지 ID
+    private final Map<Long, Long> lastMessageIds = new ConcurrentHashMap<>();
+    private volatile Rebuild rebuild;
+    private volatile boolean ready = false;
+
+    public InMemoryChatUnreadCounters(ChatParticipantRepository chatParticipantRepository,
+                                      ChatMessageRepository chatMessageRepository,
+                                      ChatMessageWriter chatMessageWriter,
+                                      ChatMessageIdGenerator idGenerator) {
+        this.chatParticipantRepository = chatParticipantRepository;
+        this.chatMessageRepository = chatMessageRepository;
+        this.chatMessageWriter = chatMessageWriter;
+        this.idGenerator = idGenerator;
+    }
+
+    @Override
+    public boolean isReady() {
+        return ready;
+    }
+
+    @Override
+    public void onMessage(long roomId, long messageId, Long senderId) {
+        lastMessageIds.merge(roomId, messageId, Math::max);
+        swapLock.readLock().lock();
+        try {
+            Map<Long, AtomicInteger> room = counters.get(roomId);
+            if (room != null) {
+                room.forEach((userId, count) -> {
+                    if (!userId.equals(senderId)) {
+                        count.incrementAndGet();
+                    }
+                });
+            }
+            Rebuild current = rebuild;
+            if (current != null && messageId > current.boundary) {
+                current.lateMessages.add(new LateMessage(roomId, senderId));
+            }
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void markRead(long roomId, long userId) {
+        update(roomId, userId, room -> room.computeIfAbsent(userId, id -> new AtomicInteger()).set(0));
+    }
+
+    @Override
+    public void join(long roomId, long userId) {
+        markRead(roomId, userId);
+    }
+
+    @Override
+    public void leave(long roomId, long userId) {
+        update(roomId, userId, room -> room.remove(userId));
+    }
+
+    @Override
+    public Map<Long, Integer> countsFor(long userId, Collection<Long> roomIds) {
+        Map<Long, Integer> result = new HashMap<>();
+        swapLock.readLock().lock();
+        try {
+            for (Long roomId : roomIds) {
+                Map<Long, AtomicInteger> room = counters.get(roomId);
+                AtomicInteger count = room != null ? room.get(userId) : null;
+                if (count != null && count.get() > 0) {
+                    result.put(roomId, count.get());
+                }
+            }
+        } finally {
+            swapLock.readLock().unlock();
+        }
+        return result;
+    }
+
+    @Override
+    public Long lastMessageId(long roomId) {
+        return lastMessageIds.get(roomId);
+    }
+
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        reconcile();
+    }
+
+    /**
+     * DB 기준으로 전체 카운터 재계산
+     * 재계산 중 들어온 메시지/읽음/참가 변경은 따로 기록했다가 결과를 교체할 때 반영한다.
+     */
+    @Override
+    @Scheduled(fixedDelayString = "${app.chat.unread.reconcile-interval-ms:3600000}",
+               initialDelayString = "${app.chat.unread.reconcile-interval-ms:3600000}")
+    public void reconcile() {
+        reconcileLock.lock();
+        try {
+            rebuildCounters();
+        } finally {
+            reconcileLock.unlock();
+        }
+    }
+
+    private void rebuildCounters() {
+        long startedAt = System.currentTimeMillis();
+        Rebuild current = new Rebuild(idGenerator.nextId());
+        rebuild = current;
+        try {
+            // 경계 이전 메시지가 모두 DB에 있도록 기록 대기열을 비움
+            chatMessageWriter.flush();
+
+            Map<Long, Map<Long, AtomicInteger>> rebuilt = new ConcurrentHashMap<>();
+            for (Object[] row : chatParticipantRepository.countUnreadSnapshot(current.boundary)) {
+                rebuilt.computeIfAbsent((Long) row[0], id -> new ConcurrentHashMap<>())
+                        .put((Long) row[1], new AtomicInteger(((Number) row[2]).intValue()));
+            }
+            for (Object[] row : chatMessageRepository.findLastMessageIdsByRoom()) {
+                lastMessageIds.merge((Long) row[0], (Long) row[1], Math::max);
+            }
+
+            swapLock.writeLock().lock();
+            try {
+                apply(current, rebuilt);
+                counters = rebuilt;
+                ready = true;
+            } finally {
+                swapLock.writeLock().unlock();
+            }
+            log.info("읽지 않은 메시지 카운터 재계산: {}개 채팅방, {}ms", rebuilt.size(),
+                    System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            log.error("읽지 않은 메시지 카운터 재계산 실패", e);
+        } finally {
+            rebuild = null;
+        }
+    }
+
+    private void apply(Rebuild current, Map<Long, Map<Long, AtomicInteger>> rebuilt) {
+        // 경계 이후 메시지는 재계산에 포함되지 않았으므로 더함
+        for (LateMessage message : current.lateMessages) {
+            Map<Long, AtomicInteger> room = rebuilt.get(message.roomId());
+            if (room != null) {
+                room.forEach((userId, count) -> {
+                    if (!userId.equals(message.senderId())) {
+                        count.incrementAndGet();
+                    }
+                });
+            }
+        }
+        // 재계산 중 읽음/참가/퇴장한 참가자는 현재 값을 그대로 사용
+        for (Key key : current.touched) {
+            Map<Long, AtomicInteger> liveRoom = counters.get(key.roomId());
+            AtomicInteger live = liveRoom != null ? liveRoom.get(key.userId()) : null;
+            if (live != null) {
+                rebuilt.computeIfAbsent(key.roomId(), id -> new ConcurrentHashMap<>()).put(key.userId(), live);
+            } else {
+                Map<Long, AtomicInteger> room = rebuilt.get(key.roomId());
+                if (room != null) {
+                    room.remove(key.userId());
+                }
+            }
+        }
+    }
+
+    private void update(long roomId, long userId, Consumer<Map<Long, AtomicInteger>> change) {
+        swapLock.readLock().lock();
+        try {
+            change.accept(counters.computeIfAbsent(roomId, id -> new ConcurrentHashMap<>()));
+            Rebuild current = rebuild;
+            if (current != null) {
+                current.touched.add(new Key(roomId, userId));
+            }
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    private static final class Rebuild {
+        private final long boundary;
+        private final Collection<LateMessage> lateMessages = new ConcurrentLinkedQueue<>();
+        private final Set<Key> touched = ConcurrentHashMap.newKeySet();
+
+        private Rebuild(long boundary) {
+            this.boundary = boundary;
+        }
+    }
+
+    private record LateMessage(long roomId, Long senderId) {
+    }
+
+    private record Key(long roomId, long userId) {
+    }
+}
@@ -0,0 +1,25 @@
+package com.travelmate.service.chat;
+
+import com.travelmate.entity.ChatMessage;
+
+import java.time.LocalDateTime;
+
+/**
+ * ID가 할당된 채 기록을 기다리는 채팅 메시지 (시스템 메시지는 senderId 가 null)
+ */
+public record OutgoingMessage(
+        long id,
+        long roomId,
+        Long senderId,
+        String content,
+        ChatMessage.MessageType messageType,
+        String imageUrl,
+        Double locationLatitude,
+        Double locationLongitude,
+        String locationName,
+        LocalDateTime sentAt) {
+
+    public boolean isSystem() {
+        return messageType == ChatMessage.MessageType.SYSTEM;
+    }
+}
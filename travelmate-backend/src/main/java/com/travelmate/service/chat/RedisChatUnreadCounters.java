@@ -0,0 +1,252 @@
+package com.travelmate.service.chat;
+
+import com.travelmate.repository.ChatMessageRepository;
+import com.travelmate.repository.ChatParticipantRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Redis 해시 읽지 않은 메시지 수 (여러 인스턴스가 공유)
+ * 채팅방마다 사용자별 카운터 해시를 두고, 메시지/읽음/참가/퇴장은 Lua 스크립트로 원자적으로 갱신하며 채팅방 버전을 올린다.
+ * 재계산은 잠금을 잡은 한 인스턴스만 하고, 스냅샷 이후 버전이 바뀐 채팅방과
+ * 아직 DB 에 기록되지 않은 메시지가 있는 채팅방은 건너뛰어 다음 재계산에 맡긴다.
+ */
+@Slf4j
+public class RedisChatUnreadCounters implements ChatUnreadCounters {
+
+    private static final String ROOM_KEY_PREFIX = "chat:unread:room:";
+    private static final String LAST_MESSAGE_KEY = "chat:unread:last-message";
+    private static final String VERSION_KEY = "chat:unread:version";
+    private static final String READY_KEY = "chat:unread:ready";
+    private static final String LOCK_KEY = "chat:unread:reconcile-lock";
+
+    // 메시지 ID 는 Lua 숫자(double) 정밀도를 넘으므로 자릿수/사전순으로 비교
+    private static final RedisScript<Long> ON_MESSAGE = new DefaultRedisScript<>("""
+            local last = redis.call('HGET', KEYS[2], ARGV[1])
+            if not last or #ARGV[2] > #last or (#ARGV[2] == #last and ARGV[2] > last) then
+              redis.call('HSET', KEYS[2], ARGV[1], ARGV[2])
+            end
+            for _, user in ipairs(redis.call('HKEYS', KEYS[1])) do
+              if user ~= ARGV[3] then
+                redis.call('HINCRBY', KEYS[1], user, 1)
+              end
+            end
+            redis.call('HINCRBY', KEYS[3], ARGV[1], 1)
+            return 1
+            """, Long.class);
+
+    private static final RedisScript<Long> UPDATE_USER = new DefaultRedisScript<>("""
+            if ARGV[3] == 'remove' then
+              redis.call('HDEL', KEYS[1], ARGV[2])
+            else
+              redis.call('HSET', KEYS[1], ARGV[2], 0)
+            end
+            redis.call('HINCRBY', KEYS[2], ARGV[1], 1)
+            return 1
+            """, Long.class);
+
+    // 스냅샷 전에 읽은 버전과 같을 때만 교체 (ARGV[3] 부터 사용자, 카운트 반복)
+    private static final RedisScript<Long> REPLACE_ROOM = new DefaultRedisScript<>("""
+            local version = redis.call('HGET', KEYS[2], ARGV[1]) or ''
+            if version ~= ARGV[2] then
+              return 0
+            end
+            redis.call('DEL', KEYS[1])
+            for i = 3, #ARGV, 2 do
+              redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1])
+            end
+            return 1
+            """, Long.class);
+
+    private static final RedisScript<Long> RELEASE_LOCK = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+              return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ChatParticipantRepository chatParticipantRepository;
+    private final ChatMessageRepository chatMessageRepository;
+    private final ChatMessageWriter chatMessageWriter;
+    private final ChatMessageIdGenerator idGenerator;
+    private final Duration lockTimeout;
+    private volatile boolean ready = false;
+
+    public RedisChatUnreadCounters(StringRedisTemplate redisTemplate,
+                                   ChatParticipantRepository chatParticipantRepository,
+                                   ChatMessageRepository chatMessageRepository,
+                                   ChatMessageWriter chatMessageWriter,
+                                   ChatMessageIdGenerator idGenerator,
+                                   Duration lockTimeout) {
+        this.redisTemplate = redisTemplate;
+        this.chatParticipantRepository = chatParticipantRepository;
+        this.chatMessageRepository = chatMessageRepository;
+        this.chatMessageWriter = chatMessageWriter;
+        this.idGenerator = idGenerator;
+        this.lockTimeout = lockTimeout;
+    }
+
+    // 다른 인스턴스가 적재를 마쳤을 수도 있으므로 준비 전에는 Redis 표시를 확인
+    @Override
+    public boolean isReady() {
+        if (!ready && Boolean.TRUE.equals(redisTemplate.hasKey(READY_KEY))) {
+            ready = true;
+        }
+        return ready;
+    }
+
+    @Override
+    public void onMessage(long roomId, long messageId, Long senderId) {
+        redisTemplate.execute(ON_MESSAGE, List.of(roomKey(roomId), LAST_MESSAGE_KEY, VERSION_KEY),
+                Long.toString(roomId), Long.toString(messageId), senderId != null ? senderId.toString() : "");
+    }
+
+    @Override
+    public void markRead(long roomId, long userId) {
+        updateUser(roomId, userId, "reset");
+    }
+
+    @Override
+    public void join(long roomId, long userId) {
+        markRead(roomId, userId);
+    }
+
+    @Override
+    public void leave(long roomId, long userId) {
+        updateUser(roomId, userId, "remove");
+    }
+
+    @Override
+    public Map<Long, Integer> countsFor(long userId, Collection<Long> roomIds) {
+        List<Long> rooms = new ArrayList<>(roomIds);
+        String member = Long.toString(userId);
+        List<Object> values = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                for (Long roomId : rooms) {
+                    operations.opsForHash().get(roomKey(roomId), member);
+                }
+                return null;
+            }
+        });
+        Map<Long, Integer> result = new HashMap<>();
+        for (int i = 0; i < rooms.size(); i++) {
+            Object value = values.get(i);
+            int count = value != null ? Integer.parseInt(value.toString()) : 0;
+            if (count > 0) {
+                result.put(rooms.get(i), count);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public Long lastMessageId(long roomId) {
+        Object value = redisTemplate.opsForHash().get(LAST_MESSAGE_KEY, Long.toString(roomId));
+        return value != null ? Long.parseLong(value.toString()) : null;
+    }
+
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!isReady()) {
+            reconcile();
+        }
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${app.chat.unread.reconcile-interval-ms:3600000}",
+               initialDelayString = "${app.chat.unread.reconcile-interval-ms:3600000}")
+    public void reconcile() {
+        String token = UUID.randomUUID().toString();
+        if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(LOCK_KEY, token, lockTimeout))) {
+            log.debug("읽지 않은 메시지 카운터 재계산: 다른 인스턴스가 진행 중");
+            return;
+        }
+        try {
+            rebuildCounters();
+        } catch (Exception e) {
+            log.error("읽지 않은 메시지 카운터 재계산 실패", e);
+        } finally {
+            redisTemplate.execute(RELEASE_LOCK, List.of(LOCK_KEY), token);
+        }
+    }
+
+    private void rebuildCounters() {
+        long startedAt = System.currentTimeMillis();
+        chatMessageWriter.flush();
+
+        // 순서 중요: Redis 버전/마지막 ID -> DB 마지막 ID -> 스냅샷
+        Map<Object, Object> versions = redisTemplate.opsForHash().entries(VERSION_KEY);
+        Map<Object, Object> redisLastIds = redisTemplate.opsForHash().entries(LAST_MESSAGE_KEY);
+        Map<Long, Long> dbLastIds = new HashMap<>();
+        for (Object[] row : chatMessageRepository.findLastMessageIdsByRoom()) {
+            dbLastIds.put((Long) row[0], (Long) row[1]);
+        }
+        Map<Long, List<String>> snapshot = new HashMap<>();
+        for (Object[] row : chatParticipantRepository.countUnreadSnapshot(idGenerator.nextId())) {
+            List<String> counts = snapshot.computeIfAbsent((Long) row[0], id -> new ArrayList<>());
+            counts.add(row[1].toString());
+            counts.add(Long.toString(((Number) row[2]).longValue()));
+        }
+
+        int replaced = 0;
+        int skipped = 0;
+        for (Map.Entry<Long, List<String>> room : snapshot.entrySet()) {
+            String roomId = room.getKey().toString();
+            Object redisLast = redisLastIds.get(roomId);
+            long dbLast = dbLastIds.getOrDefault(room.getKey(), 0L);
+            // 다른 인스턴스에서 아직 기록 전인 메시지는 스냅샷에 없으므로 건너뜀
+            if (redisLast != null && Long.parseLong(redisLast.toString()) > dbLast) {
+                skipped++;
+                continue;
+            }
+            Object version = versions.get(roomId);
+            List<String> args = new ArrayList<>(room.getValue().size() + 2);
+            args.add(roomId);
+            args.add(version != null ? version.toString() : "");
+            args.addAll(room.getValue());
+            Long result = redisTemplate.execute(REPLACE_ROOM, List.of(roomKey(room.getKey()), VERSION_KEY),
+                    args.toArray());
+            if (result != null && result == 1L) {
+                replaced++;
+            } else {
+                skipped++;
+            }
+        }
+        dbLastIds.forEach((roomId, messageId) ->
+                redisTemplate.opsForHash().putIfAbsent(LAST_MESSAGE_KEY, roomId.toString(), messageId.toString()));
+
+        redisTemplate.opsForValue().set(READY_KEY, Long.toString(System.currentTimeMillis()));
+        ready = true;
+        log.info("읽지 않은 메시지 카운터 재계산 (Redis): {}개 채팅방 교체, {}개 다음으로, {}ms", replaced, skipped,
+                System.currentTimeMillis() - startedAt);
+    }
+
+    private void updateUser(long roomId, long userId, String operation) {
+        redisTemplate.execute(UPDATE_USER, List.of(roomKey(roomId), VERSION_KEY),
+                Long.toString(roomId), Long.toString(userId), operation);
+    }
+
+    private static String roomKey(long roomId) {
+        return ROOM_KEY_PREFIX + roomId;
+    }
+}
@@ -0,0 +1,50 @@
+package com.travelmate.service.chat;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * 카운터 없음 (simple 이 아닌 브로커에서 Redis 를 쓰지 않을 때)
+ * 인스턴스마다 보는 메시지가 달라 메모리 카운터는 틀리므로, 항상 DB 로 집계하도록 준비되지 않은 상태로 둔다.
+ */
+public class UncachedChatUnreadCounters implements ChatUnreadCounters {
+
+    @Override
+    public boolean isReady() {
+        return false;
+    }
+
+    @Override
+    public void onMessage(long roomId, long messageId, Long senderId) {
+    }
+
+    @Override
+    public void markRead(long roomId, long userId) {
+    }
+
+    @Override
+    public void join(long roomId, long userId) {
+    }
+
+    @Override
+    public void leave(long roomId, long userId) {
+    }
+
+    @Override
+    public Map<Long, Integer> countsFor(long userId, Collection<Long> roomIds) {
+        return Map.of();
+    }
+
+    @Override
+    public Long lastMessageId(long roomId) {
+        return null;
+    }
+
+    @Override
+    public void warmUp() {
+    }
+
+    @Override
+    public void reconcile() {
+    }
+}
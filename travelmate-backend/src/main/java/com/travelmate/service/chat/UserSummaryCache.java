@@ -0,0 +1,97 @@
+package com.travelmate.service.chat;
+
+import com.travelmate.event.UserProfileChangedEvent;
+import com.travelmate.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 채팅 표시용 사용자 요약(닉네임, 프로필 이미지) 캐시
+ * 메시지 전송마다 발신자 엔티티를 조회하지 않도록 최근 사용자만 LRU 로 유지하고,
+ * 프로필이 바뀌면 해당 사용자만 무효화한다.
+ */
+@Service
+public class UserSummaryCache {
+
+    private final UserRepository userRepository;
+    private final Map<Long, UserSummary> summaries;
+
+    public UserSummaryCache(UserRepository userRepository,
+                            @Value("${app.chat.user-cache.max-size:10000}") int maxSize) {
+        this.userRepository = userRepository;
+        this.summaries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, UserSummary> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * 사용자 요약 (존재하지 않는 사용자는 null)
+     */
+    public UserSummary get(Long userId) {
+        return getAll(List.of(userId)).get(userId);
+    }
+
+    /**
+     * 여러 사용자 요약 (캐시에 없는 사용자는 한 번의 쿼리로 적재)
+     */
+    public Map<Long, UserSummary> getAll(Collection<Long> userIds) {
+        Map<Long, UserSummary> result = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+        synchronized (summaries) {
+            for (Long userId : userIds) {
+                UserSummary summary = summaries.get(userId);
+                if (summary != null) {
+                    result.put(userId, summary);
+                } else {
+                    missing.add(userId);
+                }
+            }
+        }
+        if (missing.isEmpty()) {
+            return result;
+        }
+
+        List<UserSummary> loaded = new ArrayList<>(missing.size());
+        for (Object[] row : userRepository.findSummariesByIds(missing)) {
+            loaded.add(new UserSummary((Long) row[0], (String) row[1], (String) row[2]));
+        }
+        synchronized (summaries) {
+            for (UserSummary summary : loaded) {
+                summaries.put(summary.id(), summary);
+                result.put(summary.id(), summary);
+            }
+        }
+        return result;
+    }
+
+    public void evict(Long userId) {
+        synchronized (summaries) {
+            summaries.remove(userId);
+        }
+    }
+
+    public int size() {
+        synchronized (summaries) {
+            return summaries.size();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserProfileChanged(UserProfileChangedEvent event) {
+        evict(event.userId());
+    }
+
+    public record UserSummary(Long id, String nickname, String profileImageUrl) {
+    }
+}
@@ -0,0 +1,221 @@
+package com.travelmate.service.geo;
+
+import com.travelmate.entity.User;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BooleanSupplier;
+import java.util.function.Predicate;
+
+/**
+ * 위경도 격자(Grid) 기반 인메모리 공간 인덱스
+ * 좌표를 고정 크기 셀로 양자화해 두고, 반경 검색 시 반경을 덮는 셀만 순회한다.
+ */
+public class GeoCellIndex {
+
+    private final double cellSizeDegrees;
+    private final int lngCellCount;
+    private final int latCellCount;
+
+    // 사용자 ID -> 현재 위치 엔트리
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    // 셀 키 -> 해당 셀에 있는 사용자 ID
+    private final Map<Long, Set<Long>> cells = new ConcurrentHashMap<>();
+
+    public GeoCellIndex(double cellSizeDegrees) {
+        if (cellSizeDegrees <= 0 || cellSizeDegrees > 10) {
+            throw new IllegalArgumentException("셀 크기는 0~10도 사이여야 합니다: " + cellSizeDegrees);
+        }
+        this.cellSizeDegrees = cellSizeDegrees;
+        this.lngCellCount = (int) Math.ceil(360.0 / cellSizeDegrees);
+        this.latCellCount = (int) Math.ceil(180.0 / cellSizeDegrees);
+    }
+
+    /**
+     * 사용자 위치 등록/갱신
+     */
+    public void upsert(Long userId, double latitude, double longitude,
+                       boolean active, boolean matchingEnabled, User.TravelStyle travelStyle) {
+        upsertIf(userId, latitude, longitude, active, matchingEnabled, travelStyle, () -> true);
+    }
+
+    /**
+     * 조건을 만족할 때만 위치 등록/갱신 (조건은 해당 사용자 갱신과 겹치지 않게 평가)
+     */
+    public void upsertIf(Long userId, double latitude, double longitude,
+                         boolean active, boolean matchingEnabled, User.TravelStyle travelStyle,
+                         BooleanSupplier condition) {
+        long cellKey = cellKey(latitude, longitude);
+        Entry next = new Entry(userId, latitude, longitude, cellKey, active, matchingEnabled, travelStyle);
+
+        entries.compute(userId, (id, prev) -> {
+            if (!condition.getAsBoolean()) {
+                return prev;
+            }
+            if (prev != null && prev.cellKey() != cellKey) {
+                removeFromCell(prev.cellKey(), id);
+            }
+            cells.compute(cellKey, (key, members) -> {
+                Set<Long> set = members != null ? members : ConcurrentHashMap.newKeySet();
+                set.add(id);
+                return set;
+            });
+            return next;
+        });
+    }
+
+    /**
+     * 사용자 제거
+     */
+    public void remove(Long userId) {
+        removeIf(userId, () -> true);
+    }
+
+    /**
+     * 조건을 만족할 때만 사용자 제거 (조건은 해당 사용자 갱신과 겹치지 않게 평가)
+     *
+     * @return 제거했으면 true
+     */
+    public boolean removeIf(Long userId, BooleanSupplier condition) {
+        boolean[] removed = {false};
+        entries.computeIfPresent(userId, (id, prev) -> {
+            if (!condition.getAsBoolean()) {
+                return prev;
+            }
+            removeFromCell(prev.cellKey(), id);
+            removed[0] = true;
+            return null;
+        });
+        return removed[0];
+    }
+
+    /**
+     * 인덱스에 있는 사용자 ID (읽기 전용 뷰)
+     */
+    public Set<Long> userIds() {
+        return Collections.unmodifiableSet(entries.keySet());
+    }
+
+    public Entry get(Long userId) {
+        return entries.get(userId);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public void clear() {
+        entries.clear();
+        cells.clear();
+    }
+
+    /**
+     * 반경 내 사용자 검색 (가까운 순 정렬)
+     *
+     * @param excludeUserId 결과에서 제외할 사용자 (null 허용)
+     * @param filter        엔트리 조건 (활성/매칭 여부 등)
+     * @param limit         최대 결과 수 (0 이하면 제한 없음)
+     */
+    public List<Hit> findNearby(double latitude, double longitude, double radiusKm,
+                                Long excludeUserId, Predicate<Entry> filter, int limit) {
+        // 위도 방향은 반경의 각거리, 경도 방향은 원의 접점 기준 최대 경도차 (GeoBoundingBox 와 동일한 계산)
+        double angularRadius = radiusKm / GeoMath.EARTH_RADIUS_KM;
+        double latDelta = Math.toDegrees(angularRadius);
+        int firstLat = latCell(latitude - latDelta);
+        int lastLat = latCell(latitude + latDelta);
+
+        double lngDelta = GeoMath.longitudeDeltaDegrees(latitude, radiusKm);
+        // 극지방 또는 큰 반경: 경도 전체를 셀마다 한 번씩만 순회 (경도 경계에서 같은 셀을 두 번 보지 않도록)
+        long firstLngIndex = lngCellIndex(longitude - lngDelta);
+        int lngCells = lngDelta >= 180.0
+                ? lngCellCount
+                : (int) Math.min(lngCellIndex(longitude + lngDelta) - firstLngIndex + 1, lngCellCount);
+        int firstLng = (int) Math.floorMod(firstLngIndex, (long) lngCellCount);
+
+        List<Hit> hits = new ArrayList<>();
+        for (int la = firstLat; la <= lastLat; la++) {
+            for (int i = 0; i < lngCells; i++) {
+                int lo = Math.floorMod(firstLng + i, lngCellCount);
+                long key = pack(la, lo);
+                Set<Long> members = cells.get(key);
+                if (members == null) {
+                    continue;
+                }
+                for (Long id : members) {
+                    if (id.equals(excludeUserId)) {
+                        continue;
+                    }
+                    Entry entry = entries.get(id);
+                    // 셀 이동 중인 엔트리가 두 번 잡히지 않도록 현재 셀에서만 집계
+                    if (entry == null || entry.cellKey() != key || (filter != null && !filter.test(entry))) {
+                        continue;
+                    }
+                    double distance = GeoMath.distanceKm(latitude, longitude, entry.latitude(), entry.longitude());
+                    if (distance <= radiusKm) {
+                        hits.add(new Hit(entry, distance));
+                    }
+                }
+            }
+        }
+
+        hits.sort(Comparator.comparingDouble(Hit::distanceKm));
+        return limit > 0 && hits.size() > limit ? new ArrayList<>(hits.subList(0, limit)) : hits;
+    }
+
+    public long cellKey(double latitude, double longitude) {
+        return pack(latCell(latitude), lngCell(longitude));
+    }
+
+    private void removeFromCell(long cellKey, Long userId) {
+        cells.computeIfPresent(cellKey, (key, members) -> {
+            members.remove(userId);
+            return members.isEmpty() ? null : members;
+        });
+    }
+
+    private int latCell(double latitude) {
+        int cell = (int) Math.floor((latitude + 90.0) / cellSizeDegrees);
+        return Math.max(0, Math.min(latCellCount - 1, cell));
+    }
+
+    private int lngCell(double longitude) {
+        return (int) Math.floorMod(lngCellIndex(longitude), (long) lngCellCount);
+    }
+
+    // 날짜변경선 보정 전 경도 셀 번호 (범위를 벗어난 경도도 연속된 번호로)
+    private long lngCellIndex(double longitude) {
+        return (long) Math.floor((longitude + 180.0) / cellSizeDegrees);
+    }
+
+    private static long pack(int latCell, int lngCell) {
+        return ((long) latCell << 32) | (lngCell & 0xffffffffL);
+    }
+
+    /**
+     * 인덱스 엔트리 - 필터링에 필요한 최소 속성만 보관
+     */
+    public record Entry(
+            Long userId,
+            double latitude,
+            double longitude,
+            long cellKey,
+            boolean active,
+            boolean matchingEnabled,
+            User.TravelStyle travelStyle
+    ) {
+    }
+
+    /**
+     * 검색 결과
+     */
+    public record Hit(Entry entry, double distanceKm) {
+        public Long userId() {
+            return entry.userId();
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.travelmate.service.geo;
+
+/**
+ * 위치 계산 유틸리티
+ */
+public final class GeoMath {
+
+    public static final double EARTH_RADIUS_KM = 6371.0;
+
+    private GeoMath() {
+    }
+
+    /**
+     * 두 좌표 사이의 거리 (Haversine, km)
+     */
+    public static double distanceKm(double lat1, double lon1, double lat2, double lon2) {
+        double latDistance = Math.toRadians(lat2 - lat1);
+        double lonDistance = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(latDistance / 2) * Math.sin(latDistance / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(lonDistance / 2) * Math.sin(lonDistance / 2);
+        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+        return EARTH_RADIUS_KM * c;
+    }
+
+    /**
+     * 중심 위도에서 반경(km) 원이 닿는 최대 경도차 (도)
+     * 원의 접점이 중심보다 극에 가까우므로 cos(중심 위도) 대신 asin(sin(r/R) / cos φ) 로 구한다.
+     * 극을 포함하거나 경도 전체를 덮으면 180 을 반환한다.
+     */
+    public static double longitudeDeltaDegrees(double latitude, double radiusKm) {
+        double angularRadius = radiusKm / EARTH_RADIUS_KM;
+        if (Math.abs(latitude) + Math.toDegrees(angularRadius) >= 90.0) {
+            return 180.0;
+        }
+        double ratio = Math.sin(angularRadius) / Math.cos(Math.toRadians(latitude));
+        return ratio >= 1.0 ? 180.0 : Math.toDegrees(Math.asin(ratio));
+    }
+}
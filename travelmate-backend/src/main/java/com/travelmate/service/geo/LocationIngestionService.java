@@ -0,0 +1,119 @@
+package com.travelmate.service.geo;
+
+import com.travelmate.entity.User;
+import com.travelmate.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 위치 수신 파이프라인
+ * 위치 갱신은 공간 인덱스에 즉시 반영하고, DB에는 사용자별 마지막 좌표만 모아 두었다가
+ * 주기적으로 위치 컬럼만 갱신하는 JDBC 배치로 기록한다.
+ * User 는 변경된 컬럼만 UPDATE 하므로, 기록 전 다른 필드를 저장해도 이전 좌표로 되돌아가지 않는다.
+ */
+@Service
+@Slf4j
+public class LocationIngestionService implements DisposableBean {
+
+    private final UserRepository userRepository;
+    private final UserLocationIndex userLocationIndex;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final String updateSql;
+
+    // 사용자 ID -> 아직 DB에 기록되지 않은 마지막 위치
+    private final Map<Long, Ping> pending = new ConcurrentHashMap<>();
+
+    public LocationIngestionService(UserRepository userRepository,
+                                    UserLocationIndex userLocationIndex,
+                                    JdbcTemplate jdbcTemplate,
+                                    PlatformTransactionManager transactionManager,
+                                    @Value("${spring.jpa.properties.hibernate.default_schema:}") String schema,
+                                    @Value("${app.location.flush-batch-size:500}") int batchSize) {
+        this.userRepository = userRepository;
+        this.userLocationIndex = userLocationIndex;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        String table = schema == null || schema.isBlank() ? "users" : schema + ".users";
+        this.updateSql = "UPDATE " + table +
+                " SET current_latitude = ?, current_longitude = ? WHERE id = ?";
+    }
+
+    /**
+     * 위치 수신
+     * 공간 인덱스에서 추적 중인 사용자는 메모리에만 반영하고, 처음 위치를 켜는 사용자는 즉시 저장한다.
+     */
+    public void submit(Long userId, double latitude, double longitude) {
+        if (userLocationIndex.moveTo(userId, latitude, longitude)) {
+            pending.put(userId, new Ping(userId, latitude, longitude));
+            return;
+        }
+
+        User user = userRepository.findById(userId)
+            .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
+        user.setCurrentLatitude(latitude);
+        user.setCurrentLongitude(longitude);
+        user.setIsLocationEnabled(true);
+        userRepository.save(user);
+        pending.remove(userId);
+        userLocationIndex.track(user);
+    }
+
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * 모인 위치를 배치 UPDATE로 기록 (실패 시 더 새로운 위치가 없으면 다음 주기에 재시도)
+     */
+    @Scheduled(fixedDelayString = "${app.location.flush-interval-ms:1000}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<Ping> batch = new ArrayList<>(pending.size());
+        for (Long userId : pending.keySet()) {
+            Ping ping = pending.remove(userId);
+            if (ping != null) {
+                batch.add(ping);
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    jdbcTemplate.batchUpdate(updateSql, batch, batchSize, (ps, ping) -> {
+                        ps.setDouble(1, ping.latitude());
+                        ps.setDouble(2, ping.longitude());
+                        ps.setLong(3, ping.userId());
+                    }));
+            log.debug("위치 배치 기록: {}건", batch.size());
+        } catch (RuntimeException e) {
+            batch.forEach(ping -> pending.putIfAbsent(ping.userId(), ping));
+            log.error("위치 배치 기록 실패: {}건 재시도 대기", batch.size(), e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        flush();
+    }
+
+    private record Ping(Long userId, double latitude, double longitude) {
+    }
+}
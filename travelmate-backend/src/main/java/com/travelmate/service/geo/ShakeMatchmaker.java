@@ -0,0 +1,212 @@
+package com.travelmate.service.geo;
+
+import com.travelmate.repository.UserRepository;
+import com.travelmate.service.NotificationService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 폰 흔들기 실시간 매칭 엔진
+ * 흔들기 이벤트는 짧은 시간 창 동안 격자 셀에 대기시키고, 스케줄러가 주기적으로
+ * 같은/인접 셀에서 함께 흔든 사용자끼리 가까운 순으로 짝지은 뒤 알림을 한 번에 보낸다.
+ * 매칭 반경은 흔들기 강도에 비례하며, 두 사용자가 서로의 반경 안에 있어야 짝지어진다.
+ * 매칭을 끈 사용자나 비활성 사용자는 주변 사용자 검색과 마찬가지로 대상에서 뺀다.
+ * 이벤트 접수 시에는 DB에 접근하지 않으며, 매칭 알림용 닉네임만 주기당 한 번 조회한다.
+ */
+@Service
+@Slf4j
+public class ShakeMatchmaker {
+
+    private static final double KM_PER_DEGREE_LAT = 111.32;
+    // 강도 20 당 반경 1km (기존 흔들기 검색 반경 환산)
+    private static final double INTENSITY_PER_KM = 20.0;
+
+    private final UserRepository userRepository;
+    private final UserLocationIndex userLocationIndex;
+    private final NotificationService notificationService;
+    private final double minRadiusKm;
+    private final double maxRadiusKm;
+    private final long windowMillis;
+    private final int maxPending;
+
+    // 대기 중인 흔들기 위치 (셀 크기 = 최소 반경)
+    private final GeoCellIndex waiting;
+    // 사용자 ID -> 흔들기 이벤트 (waiting 과 함께 사용자별 compute 안에서만 바꿈)
+    private final Map<Long, Shake> shakes = new ConcurrentHashMap<>();
+
+    public ShakeMatchmaker(UserRepository userRepository,
+                           UserLocationIndex userLocationIndex,
+                           NotificationService notificationService,
+                           @Value("${app.shake.min-radius-km:0.5}") double minRadiusKm,
+                           @Value("${app.shake.max-radius-km:5.0}") double maxRadiusKm,
+                           @Value("${app.shake.window-ms:5000}") long windowMillis,
+                           @Value("${app.shake.max-pending:100000}") int maxPending) {
+        this.userRepository = userRepository;
+        this.userLocationIndex = userLocationIndex;
+        this.notificationService = notificationService;
+        this.minRadiusKm = minRadiusKm;
+        this.maxRadiusKm = Math.max(minRadiusKm, maxRadiusKm);
+        this.windowMillis = windowMillis;
+        this.maxPending = maxPending;
+        this.waiting = new GeoCellIndex(Math.max(0.001, minRadiusKm / KM_PER_DEGREE_LAT));
+    }
+
+    @Scheduled(fixedDelayString = "${app.shake.tick-ms:250}")
+    public void matchPending() {
+        try {
+            tick(System.currentTimeMillis());
+        } catch (Exception e) {
+            log.error("흔들기 매칭 처리 실패", e);
+        }
+    }
+
+    /**
+     * 흔들기 이벤트 접수 (같은 사용자가 다시 흔들면 위치/시각/반경 갱신)
+     *
+     * @param intensity 흔들기 강도 (가속도 크기, 클수록 넓은 반경에서 상대를 찾음)
+     * @return 대기열에 들어갔으면 true, 대기열이 가득 차 버렸으면 false
+     */
+    public boolean submit(Long userId, double latitude, double longitude, double intensity) {
+        if (shakes.size() >= maxPending && !shakes.containsKey(userId)) {
+            log.warn("흔들기 대기열 가득 참({}건) - 사용자 {} 이벤트 무시", maxPending, userId);
+            return false;
+        }
+        Shake shake = new Shake(System.currentTimeMillis(), radiusFor(intensity));
+        // 같은 사용자의 이전 이벤트 해제와 겹쳐도 새 위치가 지워지지 않도록 한 잠금 안에서 갱신
+        shakes.compute(userId, (id, previous) -> {
+            waiting.upsert(id, latitude, longitude, true, true, null);
+            return shake;
+        });
+        return true;
+    }
+
+    double radiusFor(double intensity) {
+        return Math.max(minRadiusKm, Math.min(maxRadiusKm, intensity / INTENSITY_PER_KM));
+    }
+
+    public int pendingCount() {
+        return shakes.size();
+    }
+
+    /**
+     * 한 주기 처리: 먼저 흔든 순서대로 가장 가까운 대기자와 짝짓고, 시간 창이 지난 이벤트는 버린다.
+     *
+     * @return 이번 주기에 성사된 매칭
+     */
+    List<Match> tick(long now) {
+        if (shakes.isEmpty()) {
+            return List.of();
+        }
+        List<Map.Entry<Long, Shake>> pending = new ArrayList<>(shakes.entrySet());
+        // 같은 시각이면 ID 순으로 처리해 결과를 결정적으로 유지
+        pending.sort(Map.Entry.<Long, Shake>comparingByValue((a, b) -> Long.compare(a.at(), b.at()))
+                .thenComparing(Map.Entry.comparingByKey()));
+
+        // 주변 사용자 검색과 같은 조건(위치 공유, 활성, 매칭 허용)을 만족하는 사용자끼리만 짝지음
+        Set<Long> eligible = pending.size() > 1
+                ? userLocationIndex.filterMatchable(pending.stream().map(Map.Entry::getKey).toList())
+                : Set.of();
+
+        Set<Long> matched = new HashSet<>();
+        List<Match> matches = new ArrayList<>();
+        for (Map.Entry<Long, Shake> pendingShake : pending) {
+            Long userId = pendingShake.getKey();
+            Shake shake = pendingShake.getValue();
+            if (matched.contains(userId)) {
+                continue;
+            }
+            if (now - shake.at() > windowMillis) {
+                release(userId, shake);
+                continue;
+            }
+            GeoCellIndex.Entry entry = waiting.get(userId);
+            if (entry == null || !eligible.contains(userId)) {
+                continue;
+            }
+            List<GeoCellIndex.Hit> partners = waiting.findNearby(entry.latitude(), entry.longitude(), shake.radiusKm(),
+                    userId, candidate -> !matched.contains(candidate.userId())
+                            && eligible.contains(candidate.userId()) && reaches(candidate, entry), 1);
+            if (partners.isEmpty()) {
+                continue;
+            }
+            GeoCellIndex.Hit partner = partners.get(0);
+            matched.add(userId);
+            matched.add(partner.userId());
+            matches.add(new Match(userId, partner.userId(), partner.distanceKm()));
+            release(userId, shake);
+            Shake partnerShake = shakes.get(partner.userId());
+            if (partnerShake != null) {
+                release(partner.userId(), partnerShake);
+            }
+        }
+
+        if (!matches.isEmpty()) {
+            notifyMatches(matches);
+            log.info("흔들기 매칭: {}쌍 성사, 대기 {}명", matches.size(), shakes.size());
+        }
+        return matches;
+    }
+
+    // 상대의 반경 안에도 있어야 함
+    private boolean reaches(GeoCellIndex.Entry candidate, GeoCellIndex.Entry shaker) {
+        Shake shake = shakes.get(candidate.userId());
+        return shake != null && GeoMath.distanceKm(candidate.latitude(), candidate.longitude(),
+                shaker.latitude(), shaker.longitude()) <= shake.radiusKm();
+    }
+
+    // 처리 중 다시 흔든 경우(이벤트가 바뀜)에는 새 이벤트를 남겨 둔다
+    private void release(Long userId, Shake shake) {
+        shakes.computeIfPresent(userId, (id, current) -> {
+            if (current != shake) {
+                return current;
+            }
+            waiting.remove(id);
+            return null;
+        });
+    }
+
+    private void notifyMatches(List<Match> matches) {
+        Set<Long> userIds = new HashSet<>();
+        for (Match match : matches) {
+            userIds.add(match.userId());
+            userIds.add(match.partnerId());
+        }
+        Map<Long, String> nicknames = new HashMap<>();
+        for (Object[] row : userRepository.findNicknamesByIds(userIds)) {
+            nicknames.put((Long) row[0], (String) row[1]);
+        }
+
+        List<NotificationService.MatchingNotice> notices = new ArrayList<>(matches.size() * 2);
+        for (Match match : matches) {
+            String nickname = nicknames.get(match.userId());
+            String partnerNickname = nicknames.get(match.partnerId());
+            if (nickname == null || partnerNickname == null) {
+                continue;
+            }
+            notices.add(new NotificationService.MatchingNotice(match.userId(), match.partnerId(), partnerNickname));
+            notices.add(new NotificationService.MatchingNotice(match.partnerId(), match.userId(), nickname));
+        }
+        if (!notices.isEmpty()) {
+            notificationService.sendMatchingNotifications(notices);
+        }
+    }
+
+    private record Shake(long at, double radiusKm) {
+    }
+
+    /**
+     * 흔들기 매칭 결과
+     */
+    public record Match(Long userId, Long partnerId, double distanceKm) {
+    }
+}
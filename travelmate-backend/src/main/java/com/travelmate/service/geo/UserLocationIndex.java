@@ -0,0 +1,270 @@
+package com.travelmate.service.geo;
+
+import com.travelmate.entity.User;
+import com.travelmate.repository.UserRepository;
+import com.travelmate.repository.geo.GeoResult;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * 주변 여행자 검색용 실시간 공간 인덱스 서비스
+ * 위치 공유 중인 사용자를 메모리 격자에 유지하고, DB는 최종 결과 페이지 조회에만 사용한다.
+ * 적재에 실패하면 준비될 때까지 재시도하고, 준비된 뒤에도 주기적으로 DB 스냅샷과 맞춘다.
+ */
+@Service
+@Slf4j
+public class UserLocationIndex {
+
+    private final UserRepository userRepository;
+    private final GeoCellIndex index;
+    private final ReentrantLock loadLock = new ReentrantLock();
+    // 적재 중 스냅샷이 덮어쓰면 안 되는 사용자 (이 인스턴스가 직접 반영, 적재마다 새 집합으로 교체)
+    private volatile Set<Long> touched = ConcurrentHashMap.newKeySet();
+    private volatile boolean ready = false;
+
+    public UserLocationIndex(UserRepository userRepository,
+                             @Value("${app.geo.cell-size-degrees:0.05}") double cellSizeDegrees) {
+        this.userRepository = userRepository;
+        this.index = new GeoCellIndex(cellSizeDegrees);
+    }
+
+    /**
+     * 애플리케이션 기동 후 위치 공유 사용자 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        reload();
+    }
+
+    // 기동 적재가 실패했으면 준비될 때까지 짧은 주기로 다시 시도
+    @Scheduled(fixedDelayString = "${app.geo.warm-up-retry-ms:30000}",
+               initialDelayString = "${app.geo.warm-up-retry-ms:30000}")
+    public void retryWarmUp() {
+        if (!ready) {
+            reload();
+        }
+    }
+
+    /**
+     * DB 스냅샷으로 인덱스를 맞춘다 (놓친 갱신, 다른 인스턴스의 변경 보정)
+     * 직전/이번 적재 이후 이 인스턴스가 직접 반영한 사용자는 스냅샷보다 새 값일 수 있으므로 건드리지 않는다.
+     */
+    @Scheduled(fixedDelayString = "${app.geo.reconcile-interval-ms:600000}",
+               initialDelayString = "${app.geo.reconcile-interval-ms:600000}")
+    public void reload() {
+        if (!loadLock.tryLock()) {
+            return;
+        }
+        try {
+            Set<Long> previous = touched;
+            Set<Long> current = ConcurrentHashMap.newKeySet();
+            touched = current;
+
+            // 직접 반영 여부는 사용자별 갱신 안에서 확인 (확인과 쓰기 사이에 끼어든 반영을 덮어쓰지 않도록)
+            Set<Long> loaded = new HashSet<>();
+            for (Object[] row : userRepository.findLocationSnapshot()) {
+                Long userId = (Long) row[0];
+                loaded.add(userId);
+                index.upsertIf(
+                        userId,
+                        (Double) row[1],
+                        (Double) row[2],
+                        Boolean.TRUE.equals(row[3]),
+                        Boolean.TRUE.equals(row[4]),
+                        (User.TravelStyle) row[5],
+                        () -> !previous.contains(userId) && !current.contains(userId)
+                );
+            }
+            int removed = 0;
+            for (Long userId : new ArrayList<>(index.userIds())) {
+                if (!loaded.contains(userId)
+                        && index.removeIf(userId, () -> !previous.contains(userId) && !current.contains(userId))) {
+                    removed++;
+                }
+            }
+            ready = true;
+            log.info("공간 인덱스 적재 완료: {}명 (제거 {}명)", index.size(), removed);
+        } catch (Exception e) {
+            log.error("공간 인덱스 적재 실패 - {}", ready ? "기존 인덱스를 유지합니다" : "DB 반경 쿼리로 대체합니다", e);
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 사용자 상태를 인덱스에 반영 (위치/활성/매칭 설정 변경 시 호출)
+     */
+    public void track(User user) {
+        if (user.getId() == null) {
+            return;
+        }
+        touched.add(user.getId());
+        if (!Boolean.TRUE.equals(user.getIsLocationEnabled())
+                || user.getCurrentLatitude() == null || user.getCurrentLongitude() == null) {
+            index.remove(user.getId());
+            return;
+        }
+        index.upsert(
+                user.getId(),
+                user.getCurrentLatitude(),
+                user.getCurrentLongitude(),
+                Boolean.TRUE.equals(user.getIsActive()),
+                Boolean.TRUE.equals(user.getIsMatchingEnabled()),
+                user.getTravelStyle()
+        );
+    }
+
+    /**
+     * 이미 추적 중인 사용자의 좌표만 갱신 (활성/매칭 설정은 유지)
+     *
+     * @return 인덱스에 없는 사용자면 false
+     */
+    public boolean moveTo(Long userId, double latitude, double longitude) {
+        GeoCellIndex.Entry entry = index.get(userId);
+        if (entry == null) {
+            return false;
+        }
+        touched.add(userId);
+        index.upsert(userId, latitude, longitude, entry.active(), entry.matchingEnabled(), entry.travelStyle());
+        return true;
+    }
+
+    public void untrack(Long userId) {
+        touched.add(userId);
+        index.remove(userId);
+    }
+
+    /**
+     * 매칭 가능한 주변 사용자 (UserRepository.findNearbyUsers 대체, 가까운 순)
+     */
+    public List<User> findNearbyUsers(Long excludeUserId, Double latitude, Double longitude, Double radiusKm) {
+        if (!ready) {
+            return userRepository.findNearbyUsers(excludeUserId, latitude, longitude, radiusKm);
+        }
+        return hydrate(findNearbyHits(excludeUserId, latitude, longitude, radiusKm, e -> true, 0),
+                user -> Boolean.TRUE.equals(user.getIsMatchingEnabled()));
+    }
+
+    /**
+     * 매칭 가능한 주변 사용자 ID/거리만 조회 (DB 미접근)
+     */
+    public List<GeoCellIndex.Hit> findNearbyHits(Long excludeUserId, double latitude, double longitude,
+                                                 double radiusKm, Predicate<GeoCellIndex.Entry> filter, int limit) {
+        if (!ready) {
+            return toHits(userRepository.findNearbyUsersWithDistance(excludeUserId, latitude, longitude, radiusKm),
+                    filter, limit);
+        }
+        Predicate<GeoCellIndex.Entry> matchable = GeoCellIndex.Entry::matchingEnabled;
+        return index.findNearby(latitude, longitude, radiusKm, excludeUserId, matchable.and(filter), limit);
+    }
+
+    /**
+     * 매칭 가능한 사용자만 추림 (위치 공유, 활성, 매칭 허용)
+     */
+    public Set<Long> filterMatchable(Collection<Long> userIds) {
+        if (!ready) {
+            return new HashSet<>(userRepository.findMatchableUserIds(userIds));
+        }
+        Set<Long> result = new HashSet<>();
+        for (Long userId : userIds) {
+            GeoCellIndex.Entry entry = index.get(userId);
+            if (entry != null && entry.active() && entry.matchingEnabled()) {
+                result.add(userId);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 흔들기 대상 사용자 ID/거리 조회 (UserRepository.findUsersForShake 대체, 가까운 순)
+     */
+    public List<GeoCellIndex.Hit> findShakeHits(Long shakerId, double latitude, double longitude,
+                                                double radiusKm, int limit) {
+        if (!ready) {
+            List<GeoResult<User>> users = userRepository.findUsersForShakeWithDistance(latitude, longitude, radiusKm)
+                    .stream()
+                    .filter(r -> !r.content().getId().equals(shakerId))
+                    .toList();
+            return toHits(users, e -> true, limit);
+        }
+        return index.findNearby(latitude, longitude, radiusKm, shakerId, GeoCellIndex.Entry::active, limit);
+    }
+
+    /**
+     * 흔들기 대상 사용자 엔티티 조회
+     */
+    public List<User> findUsersForShake(Long shakerId, Double latitude, Double longitude, Double radiusKm, int limit) {
+        return hydrate(findShakeHits(shakerId, latitude, longitude, radiusKm, limit),
+                user -> Boolean.TRUE.equals(user.getIsActive()));
+    }
+
+    /**
+     * 검색 결과 ID를 한 번의 쿼리로 엔티티로 변환 (거리 순서 유지)
+     * 인덱스와 DB 상태가 어긋난 사용자는 인덱스를 DB 기준으로 갱신하고 결과에서 뺀다.
+     */
+    public List<User> hydrate(List<GeoCellIndex.Hit> hits, Predicate<User> stillEligible) {
+        if (hits.isEmpty()) {
+            return List.of();
+        }
+        List<Long> ids = hits.stream().map(GeoCellIndex.Hit::userId).toList();
+        Map<Long, User> users = userRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        List<User> result = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            User user = users.get(id);
+            if (user == null) {
+                untrack(id);
+                continue;
+            }
+            if (!Boolean.TRUE.equals(user.getIsLocationEnabled()) || !stillEligible.test(user)) {
+                track(user);
+                continue;
+            }
+            result.add(user);
+        }
+        return result;
+    }
+
+    // 인덱스 적재 전 DB 조회 결과를 동일한 형태로 변환 (거리는 DB 계산값 사용)
+    private List<GeoCellIndex.Hit> toHits(List<GeoResult<User>> results,
+                                          Predicate<GeoCellIndex.Entry> filter, int limit) {
+        return results.stream()
+                .map(r -> {
+                    User u = r.content();
+                    GeoCellIndex.Entry entry = new GeoCellIndex.Entry(u.getId(), u.getCurrentLatitude(),
+                            u.getCurrentLongitude(), 0L, Boolean.TRUE.equals(u.getIsActive()),
+                            Boolean.TRUE.equals(u.getIsMatchingEnabled()), u.getTravelStyle());
+                    return new GeoCellIndex.Hit(entry, r.distanceKm());
+                })
+                .filter(hit -> filter.test(hit.entry()))
+                .sorted(Comparator.comparingDouble(GeoCellIndex.Hit::distanceKm))
+                .limit(limit > 0 ? limit : Long.MAX_VALUE)
+                .collect(Collectors.toList());
+    }
+
+    public int size() {
+        return index.size();
+    }
+}
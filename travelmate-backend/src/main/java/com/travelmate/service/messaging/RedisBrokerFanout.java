@@ -0,0 +1,134 @@
+package com.travelmate.service.messaging;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * 심플 브로커 메시지의 Redis pub/sub 전파 (app.websocket.broker.mode=redis)
+ * 서버에서 브로커 채널로 보낸 메시지를 Redis 채널에 발행하고,
+ * 다른 인스턴스가 발행한 메시지는 로컬 브로커 채널로 다시 보내 해당 인스턴스의 구독자에게 전달한다.
+ * /user 목적지는 변환 전 원본을 전파하므로 사용자가 접속한 인스턴스에서 세션으로 변환된다.
+ * 클라이언트가 /topic 으로 직접 SEND 한 메시지는 브로커 채널을 거치지 않아 전파되지 않는다.
+ */
+@Component
+@ConditionalOnProperty(name = "app.websocket.broker.mode", havingValue = "redis")
+@Slf4j
+public class RedisBrokerFanout implements ChannelInterceptor, MessageListener, DisposableBean {
+
+    // Redis 에서 수신해 다시 보낸 메시지 표시 (재발행 방지)
+    static final String ORIGIN_HEADER = "travelmateFanoutOrigin";
+
+    private final StringRedisTemplate redisTemplate;
+    private final MessageChannel brokerChannel;
+    private final ObjectMapper objectMapper;
+    private final String channel;
+    private final String instanceId = UUID.randomUUID().toString();
+    private final RedisMessageListenerContainer listenerContainer = new RedisMessageListenerContainer();
+
+    public RedisBrokerFanout(StringRedisTemplate redisTemplate,
+                             @Lazy @Qualifier("brokerChannel") MessageChannel brokerChannel,
+                             ObjectMapper objectMapper,
+                             @Value("${app.websocket.broker.redis.channel:travelmate:stomp-broadcast}") String channel) {
+        this.redisTemplate = redisTemplate;
+        this.brokerChannel = brokerChannel;
+        this.objectMapper = objectMapper;
+        this.channel = channel;
+    }
+
+    @PostConstruct
+    public void start() {
+        listenerContainer.setConnectionFactory(redisTemplate.getConnectionFactory());
+        listenerContainer.addMessageListener(this, new ChannelTopic(channel));
+        listenerContainer.afterPropertiesSet();
+        listenerContainer.start();
+        log.info("STOMP 메시지 Redis 전파 시작: channel={}, instance={}", channel, instanceId);
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        listenerContainer.destroy();
+    }
+
+    /**
+     * 브로커 채널로 가는 메시지를 Redis 에 발행 (발행 실패해도 로컬 전달은 계속)
+     */
+    @Override
+    public org.springframework.messaging.Message<?> preSend(org.springframework.messaging.Message<?> message,
+                                                            MessageChannel messageChannel) {
+        MessageHeaders headers = message.getHeaders();
+        if (SimpMessageHeaderAccessor.getMessageType(headers) != SimpMessageType.MESSAGE
+                || headers.containsKey(ORIGIN_HEADER)
+                // 로컬에서 세션 목적지로 변환된 /user 메시지 (원본이 이미 전파됨)
+                || headers.containsKey(SimpMessageHeaderAccessor.ORIGINAL_DESTINATION)) {
+            return message;
+        }
+        String destination = SimpMessageHeaderAccessor.getDestination(headers);
+        if (destination == null || !(message.getPayload() instanceof byte[] payload)) {
+            return message;
+        }
+
+        Object contentType = headers.get(MessageHeaders.CONTENT_TYPE);
+        Envelope envelope = new Envelope(instanceId, destination,
+                contentType != null ? contentType.toString() : null, payload);
+        try {
+            redisTemplate.convertAndSend(channel, objectMapper.writeValueAsString(envelope));
+        } catch (Exception e) {
+            log.warn("STOMP 메시지 Redis 발행 실패: destination={}", destination, e);
+        }
+        return message;
+    }
+
+    /**
+     * 다른 인스턴스가 발행한 메시지를 로컬 브로커로 전달
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        Envelope envelope;
+        try {
+            envelope = objectMapper.readValue(new String(message.getBody(), StandardCharsets.UTF_8), Envelope.class);
+        } catch (Exception e) {
+            log.warn("STOMP 전파 메시지 해석 실패", e);
+            return;
+        }
+        if (instanceId.equals(envelope.origin())) {
+            return;
+        }
+
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setDestination(envelope.destination());
+        if (envelope.contentType() != null) {
+            accessor.setContentType(MimeType.valueOf(envelope.contentType()));
+        }
+        accessor.setHeader(ORIGIN_HEADER, envelope.origin());
+        brokerChannel.send(MessageBuilder.createMessage(envelope.payload(), accessor.getMessageHeaders()));
+    }
+
+    public String getInstanceId() {
+        return instanceId;
+    }
+
+    record Envelope(String origin, String destination, String contentType, byte[] payload) {
+    }
+}
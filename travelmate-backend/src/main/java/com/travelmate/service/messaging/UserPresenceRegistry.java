@@ -0,0 +1,231 @@
+package com.travelmate.service.messaging;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.AbstractSubProtocolEvent;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.security.Principal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * WebSocket 접속 상태 (사용자별 세션, 목적지별 구독 세션)
+ * STOMP 연결/구독 이벤트로 갱신하고, 클라이언트 수신 채널의 모든 프레임(하트비트 포함)으로 세션 활동 시각을 기록한다.
+ * 종료 이벤트 없이 끊긴 세션은 스케줄러가 활동 시각 기준으로 정리한다.
+ *
+ * 이 인스턴스에 연결된 세션만 알기 때문에 simple 브로커가 아니면 구독자 유무를 단정하지 않는다.
+ */
+@Component
+@Slf4j
+public class UserPresenceRegistry implements ChannelInterceptor {
+
+    private final boolean localBroker;
+    private final long sessionTimeoutNanos;
+
+    private final Map<String, SessionState> sessions = new ConcurrentHashMap<>();
+    // 사용자 ID -> 세션 ID
+    private final Map<Long, Set<String>> userSessions = new ConcurrentHashMap<>();
+    // 구독 목적지 -> 세션 ID
+    private final Map<String, Set<String>> destinationSessions = new ConcurrentHashMap<>();
+
+    public UserPresenceRegistry(@Value("${app.websocket.broker.mode:simple}") String brokerMode,
+                                @Value("${app.presence.session-timeout-ms:60000}") long sessionTimeoutMillis) {
+        this.localBroker = "simple".equals(brokerMode);
+        this.sessionTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(sessionTimeoutMillis);
+    }
+
+    public boolean isOnline(long userId) {
+        Set<String> sessionIds = userSessions.get(userId);
+        return sessionIds != null && !sessionIds.isEmpty();
+    }
+
+    /**
+     * 주어진 사용자 중 접속 중인 사용자 (그룹 멤버 등)
+     */
+    public List<Long> onlineUsers(Collection<Long> userIds) {
+        List<Long> online = new ArrayList<>();
+        for (Long userId : userIds) {
+            if (isOnline(userId)) {
+                online.add(userId);
+            }
+        }
+        return online;
+    }
+
+    /**
+     * 목적지를 구독 중인 접속 사용자 (예: /topic/chat/{roomId}, /topic/group/{groupId})
+     */
+    public Set<Long> subscribedUsers(String destination) {
+        Set<Long> users = new HashSet<>();
+        Set<String> sessionIds = destinationSessions.get(destination);
+        if (sessionIds != null) {
+            for (String sessionId : sessionIds) {
+                SessionState state = sessions.get(sessionId);
+                if (state != null && state.userId != null) {
+                    users.add(state.userId);
+                }
+            }
+        }
+        return users;
+    }
+
+    /**
+     * 목적지 구독자가 있을 수 있는지 (false 면 브로드캐스트 생략 가능)
+     */
+    public boolean hasSubscribers(String destination) {
+        if (!localBroker) {
+            return true;
+        }
+        Set<String> sessionIds = destinationSessions.get(destination);
+        return sessionIds != null && !sessionIds.isEmpty();
+    }
+
+    public int sessionCount() {
+        return sessions.size();
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+        if (sessionId != null) {
+            SessionState state = sessions.get(sessionId);
+            if (state != null) {
+                state.lastSeenNanos = System.nanoTime();
+            }
+        }
+        return message;
+    }
+
+    @EventListener
+    public void onConnected(SessionConnectedEvent event) {
+        connect(sessionId(event), userId(event.getUser()), System.nanoTime());
+    }
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(event.getMessage());
+        if (accessor.getSessionId() != null && accessor.getSubscriptionId() != null && accessor.getDestination() != null) {
+            subscribe(accessor.getSessionId(), accessor.getSubscriptionId(), accessor.getDestination());
+        }
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(event.getMessage());
+        SessionState state = accessor.getSessionId() != null ? sessions.get(accessor.getSessionId()) : null;
+        if (state != null && accessor.getSubscriptionId() != null) {
+            String destination = state.subscriptions.remove(accessor.getSubscriptionId());
+            if (destination != null) {
+                removeFrom(destinationSessions, destination, accessor.getSessionId());
+            }
+        }
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        disconnect(event.getSessionId());
+    }
+
+    /**
+     * 종료 이벤트 없이 활동이 끊긴 세션 정리
+     */
+    @Scheduled(fixedDelayString = "${app.presence.sweep-interval-ms:30000}")
+    public void sweep() {
+        sweep(System.nanoTime());
+    }
+
+    void sweep(long nowNanos) {
+        sessions.forEach((sessionId, state) -> {
+            if (nowNanos - state.lastSeenNanos > sessionTimeoutNanos) {
+                log.debug("비활성 WebSocket 세션 정리: {}", sessionId);
+                disconnect(sessionId);
+            }
+        });
+    }
+
+    void connect(String sessionId, Long userId, long nowNanos) {
+        if (sessionId == null) {
+            return;
+        }
+        SessionState state = sessions.computeIfAbsent(sessionId, id -> new SessionState());
+        state.lastSeenNanos = nowNanos;
+        if (userId != null) {
+            state.userId = userId;
+            addTo(userSessions, userId, sessionId);
+        }
+    }
+
+    void subscribe(String sessionId, String subscriptionId, String destination) {
+        // 연결 이벤트보다 구독 이벤트가 먼저 처리될 수 있음
+        SessionState state = sessions.computeIfAbsent(sessionId, id -> new SessionState());
+        state.subscriptions.put(subscriptionId, destination);
+        addTo(destinationSessions, destination, sessionId);
+    }
+
+    void disconnect(String sessionId) {
+        SessionState state = sessions.remove(sessionId);
+        if (state == null) {
+            return;
+        }
+        for (String destination : state.subscriptions.values()) {
+            removeFrom(destinationSessions, destination, sessionId);
+        }
+        if (state.userId != null) {
+            removeFrom(userSessions, state.userId, sessionId);
+        }
+    }
+
+    private static <K> void addTo(Map<K, Set<String>> index, K key, String sessionId) {
+        index.compute(key, (k, sessionIds) -> {
+            Set<String> current = sessionIds != null ? sessionIds : ConcurrentHashMap.newKeySet();
+            current.add(sessionId);
+            return current;
+        });
+    }
+
+    private static <K> void removeFrom(Map<K, Set<String>> index, K key, String sessionId) {
+        index.computeIfPresent(key, (k, sessionIds) -> {
+            sessionIds.remove(sessionId);
+            return sessionIds.isEmpty() ? null : sessionIds;
+        });
+    }
+
+    private static String sessionId(AbstractSubProtocolEvent event) {
+        return SimpMessageHeaderAccessor.getSessionId(event.getMessage().getHeaders());
+    }
+
+    private static Long userId(Principal user) {
+        if (user == null) {
+            return null;
+        }
+        try {
+            return Long.parseLong(user.getName());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static final class SessionState {
+        private volatile Long userId;
+        private volatile long lastSeenNanos = System.nanoTime();
+        // 구독 ID -> 목적지
+        private final Map<String, String> subscriptions = new ConcurrentHashMap<>();
+    }
+}
@@ -1,7 +1,5 @@
 package com.travelmate.service.nft;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.travelmate.dto.NftDto;
 import com.travelmate.entity.User;
 import com.travelmate.entity.nft.*;
@@ -9,6 +7,8 @@ import com.travelmate.repository.UserRepository;
 import com.travelmate.repository.nft.AchievementRepository;
 import com.travelmate.repository.nft.UserAchievementRepository;
 import com.travelmate.repository.nft.UserNftCollectionRepository;
+import com.travelmate.service.achievement.AchievementCondition;
+import com.travelmate.service.achievement.AchievementIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -16,6 +16,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -31,7 +32,7 @@ public class AchievementService {
     private final UserNftCollectionRepository userNftCollectionRepository;
     private final UserRepository userRepository;
     private final PointService pointService;
-    private final ObjectMapper objectMapper;
+    private final AchievementIndex achievementIndex;
 
     /**
      * 모든 업적 목록 조회
@@ -137,78 +138,89 @@ public class AchievementService {
 
     /**
      * NFT 수집 후 업적 체크
+     * 이 수집으로 진행될 수 있는 업적만 골라 진행도를 +1 하고, 진행 기록이 없던 업적은 현재 수집 수로 시작한다.
      */
     @Transactional
-    public List<NftDto.AchievementUnlocked> checkAchievementsOnCollect(Long userId) {
-        List<NftDto.AchievementUnlocked> unlockedList = new ArrayList<>();
-
-        // 수집 관련 업적들 조회
-        List<Achievement> collectionAchievements = achievementRepository
-                .findByTypeAndIsActiveTrueOrderByDisplayOrderAsc(AchievementType.COLLECTION);
-
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다"));
+    public List<NftDto.AchievementUnlocked> checkAchievementsOnCollect(Long userId, CollectibleLocation location) {
+        List<AchievementIndex.Entry> candidates = achievementIndex.candidates(
+                location.getRarity(), location.getCategory(), location.getRegion());
+        if (candidates.isEmpty()) {
+            return List.of();
+        }
+        List<Long> candidateIds = candidates.stream().map(AchievementIndex.Entry::achievementId).toList();
 
-        for (Achievement achievement : collectionAchievements) {
-            // 이미 완료된 업적인지 확인
-            Optional<UserAchievement> existingOpt = userAchievementRepository
-                    .findByUserIdAndAchievementId(userId, achievement.getId());
+        // 기존 진행 기록은 한 번의 UPDATE 로 +1
+        userAchievementRepository.incrementProgress(userId, candidateIds);
+        Map<Long, Object[]> progress = new HashMap<>();
+        for (Object[] row : userAchievementRepository.findProgressByAchievementIds(userId, candidateIds)) {
+            progress.put((Long) row[0], row);
+        }
 
-            if (existingOpt.isPresent() && existingOpt.get().getIsCompleted()) {
-                continue; // 이미 완료됨
+        List<NftDto.AchievementUnlocked> unlockedList = new ArrayList<>();
+        List<UserAchievement> started = new ArrayList<>();
+        // 같은 차원(전체/희귀도/카테고리/지역)의 수집 수는 한 번만 셈
+        Map<AchievementCondition, Integer> counts = new HashMap<>();
+        LocalDateTime now = LocalDateTime.now();
+        for (AchievementIndex.Entry candidate : candidates) {
+            Achievement achievement = candidate.achievement();
+            Object[] row = progress.get(achievement.getId());
+            if (row != null) {
+                boolean reached = !(Boolean) row[3] && (Integer) row[1] >= (Integer) row[2];
+                if (reached && userAchievementRepository.completeIfReached(userId, achievement.getId(), now) == 1) {
+                    unlockedList.add(reward(userId, achievement));
+                }
+                continue;
             }
 
-            // 조건 파싱 및 확인
-            AchievementCondition condition = parseCondition(achievement.getConditionJson());
-            int currentProgress = calculateProgress(userId, condition);
-            int targetProgress = condition.getTarget();
-
-            UserAchievement userAchievement;
-            if (existingOpt.isPresent()) {
-                userAchievement = existingOpt.get();
-                userAchievement.setCurrentProgress(currentProgress);
-            } else {
-                userAchievement = UserAchievement.builder()
-                        .user(user)
-                        .achievement(achievement)
-                        .currentProgress(currentProgress)
-                        .targetProgress(targetProgress)
-                        .isCompleted(false)
-                        .build();
+            AchievementCondition condition = candidate.condition();
+            int currentProgress = counts.computeIfAbsent(dimensionOf(condition),
+                    dimension -> countCollected(userId, dimension));
+            boolean completed = currentProgress >= condition.target();
+            started.add(UserAchievement.builder()
+                    .user(userRepository.getReferenceById(userId))
+                    .achievement(achievementRepository.getReferenceById(achievement.getId()))
+                    .currentProgress(currentProgress)
+                    .targetProgress(condition.target())
+                    .isCompleted(completed)
+                    .completedAt(completed ? now : null)
+                    .build());
+            if (completed) {
+                unlockedList.add(reward(userId, achievement));
             }
+        }
+        if (!started.isEmpty()) {
+            userAchievementRepository.saveAll(started);
+        }
 
-            // 업적 완료 체크
-            if (currentProgress >= targetProgress && !userAchievement.getIsCompleted()) {
-                userAchievement.setIsCompleted(true);
-                userAchievement.setCompletedAt(LocalDateTime.now());
-
-                // 포인트 보상
-                Long achievementPointReward = achievement.getPointReward() != null ? achievement.getPointReward().longValue() : 0L;
-                pointService.earnPoints(
-                        userId,
-                        achievementPointReward,
-                        PointSource.ACHIEVEMENT,
-                        achievement.getName() + " 업적 달성",
-                        achievement.getId(),
-                        "ACHIEVEMENT"
-                );
-
-                unlockedList.add(NftDto.AchievementUnlocked.builder()
-                        .achievementId(achievement.getId())
-                        .name(achievement.getName())
-                        .description(achievement.getDescription())
-                        .iconUrl(achievement.getIconUrl())
-                        .rarity(achievement.getRarity())
-                        .pointReward(achievementPointReward)
-                        .build());
-
-                log.info("업적 달성: userId={}, achievement={}", userId, achievement.getName());
-            }
+        return unlockedList;
+    }
 
-            userAchievementRepository.save(userAchievement);
+    /**
+     * 수집 외의 경로(마켓플레이스 거래 등)로 NFT 소유자가 바뀐 뒤 진행 중인 수집 업적을 현재 수집 수로 맞춤
+     * 수집 때는 진행도를 +1 만 하므로 소유가 바뀐 양쪽 사용자 모두 호출해야 한다.
+     */
+    @Transactional
+    public void syncCollectionProgress(Long userId, CollectibleLocation location) {
+        List<AchievementIndex.Entry> candidates = achievementIndex.candidates(
+                location.getRarity(), location.getCategory(), location.getRegion());
+        if (candidates.isEmpty()) {
+            return;
         }
+        Map<Long, AchievementIndex.Entry> byId = new HashMap<>();
+        candidates.forEach(candidate -> byId.put(candidate.achievementId(), candidate));
 
-        return unlockedList;
+        Map<AchievementCondition, Integer> counts = new HashMap<>();
+        for (Object[] row : userAchievementRepository.findProgressByAchievementIds(userId, new ArrayList<>(byId.keySet()))) {
+            if ((Boolean) row[3]) {
+                continue;
+            }
+            AchievementIndex.Entry candidate = byId.get((Long) row[0]);
+            int collected = counts.computeIfAbsent(dimensionOf(candidate.condition()),
+                    dimension -> countCollected(userId, dimension));
+            if (collected != (Integer) row[1]) {
+                userAchievementRepository.resetProgress(userId, candidate.achievementId(), collected);
+            }
+        }
     }
 
     /**
@@ -228,7 +240,7 @@ public class AchievementService {
                         .user(user)
                         .achievement(achievement)
                         .currentProgress(0)
-                        .targetProgress(parseCondition(achievement.getConditionJson()).getTarget())
+                        .targetProgress(achievementIndex.conditionOf(achievement).target())
                         .isCompleted(false)
                         .build());
 
@@ -262,40 +274,43 @@ public class AchievementService {
 
     // ===== Helper Methods =====
 
-    private AchievementCondition parseCondition(String conditionJson) {
-        try {
-            Map<String, Object> conditionMap = objectMapper.readValue(
-                    conditionJson,
-                    new TypeReference<Map<String, Object>>() {}
-            );
+    // 업적 달성 포인트 지급 및 알림용 응답
+    private NftDto.AchievementUnlocked reward(Long userId, Achievement achievement) {
+        Long achievementPointReward = achievement.getPointReward() != null ? achievement.getPointReward().longValue() : 0L;
+        pointService.earnPoints(
+                userId,
+                achievementPointReward,
+                PointSource.ACHIEVEMENT,
+                achievement.getName() + " 업적 달성",
+                achievement.getId(),
+                "ACHIEVEMENT"
+        );
+
+        log.info("업적 달성: userId={}, achievement={}", userId, achievement.getName());
+
+        return NftDto.AchievementUnlocked.builder()
+                .achievementId(achievement.getId())
+                .name(achievement.getName())
+                .description(achievement.getDescription())
+                .iconUrl(achievement.getIconUrl())
+                .rarity(achievement.getRarity())
+                .pointReward(achievementPointReward)
+                .build();
+    }
 
-            return new AchievementCondition(
-                    (String) conditionMap.get("type"),
-                    ((Number) conditionMap.getOrDefault("target", 1)).intValue(),
-                    (String) conditionMap.get("category"),
-                    (String) conditionMap.get("rarity"),
-                    (String) conditionMap.get("region")
-            );
-        } catch (Exception e) {
-            log.error("업적 조건 파싱 실패: {}", conditionJson, e);
-            return new AchievementCondition("TOTAL_COLLECT", 1, null, null, null);
-        }
+    // 같은 차원(전체/희귀도/카테고리/지역)의 조건은 목표만 다르므로 목표를 빼고 묶음
+    private static AchievementCondition dimensionOf(AchievementCondition condition) {
+        return new AchievementCondition(condition.kind(), 0, condition.rarity(), condition.category(), condition.region());
     }
 
-    private int calculateProgress(Long userId, AchievementCondition condition) {
-        return switch (condition.getType()) {
-            case "TOTAL_COLLECT" -> userNftCollectionRepository.countByUserId(userId);
-            case "RARITY_COLLECT" -> {
-                Rarity rarity = Rarity.valueOf(condition.getRarity());
-                yield userNftCollectionRepository.countByUserIdAndRarity(userId, rarity);
-            }
-            case "CATEGORY_COLLECT" -> {
-                LocationCategory category = LocationCategory.valueOf(condition.getCategory());
-                yield userNftCollectionRepository.countByUserIdAndCategory(userId, category);
-            }
-            case "REGION_COLLECT" -> userNftCollectionRepository
-                    .countByUserIdAndRegion(userId, condition.getRegion());
-            default -> 0;
+    // 해당 차원의 현재 수집 수 (진행 기록 시작값, 소유 변경 후 재동기화)
+    private int countCollected(Long userId, AchievementCondition condition) {
+        return switch (condition.kind()) {
+            case TOTAL_COLLECT -> userNftCollectionRepository.countByUserId(userId);
+            case RARITY_COLLECT -> userNftCollectionRepository.countByUserIdAndRarity(userId, condition.rarity());
+            case CATEGORY_COLLECT -> userNftCollectionRepository.countByUserIdAndCategory(userId, condition.category());
+            case REGION_COLLECT -> userNftCollectionRepository.countByUserIdAndRegion(userId, condition.region());
+            case NONE -> 0;
         };
     }
 
@@ -315,7 +330,7 @@ public class AchievementService {
             isCompleted = ua.getIsCompleted();
             completedAt = ua.getCompletedAt();
         } else {
-            targetProgress = parseCondition(achievement.getConditionJson()).getTarget();
+            targetProgress = achievementIndex.conditionOf(achievement).target();
         }
 
         return NftDto.AchievementResponse.builder()
@@ -354,7 +369,7 @@ public class AchievementService {
             isCompleted = ua.getIsCompleted();
             completedAt = ua.getCompletedAt();
         } else {
-            targetProgress = parseCondition(achievement.getConditionJson()).getTarget();
+            targetProgress = achievementIndex.conditionOf(achievement).target();
         }
 
         return NftDto.AchievementResponse.builder()
@@ -395,18 +410,4 @@ public class AchievementService {
                 .completedAt(ua.getCompletedAt())
                 .build();
     }
-
-    private record AchievementCondition(
-            String type,
-            int target,
-            String category,
-            String rarity,
-            String region
-    ) {
-        public String getType() { return type; }
-        public int getTarget() { return target; }
-        public String getCategory() { return category; }
-        public String getRarity() { return rarity; }
-        public String getRegion() { return region; }
-    }
 }
@@ -24,6 +24,7 @@ public class MarketplaceService {
     private final UserNftCollectionRepository userNftCollectionRepository;
     private final UserRepository userRepository;
     private final PointService pointService;
+    private final AchievementService achievementService;
 
     private static final int DEFAULT_LISTING_DURATION_DAYS = 7;
     private static final int MAX_LISTING_DURATION_DAYS = 30;
@@ -181,10 +182,14 @@ public class MarketplaceService {
         seller.setTotalNftsCollected(seller.getTotalNftsCollected() - 1);
         userRepository.save(seller);
 
+        // 12. 수집 업적 진행도 재동기화 (양쪽 모두 수집 수가 바뀜)
+        achievementService.syncCollectionProgress(buyerId, nftCollection.getLocation());
+        achievementService.syncCollectionProgress(seller.getId(), nftCollection.getLocation());
+
         log.info("NFT 구매 완료: listingId={}, buyerId={}, sellerId={}, price={}",
                 listingId, buyerId, seller.getId(), price);
 
-        // 12. 구매자의 남은 잔액 조회
+        // 13. 구매자의 남은 잔액 조회
         Long remainingBalance = pointService.getBalance(buyerId).getTotalPoints();
 
         return NftDto.BuyNftResponse.builder()
@@ -4,6 +4,7 @@ import com.travelmate.dto.NftDto;
 import com.travelmate.entity.User;
 import com.travelmate.entity.nft.*;
 import com.travelmate.repository.UserRepository;
+import com.travelmate.repository.geo.GeoResult;
 import com.travelmate.repository.nft.CollectibleLocationRepository;
 import com.travelmate.repository.nft.UserNftCollectionRepository;
 import lombok.RequiredArgsConstructor;
@@ -55,8 +56,9 @@ public class NftCollectionService {
             Double longitude,
             Double radiusKm) {
 
-        List<CollectibleLocation> locations = collectibleLocationRepository
-                .findNearbyActiveLocations(latitude, longitude, radiusKm);
+        // 거리는 DB에서 계산한 값을 그대로 사용
+        List<GeoResult<CollectibleLocation>> locations = collectibleLocationRepository
+                .findNearbyActiveLocationsWithDistance(latitude, longitude, radiusKm);
 
         // N+1 방지: 수집한 장소 ID를 한 번에 조회
         Set<Long> collectedLocationIds = userId != null
@@ -64,11 +66,8 @@ public class NftCollectionService {
                 : Set.of();
 
         return locations.stream()
-                .map(loc -> {
-                    double distance = gpsVerificationService.calculateDistance(
-                            latitude, longitude, loc.getLatitude(), loc.getLongitude());
-                    return toCollectibleLocationResponseWithSet(loc, collectedLocationIds, distance);
-                })
+                .map(result -> toCollectibleLocationResponseWithSet(
+                        result.content(), collectedLocationIds, result.distanceKm() * 1000))
                 .toList();
     }
 
@@ -178,7 +177,7 @@ public class NftCollectionService {
         userRepository.save(user);
 
         // 9. 업적 체크
-        List<NftDto.AchievementUnlocked> unlockedAchievements = achievementService.checkAchievementsOnCollect(userId);
+        List<NftDto.AchievementUnlocked> unlockedAchievements = achievementService.checkAchievementsOnCollect(userId, location);
 
         log.info("NFT 수집 성공: userId={}, locationId={}, points={}",
                 userId, location.getId(), location.getPointReward());
@@ -6,6 +6,10 @@ import com.travelmate.entity.nft.*;
 import com.travelmate.repository.UserRepository;
 import com.travelmate.repository.nft.PointTransactionRepository;
 import com.travelmate.repository.nft.UserPointRepository;
+import com.travelmate.service.point.PointLeaderboard;
+import com.travelmate.service.point.PointLedger;
+import com.travelmate.service.point.PointRankJob;
+import com.travelmate.service.point.RankedScores;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -13,8 +17,14 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.ToLongFunction;
 
 @Service
 @RequiredArgsConstructor
@@ -24,6 +34,9 @@ public class PointService {
     private final UserPointRepository userPointRepository;
     private final PointTransactionRepository pointTransactionRepository;
     private final UserRepository userRepository;
+    private final PointLeaderboard pointLeaderboard;
+    private final PointRankJob pointRankJob;
+    private final PointLedger pointLedger;
 
     /**
      * 사용자 포인트 잔액 조회
@@ -37,14 +50,13 @@ public class PointService {
                 .lifetimeEarned(userPoint.getLifetimeEarned())
                 .lifetimeSpent(userPoint.getLifetimeSpent())
                 .seasonPoints(userPoint.getSeasonPoints())
-                .currentRank(userPoint.getCurrentRank())
+                .currentRank(publishedRank(userId, userPoint))
                 .build();
     }
 
     /**
-     * 포인트 획득
+     * 포인트 획득 (사용자별로 직렬화, PointLedger 참고)
      */
-    @Transactional
     public NftDto.PointTransactionResponse earnPoints(
             Long userId,
             Long amount,
@@ -57,7 +69,19 @@ public class PointService {
             throw new IllegalArgumentException("포인트는 양수여야 합니다");
         }
 
-        // 중복 지급 방지
+        return pointLedger.execute(
+                () -> earn(userId, amount, source, description, referenceId, referenceType), userId);
+    }
+
+    private NftDto.PointTransactionResponse earn(
+            Long userId,
+            Long amount,
+            PointSource source,
+            String description,
+            Long referenceId,
+            String referenceType) {
+
+        // 중복 지급 방지 (같은 사용자 변경은 직렬화되므로 확인과 기록 사이에 끼어들 수 없음)
         if (referenceId != null && referenceType != null) {
             boolean exists = pointTransactionRepository.existsByUserIdAndReferenceIdAndReferenceType(
                     userId, referenceId, referenceType);
@@ -71,6 +95,7 @@ public class PointService {
         // 포인트 추가
         userPoint.earnPoints(amount);
         userPointRepository.save(userPoint);
+        publishScore(userId, userPoint);
 
         // 거래 내역 생성
         User user = userRepository.findById(userId)
@@ -96,9 +121,8 @@ public class PointService {
     }
 
     /**
-     * 포인트 사용
+     * 포인트 사용 (사용자별로 직렬화)
      */
-    @Transactional
     public NftDto.PointTransactionResponse spendPoints(
             Long userId,
             Long amount,
@@ -111,6 +135,18 @@ public class PointService {
             throw new IllegalArgumentException("포인트는 양수여야 합니다");
         }
 
+        return pointLedger.execute(
+                () -> spend(userId, amount, source, description, referenceId, referenceType), userId);
+    }
+
+    private NftDto.PointTransactionResponse spend(
+            Long userId,
+            Long amount,
+            PointSource source,
+            String description,
+            Long referenceId,
+            String referenceType) {
+
         UserPoint userPoint = getUserPointOrCreate(userId);
 
         // 잔액 확인
@@ -121,6 +157,7 @@ public class PointService {
         // 포인트 차감
         userPoint.spendPoints(amount);
         userPointRepository.save(userPoint);
+        publishScore(userId, userPoint);
 
         // 거래 내역 생성
         User user = userRepository.findById(userId)
@@ -146,9 +183,8 @@ public class PointService {
     }
 
     /**
-     * 포인트 전송
+     * 포인트 전송 (두 사용자를 함께 잠금)
      */
-    @Transactional
     public void transferPoints(Long senderId, Long receiverId, Long amount, String message) {
         if (senderId.equals(receiverId)) {
             throw new IllegalArgumentException("자신에게 포인트를 전송할 수 없습니다");
@@ -158,19 +194,37 @@ public class PointService {
             throw new IllegalArgumentException("전송 포인트는 양수여야 합니다");
         }
 
+        pointLedger.execute(() -> {
+            transfer(senderId, receiverId, amount, message);
+            return null;
+        }, senderId, receiverId);
+    }
+
+    private void transfer(Long senderId, Long receiverId, Long amount, String message) {
+        // ID 오름차순으로 읽어 두 행의 UPDATE 도 같은 순서로 나가게 함 (인스턴스 간 DB 교착 방지)
+        UserPoint senderPoint;
+        UserPoint receiverPoint;
+        if (senderId < receiverId) {
+            senderPoint = getUserPointOrCreate(senderId);
+            receiverPoint = getUserPointOrCreate(receiverId);
+        } else {
+            receiverPoint = getUserPointOrCreate(receiverId);
+            senderPoint = getUserPointOrCreate(senderId);
+        }
+
         // 송신자 포인트 차감
-        UserPoint senderPoint = getUserPointOrCreate(senderId);
         if (senderPoint.getTotalPoints() < amount) {
             throw new IllegalStateException("포인트가 부족합니다. 잔액: " + senderPoint.getTotalPoints());
         }
 
         senderPoint.spendPoints(amount);
         userPointRepository.save(senderPoint);
+        publishScore(senderId, senderPoint);
 
         // 수신자 포인트 추가
-        UserPoint receiverPoint = getUserPointOrCreate(receiverId);
         receiverPoint.earnPoints(amount);
         userPointRepository.save(receiverPoint);
+        publishScore(receiverId, receiverPoint);
 
         // 송신자 거래 내역
         User sender = userRepository.findById(senderId)
@@ -242,22 +296,11 @@ public class PointService {
      */
     @Transactional(readOnly = true)
     public List<NftDto.LeaderboardEntry> getLeaderboard(int limit) {
+        if (pointLeaderboard.isReady()) {
+            return toLeaderboardEntries(pointLeaderboard.top(PointLeaderboard.Board.TOTAL, limit));
+        }
         List<UserPoint> topUsers = userPointRepository.findTopByTotalPoints(PageRequest.of(0, limit));
-
-        return topUsers.stream()
-                .map(up -> {
-                    User user = up.getUser();
-                    int rank = userPointRepository.getUserRank(user.getId());
-                    return NftDto.LeaderboardEntry.builder()
-                            .rank(rank)
-                            .userId(user.getId())
-                            .nickname(user.getNickname())
-                            .profileImageUrl(user.getProfileImageUrl())
-                            .totalPoints(up.getTotalPoints())
-                            .totalNftsCollected(user.getTotalNftsCollected())
-                            .build();
-                })
-                .toList();
+        return toLeaderboardEntries(rankTopList(topUsers, UserPoint::getTotalPoints));
     }
 
     /**
@@ -265,21 +308,11 @@ public class PointService {
      */
     @Transactional(readOnly = true)
     public List<NftDto.LeaderboardEntry> getSeasonLeaderboard(int limit) {
+        if (pointLeaderboard.isReady()) {
+            return toLeaderboardEntries(pointLeaderboard.top(PointLeaderboard.Board.SEASON, limit));
+        }
         List<UserPoint> topUsers = userPointRepository.findTopBySeasonPoints(PageRequest.of(0, limit));
-
-        return topUsers.stream()
-                .map((up) -> {
-                    User user = up.getUser();
-                    return NftDto.LeaderboardEntry.builder()
-                            .rank(topUsers.indexOf(up) + 1)
-                            .userId(user.getId())
-                            .nickname(user.getNickname())
-                            .profileImageUrl(user.getProfileImageUrl())
-                            .totalPoints(up.getSeasonPoints())
-                            .totalNftsCollected(user.getTotalNftsCollected())
-                            .build();
-                })
-                .toList();
+        return toLeaderboardEntries(rankTopList(topUsers, UserPoint::getSeasonPoints));
     }
 
     /**
@@ -287,6 +320,9 @@ public class PointService {
      */
     @Transactional(readOnly = true)
     public int getUserRank(Long userId) {
+        if (pointLeaderboard.isReady()) {
+            return pointLeaderboard.rank(PointLeaderboard.Board.TOTAL, userId);
+        }
         return userPointRepository.getUserRank(userId);
     }
 
@@ -296,7 +332,8 @@ public class PointService {
     @Transactional(readOnly = true)
     public NftDto.PointBalanceResponse getPointStats(Long userId) {
         UserPoint userPoint = getUserPointOrCreate(userId);
-        int rank = userPointRepository.getUserRank(userId);
+        Integer published = pointRankJob.snapshot().rankOf(userId);
+        int rank = published != null ? published : getUserRank(userId);
 
         return NftDto.PointBalanceResponse.builder()
                 .totalPoints(userPoint.getTotalPoints())
@@ -327,6 +364,80 @@ public class PointService {
                 });
     }
 
+    // 공개된 순위 스냅샷 우선, 없으면 기록된 current_rank
+    private Integer publishedRank(Long userId, UserPoint userPoint) {
+        Integer rank = pointRankJob.snapshot().rankOf(userId);
+        return rank != null ? rank : userPoint.getCurrentRank();
+    }
+
+    // 커밋된 점수만 순위표에 반영 (롤백되면 반영하지 않음)
+    private void publishScore(Long userId, UserPoint userPoint) {
+        long totalPoints = userPoint.getTotalPoints();
+        long seasonPoints = userPoint.getSeasonPoints();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            updateLeaderboard(userId, totalPoints, seasonPoints);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                updateLeaderboard(userId, totalPoints, seasonPoints);
+            }
+        });
+    }
+
+    // 이미 커밋된 변경이므로 순위표 장애는 호출 측에 전파하지 않음 (PointLeaderboardLoader 가 주기적으로 바로잡음)
+    private void updateLeaderboard(Long userId, long totalPoints, long seasonPoints) {
+        try {
+            pointLeaderboard.update(userId, totalPoints, seasonPoints);
+        } catch (RuntimeException e) {
+            log.warn("포인트 순위표 갱신 실패: userId={}", userId, e);
+        }
+    }
+
+    // 순위표 적재 전: 상위 목록 자체로 순위 계산 (동점은 같은 순위)
+    private List<RankedScores.Entry> rankTopList(List<UserPoint> topUsers,
+                                                 ToLongFunction<UserPoint> score) {
+        List<RankedScores.Entry> entries = new ArrayList<>(topUsers.size());
+        int rank = 0;
+        for (int i = 0; i < topUsers.size(); i++) {
+            long current = score.applyAsLong(topUsers.get(i));
+            if (i == 0 || current != entries.get(i - 1).score()) {
+                rank = i + 1;
+            }
+            entries.add(new RankedScores.Entry(topUsers.get(i).getUser().getId(), current, rank));
+        }
+        return entries;
+    }
+
+    // 사용자 정보는 한 번에 조회
+    private List<NftDto.LeaderboardEntry> toLeaderboardEntries(List<RankedScores.Entry> ranked) {
+        if (ranked.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Object[]> profiles = new HashMap<>();
+        for (Object[] row : userRepository.findLeaderboardProfilesByIds(
+                ranked.stream().map(RankedScores.Entry::userId).toList())) {
+            profiles.put((Long) row[0], row);
+        }
+        List<NftDto.LeaderboardEntry> entries = new ArrayList<>(ranked.size());
+        for (RankedScores.Entry entry : ranked) {
+            Object[] profile = profiles.get(entry.userId());
+            if (profile == null) {
+                continue;
+            }
+            entries.add(NftDto.LeaderboardEntry.builder()
+                    .rank(entry.rank())
+                    .userId(entry.userId())
+                    .nickname((String) profile[1])
+                    .profileImageUrl((String) profile[2])
+                    .totalPoints(entry.score())
+                    .totalNftsCollected((Integer) profile[3])
+                    .build());
+        }
+        return entries;
+    }
+
     private NftDto.PointTransactionResponse toTransactionResponse(PointTransaction tx) {
         return NftDto.PointTransactionResponse.builder()
                 .id(tx.getId())
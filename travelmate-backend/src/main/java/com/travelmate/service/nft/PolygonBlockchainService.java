@@ -1,5 +1,6 @@
 package com.travelmate.service.nft;
 
+import com.travelmate.config.AsyncConfig;
 import com.travelmate.config.BlockchainConfig;
 import com.travelmate.entity.nft.MintStatus;
 import com.travelmate.entity.nft.UserNftCollection;
@@ -8,7 +9,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.web3j.abi.FunctionEncoder;
 import org.web3j.abi.FunctionReturnDecoder;
 import org.web3j.abi.TypeReference;
@@ -43,6 +44,7 @@ public class PolygonBlockchainService {
     private final Web3j web3j;
     private final BlockchainConfig blockchainConfig;
     private final UserNftCollectionRepository nftCollectionRepository;
+    private final TransactionTemplate transactionTemplate;
 
     private static final BigInteger GAS_LIMIT = BigInteger.valueOf(300000);
     private static final BigInteger GAS_PRICE = BigInteger.valueOf(30_000_000_000L); // 30 Gwei
@@ -113,20 +115,18 @@ public class PolygonBlockchainService {
     }
 
     /**
-     * NFT 민팅 (비동기 처리)
+     * NFT 민팅 (비동기 처리, 블록체인 전용 실행기에서 실행)
+     * 영수증 대기 동안 DB 커넥션을 잡지 않도록 트랜잭션 없이 실행하고 상태 변경은 건마다 커밋한다.
      */
-    @Async
-    @Transactional
+    @Async(AsyncConfig.BLOCKCHAIN_EXECUTOR)
     public CompletableFuture<MintResult> mintNftAsync(Long nftCollectionId, String recipientAddress, String metadataUri) {
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                return mintNft(nftCollectionId, recipientAddress, metadataUri);
-            } catch (Exception e) {
-                log.error("NFT 민팅 실패: nftCollectionId={}", nftCollectionId, e);
-                updateMintStatus(nftCollectionId, MintStatus.FAILED, null, null);
-                return new MintResult(false, null, null, e.getMessage());
-            }
-        });
+        try {
+            return CompletableFuture.completedFuture(mintNft(nftCollectionId, recipientAddress, metadataUri));
+        } catch (Exception e) {
+            log.error("NFT 민팅 실패: nftCollectionId={}", nftCollectionId, e);
+            updateMintStatus(nftCollectionId, MintStatus.FAILED, null, null);
+            return CompletableFuture.completedFuture(new MintResult(false, null, null, e.getMessage()));
+        }
     }
 
     /**
@@ -251,20 +251,20 @@ public class PolygonBlockchainService {
     }
 
     /**
-     * 민팅 상태 업데이트
+     * 민팅 상태 업데이트 (자기 호출에서도 트랜잭션이 적용되도록 TransactionTemplate 사용)
      */
-    @Transactional
     public void updateMintStatus(Long nftCollectionId, MintStatus status, String tokenId, String transactionHash) {
-        nftCollectionRepository.findById(nftCollectionId).ifPresent(nft -> {
-            nft.setMintStatus(status);
-            if (tokenId != null) {
-                nft.setTokenId(tokenId);
-            }
-            if (transactionHash != null) {
-                nft.setTransactionHash(transactionHash);
-            }
-            nftCollectionRepository.save(nft);
-        });
+        transactionTemplate.executeWithoutResult(tx ->
+                nftCollectionRepository.findById(nftCollectionId).ifPresent(nft -> {
+                    nft.setMintStatus(status);
+                    if (tokenId != null) {
+                        nft.setTokenId(tokenId);
+                    }
+                    if (transactionHash != null) {
+                        nft.setTransactionHash(transactionHash);
+                    }
+                    nftCollectionRepository.save(nft);
+                }));
     }
 
     /**
@@ -0,0 +1,117 @@
+package com.travelmate.service.notification;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * HTTP 멀티캐스트 푸시 게이트웨이 (app.push.provider=http)
+ * FCM 레거시 HTTP 형식(registration_ids + 토큰별 results)으로 한 요청에 최대 batch-size 개 토큰을 보낸다.
+ * 이 형식을 받는 푸시 중계 서버나 테스트용 로컬 서버를 app.push.http.url 로 지정한다.
+ */
+@Component
+@ConditionalOnProperty(name = "app.push.provider", havingValue = "http")
+@Slf4j
+public class HttpPushSender implements PushSender {
+
+    private static final Set<String> INVALID_TOKEN_ERRORS =
+            Set.of("NotRegistered", "InvalidRegistration", "MismatchSenderId");
+    private static final Set<String> RETRY_ERRORS =
+            Set.of("Unavailable", "InternalServerError", "DeviceMessageRateExceeded");
+
+    private final RestTemplate restTemplate;
+    private final String url;
+    private final String serverKey;
+    private final int batchSize;
+
+    public HttpPushSender(@Value("${app.push.http.url}") String url,
+                          @Value("${app.push.http.server-key:}") String serverKey,
+                          @Value("${app.push.http.batch-size:500}") int batchSize,
+                          @Value("${app.push.http.connect-timeout-ms:3000}") int connectTimeoutMillis,
+                          @Value("${app.push.http.read-timeout-ms:10000}") int readTimeoutMillis) {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(connectTimeoutMillis);
+        requestFactory.setReadTimeout(readTimeoutMillis);
+        this.restTemplate = new RestTemplate(requestFactory);
+        this.url = url;
+        this.serverKey = serverKey;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public int maxBatchSize() {
+        return batchSize;
+    }
+
+    @Override
+    public List<Outcome> send(PushMessage message, List<String> tokens) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        if (!serverKey.isBlank()) {
+            headers.set(HttpHeaders.AUTHORIZATION, "key=" + serverKey);
+        }
+
+        Map<String, Object> notification = new HashMap<>();
+        notification.put("title", message.title());
+        notification.put("body", message.body());
+        Map<String, Object> body = new HashMap<>();
+        body.put("registration_ids", tokens);
+        body.put("notification", notification);
+        if (message.actionUrl() != null) {
+            body.put("data", Map.of("actionUrl", message.actionUrl()));
+        }
+
+        JsonNode response;
+        try {
+            response = restTemplate.postForObject(url, new HttpEntity<>(body, headers), JsonNode.class);
+        } catch (HttpClientErrorException e) {
+            if (e.getStatusCode().isSameCodeAs(HttpStatus.TOO_MANY_REQUESTS)) {
+                throw e;
+            }
+            // 인증/형식 오류는 재시도해도 같은 결과
+            log.error("푸시 요청 거부: {} {}", e.getStatusCode(), e.getResponseBodyAsString());
+            return Collections.nCopies(tokens.size(), Outcome.REJECTED);
+        }
+
+        JsonNode results = response != null ? response.path("results") : null;
+        if (results == null || !results.isArray() || results.size() != tokens.size()) {
+            throw new IllegalStateException("푸시 응답 형식 오류: 토큰 " + tokens.size() + "개");
+        }
+        List<Outcome> outcomes = new ArrayList<>(tokens.size());
+        for (JsonNode result : results) {
+            outcomes.add(outcomeOf(result));
+        }
+        return outcomes;
+    }
+
+    private Outcome outcomeOf(JsonNode result) {
+        if (result.hasNonNull("message_id")) {
+            return Outcome.DELIVERED;
+        }
+        String error = result.path("error").asText("");
+        if (INVALID_TOKEN_ERRORS.contains(error)) {
+            return Outcome.INVALID_TOKEN;
+        }
+        if (RETRY_ERRORS.contains(error)) {
+            return Outcome.RETRY;
+        }
+        log.warn("푸시 전송 실패: {}", error);
+        return Outcome.REJECTED;
+    }
+}
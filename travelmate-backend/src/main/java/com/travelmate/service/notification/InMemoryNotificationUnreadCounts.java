@@ -0,0 +1,120 @@
+package com.travelmate.service.notification;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * 인메모리 읽지 않은 알림 수 캐시 (simple 브로커, 단일 인스턴스)
+ * 최근 사용자만 LRU 로 유지하고 TTL 이 지나면 다시 센다.
+ * 세는 동안에는 자리표시를 두고, 그 사이 변경이 자리표시를 지우면 센 값을 버린다.
+ */
+public class InMemoryNotificationUnreadCounts implements NotificationUnreadCounts {
+
+    private static final long LOADING = -1L;
+
+    private final long ttlNanos;
+    private final Map<Long, Entry> counts;
+
+    public InMemoryNotificationUnreadCounts(int maxSize, long ttlMillis) {
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+        this.counts = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    @Override
+    public long get(Long userId, LongSupplier loader) {
+        long now = System.nanoTime();
+        Entry loading = new Entry(LOADING, now);
+        synchronized (counts) {
+            Entry entry = counts.get(userId);
+            if (entry != null && entry.count() != LOADING && now - entry.loadedAt() <= ttlNanos) {
+                return entry.count();
+            }
+            counts.put(userId, loading);
+        }
+        long loaded = loader.getAsLong();
+        synchronized (counts) {
+            if (counts.get(userId) == loading) {
+                counts.put(userId, new Entry(loaded, now));
+            }
+        }
+        return loaded;
+    }
+
+    @Override
+    public void added(Long userId) {
+        afterCommit(() -> {
+            synchronized (counts) {
+                increment(userId);
+            }
+        });
+    }
+
+    @Override
+    public void addedAll(Collection<Long> userIds) {
+        afterCommit(() -> {
+            synchronized (counts) {
+                userIds.forEach(this::increment);
+            }
+        });
+    }
+
+    @Override
+    public void cleared(Long userId) {
+        afterCommit(() -> {
+            synchronized (counts) {
+                counts.put(userId, new Entry(0, System.nanoTime()));
+            }
+        });
+    }
+
+    @Override
+    public void evict(Long userId) {
+        afterCommit(() -> {
+            synchronized (counts) {
+                counts.remove(userId);
+            }
+        });
+    }
+
+    @Override
+    public void evictAll(Collection<Long> userIds) {
+        afterCommit(() -> {
+            synchronized (counts) {
+                userIds.forEach(counts::remove);
+            }
+        });
+    }
+
+    // 세는 중이면 센 값에 반영됐는지 알 수 없으므로 자리표시를 지움
+    private void increment(Long userId) {
+        counts.computeIfPresent(userId, (id, entry) ->
+                entry.count() == LOADING ? null : new Entry(entry.count() + 1, entry.loadedAt()));
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private record Entry(long count, long loadedAt) {
+    }
+}
@@ -0,0 +1,28 @@
+package com.travelmate.service.notification;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 푸시 서버 없이 로그만 남기는 기본 게이트웨이 (app.push.provider=log)
+ */
+@Component
+@ConditionalOnProperty(name = "app.push.provider", havingValue = "log", matchIfMissing = true)
+@Slf4j
+public class LoggingPushSender implements PushSender {
+
+    @Override
+    public int maxBatchSize() {
+        return 500;
+    }
+
+    @Override
+    public List<Outcome> send(PushMessage message, List<String> tokens) {
+        log.info("푸시 전송 (로그 전용): {}개 토큰 - {}", tokens.size(), message.title());
+        return Collections.nCopies(tokens.size(), Outcome.DELIVERED);
+    }
+}
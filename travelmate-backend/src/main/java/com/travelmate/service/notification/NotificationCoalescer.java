@@ -0,0 +1,133 @@
+package com.travelmate.service.notification;
+
+import com.travelmate.entity.Notification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 알림 묶음 처리
+ * 같은 사용자에게 같은 대상(유형 + 관련 엔티티)으로 생기는 알림을 창(window) 동안 메모리에 모았다가
+ * 창이 닫히면 한 건의 요약 알림("좋아요 12건")으로 내보낸다.
+ */
+@Component
+public class NotificationCoalescer {
+
+    private final long windowNanos;
+    private final int maxPending;
+    private final Set<Notification.NotificationType> coalescedTypes;
+
+    private final Map<Key, Pending> pending = new ConcurrentHashMap<>();
+
+    public NotificationCoalescer(@Value("${app.notification.coalesce.window-ms:10000}") long windowMillis,
+                                 @Value("${app.notification.coalesce.max-pending:100000}") int maxPending,
+                                 @Value("${app.notification.coalesce.types:NEW_MESSAGE,MENTION,COMMENT,LIKE,REVIEW,GROUP_JOIN}")
+                                 Set<Notification.NotificationType> coalescedTypes) {
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(windowMillis);
+        this.maxPending = maxPending;
+        this.coalescedTypes = coalescedTypes.isEmpty()
+                ? EnumSet.noneOf(Notification.NotificationType.class) : EnumSet.copyOf(coalescedTypes);
+    }
+
+    /**
+     * 묶음 대상이면 보관하고 true, 즉시 보내야 하면 false
+     */
+    public boolean offer(Draft draft) {
+        return offer(draft, System.nanoTime());
+    }
+
+    boolean offer(Draft draft, long nowNanos) {
+        if (!coalescedTypes.contains(draft.type()) || draft.relatedId() == null) {
+            return false;
+        }
+        Key key = new Key(draft.userId(), draft.type(), draft.relatedType(), draft.relatedId());
+        if (pending.size() >= maxPending && !pending.containsKey(key)) {
+            return false;
+        }
+        pending.compute(key, (k, current) -> current == null ? new Pending(draft, nowNanos) : current.add(draft));
+        return true;
+    }
+
+    /**
+     * 창이 닫힌 묶음을 꺼냄
+     */
+    public List<Draft> drainDue() {
+        return drain(System.nanoTime(), false);
+    }
+
+    /**
+     * 보관 중인 묶음을 모두 꺼냄 (종료 시)
+     */
+    public List<Draft> drainAll() {
+        return drain(System.nanoTime(), true);
+    }
+
+    List<Draft> drain(long nowNanos, boolean all) {
+        List<Draft> due = new ArrayList<>();
+        for (Key key : pending.keySet()) {
+            pending.computeIfPresent(key, (k, current) -> {
+                if (all || nowNanos - current.openedAt >= windowNanos) {
+                    due.add(current.summarize());
+                    return null;
+                }
+                return current;
+            });
+        }
+        return due;
+    }
+
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * 알림 내용 (count 는 묶인 알림 수)
+     */
+    public record Draft(Long userId, Notification.NotificationType type, String title, String message,
+                        String actionUrl, Long relatedId, String relatedType, int count) {
+
+        public Draft(Long userId, Notification.NotificationType type, String title, String message,
+                     String actionUrl, Long relatedId, String relatedType) {
+            this(userId, type, title, message, actionUrl, relatedId, relatedType, 1);
+        }
+    }
+
+    private record Key(Long userId, Notification.NotificationType type, String relatedType, Long relatedId) {
+    }
+
+    private static final class Pending {
+        private final long openedAt;
+        private Draft latest;
+        private int count;
+
+        private Pending(Draft first, long openedAt) {
+            this.openedAt = openedAt;
+            this.latest = first;
+            this.count = 1;
+        }
+
+        private Pending add(Draft draft) {
+            latest = draft;
+            count++;
+            return this;
+        }
+
+        private Draft summarize() {
+            if (count == 1) {
+                return latest;
+            }
+            // 가장 최근 알림 내용에 나머지 건수를 붙임
+            return new Draft(latest.userId(), latest.type(),
+                    String.format("%s %d건", latest.type().getDisplayName(), count),
+                    String.format("%s 외 %d건", latest.message(), count - 1),
+                    latest.actionUrl(), latest.relatedId(), latest.relatedType(), count);
+        }
+    }
+}
@@ -0,0 +1,269 @@
+package com.travelmate.service.notification;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.travelmate.config.AsyncConfig;
+import com.travelmate.entity.Notification;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.MimeTypeUtils;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 다수 사용자 대상 알림 팬아웃
+ * 페이로드를 한 번만 직렬화해 수신자 묶음 단위로 전용 스레드 풀에서 /user 목적지로 전송한다.
+ * 알림 기록이 필요하면 호출 측 트랜잭션 안에서 JDBC 배치 INSERT 로 저장하고, 전송은 커밋된 뒤에 시작한다.
+ * 호출 측이 읽기 전용 트랜잭션이면 INSERT 가 거부되므로 기록만 별도 트랜잭션으로 커밋한다.
+ */
+@Service
+@Slf4j
+public class NotificationFanout {
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ObjectMapper objectMapper;
+    private final JdbcTemplate jdbcTemplate;
+    private final NotificationUnreadCounts unreadCounts;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate separateTransactionTemplate;
+    private final Executor executor;
+    private final int chunkSize;
+    private final String insertSql;
+
+    private final LongAdder published = new LongAdder();
+    private final LongAdder delivered = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder totalLatencyNanos = new LongAdder();
+    private final LongAccumulator maxLatencyNanos = new LongAccumulator(Math::max, 0L);
+
+    public NotificationFanout(SimpMessagingTemplate messagingTemplate,
+                              ObjectMapper objectMapper,
+                              JdbcTemplate jdbcTemplate,
+                              NotificationUnreadCounts unreadCounts,
+                              PlatformTransactionManager transactionManager,
+                              @Qualifier(AsyncConfig.NOTIFICATION_FANOUT_EXECUTOR) Executor executor,
+                              @Value("${spring.jpa.properties.hibernate.default_schema:}") String schema,
+                              @Value("${app.notification.fanout.chunk-size:200}") int chunkSize) {
+        this.messagingTemplate = messagingTemplate;
+        this.objectMapper = objectMapper;
+        this.jdbcTemplate = jdbcTemplate;
+        this.unreadCounts = unreadCounts;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.separateTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.separateTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.executor = executor;
+        this.chunkSize = chunkSize;
+        String table = schema == null || schema.isBlank() ? "notifications" : schema + ".notifications";
+        this.insertSql = "INSERT INTO " + table +
+                " (user_id, type, title, message, related_id, related_type, action_url, is_read, sent_via_push, created_at)" +
+                " VALUES (?, ?, ?, ?, ?, ?, ?, FALSE, FALSE, ?)";
+    }
+
+    /**
+     * 수신자 전원에게 같은 알림 전송
+     *
+     * @param destination 사용자 목적지 (예: /topic/notifications)
+     * @param persisted   알림 기록 내용 (null 이면 실시간 전송만)
+     */
+    public void publish(Collection<Long> recipientIds, String destination, Object payload, Persisted persisted) {
+        if (recipientIds.isEmpty()) {
+            return;
+        }
+        long startedAt = System.nanoTime();
+        Message<byte[]> message = serialize(destination, payload);
+        if (message == null) {
+            return;
+        }
+        List<Long> recipients = new ArrayList<>(new LinkedHashSet<>(recipientIds));
+        if (persisted != null) {
+            persist(recipients.stream().map(userId -> new Row(userId, persisted)).toList());
+        }
+        dispatch(recipients.stream().map(userId -> new Delivery(userId, message)).toList(), destination, startedAt);
+    }
+
+    /**
+     * 수신자마다 다른 알림 전송 (매칭 알림처럼 내용이 수신자별로 다를 때)
+     */
+    public void publishEach(String destination, List<Notice> notices) {
+        if (notices.isEmpty()) {
+            return;
+        }
+        long startedAt = System.nanoTime();
+        List<Row> rows = new ArrayList<>();
+        List<Delivery> deliveries = new ArrayList<>(notices.size());
+        for (Notice notice : notices) {
+            Message<byte[]> message = serialize(destination, notice.payload());
+            if (message == null) {
+                continue;
+            }
+            if (notice.persisted() != null) {
+                rows.add(new Row(notice.userId(), notice.persisted()));
+            }
+            deliveries.add(new Delivery(notice.userId(), message));
+        }
+        persist(rows);
+        dispatch(deliveries, destination, startedAt);
+    }
+
+    private Message<byte[]> serialize(String destination, Object payload) {
+        try {
+            return MessageBuilder.withPayload(objectMapper.writeValueAsBytes(payload))
+                    .setHeader(MessageHeaders.CONTENT_TYPE, MimeTypeUtils.APPLICATION_JSON)
+                    .build();
+        } catch (JsonProcessingException e) {
+            log.error("알림 직렬화 실패: {}", destination, e);
+            return null;
+        }
+    }
+
+    // 호출 측 트랜잭션에 참여 (없거나 읽기 전용이면 이 배치만의 트랜잭션), 실패는 호출 측으로 전파
+    private void persist(List<Row> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        LocalDateTime createdAt = LocalDateTime.now();
+        TransactionTemplate template = TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                ? separateTransactionTemplate : transactionTemplate;
+        template.executeWithoutResult(status ->
+                jdbcTemplate.batchUpdate(insertSql, rows, chunkSize, (ps, row) -> {
+                    Persisted persisted = row.persisted();
+                    ps.setLong(1, row.userId());
+                    ps.setString(2, persisted.type().name());
+                    ps.setString(3, persisted.title());
+                    ps.setString(4, persisted.message());
+                    if (persisted.relatedId() != null) {
+                        ps.setLong(5, persisted.relatedId());
+                    } else {
+                        ps.setNull(5, Types.BIGINT);
+                    }
+                    ps.setString(6, persisted.relatedType());
+                    ps.setString(7, persisted.actionUrl());
+                    ps.setTimestamp(8, Timestamp.valueOf(createdAt));
+                }));
+        unreadCounts.addedAll(rows.stream().map(Row::userId).toList());
+    }
+
+    // 기록이 커밋된 뒤에 전송 (롤백되면 보내지 않음)
+    private void dispatch(List<Delivery> deliveries, String destination, long startedAt) {
+        if (deliveries.isEmpty()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    submit(deliveries, destination, startedAt);
+                }
+            });
+        } else {
+            submit(deliveries, destination, startedAt);
+        }
+    }
+
+    private void submit(List<Delivery> deliveries, String destination, long startedAt) {
+        published.increment();
+        int chunks = (deliveries.size() + chunkSize - 1) / chunkSize;
+        AtomicInteger remaining = new AtomicInteger(chunks);
+        for (int from = 0; from < deliveries.size(); from += chunkSize) {
+            List<Delivery> chunk = deliveries.subList(from, Math.min(from + chunkSize, deliveries.size()));
+            executor.execute(() -> {
+                try {
+                    deliver(chunk, destination);
+                } finally {
+                    if (remaining.decrementAndGet() == 0) {
+                        long elapsed = System.nanoTime() - startedAt;
+                        totalLatencyNanos.add(elapsed);
+                        maxLatencyNanos.accumulate(elapsed);
+                    }
+                }
+            });
+        }
+    }
+
+    private void deliver(List<Delivery> deliveries, String destination) {
+        String userPrefix = messagingTemplate.getUserDestinationPrefix();
+        for (Delivery delivery : deliveries) {
+            try {
+                messagingTemplate.send(userPrefix + delivery.userId() + destination, delivery.message());
+                delivered.increment();
+            } catch (Exception e) {
+                failed.increment();
+                log.warn("알림 전송 실패: User {} - {}", delivery.userId(), destination, e);
+            }
+        }
+    }
+
+    public Stats stats() {
+        long count = published.sum();
+        int queueDepth = executor instanceof ThreadPoolTaskExecutor pool
+                ? pool.getThreadPoolExecutor().getQueue().size() : 0;
+        double avgMillis = count == 0 ? 0.0 : totalLatencyNanos.sum() / (double) count / 1_000_000.0;
+        return new Stats(count, delivered.sum(), failed.sum(), queueDepth, avgMillis, maxLatencyNanos.get() / 1_000_000.0);
+    }
+
+    /**
+     * 직전 주기 동안의 팬아웃 지표 로그 후 초기화
+     */
+    @Scheduled(fixedDelayString = "${app.notification.fanout.stats-log-interval-ms:300000}")
+    public void logAndReset() {
+        Stats current = stats();
+        if (current.published() == 0) {
+            return;
+        }
+        published.reset();
+        delivered.reset();
+        failed.reset();
+        totalLatencyNanos.reset();
+        maxLatencyNanos.reset();
+        log.info("알림 팬아웃: 건수={} 전송={} 실패={} 대기열={} 평균={}ms 최대={}ms",
+                current.published(), current.delivered(), current.failed(), current.queueDepth(),
+                String.format("%.2f", current.avgLatencyMillis()), String.format("%.2f", current.maxLatencyMillis()));
+    }
+
+    /**
+     * 알림 목록에 남길 내용
+     */
+    public record Persisted(Notification.NotificationType type, String title, String message,
+                         String actionUrl, Long relatedId, String relatedType) {
+    }
+
+    /**
+     * 수신자 한 명에게 보낼 알림 (persisted 가 null 이면 실시간 전송만)
+     */
+    public record Notice(Long userId, Object payload, Persisted persisted) {
+    }
+
+    private record Row(Long userId, Persisted persisted) {
+    }
+
+    private record Delivery(Long userId, Message<byte[]> message) {
+    }
+
+    public record Stats(long published, long delivered, long failed, int queueDepth,
+                        double avgLatencyMillis, double maxLatencyMillis) {
+    }
+}
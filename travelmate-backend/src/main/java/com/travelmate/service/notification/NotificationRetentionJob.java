@@ -0,0 +1,144 @@
+package com.travelmate.service.notification;
+
+import com.travelmate.repository.NotificationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 알림 보존 기간 정리
+ * 오래된 알림을 ID 청크 단위로 짧은 트랜잭션에서 삭제하고 청크 사이에 쉬어,
+ * 한 번의 대량 DELETE 로 테이블 잠금/WAL 이 몰려 알림 저장이 밀리지 않게 한다.
+ */
+@Component
+@Slf4j
+public class NotificationRetentionJob {
+
+    private final NotificationRepository notificationRepository;
+    private final NotificationUnreadCounts unreadCounts;
+    private final TransactionTemplate transactionTemplate;
+    private final int retentionDays;
+    private final int chunkSize;
+    private final int maxChunksPerRun;
+    private final long pauseMillis;
+
+    // 실행은 한 번에 하나씩 (청크 사이 대기/DB 삭제 동안 잡고 있으므로 synchronized 대신 사용)
+    private final ReentrantLock purgeLock = new ReentrantLock();
+    private final LongAdder purgedTotal = new LongAdder();
+    private final LongAdder runs = new LongAdder();
+    private volatile RunStats lastRun;
+
+    public NotificationRetentionJob(NotificationRepository notificationRepository,
+                                    NotificationUnreadCounts unreadCounts,
+                                    PlatformTransactionManager transactionManager,
+                                    @Value("${app.notification.retention.days:90}") int retentionDays,
+                                    @Value("${app.notification.retention.chunk-size:1000}") int chunkSize,
+                                    @Value("${app.notification.retention.max-chunks-per-run:1000}") int maxChunksPerRun,
+                                    @Value("${app.notification.retention.pause-ms:50}") long pauseMillis) {
+        this.notificationRepository = notificationRepository;
+        this.unreadCounts = unreadCounts;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.retentionDays = retentionDays;
+        this.chunkSize = chunkSize;
+        this.maxChunksPerRun = maxChunksPerRun;
+        this.pauseMillis = pauseMillis;
+    }
+
+    @Scheduled(cron = "${app.notification.retention.cron:0 30 4 * * *}")
+    public void purgeExpired() {
+        purgeOlderThan(LocalDateTime.now().minusDays(retentionDays));
+    }
+
+    /**
+     * beforeDate 이전 알림 삭제 (한 번 실행에 최대 maxChunksPerRun 청크, 남은 분량은 다음 실행에서)
+     *
+     * @return 삭제 건수
+     */
+    public int purgeOlderThan(LocalDateTime beforeDate) {
+        purgeLock.lock();
+        try {
+            return purgeChunks(beforeDate);
+        } finally {
+            purgeLock.unlock();
+        }
+    }
+
+    private int purgeChunks(LocalDateTime beforeDate) {
+        long startedAt = System.nanoTime();
+        int purged = 0;
+        int chunks = 0;
+        try {
+            while (chunks < maxChunksPerRun && !Thread.currentThread().isInterrupted()) {
+                Integer deleted = transactionTemplate.execute(status -> purgeChunk(beforeDate));
+                if (deleted == null || deleted == 0) {
+                    break;
+                }
+                purged += deleted;
+                chunks++;
+                purgedTotal.add(deleted);
+                if (deleted < chunkSize) {
+                    break;
+                }
+                pause();
+            }
+        } catch (RuntimeException e) {
+            log.error("알림 정리 실패: {}건 삭제 후 중단", purged, e);
+        } finally {
+            runs.increment();
+            RunStats run = new RunStats(purged, chunks, (System.nanoTime() - startedAt) / 1_000_000);
+            lastRun = run;
+            if (purged > 0) {
+                log.info("알림 정리: {}건 ({}청크, {}ms, {}건/초)", purged, chunks, run.elapsedMillis(),
+                        String.format("%.0f", run.rowsPerSecond()));
+            }
+        }
+        return purged;
+    }
+
+    private int purgeChunk(LocalDateTime beforeDate) {
+        List<Long> ids = notificationRepository.findIdsCreatedBefore(beforeDate, PageRequest.of(0, chunkSize));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        // 읽지 않은 알림이 지워지는 사용자의 카운트는 다시 세도록
+        unreadCounts.evictAll(notificationRepository.findUnreadUserIdsByIds(ids));
+        return notificationRepository.deleteByIds(ids);
+    }
+
+    private void pause() {
+        if (pauseMillis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(pauseMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public Stats stats() {
+        return new Stats(runs.sum(), purgedTotal.sum(), lastRun);
+    }
+
+    /**
+     * @param elapsedMillis 실행 소요 시간
+     */
+    public record RunStats(int purged, int chunks, long elapsedMillis) {
+
+        public double rowsPerSecond() {
+            return purged * 1000.0 / Math.max(1, elapsedMillis);
+        }
+    }
+
+    public record Stats(long runs, long purgedTotal, RunStats lastRun) {
+    }
+}
@@ -0,0 +1,34 @@
+package com.travelmate.service.notification;
+
+import java.util.Collection;
+import java.util.function.LongSupplier;
+
+/**
+ * 사용자별 읽지 않은 알림 수 캐시
+ * 알림 배지 조회마다 COUNT 쿼리를 하지 않도록 센 값을 보관하고, 새 알림은 더하며 증감을 알 수 없는 변경(읽음/삭제)은 무효화한다.
+ * 변경은 호출 측 트랜잭션이 커밋된 뒤에 반영한다 (롤백되면 반영하지 않음).
+ * 브로커 모드에 따라 인메모리/Redis 구현체를 사용하거나 캐시 없이 DB 로 센다 (NotificationUnreadCountsConfig 참고)
+ */
+public interface NotificationUnreadCounts {
+
+    /**
+     * 캐시된 값, 없거나 만료됐으면 loader 로 센 값 (세는 동안 변경이 있었으면 캐시하지 않음)
+     */
+    long get(Long userId, LongSupplier loader);
+
+    /**
+     * 새 알림 추가
+     */
+    void added(Long userId);
+
+    void addedAll(Collection<Long> userIds);
+
+    /**
+     * 모두 읽음
+     */
+    void cleared(Long userId);
+
+    void evict(Long userId);
+
+    void evictAll(Collection<Long> userIds);
+}
@@ -0,0 +1,252 @@
+package com.travelmate.service.notification;
+
+import com.travelmate.entity.PushOutbox;
+import com.travelmate.repository.PushOutboxRepository;
+import com.travelmate.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 푸시 아웃박스 전송
+ * 스케줄러 스레드에서 전송 시점이 된 행을 묶어 가져와 같은 내용끼리 멀티캐스트로 보낸다.
+ * 가져온 행은 lease 동안 다른 실행에서 보이지 않게 미뤄 두므로, 전송 중 재시작되면 lease 가 끝난 뒤 다시 보낸다 (최소 1회 전송).
+ * - 일시적 실패: 지수 백오프(+지터)로 재시도, max-attempts 를 넘으면 DEAD
+ * - 무효 토큰: 행 삭제 + 사용자 토큰 제거
+ */
+@Component
+@Slf4j
+public class PushDispatcher {
+
+    private final PushOutboxRepository pushOutboxRepository;
+    private final UserRepository userRepository;
+    private final PushSender pushSender;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final int maxAttempts;
+    private final long leaseMillis;
+    private final long backoffBaseMillis;
+    private final long backoffMaxMillis;
+
+    private final LongAdder delivered = new LongAdder();
+    private final LongAdder retried = new LongAdder();
+    private final LongAdder invalidated = new LongAdder();
+    private final LongAdder dead = new LongAdder();
+
+    public PushDispatcher(PushOutboxRepository pushOutboxRepository,
+                          UserRepository userRepository,
+                          PushSender pushSender,
+                          PlatformTransactionManager transactionManager,
+                          @Value("${app.push.dispatch.batch-size:500}") int batchSize,
+                          @Value("${app.push.dispatch.max-batches-per-run:20}") int maxBatchesPerRun,
+                          @Value("${app.push.dispatch.max-attempts:8}") int maxAttempts,
+                          @Value("${app.push.dispatch.lease-ms:60000}") long leaseMillis,
+                          @Value("${app.push.dispatch.backoff-base-ms:5000}") long backoffBaseMillis,
+                          @Value("${app.push.dispatch.backoff-max-ms:3600000}") long backoffMaxMillis) {
+        this.pushOutboxRepository = pushOutboxRepository;
+        this.userRepository = userRepository;
+        this.pushSender = pushSender;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.maxAttempts = maxAttempts;
+        this.leaseMillis = leaseMillis;
+        this.backoffBaseMillis = backoffBaseMillis;
+        this.backoffMaxMillis = backoffMaxMillis;
+    }
+
+    @Scheduled(fixedDelayString = "${app.push.dispatch.interval-ms:1000}")
+    public void dispatchDue() {
+        try {
+            for (int i = 0; i < maxBatchesPerRun; i++) {
+                if (dispatchBatch(LocalDateTime.now()) < batchSize) {
+                    break;
+                }
+            }
+        } catch (RuntimeException e) {
+            log.error("푸시 아웃박스 처리 실패", e);
+        }
+    }
+
+    /**
+     * 한 묶음 전송
+     *
+     * @return 가져온 행 수
+     */
+    int dispatchBatch(LocalDateTime now) {
+        List<PushOutbox> claimed = transactionTemplate.execute(status -> claim(now));
+        if (claimed == null || claimed.isEmpty()) {
+            return 0;
+        }
+
+        List<Completed> completed = new ArrayList<>(claimed.size());
+        for (List<PushOutbox> group : groupByContent(claimed)) {
+            PushSender.PushMessage message = new PushSender.PushMessage(
+                    group.get(0).getTitle(), group.get(0).getBody(), group.get(0).getActionUrl());
+            List<String> tokens = group.stream().map(PushOutbox::getToken).toList();
+            List<PushSender.Outcome> outcomes;
+            String error = null;
+            try {
+                outcomes = pushSender.send(message, tokens);
+                if (outcomes.size() != tokens.size()) {
+                    throw new IllegalStateException("푸시 결과 수 불일치: " + outcomes.size() + "/" + tokens.size());
+                }
+            } catch (RuntimeException e) {
+                log.warn("푸시 멀티캐스트 실패: {}개 토큰, 재시도 예정", tokens.size(), e);
+                outcomes = Collections.nCopies(tokens.size(), PushSender.Outcome.RETRY);
+                error = e.getMessage();
+            }
+            for (int i = 0; i < group.size(); i++) {
+                completed.add(new Completed(group.get(i), outcomes.get(i), error));
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status -> complete(completed, now));
+        return claimed.size();
+    }
+
+    private List<PushOutbox> claim(LocalDateTime now) {
+        List<PushOutbox> due = pushOutboxRepository.findDueForUpdate(now, PageRequest.of(0, batchSize));
+        LocalDateTime leaseUntil = now.plus(leaseMillis, ChronoUnit.MILLIS);
+        for (PushOutbox entry : due) {
+            entry.setAttempts(entry.getAttempts() + 1);
+            entry.setNextAttemptAt(leaseUntil);
+        }
+        return due;
+    }
+
+    // 같은 제목/본문/링크끼리, 멀티캐스트 한도로 분할
+    private List<List<PushOutbox>> groupByContent(List<PushOutbox> entries) {
+        Map<PushSender.PushMessage, List<PushOutbox>> byContent = new LinkedHashMap<>();
+        for (PushOutbox entry : entries) {
+            byContent.computeIfAbsent(new PushSender.PushMessage(entry.getTitle(), entry.getBody(), entry.getActionUrl()),
+                    key -> new ArrayList<>()).add(entry);
+        }
+        int limit = Math.max(1, pushSender.maxBatchSize());
+        List<List<PushOutbox>> groups = new ArrayList<>();
+        for (List<PushOutbox> sameContent : byContent.values()) {
+            for (int from = 0; from < sameContent.size(); from += limit) {
+                groups.add(sameContent.subList(from, Math.min(from + limit, sameContent.size())));
+            }
+        }
+        return groups;
+    }
+
+    private void complete(List<Completed> completed, LocalDateTime now) {
+        List<Long> finished = new ArrayList<>();
+        List<String> invalidTokens = new ArrayList<>();
+        List<PushOutbox> updated = new ArrayList<>();
+        for (Completed result : completed) {
+            PushOutbox entry = result.entry();
+            switch (result.outcome()) {
+                case DELIVERED -> {
+                    finished.add(entry.getId());
+                    delivered.increment();
+                }
+                case INVALID_TOKEN -> {
+                    finished.add(entry.getId());
+                    invalidTokens.add(entry.getToken());
+                    userRepository.clearFcmToken(entry.getUserId(), entry.getToken());
+                    invalidated.increment();
+                }
+                case RETRY -> {
+                    if (entry.getAttempts() >= maxAttempts) {
+                        markDead(entry, result.error() != null ? result.error() : "재시도 한도 초과");
+                    } else {
+                        entry.setNextAttemptAt(now.plus(backoffMillis(entry.getAttempts()), ChronoUnit.MILLIS));
+                        entry.setLastError(truncate(result.error()));
+                        retried.increment();
+                    }
+                    updated.add(entry);
+                }
+                case REJECTED -> {
+                    markDead(entry, "전송 거부");
+                    updated.add(entry);
+                }
+            }
+        }
+        // 갱신을 먼저 반영해야 무효 토큰 정리에서 지운 행이 다시 저장되지 않음
+        if (!updated.isEmpty()) {
+            pushOutboxRepository.saveAll(updated);
+        }
+        if (!finished.isEmpty()) {
+            pushOutboxRepository.deleteByIds(finished);
+        }
+        if (!invalidTokens.isEmpty()) {
+            pushOutboxRepository.deletePendingByTokens(invalidTokens);
+        }
+    }
+
+    private void markDead(PushOutbox entry, String error) {
+        entry.setStatus(PushOutbox.Status.DEAD);
+        entry.setLastError(truncate(error));
+        dead.increment();
+    }
+
+    /**
+     * attempts 번째 실패 후 대기 시간: base * 2^(attempts-1) 을 max 로 자르고 절반~전체 사이로 흩뜨림
+     */
+    long backoffMillis(int attempts) {
+        long exponential = backoffBaseMillis << Math.min(Math.max(attempts - 1, 0), 30);
+        long capped = Math.min(backoffMaxMillis, exponential < 0 ? backoffMaxMillis : exponential);
+        return capped / 2 + ThreadLocalRandom.current().nextLong(capped / 2 + 1);
+    }
+
+    /**
+     * 재시도 한도를 넘긴 푸시 정리 (7일 보관)
+     */
+    @Scheduled(cron = "${app.push.dispatch.dead-purge-cron:0 40 4 * * *}")
+    public void purgeDead() {
+        Integer purged = transactionTemplate.execute(status ->
+                pushOutboxRepository.deleteDeadBefore(LocalDateTime.now().minusDays(7)));
+        if (purged != null && purged > 0) {
+            log.info("전송 실패 푸시 정리: {}건", purged);
+        }
+    }
+
+    public Stats stats() {
+        return new Stats(delivered.sum(), retried.sum(), invalidated.sum(), dead.sum());
+    }
+
+    /**
+     * 직전 주기 동안의 푸시 지표 로그 후 초기화
+     */
+    @Scheduled(fixedDelayString = "${app.push.dispatch.stats-log-interval-ms:300000}")
+    public void logAndReset() {
+        Stats current = stats();
+        if (current.delivered() + current.retried() + current.invalidated() + current.dead() == 0) {
+            return;
+        }
+        delivered.reset();
+        retried.reset();
+        invalidated.reset();
+        dead.reset();
+        log.info("푸시 전송: 성공={} 재시도={} 토큰무효={} 실패={}",
+                current.delivered(), current.retried(), current.invalidated(), current.dead());
+    }
+
+    private static String truncate(String error) {
+        return error == null || error.length() <= 500 ? error : error.substring(0, 500);
+    }
+
+    private record Completed(PushOutbox entry, PushSender.Outcome outcome, String error) {
+    }
+
+    public record Stats(long delivered, long retried, long invalidated, long dead) {
+    }
+}
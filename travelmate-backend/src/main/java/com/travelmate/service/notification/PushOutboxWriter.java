@@ -0,0 +1,116 @@
+package com.travelmate.service.notification;
+
+import com.travelmate.repository.UserRepository;
+import com.travelmate.service.messaging.UserPresenceRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 푸시 아웃박스 기록
+ * 호출 측 트랜잭션에 참여해 알림과 함께 커밋되며, 실제 전송은 PushDispatcher 가 요청 경로 밖에서 한다.
+ * 호출 측이 읽기 전용 트랜잭션이면 INSERT 가 거부되므로 예약만 별도 트랜잭션으로 커밋한다.
+ */
+@Service
+@Slf4j
+public class PushOutboxWriter {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final UserRepository userRepository;
+    private final UserPresenceRegistry userPresenceRegistry;
+    private final TransactionTemplate separateTransactionTemplate;
+    private final String insertSql;
+
+    public PushOutboxWriter(JdbcTemplate jdbcTemplate,
+                            UserRepository userRepository,
+                            UserPresenceRegistry userPresenceRegistry,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${spring.jpa.properties.hibernate.default_schema:}") String schema) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.userRepository = userRepository;
+        this.userPresenceRegistry = userPresenceRegistry;
+        this.separateTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.separateTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        String table = schema == null || schema.isBlank() ? "push_outbox" : schema + ".push_outbox";
+        this.insertSql = "INSERT INTO " + table +
+                " (user_id, token, title, body, action_url, notification_id, status, attempts, next_attempt_at, created_at)" +
+                " VALUES (?, ?, ?, ?, ?, ?, 'PENDING', 0, ?, ?)";
+    }
+
+    /**
+     * 토큰을 아는 사용자 한 명에게 푸시 예약
+     */
+    public void enqueue(long userId, String token, PushSender.PushMessage message, Long notificationId) {
+        insert(List.of(new Target(userId, token)), message, notificationId);
+    }
+
+    /**
+     * 접속 중이 아니고 토큰이 등록된 사용자에게만 같은 푸시 예약
+     *
+     * @return 예약 건수
+     */
+    public int enqueueOffline(Collection<Long> userIds, PushSender.PushMessage message) {
+        List<Long> offline = new ArrayList<>(userIds);
+        offline.removeAll(userPresenceRegistry.onlineUsers(userIds));
+        if (offline.isEmpty()) {
+            return 0;
+        }
+        List<Target> targets = new ArrayList<>();
+        for (Object[] row : userRepository.findFcmTokensByIds(offline)) {
+            targets.add(new Target((Long) row[0], (String) row[1]));
+        }
+        insert(targets, message, null);
+        return targets.size();
+    }
+
+    private void insert(List<Target> targets, PushSender.PushMessage message, Long notificationId) {
+        if (targets.isEmpty()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            separateTransactionTemplate.executeWithoutResult(status -> batchInsert(targets, message, notificationId));
+        } else {
+            batchInsert(targets, message, notificationId);
+        }
+        log.debug("푸시 예약: {}건", targets.size());
+    }
+
+    private void batchInsert(List<Target> targets, PushSender.PushMessage message, Long notificationId) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        String title = truncate(message.title(), 200);
+        String body = truncate(message.body(), 500);
+        jdbcTemplate.batchUpdate(insertSql, targets, targets.size(), (ps, target) -> {
+            ps.setLong(1, target.userId());
+            ps.setString(2, target.token());
+            ps.setString(3, title);
+            ps.setString(4, body);
+            ps.setString(5, message.actionUrl());
+            if (notificationId != null) {
+                ps.setLong(6, notificationId);
+            } else {
+                ps.setNull(6, Types.BIGINT);
+            }
+            ps.setTimestamp(7, now);
+            ps.setTimestamp(8, now);
+        });
+    }
+
+    private static String truncate(String value, int maxLength) {
+        return value == null || value.length() <= maxLength ? value : value.substring(0, maxLength);
+    }
+
+    private record Target(long userId, String token) {
+    }
+}
@@ -0,0 +1,34 @@
+package com.travelmate.service.notification;
+
+import java.util.List;
+
+/**
+ * 푸시 전송 게이트웨이
+ * 같은 내용을 여러 토큰에 한 번에 보내고 토큰별 결과를 돌려준다.
+ * 요청 전체가 실패(연결 오류, 5xx/429 등)하면 예외를 던지고, 호출 측은 전부 재시도 대상으로 본다.
+ */
+public interface PushSender {
+
+    /**
+     * 한 번에 보낼 수 있는 최대 토큰 수
+     */
+    int maxBatchSize();
+
+    /**
+     * @return tokens 와 같은 순서의 결과
+     */
+    List<Outcome> send(PushMessage message, List<String> tokens);
+
+    record PushMessage(String title, String body, String actionUrl) {
+    }
+
+    enum Outcome {
+        DELIVERED,
+        // 일시적 실패 (재시도)
+        RETRY,
+        // 토큰 만료/미등록 (토큰 제거)
+        INVALID_TOKEN,
+        // 재시도해도 실패할 요청
+        REJECTED
+    }
+}
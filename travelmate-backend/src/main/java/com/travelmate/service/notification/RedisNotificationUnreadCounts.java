@@ -0,0 +1,124 @@
+package com.travelmate.service.notification;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.LongSupplier;
+
+/**
+ * Redis 해시 읽지 않은 알림 수 캐시 (여러 인스턴스가 공유)
+ * 사용자마다 센 값과 변경 버전을 한 해시에 두고, 변경은 Lua 스크립트로 버전을 올리며 원자적으로 반영한다.
+ * 센 값은 세기 전에 읽은 버전이 그대로일 때만 저장하고, TTL 이 지나면 키가 만료돼 다시 센다.
+ */
+public class RedisNotificationUnreadCounts implements NotificationUnreadCounts {
+
+    private static final String KEY_PREFIX = "notification:unread:";
+    private static final String COUNT = "count";
+    private static final String VERSION = "version";
+
+    // ARGV[1]: add | clear | evict, ARGV[2]: TTL(ms)
+    private static final RedisScript<Long> MUTATE = new DefaultRedisScript<>("""
+            for _, key in ipairs(KEYS) do
+              if ARGV[1] == 'add' then
+                if redis.call('HEXISTS', key, 'count') == 1 then
+                  redis.call('HINCRBY', key, 'count', 1)
+                end
+              elseif ARGV[1] == 'clear' then
+                redis.call('HSET', key, 'count', 0)
+              else
+                redis.call('HDEL', key, 'count')
+              end
+              redis.call('HINCRBY', key, 'version', 1)
+              if redis.call('PTTL', key) < 0 then
+                redis.call('PEXPIRE', key, ARGV[2])
+              end
+            end
+            return 1
+            """, Long.class);
+
+    private static final RedisScript<Long> STORE = new DefaultRedisScript<>("""
+            if (redis.call('HGET', KEYS[1], 'version') or '') ~= ARGV[1] then
+              return 0
+            end
+            redis.call('HSET', KEYS[1], 'count', ARGV[2])
+            redis.call('PEXPIRE', KEYS[1], ARGV[3])
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final String ttlMillis;
+
+    public RedisNotificationUnreadCounts(StringRedisTemplate redisTemplate, Duration ttl) {
+        this.redisTemplate = redisTemplate;
+        this.ttlMillis = Long.toString(ttl.toMillis());
+    }
+
+    @Override
+    public long get(Long userId, LongSupplier loader) {
+        String key = key(userId);
+        List<Object> values = redisTemplate.opsForHash().multiGet(key, List.of(COUNT, VERSION));
+        if (values.get(0) != null) {
+            return Long.parseLong(values.get(0).toString());
+        }
+        String version = values.get(1) != null ? values.get(1).toString() : "";
+        long loaded = loader.getAsLong();
+        redisTemplate.execute(STORE, List.of(key), version, Long.toString(loaded), ttlMillis);
+        return loaded;
+    }
+
+    @Override
+    public void added(Long userId) {
+        addedAll(List.of(userId));
+    }
+
+    @Override
+    public void addedAll(Collection<Long> userIds) {
+        mutate(userIds, "add");
+    }
+
+    @Override
+    public void cleared(Long userId) {
+        mutate(List.of(userId), "clear");
+    }
+
+    @Override
+    public void evict(Long userId) {
+        evictAll(List.of(userId));
+    }
+
+    @Override
+    public void evictAll(Collection<Long> userIds) {
+        mutate(userIds, "evict");
+    }
+
+    private void mutate(Collection<Long> userIds, String operation) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        List<String> keys = userIds.stream().distinct().map(RedisNotificationUnreadCounts::key).toList();
+        afterCommit(() -> redisTemplate.execute(MUTATE, keys, operation, ttlMillis));
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static String key(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+}
@@ -0,0 +1,36 @@
+package com.travelmate.service.notification;
+
+import java.util.Collection;
+import java.util.function.LongSupplier;
+
+/**
+ * 캐시 없음 (simple 이 아닌 브로커에서 Redis 를 쓰지 않을 때)
+ * 인스턴스마다 보는 변경이 달라 메모리 캐시는 틀리므로, 항상 DB 로 센다.
+ */
+public class UncachedNotificationUnreadCounts implements NotificationUnreadCounts {
+
+    @Override
+    public long get(Long userId, LongSupplier loader) {
+        return loader.getAsLong();
+    }
+
+    @Override
+    public void added(Long userId) {
+    }
+
+    @Override
+    public void addedAll(Collection<Long> userIds) {
+    }
+
+    @Override
+    public void cleared(Long userId) {
+    }
+
+    @Override
+    public void evict(Long userId) {
+    }
+
+    @Override
+    public void evictAll(Collection<Long> userIds) {
+    }
+}
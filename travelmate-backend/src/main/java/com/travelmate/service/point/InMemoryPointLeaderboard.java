@@ -0,0 +1,152 @@
+package com.travelmate.service.point;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * 인메모리 포인트 순위표 (단일 인스턴스용)
+ * 전체/시즌 점수를 각각 RankedScores 에 두고 읽기-쓰기 잠금으로 보호한다.
+ */
+public class InMemoryPointLeaderboard implements PointLeaderboard {
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private RankedScores total = new RankedScores();
+    private RankedScores season = new RankedScores();
+    // 재구성 중 들어온 갱신 (사용자 ID -> 최신 점수)
+    private volatile Map<Long, Score> rebuilding;
+    private final AtomicLong modifications = new AtomicLong();
+    private final AtomicLong rankVersion = new AtomicLong();
+    private volatile boolean ready = false;
+
+    @Override
+    public boolean isReady() {
+        return ready;
+    }
+
+    @Override
+    public void update(long userId, long totalPoints, long seasonPoints) {
+        lock.writeLock().lock();
+        try {
+            total.put(userId, totalPoints);
+            season.put(userId, seasonPoints);
+            modifications.incrementAndGet();
+            Map<Long, Score> pending = rebuilding;
+            if (pending != null) {
+                pending.put(userId, new Score(userId, totalPoints, seasonPoints));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public int rank(Board board, long userId) {
+        lock.readLock().lock();
+        try {
+            RankedScores scores = scores(board);
+            Integer rank = scores.rankOf(userId);
+            return rank != null ? rank : scores.rankOfScore(0L);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<RankedScores.Entry> top(Board board, int limit) {
+        lock.readLock().lock();
+        try {
+            return scores(board).top(limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 읽기 잠금은 복사하는 동안만 잡음 (순회 중 update 를 막지 않음)
+    @Override
+    public void forEachRanked(Board board, Consumer<RankedScores.Entry> action) {
+        RankedScores.Ranking ranking;
+        lock.readLock().lock();
+        try {
+            ranking = scores(board).copy();
+        } finally {
+            lock.readLock().unlock();
+        }
+        ranking.forEach(action);
+    }
+
+    // 단일 인스턴스이므로 항상 실행
+    @Override
+    public boolean runExclusively(Runnable task) {
+        task.run();
+        return true;
+    }
+
+    @Override
+    public long publishedRankVersion() {
+        return rankVersion.get();
+    }
+
+    @Override
+    public long publishRankVersion() {
+        return rankVersion.incrementAndGet();
+    }
+
+    @Override
+    public long modificationCount() {
+        return modifications.get();
+    }
+
+    @Override
+    public void resetSeason() {
+        lock.writeLock().lock();
+        try {
+            season = new RankedScores();
+            Map<Long, Score> pending = rebuilding;
+            if (pending != null) {
+                pending.replaceAll((userId, score) -> new Score(userId, score.totalPoints(), 0L));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean rebuild(Supplier<List<Score>> snapshot) {
+        Map<Long, Score> pending = new ConcurrentHashMap<>();
+        rebuilding = pending;
+        try {
+            RankedScores rebuiltTotal = new RankedScores();
+            RankedScores rebuiltSeason = new RankedScores();
+            for (Score score : snapshot.get()) {
+                rebuiltTotal.put(score.userId(), score.totalPoints());
+                rebuiltSeason.put(score.userId(), score.seasonPoints());
+            }
+            lock.writeLock().lock();
+            try {
+                for (Score score : pending.values()) {
+                    rebuiltTotal.put(score.userId(), score.totalPoints());
+                    rebuiltSeason.put(score.userId(), score.seasonPoints());
+                }
+                total = rebuiltTotal;
+                season = rebuiltSeason;
+                modifications.incrementAndGet();
+                ready = true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            return true;
+        } finally {
+            rebuilding = null;
+        }
+    }
+
+    private RankedScores scores(Board board) {
+        return board == Board.TOTAL ? total : season;
+    }
+}
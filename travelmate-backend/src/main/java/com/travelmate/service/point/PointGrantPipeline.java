@@ -0,0 +1,334 @@
+package com.travelmate.service.point;
+
+import com.travelmate.entity.nft.PointSource;
+import com.travelmate.repository.UserRepository;
+import com.travelmate.repository.nft.PointTransactionRepository;
+import com.travelmate.repository.nft.UserPointRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+
+/**
+ * 포인트 대량 지급 (이벤트/시즌 보상 등)
+ * 지급 건을 청크로 나눠 청크마다 한 트랜잭션에서 처리한다.
+ * 청크 사용자의 포인트 행을 사용자 ID 순으로 잠근 뒤(없는 행은 먼저 INSERT) 참조 키 집합 조회 한 번으로 중복을 거르고,
+ * 잔액은 사용자별 합계를 증분 UPDATE, 거래 내역은 JDBC 배치 INSERT 로 기록한다.
+ * 청크가 대부분의 스트라이프를 덮어 전역 잠금이 되므로 PointLedger 의 스트라이프는 잡지 않는다.
+ * 대신 DB 행 잠금이 다른 대량 지급과 직렬화하고, 올린 version 이 개별 지급(JPA)의 충돌 감지로 이어진다.
+ */
+@Service
+@Slf4j
+public class PointGrantPipeline {
+
+    private final PointLedger pointLedger;
+    private final PointLeaderboard pointLeaderboard;
+    private final UserRepository userRepository;
+    private final UserPointRepository userPointRepository;
+    private final PointTransactionRepository pointTransactionRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final int chunkSize;
+    private final int logEveryChunks;
+    private final String prefix;
+    private final String incrementSql;
+    private final String insertPointSql;
+    private final String insertTransactionSql;
+
+    public PointGrantPipeline(PointLedger pointLedger,
+                              PointLeaderboard pointLeaderboard,
+                              UserRepository userRepository,
+                              UserPointRepository userPointRepository,
+                              PointTransactionRepository pointTransactionRepository,
+                              JdbcTemplate jdbcTemplate,
+                              @Value("${spring.jpa.properties.hibernate.default_schema:}") String schema,
+                              @Value("${app.point.grant.chunk-size:500}") int chunkSize,
+                              @Value("${app.point.grant.log-every-chunks:20}") int logEveryChunks) {
+        this.pointLedger = pointLedger;
+        this.pointLeaderboard = pointLeaderboard;
+        this.userRepository = userRepository;
+        this.userPointRepository = userPointRepository;
+        this.pointTransactionRepository = pointTransactionRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.chunkSize = chunkSize;
+        this.logEveryChunks = logEveryChunks;
+        this.prefix = schema == null || schema.isBlank() ? "" : schema + ".";
+        // 다른 인스턴스의 JPA 변경이 충돌을 감지하도록 version 도 올림
+        this.incrementSql = "UPDATE " + prefix + "user_points" +
+                " SET total_points = total_points + ?, lifetime_earned = lifetime_earned + ?," +
+                " season_points = season_points + ?, version = version + 1, updated_at = ? WHERE user_id = ?";
+        this.insertPointSql = "INSERT INTO " + prefix + "user_points" +
+                " (user_id, total_points, lifetime_earned, lifetime_spent, season_points, version, updated_at)" +
+                " VALUES (?, 0, 0, 0, 0, 0, ?)";
+        this.insertTransactionSql = "INSERT INTO " + prefix + "point_transactions" +
+                " (user_id, type, amount, balance_after, source, reference_id, reference_type, description, created_at)" +
+                " VALUES (?, 'EARN', ?, ?, ?, ?, ?, ?, ?)";
+    }
+
+    public Result grant(List<Grant> grants) {
+        return grant(grants, progress -> { });
+    }
+
+    /**
+     * 대량 지급 (트랜잭션 밖에서 호출, 청크마다 커밋)
+     * 이미 지급된 참조 키와 입력 안의 중복 참조 키는 건너뛰고, 없는 사용자와 0 이하 금액은 제외한다.
+     *
+     * @param listener 청크마다 진행 상황 전달
+     */
+    public Result grant(List<Grant> grants, Consumer<Progress> listener) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("포인트 대량 지급은 트랜잭션 밖에서 호출해야 합니다");
+        }
+        long startedAt = System.currentTimeMillis();
+
+        // 입력 안의 중복 참조 키와 잘못된 금액 제거
+        List<Grant> accepted = new ArrayList<>(grants.size());
+        Set<ReferenceKey> seen = new HashSet<>();
+        int invalid = 0;
+        int duplicates = 0;
+        for (Grant grant : grants) {
+            if (grant.amount() <= 0) {
+                invalid++;
+            } else if (grant.hasReference() && !seen.add(grant.referenceKey())) {
+                duplicates++;
+            } else {
+                accepted.add(grant);
+            }
+        }
+
+        int processed = 0;
+        int granted = 0;
+        int unknownUsers = 0;
+        int failed = 0;
+        long points = 0;
+        int chunks = 0;
+        for (int from = 0; from < accepted.size(); from += chunkSize) {
+            List<Grant> chunk = accepted.subList(from, Math.min(from + chunkSize, accepted.size()));
+            try {
+                // 잠글 사용자 없이 실행 (충돌 시 재시도만 사용)
+                ChunkResult result = pointLedger.execute(() -> grantChunk(chunk));
+                granted += result.granted();
+                duplicates += result.duplicates();
+                unknownUsers += result.unknownUsers();
+                points += result.points();
+            } catch (RuntimeException e) {
+                failed += chunk.size();
+                log.error("포인트 대량 지급 청크 실패: {}건 건너뜀 ({}번째부터)", chunk.size(), from, e);
+            }
+            processed += chunk.size();
+            chunks++;
+
+            Progress progress = new Progress(processed, accepted.size(), granted, duplicates, failed,
+                    System.currentTimeMillis() - startedAt);
+            listener.accept(progress);
+            if (chunks % logEveryChunks == 0) {
+                log.info("포인트 대량 지급 진행: {}/{}건, 지급 {}건, {}건/초", processed, accepted.size(), granted,
+                        String.format("%.0f", progress.grantsPerSecond()));
+            }
+        }
+
+        Result result = new Result(grants.size(), granted, duplicates, unknownUsers, invalid, failed, points,
+                System.currentTimeMillis() - startedAt);
+        log.info("포인트 대량 지급 완료: 요청 {}건, 지급 {}건 ({}P), 중복 {}건, 사용자 없음 {}건, 실패 {}건, {}ms ({}건/초)",
+                result.requested(), result.granted(), result.points(), result.duplicates(), result.unknownUsers(),
+                result.failed(), result.elapsedMillis(), String.format("%.0f", result.grantsPerSecond()));
+        return result;
+    }
+
+    private ChunkResult grantChunk(List<Grant> chunk) {
+        Set<Long> userIds = new HashSet<>();
+        for (Grant grant : chunk) {
+            userIds.add(grant.userId());
+        }
+        Set<Long> existingUsers = new TreeSet<>(userRepository.findExistingIds(userIds));
+        if (existingUsers.isEmpty()) {
+            return new ChunkResult(0, 0, chunk.size(), 0);
+        }
+
+        // 중복 확인 전에 행을 잠가야 동시에 같은 참조 키를 지급하는 쪽이 커밋한 기록을 보게 됨
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        lockPointRows(existingUsers, now);
+        Set<ReferenceKey> alreadyGranted = findGrantedReferences(chunk);
+
+        List<Grant> toGrant = new ArrayList<>(chunk.size());
+        int unknownUsers = 0;
+        int duplicates = 0;
+        for (Grant grant : chunk) {
+            if (!existingUsers.contains(grant.userId())) {
+                unknownUsers++;
+            } else if (grant.hasReference() && alreadyGranted.contains(grant.referenceKey())) {
+                duplicates++;
+            } else {
+                toGrant.add(grant);
+            }
+        }
+        if (toGrant.isEmpty()) {
+            return new ChunkResult(0, duplicates, unknownUsers, 0);
+        }
+
+        // 사용자별 합계로 잔액 증분
+        Map<Long, Long> totals = new TreeMap<>();
+        long points = 0;
+        for (Grant grant : toGrant) {
+            totals.merge(grant.userId(), grant.amount(), Long::sum);
+            points += grant.amount();
+        }
+        List<Map.Entry<Long, Long>> increments = new ArrayList<>(totals.entrySet());
+        jdbcTemplate.batchUpdate(incrementSql, increments, increments.size(), (ps, entry) -> {
+            ps.setLong(1, entry.getValue());
+            ps.setLong(2, entry.getValue());
+            ps.setLong(3, entry.getValue());
+            ps.setTimestamp(4, now);
+            ps.setLong(5, entry.getKey());
+        });
+
+        // 거래 내역의 balanceAfter: 갱신 직후 DB 잔액 (행 잠금 중이라 다른 변경이 끼어들 수 없음)에서
+        // 이번 합계를 뺀 값부터 입력 순서대로 누적
+        Map<Long, long[]> scores = new HashMap<>();
+        for (Object[] row : userPointRepository.findScoresByUserIds(totals.keySet())) {
+            scores.put((Long) row[0], new long[]{(Long) row[1], (Long) row[2]});
+        }
+        Map<Long, Long> running = new HashMap<>();
+        totals.forEach((userId, total) -> running.put(userId, scores.get(userId)[0] - total));
+        List<Long> balances = new ArrayList<>(toGrant.size());
+        for (Grant grant : toGrant) {
+            balances.add(running.merge(grant.userId(), grant.amount(), Long::sum));
+        }
+        jdbcTemplate.batchUpdate(insertTransactionSql, indexes(toGrant.size()), toGrant.size(), (ps, i) -> {
+            Grant grant = toGrant.get(i);
+            ps.setLong(1, grant.userId());
+            ps.setLong(2, grant.amount());
+            ps.setLong(3, balances.get(i));
+            ps.setString(4, grant.source().name());
+            if (grant.referenceId() != null) {
+                ps.setLong(5, grant.referenceId());
+            } else {
+                ps.setNull(5, Types.BIGINT);
+            }
+            ps.setString(6, grant.referenceType());
+            ps.setString(7, grant.description());
+            ps.setTimestamp(8, now);
+        });
+
+        publishScores(scores);
+        return new ChunkResult(toGrant.size(), duplicates, unknownUsers, points);
+    }
+
+    /**
+     * 사용자들의 포인트 행을 사용자 ID 순으로 잠금 (동시에 도는 대량 지급끼리 잠금 순서가 엇갈리지 않음)
+     * 행이 없는 사용자는 0 포인트 행을 INSERT 해 잠근 것으로 친다.
+     * 다른 트랜잭션이 같은 행을 먼저 만들면 유니크 위반으로 실패하고 PointLedger 가 청크를 다시 시도한다.
+     */
+    private void lockPointRows(Set<Long> userIds, Timestamp now) {
+        String placeholders = String.join(", ", Collections.nCopies(userIds.size(), "?"));
+        List<Long> locked = jdbcTemplate.queryForList(
+                "SELECT user_id FROM " + prefix + "user_points WHERE user_id IN (" + placeholders + ")" +
+                        " ORDER BY user_id FOR UPDATE", Long.class, userIds.toArray());
+        List<Long> missing = new ArrayList<>(userIds);
+        missing.removeAll(new HashSet<>(locked));
+        if (!missing.isEmpty()) {
+            jdbcTemplate.batchUpdate(insertPointSql, missing, missing.size(), (ps, userId) -> {
+                ps.setLong(1, userId);
+                ps.setTimestamp(2, now);
+            });
+        }
+    }
+
+    // 참조 키가 있는 지급 건 중 이미 기록된 것
+    private Set<ReferenceKey> findGrantedReferences(List<Grant> chunk) {
+        Set<Long> userIds = new HashSet<>();
+        Set<Long> referenceIds = new HashSet<>();
+        Set<String> referenceTypes = new HashSet<>();
+        for (Grant grant : chunk) {
+            if (grant.hasReference()) {
+                userIds.add(grant.userId());
+                referenceIds.add(grant.referenceId());
+                referenceTypes.add(grant.referenceType());
+            }
+        }
+        Set<ReferenceKey> granted = new HashSet<>();
+        if (userIds.isEmpty()) {
+            return granted;
+        }
+        for (Object[] row : pointTransactionRepository.findReferenceKeys(userIds, referenceIds, referenceTypes)) {
+            granted.add(new ReferenceKey((Long) row[0], (Long) row[1], (String) row[2]));
+        }
+        return granted;
+    }
+
+    // 커밋된 점수만 순위표에 반영 (이미 커밋된 청크이므로 순위표 장애는 로그만 남기고 주기적 재구성에 맡김)
+    private void publishScores(Map<Long, long[]> scores) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    scores.forEach((userId, score) -> pointLeaderboard.update(userId, score[0], score[1]));
+                } catch (RuntimeException e) {
+                    log.warn("포인트 순위표 갱신 실패: {}명", scores.size(), e);
+                }
+            }
+        });
+    }
+
+    private static List<Integer> indexes(int size) {
+        List<Integer> indexes = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            indexes.add(i);
+        }
+        return indexes;
+    }
+
+    /**
+     * 지급 한 건 (referenceId/referenceType 이 있으면 같은 키로 한 번만 지급)
+     */
+    public record Grant(long userId, long amount, PointSource source, Long referenceId, String referenceType,
+                        String description) {
+
+        boolean hasReference() {
+            return referenceId != null && referenceType != null;
+        }
+
+        ReferenceKey referenceKey() {
+            return new ReferenceKey(userId, referenceId, referenceType);
+        }
+    }
+
+    record ReferenceKey(long userId, long referenceId, String referenceType) {
+    }
+
+    private record ChunkResult(int granted, int duplicates, int unknownUsers, long points) {
+    }
+
+    /**
+     * @param processed 처리한 건수 (입력 중복/잘못된 금액 제외)
+     */
+    public record Progress(int processed, int total, int granted, int duplicates, int failed, long elapsedMillis) {
+
+        public double grantsPerSecond() {
+            return granted * 1000.0 / Math.max(1, elapsedMillis);
+        }
+    }
+
+    public record Result(int requested, int granted, int duplicates, int unknownUsers, int invalid, int failed,
+                         long points, long elapsedMillis) {
+
+        public double grantsPerSecond() {
+            return granted * 1000.0 / Math.max(1, elapsedMillis);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.travelmate.service.point;
+
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * 포인트 순위표 (전체 누적/시즌)
+ * 포인트 변경 시 커밋 후 점수를 갱신하고, 순위와 상위 K 를 DB 집계 없이 조회한다.
+ * Redis 또는 인메모리 구현체를 사용할 수 있음 (PointLeaderboardConfig 참고)
+ */
+public interface PointLeaderboard {
+
+    // 적재 전에는 호출 측이 DB 로 조회
+    boolean isReady();
+
+    void update(long userId, long totalPoints, long seasonPoints);
+
+    /**
+     * 사용자 순위 (동점은 같은 순위, 기록이 없으면 0점 기준)
+     */
+    int rank(Board board, long userId);
+
+    List<RankedScores.Entry> top(Board board, int limit);
+
+    /**
+     * 전체를 순위 순으로 순회 (순위 기록 작업용)
+     * 호출 시점의 일관된 복사본을 순회하므로 순회 중 갱신을 막지 않고, 갱신이 있어도 누락/중복이 없다.
+     */
+    void forEachRanked(Board board, Consumer<RankedScores.Entry> action);
+
+    /**
+     * 순위 기록 작업 실행 (여러 인스턴스가 공유하는 순위표면 한 인스턴스만 실행)
+     *
+     * @return 다른 인스턴스가 실행 중이라 건너뛰면 false
+     */
+    boolean runExclusively(Runnable task);
+
+    /**
+     * 마지막으로 기록을 마친 순위 버전 (공유 순위표면 인스턴스 간 공통)
+     */
+    long publishedRankVersion();
+
+    /**
+     * 순위 기록을 마쳤음을 알리고 새 버전 반환
+     */
+    long publishRankVersion();
+
+    /**
+     * 점수 변경 횟수 (마지막 확인 이후 변경이 없으면 순위 기록을 건너뜀, 알 수 없으면 -1)
+     */
+    long modificationCount();
+
+    void resetSeason();
+
+    /**
+     * DB 스냅샷으로 전체 재구성
+     * 스냅샷을 읽기 전부터 들어온 갱신을 따로 기록했다가 결과에 다시 반영한다.
+     * 다른 인스턴스가 재구성 중이라 건너뛰면 false
+     */
+    boolean rebuild(Supplier<List<Score>> snapshot);
+
+    record Score(long userId, long totalPoints, long seasonPoints) {
+    }
+
+    enum Board {
+        TOTAL,
+        SEASON
+    }
+}
@@ -0,0 +1,52 @@
+package com.travelmate.service.point;
+
+import com.travelmate.repository.nft.UserPointRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 포인트 순위표 적재
+ * 시작 시 DB 점수로 순위표를 채우고, 주기적으로 다시 만들어 누락된 갱신(롤백, 직접 수정 등)을 바로잡는다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PointLeaderboardLoader {
+
+    private final UserPointRepository userPointRepository;
+    private final PointLeaderboard pointLeaderboard;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        reload();
+    }
+
+    @Scheduled(fixedDelayString = "${app.point.leaderboard.reconcile-interval-ms:3600000}",
+               initialDelayString = "${app.point.leaderboard.reconcile-interval-ms:3600000}")
+    public void reload() {
+        long startedAt = System.currentTimeMillis();
+        try {
+            List<PointLeaderboard.Score> loaded = new ArrayList<>();
+            boolean rebuilt = pointLeaderboard.rebuild(() -> {
+                for (Object[] row : userPointRepository.findScoreSnapshot()) {
+                    loaded.add(new PointLeaderboard.Score((Long) row[0], (Long) row[1], (Long) row[2]));
+                }
+                return loaded;
+            });
+            if (!rebuilt) {
+                log.info("포인트 순위표 적재: 다른 인스턴스가 진행 중이라 건너뜀");
+                return;
+            }
+            log.info("포인트 순위표 적재: {}명, {}ms", loaded.size(), System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            log.error("포인트 순위표 적재 실패", e);
+        }
+    }
+}
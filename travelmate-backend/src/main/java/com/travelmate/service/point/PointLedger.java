@@ -0,0 +1,134 @@
+package com.travelmate.service.point;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 포인트 원장 변경 직렬화
+ * 같은 사용자의 변경은 사용자별 스트라이프 잠금으로 한 줄로 세우고 잠금은 트랜잭션이 끝날 때 푼다.
+ * 여러 사용자를 함께 바꿀 때는 스트라이프 번호 오름차순으로 잠가 교착을 막는다.
+ * 다른 인스턴스와의 충돌은 UserPoint 의 @Version 으로 감지해, 트랜잭션을 직접 시작한 경우 다시 시도한다.
+ * 포인트 행을 동시에 처음 만들다 난 유니크 위반과 DB 잠금 실패(대기 초과, 교착)도 같은 방식으로 다시 시도한다.
+ */
+@Component
+@Slf4j
+public class PointLedger {
+
+    private final TransactionTemplate transactionTemplate;
+    private final ReentrantLock[] stripes;
+    private final long lockTimeoutMillis;
+    private final int maxAttempts;
+
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder lockTimeouts = new LongAdder();
+
+    public PointLedger(PlatformTransactionManager transactionManager,
+                       @Value("${app.point.ledger.stripes:256}") int stripeCount,
+                       @Value("${app.point.ledger.lock-timeout-ms:2000}") long lockTimeoutMillis,
+                       @Value("${app.point.ledger.max-attempts:5}") int maxAttempts) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.stripes = new ReentrantLock[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+        this.lockTimeoutMillis = lockTimeoutMillis;
+        this.maxAttempts = maxAttempts;
+    }
+
+    /**
+     * 주어진 사용자들을 잠근 채 트랜잭션 안에서 실행
+     * 호출 측 트랜잭션이 있으면 거기에 참여하고 (충돌 시 호출 측이 롤백), 없으면 새 트랜잭션에서 재시도한다.
+     */
+    public <T> T execute(Supplier<T> work, Long... userIds) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            lock(userIds);
+            return work.get();
+        }
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> {
+                    lock(userIds);
+                    return work.get();
+                });
+            } catch (OptimisticLockingFailureException | PessimisticLockingFailureException
+                     | DataIntegrityViolationException e) {
+                if (attempt >= maxAttempts) {
+                    throw e;
+                }
+                retries.increment();
+                log.debug("포인트 변경 충돌, 재시도 {}/{}: users={}", attempt, maxAttempts, Arrays.toString(userIds));
+                backoff(attempt);
+            }
+        }
+    }
+
+    /**
+     * 스트라이프 오름차순으로 잠그고 현재 트랜잭션이 끝나면 해제
+     * 한 트랜잭션에서 여러 번 잠그면(예: 구매자 차감 후 판매자 지급) 순서를 보장할 수 없으므로 대기 시간을 둔다.
+     */
+    void lock(Long... userIds) {
+        int[] indexes = Arrays.stream(userIds).mapToInt(this::stripeOf).sorted().distinct().toArray();
+        for (int i = 0; i < indexes.length; i++) {
+            ReentrantLock stripe = stripes[indexes[i]];
+            if (!tryLock(stripe)) {
+                for (int j = i - 1; j >= 0; j--) {
+                    stripes[indexes[j]].unlock();
+                }
+                lockTimeouts.increment();
+                throw new CannotAcquireLockException("포인트 처리 대기 시간 초과: users=" + Arrays.toString(userIds));
+            }
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                for (int i = indexes.length - 1; i >= 0; i--) {
+                    stripes[indexes[i]].unlock();
+                }
+            }
+        });
+    }
+
+    private boolean tryLock(ReentrantLock stripe) {
+        try {
+            return stripe.tryLock(lockTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private int stripeOf(Long userId) {
+        return Math.floorMod(Long.hashCode(userId) * 0x9E3779B9, stripes.length);
+    }
+
+    private void backoff(int attempt) {
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(1, 10L << Math.min(attempt, 5)));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public Stats stats() {
+        return new Stats(retries.sum(), lockTimeouts.sum());
+    }
+
+    public record Stats(long retries, long lockTimeouts) {
+    }
+}
@@ -0,0 +1,183 @@
+package com.travelmate.service.point;
+
+import com.travelmate.repository.nft.UserPointRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 포인트 순위(current_rank) 증분 기록
+ * 순위표를 순위 순으로 한 번 훑어 마지막으로 기록한 순위와 달라진 사용자만 청크 단위 배치 UPDATE 로 쓴다.
+ * 기록이 끝나면 같은 내용의 불변 스냅샷을 버전과 함께 공개해, 조회는 잠금 없이 스냅샷을 읽는다.
+ * 순위표를 여러 인스턴스가 공유하면 한 인스턴스만 기록하고, 나머지는 버전이 바뀌었을 때 DB 에서 스냅샷을 읽는다.
+ */
+@Component
+@Slf4j
+public class PointRankJob {
+
+    private final PointLeaderboard pointLeaderboard;
+    private final UserPointRepository userPointRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final long pauseMillis;
+    private final String updateSql;
+
+    // 실행은 한 번에 하나씩 (청크 사이 대기/DB 기록 동안 잡고 있음)
+    private final ReentrantLock runLock = new ReentrantLock();
+    // DB 에 기록된 순위 (첫 실행 때 DB 에서 읽음)
+    private Map<Long, Integer> persisted;
+    private long lastModification = Long.MIN_VALUE;
+    private volatile RankSnapshot snapshot = RankSnapshot.EMPTY;
+
+    public PointRankJob(PointLeaderboard pointLeaderboard,
+                        UserPointRepository userPointRepository,
+                        JdbcTemplate jdbcTemplate,
+                        PlatformTransactionManager transactionManager,
+                        @Value("${spring.jpa.properties.hibernate.default_schema:}") String schema,
+                        @Value("${app.point.rank.chunk-size:1000}") int chunkSize,
+                        @Value("${app.point.rank.pause-ms:20}") long pauseMillis) {
+        this.pointLeaderboard = pointLeaderboard;
+        this.userPointRepository = userPointRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.pauseMillis = pauseMillis;
+        String table = schema == null || schema.isBlank() ? "user_points" : schema + ".user_points";
+        this.updateSql = "UPDATE " + table + " SET current_rank = ? WHERE user_id = ?";
+    }
+
+    /**
+     * 마지막으로 공개된 순위 스냅샷
+     */
+    public RankSnapshot snapshot() {
+        return snapshot;
+    }
+
+    @Scheduled(fixedDelayString = "${app.point.rank.interval-ms:300000}",
+               initialDelayString = "${app.point.rank.initial-delay-ms:60000}")
+    public void refreshRanks() {
+        if (!pointLeaderboard.isReady()) {
+            return;
+        }
+        runLock.lock();
+        try {
+            if (!pointLeaderboard.runExclusively(this::refresh)) {
+                syncPublished();
+            }
+        } catch (RuntimeException e) {
+            log.error("포인트 순위 기록 실패 (다음 실행에서 다시 비교)", e);
+        } finally {
+            runLock.unlock();
+        }
+    }
+
+    /**
+     * 달라진 순위만 기록하고 스냅샷 공개
+     *
+     * @return 기록한 사용자 수
+     */
+    int refresh() {
+        long modification = pointLeaderboard.modificationCount();
+        long published = pointLeaderboard.publishedRankVersion();
+        if (modification >= 0 && modification == lastModification && published == snapshot.version()) {
+            return 0;
+        }
+        // 마지막 기록이 다른 인스턴스의 것이면 DB 에 기록된 순위가 바뀌었으므로 다시 읽음
+        if (persisted == null || published != snapshot.version()) {
+            persisted = loadPersisted();
+        }
+
+        long startedAt = System.currentTimeMillis();
+        Map<Long, Integer> ranks = new HashMap<>(Math.max(16, persisted.size() * 4 / 3));
+        List<long[]> changed = new ArrayList<>();
+        Map<Long, Integer> previous = persisted;
+        pointLeaderboard.forEachRanked(PointLeaderboard.Board.TOTAL, entry -> {
+            ranks.put(entry.userId(), entry.rank());
+            if (!Objects.equals(previous.get(entry.userId()), entry.rank())) {
+                changed.add(new long[]{entry.userId(), entry.rank()});
+            }
+        });
+
+        for (int from = 0; from < changed.size(); from += chunkSize) {
+            List<long[]> chunk = changed.subList(from, Math.min(from + chunkSize, changed.size()));
+            transactionTemplate.executeWithoutResult(status ->
+                    jdbcTemplate.batchUpdate(updateSql, chunk, chunk.size(), (ps, row) -> {
+                        ps.setInt(1, (int) row[1]);
+                        ps.setLong(2, row[0]);
+                    }));
+            if (from + chunkSize < changed.size()) {
+                pause();
+            }
+        }
+
+        persisted = ranks;
+        lastModification = modification;
+        RankSnapshot next = new RankSnapshot(pointLeaderboard.publishRankVersion(), LocalDateTime.now(),
+                Collections.unmodifiableMap(ranks));
+        snapshot = next;
+        if (!changed.isEmpty()) {
+            log.info("포인트 순위 기록: {}명 중 {}명 변경, 버전 {}, {}ms", ranks.size(), changed.size(),
+                    next.version(), System.currentTimeMillis() - startedAt);
+        }
+        return changed.size();
+    }
+
+    // 다른 인스턴스가 기록을 마쳤으면 DB 에 기록된 순위를 스냅샷으로 공개
+    private void syncPublished() {
+        long published = pointLeaderboard.publishedRankVersion();
+        if (published == snapshot.version()) {
+            return;
+        }
+        Map<Long, Integer> loaded = loadPersisted();
+        persisted = loaded;
+        snapshot = new RankSnapshot(published, LocalDateTime.now(), Collections.unmodifiableMap(loaded));
+    }
+
+    private Map<Long, Integer> loadPersisted() {
+        Map<Long, Integer> loaded = new HashMap<>();
+        for (Object[] row : userPointRepository.findRankSnapshot()) {
+            loaded.put((Long) row[0], (Integer) row[1]);
+        }
+        return loaded;
+    }
+
+    private void pause() {
+        if (pauseMillis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(pauseMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 한 번의 기록 결과 (DB current_rank 와 같은 내용)
+     *
+     * @param version 기록을 마칠 때마다 1씩 증가 (공유 순위표면 인스턴스 간 공통)
+     */
+    public record RankSnapshot(long version, LocalDateTime computedAt, Map<Long, Integer> ranks) {
+
+        static final RankSnapshot EMPTY = new RankSnapshot(0L, null, Map.of());
+
+        // 스냅샷에 없으면 null
+        public Integer rankOf(Long userId) {
+            return ranks.get(userId);
+        }
+    }
+}
@@ -0,0 +1,254 @@
+package com.travelmate.service.point;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+
+/**
+ * 순위 조회가 가능한 점수 집합 (Redis sorted set 과 같은 구간 폭을 가진 스킵 리스트)
+ * 점수 내림차순 + 사용자 ID 오름차순으로 정렬하며, 갱신/순위/상위 K 조회가 O(log n) (+K) 이다.
+ * 순위는 기존 COUNT(*)+1 쿼리와 같이 동점자는 같은 순위를 갖는다.
+ * 스레드 안전하지 않으므로 호출 측에서 잠근다.
+ */
+public class RankedScores {
+
+    private static final int MAX_LEVEL = 32;
+
+    private final Node header = new Node(0L, 0L, MAX_LEVEL);
+    private final Map<Long, Long> scores = new HashMap<>();
+    private int level = 1;
+
+    /**
+     * 점수 설정 (같은 점수면 변경 없음)
+     */
+    public void put(long userId, long score) {
+        Long previous = scores.put(userId, score);
+        if (previous != null) {
+            if (previous == score) {
+                return;
+            }
+            delete(userId, previous);
+        }
+        insert(userId, score);
+    }
+
+    public void remove(long userId) {
+        Long previous = scores.remove(userId);
+        if (previous != null) {
+            delete(userId, previous);
+        }
+    }
+
+    public Long scoreOf(long userId) {
+        return scores.get(userId);
+    }
+
+    /**
+     * 사용자 순위 (없으면 null)
+     */
+    public Integer rankOf(long userId) {
+        Long score = scores.get(userId);
+        return score != null ? rankOfScore(score) : null;
+    }
+
+    /**
+     * 해당 점수가 받을 순위 = 더 높은 점수 수 + 1
+     */
+    public int rankOfScore(long score) {
+        return countBefore(score, Long.MIN_VALUE) + 1;
+    }
+
+    /**
+     * 상위 limit 명 (순위 포함)
+     */
+    public List<Entry> top(int limit) {
+        List<Entry> result = new ArrayList<>(Math.min(limit, scores.size()));
+        Node node = header.next[0];
+        int position = 0;
+        int rank = 0;
+        long previousScore = 0L;
+        while (node != null && result.size() < limit) {
+            position++;
+            if (position == 1 || node.score != previousScore) {
+                rank = position;
+                previousScore = node.score;
+            }
+            result.add(new Entry(node.userId, node.score, rank));
+            node = node.next[0];
+        }
+        return result;
+    }
+
+    /**
+     * 전체를 순위 순으로 순회
+     */
+    public void forEach(Consumer<Entry> action) {
+        Node node = header.next[0];
+        int position = 0;
+        int rank = 0;
+        long previousScore = 0L;
+        while (node != null) {
+            position++;
+            if (position == 1 || node.score != previousScore) {
+                rank = position;
+                previousScore = node.score;
+            }
+            action.accept(new Entry(node.userId, node.score, rank));
+            node = node.next[0];
+        }
+    }
+
+    public int size() {
+        return scores.size();
+    }
+
+    /**
+     * 순위 순 (사용자 ID, 점수) 복사본
+     * 잠금은 복사하는 동안만 잡고 순회는 잠금 밖에서 하기 위함
+     */
+    public Ranking copy() {
+        long[] userIds = new long[scores.size()];
+        long[] ordered = new long[scores.size()];
+        int i = 0;
+        for (Node node = header.next[0]; node != null; node = node.next[0]) {
+            userIds[i] = node.userId;
+            ordered[i++] = node.score;
+        }
+        return new Ranking(userIds, ordered);
+    }
+
+    // 정렬 순서상 (score, userId) 앞에 있는 원소 수
+    private int countBefore(long score, long userId) {
+        int count = 0;
+        Node node = header;
+        for (int i = level - 1; i >= 0; i--) {
+            while (node.next[i] != null && before(node.next[i], score, userId)) {
+                count += node.span[i];
+                node = node.next[i];
+            }
+        }
+        return count;
+    }
+
+    private void insert(long userId, long score) {
+        Node[] update = new Node[MAX_LEVEL];
+        int[] rank = new int[MAX_LEVEL];
+        Node node = header;
+        for (int i = level - 1; i >= 0; i--) {
+            rank[i] = i == level - 1 ? 0 : rank[i + 1];
+            while (node.next[i] != null && before(node.next[i], score, userId)) {
+                rank[i] += node.span[i];
+                node = node.next[i];
+            }
+            update[i] = node;
+        }
+
+        int newLevel = randomLevel();
+        if (newLevel > level) {
+            for (int i = level; i < newLevel; i++) {
+                rank[i] = 0;
+                update[i] = header;
+                update[i].span[i] = scores.size() - 1;
+            }
+            level = newLevel;
+        }
+
+        Node inserted = new Node(userId, score, newLevel);
+        for (int i = 0; i < newLevel; i++) {
+            inserted.next[i] = update[i].next[i];
+            update[i].next[i] = inserted;
+            inserted.span[i] = update[i].span[i] - (rank[0] - rank[i]);
+            update[i].span[i] = (rank[0] - rank[i]) + 1;
+        }
+        for (int i = newLevel; i < level; i++) {
+            update[i].span[i]++;
+        }
+    }
+
+    private void delete(long userId, long score) {
+        Node[] update = new Node[MAX_LEVEL];
+        Node node = header;
+        for (int i = level - 1; i >= 0; i--) {
+            while (node.next[i] != null && before(node.next[i], score, userId)) {
+                node = node.next[i];
+            }
+            update[i] = node;
+        }
+        Node target = node.next[0];
+        if (target == null || target.userId != userId || target.score != score) {
+            throw new IllegalStateException("순위 인덱스 불일치: user " + userId);
+        }
+        for (int i = 0; i < level; i++) {
+            if (update[i].next[i] == target) {
+                update[i].span[i] += target.span[i] - 1;
+                update[i].next[i] = target.next[i];
+            } else {
+                update[i].span[i]--;
+            }
+        }
+        while (level > 1 && header.next[level - 1] == null) {
+            level--;
+        }
+    }
+
+    // 점수 내림차순, 동점이면 사용자 ID 오름차순
+    private static boolean before(Node node, long score, long userId) {
+        return node.score > score || (node.score == score && node.userId < userId);
+    }
+
+    private static int randomLevel() {
+        int newLevel = 1;
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (newLevel < MAX_LEVEL && random.nextInt(4) == 0) {
+            newLevel++;
+        }
+        return newLevel;
+    }
+
+    public record Entry(long userId, long score, int rank) {
+    }
+
+    /**
+     * 순위 순 복사본 (불변)
+     */
+    public static final class Ranking {
+        private final long[] userIds;
+        private final long[] scores;
+
+        private Ranking(long[] userIds, long[] scores) {
+            this.userIds = userIds;
+            this.scores = scores;
+        }
+
+        public int size() {
+            return userIds.length;
+        }
+
+        public void forEach(Consumer<Entry> action) {
+            int rank = 0;
+            for (int i = 0; i < userIds.length; i++) {
+                if (i == 0 || scores[i] != scores[i - 1]) {
+                    rank = i + 1;
+                }
+                action.accept(new Entry(userIds[i], scores[i], rank));
+            }
+        }
+    }
+
+    private static final class Node {
+        private final long userId;
+        private final long score;
+        private final Node[] next;
+        private final int[] span;
+
+        private Node(long userId, long score, int level) {
+            this.userId = userId;
+            this.score = score;
+            this.next = new Node[level];
+            this.span = new int[level];
+        }
+    }
+}
@@ -0,0 +1,272 @@
+package com.travelmate.service.point;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Redis sorted set 포인트 순위표 (여러 인스턴스가 공유)
+ * 갱신마다 순번을 올려 사용자별 마지막 갱신 순번을 기록하고,
+ * 재구성은 잠금을 잡은 한 인스턴스만 실행별 임시 키에 채운 뒤 스냅샷 이후 갱신된 사용자 점수를 옮겨 RENAME 으로 교체한다.
+ * 순위 기록 작업도 잠금을 잡은 한 인스턴스만 실행하고, 순위표를 ZUNIONSTORE 로 한 번에 복사한 키를 순회한다.
+ * 점수는 정수이므로 "더 높은 점수" 는 score+1 이상으로 센다.
+ */
+@Slf4j
+public class RedisPointLeaderboard implements PointLeaderboard {
+
+    private static final String TOTAL_KEY = "leaderboard:points:total";
+    private static final String SEASON_KEY = "leaderboard:points:season";
+    private static final String SEQUENCE_KEY = "leaderboard:points:seq";
+    private static final String UPDATED_KEY = "leaderboard:points:updated";
+    private static final String SEASON_EPOCH_KEY = "leaderboard:points:season-epoch";
+    private static final String READY_KEY = "leaderboard:points:ready";
+    private static final String LOCK_KEY = "leaderboard:points:rebuild-lock";
+    private static final String RANK_LOCK_KEY = "leaderboard:points:rank-lock";
+    private static final String RANK_VERSION_KEY = "leaderboard:points:rank-version";
+    private static final int REBUILD_CHUNK = 1000;
+
+    private static final RedisScript<Long> UPDATE = new DefaultRedisScript<>("""
+            redis.call('ZADD', KEYS[1], ARGV[2], ARGV[1])
+            redis.call('ZADD', KEYS[2], ARGV[3], ARGV[1])
+            redis.call('ZADD', KEYS[4], redis.call('INCR', KEYS[3]), ARGV[1])
+            return 1
+            """, Long.class);
+
+    // 스냅샷 이후 갱신된 사용자는 현재 점수를 임시 키로 옮기고 교체 (시즌이 초기화됐으면 시즌은 현재 키 유지)
+    private static final RedisScript<Long> SWAP = new DefaultRedisScript<>("""
+            for _, member in ipairs(redis.call('ZRANGEBYSCORE', KEYS[5], '(' .. ARGV[1], '+inf')) do
+              for i = 1, 2 do
+                local score = redis.call('ZSCORE', KEYS[i], member)
+                if score then
+                  redis.call('ZADD', KEYS[i + 2], score, member)
+                end
+              end
+            end
+            redis.call('ZREMRANGEBYSCORE', KEYS[5], '-inf', ARGV[1])
+            if redis.call('EXISTS', KEYS[3]) == 1 then
+              redis.call('RENAME', KEYS[3], KEYS[1])
+            else
+              redis.call('DEL', KEYS[1])
+            end
+            if (redis.call('GET', KEYS[6]) or '0') ~= ARGV[2] then
+              redis.call('DEL', KEYS[4])
+            elseif redis.call('EXISTS', KEYS[4]) == 1 then
+              redis.call('RENAME', KEYS[4], KEYS[2])
+            else
+              redis.call('DEL', KEYS[2])
+            end
+            return 1
+            """, Long.class);
+
+    private static final RedisScript<Long> RELEASE_LOCK = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+              return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration lockTimeout;
+    private volatile boolean ready = false;
+
+    public RedisPointLeaderboard(StringRedisTemplate redisTemplate, Duration lockTimeout) {
+        this.redisTemplate = redisTemplate;
+        this.lockTimeout = lockTimeout;
+    }
+
+    // 다른 인스턴스가 재구성을 마쳤을 수도 있으므로 준비 전에는 Redis 표시를 확인
+    @Override
+    public boolean isReady() {
+        if (!ready && Boolean.TRUE.equals(redisTemplate.hasKey(READY_KEY))) {
+            ready = true;
+        }
+        return ready;
+    }
+
+    @Override
+    public void update(long userId, long totalPoints, long seasonPoints) {
+        redisTemplate.execute(UPDATE, List.of(TOTAL_KEY, SEASON_KEY, SEQUENCE_KEY, UPDATED_KEY),
+                Long.toString(userId), Long.toString(totalPoints), Long.toString(seasonPoints));
+    }
+
+    @Override
+    public int rank(Board board, long userId) {
+        String key = key(board);
+        Double score = redisTemplate.opsForZSet().score(key, Long.toString(userId));
+        Long higher = redisTemplate.opsForZSet().count(key, (score != null ? score : 0.0) + 1, Double.POSITIVE_INFINITY);
+        return (higher != null ? higher.intValue() : 0) + 1;
+    }
+
+    @Override
+    public List<RankedScores.Entry> top(Board board, int limit) {
+        Set<ZSetOperations.TypedTuple<String>> tuples =
+                redisTemplate.opsForZSet().reverseRangeWithScores(key(board), 0, limit - 1);
+        List<RankedScores.Entry> result = new ArrayList<>();
+        if (tuples == null) {
+            return result;
+        }
+        int position = 0;
+        int rank = 0;
+        long previousScore = 0L;
+        for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+            long score = tuple.getScore() != null ? tuple.getScore().longValue() : 0L;
+            position++;
+            if (position == 1 || score != previousScore) {
+                rank = position;
+                previousScore = score;
+            }
+            result.add(new RankedScores.Entry(Long.parseLong(tuple.getValue()), score, rank));
+        }
+        return result;
+    }
+
+    // 순회 중 점수가 바뀌어도 페이지 경계에서 건너뛰거나 두 번 읽지 않도록 복사본을 페이지로 읽음
+    @Override
+    public void forEachRanked(Board board, Consumer<RankedScores.Entry> action) {
+        String snapshotKey = key(board) + ":snapshot:" + UUID.randomUUID();
+        redisTemplate.opsForZSet().unionAndStore(key(board), List.of(), snapshotKey);
+        redisTemplate.expire(snapshotKey, lockTimeout);
+        try {
+            int position = 0;
+            int rank = 0;
+            long previousScore = 0L;
+            for (long from = 0; ; from += REBUILD_CHUNK) {
+                Set<ZSetOperations.TypedTuple<String>> tuples =
+                        redisTemplate.opsForZSet().reverseRangeWithScores(snapshotKey, from, from + REBUILD_CHUNK - 1);
+                if (tuples == null || tuples.isEmpty()) {
+                    return;
+                }
+                for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+                    long score = tuple.getScore() != null ? tuple.getScore().longValue() : 0L;
+                    position++;
+                    if (position == 1 || score != previousScore) {
+                        rank = position;
+                        previousScore = score;
+                    }
+                    action.accept(new RankedScores.Entry(Long.parseLong(tuple.getValue()), score, rank));
+                }
+            }
+        } finally {
+            redisTemplate.delete(snapshotKey);
+        }
+    }
+
+    @Override
+    public boolean runExclusively(Runnable task) {
+        String token = tryLock(RANK_LOCK_KEY);
+        if (token == null) {
+            log.debug("포인트 순위 기록: 다른 인스턴스가 진행 중");
+            return false;
+        }
+        try {
+            task.run();
+            return true;
+        } finally {
+            unlock(RANK_LOCK_KEY, token);
+        }
+    }
+
+    @Override
+    public long publishedRankVersion() {
+        return Long.parseLong(valueOrZero(RANK_VERSION_KEY));
+    }
+
+    @Override
+    public long publishRankVersion() {
+        Long version = redisTemplate.opsForValue().increment(RANK_VERSION_KEY);
+        return version != null ? version : 0L;
+    }
+
+    // 다른 인스턴스의 변경은 알 수 없음
+    @Override
+    public long modificationCount() {
+        return -1;
+    }
+
+    // 재구성 중이면 교체 시 시즌 순위표를 덮어쓰지 않도록 세대를 먼저 올림
+    @Override
+    public void resetSeason() {
+        redisTemplate.opsForValue().increment(SEASON_EPOCH_KEY);
+        redisTemplate.delete(SEASON_KEY);
+    }
+
+    @Override
+    public boolean rebuild(Supplier<List<Score>> snapshot) {
+        String token = tryLock(LOCK_KEY);
+        if (token == null) {
+            log.debug("포인트 순위표 재구성: 다른 인스턴스가 진행 중");
+            return false;
+        }
+        String totalTemp = TOTAL_KEY + ":rebuild:" + token;
+        String seasonTemp = SEASON_KEY + ":rebuild:" + token;
+        try {
+            // 순서 중요: 순번/시즌 세대 -> 스냅샷
+            String startSequence = valueOrZero(SEQUENCE_KEY);
+            String startEpoch = valueOrZero(SEASON_EPOCH_KEY);
+            List<Score> scores = snapshot.get();
+            for (int from = 0; from < scores.size(); from += REBUILD_CHUNK) {
+                write(totalTemp, seasonTemp, scores.subList(from, Math.min(from + REBUILD_CHUNK, scores.size())));
+            }
+            redisTemplate.execute(SWAP,
+                    List.of(TOTAL_KEY, SEASON_KEY, totalTemp, seasonTemp, UPDATED_KEY, SEASON_EPOCH_KEY),
+                    startSequence, startEpoch);
+            redisTemplate.opsForValue().set(READY_KEY, Long.toString(System.currentTimeMillis()));
+            ready = true;
+            return true;
+        } finally {
+            redisTemplate.delete(List.of(totalTemp, seasonTemp));
+            unlock(LOCK_KEY, token);
+        }
+    }
+
+    // 잠금을 잡으면 해제용 토큰, 다른 인스턴스가 잡고 있으면 null
+    private String tryLock(String lockKey) {
+        String token = UUID.randomUUID().toString();
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(lockKey, token, lockTimeout)) ? token : null;
+    }
+
+    private void unlock(String lockKey, String token) {
+        redisTemplate.execute(RELEASE_LOCK, List.of(lockKey), token);
+    }
+
+    private String valueOrZero(String key) {
+        String value = redisTemplate.opsForValue().get(key);
+        return value != null ? value : "0";
+    }
+
+    // 두 임시 순위표 ZADD 를 한 번의 파이프라인으로 전송
+    private void write(String totalKey, String seasonKey, List<Score> scores) {
+        if (scores.isEmpty()) {
+            return;
+        }
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                for (Score score : scores) {
+                    String member = Long.toString(score.userId());
+                    operations.opsForZSet().add(totalKey, member, score.totalPoints());
+                    operations.opsForZSet().add(seasonKey, member, score.seasonPoints());
+                }
+                return null;
+            }
+        });
+    }
+
+    private static String key(Board board) {
+        return board == Board.TOTAL ? TOTAL_KEY : SEASON_KEY;
+    }
+}
@@ -0,0 +1,45 @@
+package com.travelmate.service.recommendation;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 문자열 특성(관심사, 지역 등) -> 비트 위치 사전
+ * 처음 등장한 값에 다음 비트를 할당하며, 한 번 할당된 위치는 바뀌지 않는다.
+ */
+public class FeatureDictionary {
+
+    private final Map<String, Integer> bits = new ConcurrentHashMap<>();
+    private final AtomicInteger nextBit = new AtomicInteger();
+
+    public int bitOf(String token) {
+        return bits.computeIfAbsent(token, t -> nextBit.getAndIncrement());
+    }
+
+    /**
+     * 값 목록을 비트셋(long 배열)으로 인코딩
+     */
+    public long[] encode(Collection<String> tokens) {
+        long[] words = new long[0];
+        for (String token : tokens) {
+            if (token == null) {
+                continue;
+            }
+            int bit = bitOf(token);
+            int word = bit >>> 6;
+            if (word >= words.length) {
+                long[] grown = new long[word + 1];
+                System.arraycopy(words, 0, grown, 0, words.length);
+                words = grown;
+            }
+            words[word] |= 1L << (bit & 63);
+        }
+        return words;
+    }
+
+    public int size() {
+        return bits.size();
+    }
+}
@@ -0,0 +1,158 @@
+package com.travelmate.service.recommendation;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 그룹 멤버 프로필 집계 (불변)
+ * 멤버별 특성 벡터를 비트 위치별 빈도로 합쳐 두고, 사용자와 그룹의 협업 유사도를
+ * 멤버 수와 무관하게 사용자 특성 수만큼의 연산으로 계산한다.
+ */
+public final class GroupProfileAggregate {
+
+    private static final int AGE_BUCKETS = 16;
+
+    public static final GroupProfileAggregate EMPTY =
+            new GroupProfileAggregate(Map.of(), new int[64], new int[0], new int[0], new int[AGE_BUCKETS]);
+
+    // 멤버 ID -> 집계에 반영된 벡터 (탈퇴 시 같은 값을 빼기 위해 보관)
+    private final Map<Long, ProfileVector> members;
+    private final int[] styleCounts;
+    private final int[] interestCounts;
+    private final int[] regionCounts;
+    private final int[] ageCounts;
+
+    private GroupProfileAggregate(Map<Long, ProfileVector> members, int[] styleCounts, int[] interestCounts,
+                                  int[] regionCounts, int[] ageCounts) {
+        this.members = members;
+        this.styleCounts = styleCounts;
+        this.interestCounts = interestCounts;
+        this.regionCounts = regionCounts;
+        this.ageCounts = ageCounts;
+    }
+
+    public static GroupProfileAggregate of(Iterable<ProfileVector> members) {
+        Map<Long, ProfileVector> ids = new HashMap<>();
+        int[] styles = new int[64];
+        int[] interests = new int[0];
+        int[] regions = new int[0];
+        int[] ages = new int[AGE_BUCKETS];
+        for (ProfileVector member : members) {
+            if (ids.putIfAbsent(member.userId(), member) != null) {
+                continue;
+            }
+            styles = addBits(styles, styleBits(member), 1);
+            interests = addBits(interests, member.interestBits(), 1);
+            regions = addBits(regions, member.regionBits(), 1);
+            ages[clampAge(member.ageBucket())]++;
+        }
+        return new GroupProfileAggregate(Map.copyOf(ids), styles, interests, regions, ages);
+    }
+
+    public int memberCount() {
+        return members.size();
+    }
+
+    public boolean contains(long userId) {
+        return members.containsKey(userId);
+    }
+
+    /**
+     * 멤버 추가 반영본
+     */
+    public GroupProfileAggregate plus(ProfileVector member) {
+        if (members.containsKey(member.userId())) {
+            return this;
+        }
+        Map<Long, ProfileVector> next = new HashMap<>(members);
+        next.put(member.userId(), member);
+        return apply(next, member, 1);
+    }
+
+    /**
+     * 멤버 제거 반영본
+     */
+    public GroupProfileAggregate minus(long userId) {
+        ProfileVector member = members.get(userId);
+        if (member == null) {
+            return this;
+        }
+        Map<Long, ProfileVector> next = new HashMap<>(members);
+        next.remove(userId);
+        return apply(next, member, -1);
+    }
+
+    /**
+     * 사용자와 그룹 멤버 전체의 유사도 (0.0 ~ 1.0, 멤버가 없으면 0.0)
+     * 스타일/관심사/지역은 사용자가 가진 특성을 공유하는 멤버 비율의 평균,
+     * 연령대는 멤버 연령대 분포에 대한 기대 점수를 사용한다. 가중치는 ProfileVector.similarity 와 같다.
+     * 사용자가 이미 멤버라면 본인을 뺀 나머지 멤버 기준으로 계산한다.
+     */
+    public double similarity(ProfileVector user) {
+        int self = members.containsKey(user.userId()) ? 1 : 0;
+        int count = members.size() - self;
+        if (count <= 0) {
+            return 0.0;
+        }
+
+        double styleScore = shareOf(styleCounts, styleBits(user), self, count);
+        double interestScore = shareOf(interestCounts, user.interestBits(), self, count);
+        double regionScore = shareOf(regionCounts, user.regionBits(), self, count);
+
+        int bucket = clampAge(user.ageBucket());
+        double sameBucket = ageCounts[bucket] - self;
+        double adjacent = (bucket > 0 ? ageCounts[bucket - 1] : 0) + (bucket < AGE_BUCKETS - 1 ? ageCounts[bucket + 1] : 0);
+        double ageScore = (sameBucket * 1.0 + adjacent * 0.7 + (count - sameBucket - adjacent) * 0.3) / count;
+
+        return styleScore * 0.3 + interestScore * 0.4 + regionScore * 0.2 + ageScore * 0.1;
+    }
+
+    // 사용자 특성별 (해당 특성을 가진 멤버 수 / 멤버 수)의 평균, 사용자 특성이 없으면 중립값 0.5
+    private static double shareOf(int[] counts, long[] userBits, int self, int count) {
+        int features = 0;
+        long shared = 0;
+        for (int word = 0; word < userBits.length; word++) {
+            long bits = userBits[word];
+            while (bits != 0) {
+                int bit = (word << 6) + Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+                features++;
+                if (bit < counts.length) {
+                    shared += counts[bit] - self;
+                }
+            }
+        }
+        return features == 0 ? 0.5 : (double) shared / ((long) features * count);
+    }
+
+    private GroupProfileAggregate apply(Map<Long, ProfileVector> next, ProfileVector member, int delta) {
+        int[] styles = addBits(styleCounts.clone(), styleBits(member), delta);
+        int[] interests = addBits(interestCounts.clone(), member.interestBits(), delta);
+        int[] regions = addBits(regionCounts.clone(), member.regionBits(), delta);
+        int[] ages = ageCounts.clone();
+        ages[clampAge(member.ageBucket())] += delta;
+        return new GroupProfileAggregate(Map.copyOf(next), styles, interests, regions, ages);
+    }
+
+    // 비트별 빈도 가감 (필요하면 배열을 늘려서 반환)
+    private static int[] addBits(int[] counts, long[] bits, int delta) {
+        int[] result = counts.length >= bits.length * 64 ? counts : Arrays.copyOf(counts, bits.length * 64);
+        for (int word = 0; word < bits.length; word++) {
+            long remaining = bits[word];
+            while (remaining != 0) {
+                result[(word << 6) + Long.numberOfTrailingZeros(remaining)] += delta;
+                remaining &= remaining - 1;
+            }
+        }
+        return result;
+    }
+
+    private static long[] styleBits(ProfileVector vector) {
+        return new long[]{vector.styleMask() & 0xffffffffL};
+    }
+
+    private static int clampAge(byte ageBucket) {
+        return Math.max(0, Math.min(AGE_BUCKETS - 1, ageBucket));
+    }
+}
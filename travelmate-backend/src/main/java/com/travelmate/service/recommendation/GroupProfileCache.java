@@ -0,0 +1,186 @@
+package com.travelmate.service.recommendation;
+
+import com.travelmate.event.UserProfileChangedEvent;
+import com.travelmate.repository.GroupMemberRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.UnaryOperator;
+
+/**
+ * 그룹별 멤버 프로필 집계 캐시
+ * 후보 그룹의 멤버 ID를 한 번의 쿼리로 적재해 집계를 만들고, 참여/탈퇴 시 해당 그룹 집계만 갱신한다.
+ * 최근 그룹만 LRU 로 유지하고 TTL 이 지나면 다시 적재한다.
+ * 적재 중에는 자리표시를 두고, 그 사이 참여/탈퇴/프로필 변경이 자리표시를 지우면 적재한 값을 캐시하지 않는다.
+ */
+@Service
+@Slf4j
+public class GroupProfileCache {
+
+    private final GroupMemberRepository groupMemberRepository;
+    private final TravelMateProfileIndex profileIndex;
+    private final long ttlNanos;
+
+    // 그룹 ID -> 집계 (aggregate 가 null 이면 적재 중 자리표시)
+    private final Map<Long, Entry> aggregates;
+
+    public GroupProfileCache(GroupMemberRepository groupMemberRepository,
+                             TravelMateProfileIndex profileIndex,
+                             @Value("${app.recommendation.group-profile.max-size:10000}") int maxSize,
+                             @Value("${app.recommendation.group-profile.ttl-ms:600000}") long ttlMillis) {
+        this.groupMemberRepository = groupMemberRepository;
+        this.profileIndex = profileIndex;
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+        this.aggregates = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * 그룹들의 집계 조회 (캐시에 없거나 만료된 그룹은 일괄 적재)
+     */
+    public Map<Long, GroupProfileAggregate> getAll(Collection<Long> groupIds) {
+        Map<Long, GroupProfileAggregate> result = new HashMap<>();
+        Map<Long, Entry> loading = new HashMap<>();
+        long now = System.nanoTime();
+        synchronized (aggregates) {
+            for (Long groupId : groupIds) {
+                Entry entry = aggregates.get(groupId);
+                if (entry != null && entry.aggregate() != null && now - entry.loadedAt() <= ttlNanos) {
+                    result.put(groupId, entry.aggregate());
+                } else if (!loading.containsKey(groupId)) {
+                    Entry placeholder = new Entry(null, now);
+                    aggregates.put(groupId, placeholder);
+                    loading.put(groupId, placeholder);
+                }
+            }
+        }
+        if (loading.isEmpty()) {
+            return result;
+        }
+
+        if (!profileIndex.isReady()) {
+            profileIndex.warmUp();
+        }
+        Map<Long, List<ProfileVector>> membersByGroup = new HashMap<>();
+        for (Object[] row : groupMemberRepository.findAcceptedMemberIdsByGroupIds(loading.keySet())) {
+            ProfileVector member = profileIndex.get((Long) row[1]);
+            if (member != null) {
+                membersByGroup.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add(member);
+            }
+        }
+        synchronized (aggregates) {
+            for (Map.Entry<Long, Entry> placeholder : loading.entrySet()) {
+                Long groupId = placeholder.getKey();
+                GroupProfileAggregate aggregate =
+                        GroupProfileAggregate.of(membersByGroup.getOrDefault(groupId, List.of()));
+                result.put(groupId, aggregate);
+                // 적재 중 변경이 자리표시를 지웠다면 이 값은 변경 전일 수 있으므로 캐시하지 않음
+                if (aggregates.get(groupId) == placeholder.getValue()) {
+                    aggregates.put(groupId, new Entry(aggregate, now));
+                }
+            }
+        }
+        log.debug("그룹 프로필 집계 적재: {}개 그룹", loading.size());
+        return result;
+    }
+
+    /**
+     * 그룹 참여 반영 (트랜잭션 커밋 후)
+     */
+    public void memberJoined(Long groupId, Long userId) {
+        afterCommit(() -> {
+            // 비활성 사용자는 집계 대상이 아님
+            ProfileVector member = profileIndex.get(userId);
+            synchronized (aggregates) {
+                update(groupId, aggregate -> member != null ? aggregate.plus(member) : aggregate);
+            }
+        });
+    }
+
+    /**
+     * 그룹 탈퇴 반영 (트랜잭션 커밋 후)
+     */
+    public void memberLeft(Long groupId, Long userId) {
+        afterCommit(() -> {
+            synchronized (aggregates) {
+                update(groupId, aggregate -> aggregate.minus(userId));
+            }
+        });
+    }
+
+    public void evict(Long groupId) {
+        afterCommit(() -> {
+            synchronized (aggregates) {
+                aggregates.remove(groupId);
+            }
+        });
+    }
+
+    /**
+     * 프로필 변경: 이 사용자가 멤버인 집계의 벡터를 새 프로필로 교체 (비활성이면 제외)
+     * 적재 중인 그룹은 이 사용자가 포함됐는지 알 수 없으므로 자리표시를 지운다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserProfileChanged(UserProfileChangedEvent event) {
+        Long userId = event.userId();
+        ProfileVector member = profileIndex.get(userId);
+        synchronized (aggregates) {
+            Iterator<Map.Entry<Long, Entry>> it = aggregates.entrySet().iterator();
+            while (it.hasNext()) {
+                Map.Entry<Long, Entry> cached = it.next();
+                GroupProfileAggregate aggregate = cached.getValue().aggregate();
+                if (aggregate == null) {
+                    it.remove();
+                } else if (aggregate.contains(userId)) {
+                    GroupProfileAggregate updated = aggregate.minus(userId);
+                    cached.setValue(new Entry(member != null ? updated.plus(member) : updated,
+                            cached.getValue().loadedAt()));
+                }
+            }
+        }
+    }
+
+    public int size() {
+        synchronized (aggregates) {
+            return aggregates.size();
+        }
+    }
+
+    // 캐시된 집계만 갱신하고, 적재 중이면 자리표시를 지움
+    private void update(Long groupId, UnaryOperator<GroupProfileAggregate> change) {
+        aggregates.computeIfPresent(groupId, (id, entry) ->
+                entry.aggregate() == null ? null : new Entry(change.apply(entry.aggregate()), entry.loadedAt()));
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private record Entry(GroupProfileAggregate aggregate, long loadedAt) {
+    }
+}
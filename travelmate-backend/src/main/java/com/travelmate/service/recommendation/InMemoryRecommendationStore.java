@@ -0,0 +1,127 @@
+package com.travelmate.service.recommendation;
+
+import com.travelmate.dto.RecommendationDto;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Redis가 비활성화된 환경을 위한 인메모리 추천 저장소
+ * 사용자 수 상한을 넘으면 가장 오래 조회되지 않은 목록부터 버리고, 만료 시간이 지난 목록은 조회 시 제거한다.
+ */
+public class InMemoryRecommendationStore implements RecommendationStore {
+
+    private final Lru<RecommendationDto.GroupRecommendation> groups;
+    private final Lru<RecommendationDto.UserRecommendation> travelMates;
+    private final long ttlMillis;
+
+    public InMemoryRecommendationStore(int maxUsers, long ttlMillis) {
+        this.groups = new Lru<>(maxUsers);
+        this.travelMates = new Lru<>(maxUsers);
+        this.ttlMillis = ttlMillis;
+    }
+
+    @Override
+    public List<RecommendationDto.GroupRecommendation> getGroups(Long userId) {
+        return groups.get(userId);
+    }
+
+    @Override
+    public void putGroups(Long userId, List<RecommendationDto.GroupRecommendation> recommendations) {
+        groups.put(userId, List.copyOf(recommendations), System.currentTimeMillis() + ttlMillis);
+    }
+
+    @Override
+    public List<RecommendationDto.UserRecommendation> getTravelMates(Long userId) {
+        return travelMates.get(userId);
+    }
+
+    @Override
+    public void putTravelMates(Long userId, List<RecommendationDto.UserRecommendation> recommendations) {
+        travelMates.put(userId, List.copyOf(recommendations), System.currentTimeMillis() + ttlMillis);
+    }
+
+    @Override
+    public void evictUser(Long userId) {
+        groups.remove(userId);
+        travelMates.remove(userId);
+    }
+
+    @Override
+    public void evictGroups(Long userId) {
+        groups.remove(userId);
+    }
+
+    @Override
+    public void evictGroupReferences(Long groupId) {
+        groups.removeIf(r -> groupId.equals(r.getGroupId()));
+    }
+
+    @Override
+    public void evictTravelMateReferences(Long userId) {
+        travelMates.removeIf(r -> userId.equals(r.getUserId()));
+    }
+
+    public int size() {
+        return groups.size() + travelMates.size();
+    }
+
+    private record Entry<T>(List<T> items, long expiresAt) {
+        boolean isExpired() {
+            return System.currentTimeMillis() > expiresAt;
+        }
+    }
+
+    /**
+     * 접근 순서 LinkedHashMap 기반 LRU (조회도 순서를 바꾸므로 전체 동기화)
+     */
+    private static final class Lru<T> {
+        private final Map<Long, Entry<T>> entries;
+
+        Lru(int maxEntries) {
+            this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, Entry<T>> eldest) {
+                    return size() > maxEntries;
+                }
+            };
+        }
+
+        synchronized List<T> get(Long userId) {
+            Entry<T> entry = entries.get(userId);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.isExpired()) {
+                entries.remove(userId);
+                return null;
+            }
+            return entry.items();
+        }
+
+        synchronized void put(Long userId, List<T> items, long expiresAt) {
+            entries.put(userId, new Entry<>(items, expiresAt));
+        }
+
+        synchronized void remove(Long userId) {
+            entries.remove(userId);
+        }
+
+        synchronized void removeIf(Predicate<T> referenced) {
+            Iterator<Entry<T>> it = entries.values().iterator();
+            while (it.hasNext()) {
+                Entry<T> entry = it.next();
+                if (entry.isExpired() || entry.items().stream().anyMatch(referenced)) {
+                    it.remove();
+                }
+            }
+        }
+
+        synchronized int size() {
+            return entries.size();
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.travelmate.service.recommendation;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 추천 후보 점수 계산기
+ * 후보가 임계값 이상이면 전용 ForkJoinPool 에서 청크 단위로 나눠 점수를 매기고,
+ * 작업별 상위 K 힙을 병합한다. 임계값 미만이면 호출 스레드에서 순차 계산한다.
+ */
+@Component
+@Slf4j
+public class ParallelScorer implements DisposableBean {
+
+    private static final Comparator<Scored<?>> BY_SCORE = Comparator.comparingDouble(Scored::score);
+
+    private final boolean parallelEnabled;
+    private final int threshold;
+    private final int chunkSize;
+    private final ForkJoinPool pool;
+    private final RecommendationTimings timings;
+
+    public ParallelScorer(@Value("${app.recommendation.parallel.enabled:true}") boolean parallelEnabled,
+                          @Value("${app.recommendation.parallel.parallelism:0}") int parallelism,
+                          @Value("${app.recommendation.parallel.threshold:2000}") int threshold,
+                          @Value("${app.recommendation.parallel.chunk-size:500}") int chunkSize,
+                          RecommendationTimings timings) {
+        int workers = parallelism > 0
+                ? parallelism
+                : Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+        this.parallelEnabled = parallelEnabled && workers > 1;
+        this.threshold = Math.max(1, threshold);
+        this.chunkSize = Math.max(1, chunkSize);
+        this.timings = timings;
+        this.pool = this.parallelEnabled ? new ForkJoinPool(workers) : null;
+        log.info("추천 점수 계산기: 병렬={}, 작업자={}, 임계값={}, 청크={}",
+                this.parallelEnabled, workers, this.threshold, this.chunkSize);
+    }
+
+    /**
+     * 점수 상위 K개 (점수 내림차순)
+     *
+     * @param stage    단계별 소요 시간 집계용 이름
+     * @param minScore 이 값 이하인 후보는 제외
+     */
+    public <T> List<Scored<T>> topK(String stage, Collection<T> candidates, ToDoubleFunction<T> scorer,
+                                    double minScore, int k) {
+        if (k <= 0 || candidates.isEmpty()) {
+            return List.of();
+        }
+        long start = System.nanoTime();
+        boolean parallel = parallelEnabled && candidates.size() >= threshold;
+
+        PriorityQueue<Scored<T>> heap;
+        if (parallel) {
+            List<T> list = candidates instanceof List<T> l ? l : new ArrayList<>(candidates);
+            heap = pool.invoke(new ScoreTask<>(list, 0, list.size(), scorer, minScore, k, chunkSize));
+        } else {
+            heap = newHeap(k);
+            for (T candidate : candidates) {
+                offer(heap, candidate, scorer.applyAsDouble(candidate), minScore, k);
+            }
+        }
+
+        List<Scored<T>> result = new ArrayList<>(heap);
+        result.sort(BY_SCORE.reversed());
+        timings.record(stage + (parallel ? ".score.parallel" : ".score"), System.nanoTime() - start);
+        return result;
+    }
+
+    @Override
+    public void destroy() {
+        if (pool != null) {
+            pool.shutdown();
+        }
+    }
+
+    private static <T> PriorityQueue<Scored<T>> newHeap(int k) {
+        // 최소 힙: 루트가 현재 K등 점수
+        return new PriorityQueue<>(Math.min(k, 1024) + 1, BY_SCORE);
+    }
+
+    private static <T> void offer(PriorityQueue<Scored<T>> heap, T item, double score, double minScore, int k) {
+        if (score <= minScore) {
+            return;
+        }
+        if (heap.size() < k) {
+            heap.offer(new Scored<>(item, score));
+        } else if (score > heap.peek().score()) {
+            heap.poll();
+            heap.offer(new Scored<>(item, score));
+        }
+    }
+
+    /**
+     * 구간 [from, to) 점수 계산 - 청크 크기 이하가 될 때까지 반으로 나눈다.
+     */
+    private static final class ScoreTask<T> extends RecursiveTask<PriorityQueue<Scored<T>>> {
+        private final List<T> candidates;
+        private final int from;
+        private final int to;
+        private final ToDoubleFunction<T> scorer;
+        private final double minScore;
+        private final int k;
+        private final int chunkSize;
+
+        ScoreTask(List<T> candidates, int from, int to, ToDoubleFunction<T> scorer,
+                  double minScore, int k, int chunkSize) {
+            this.candidates = candidates;
+            this.from = from;
+            this.to = to;
+            this.scorer = scorer;
+            this.minScore = minScore;
+            this.k = k;
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        protected PriorityQueue<Scored<T>> compute() {
+            if (to - from <= chunkSize) {
+                PriorityQueue<Scored<T>> heap = newHeap(k);
+                for (int i = from; i < to; i++) {
+                    T candidate = candidates.get(i);
+                    offer(heap, candidate, scorer.applyAsDouble(candidate), minScore, k);
+                }
+                return heap;
+            }
+            int mid = (from + to) >>> 1;
+            ScoreTask<T> left = new ScoreTask<>(candidates, from, mid, scorer, minScore, k, chunkSize);
+            ScoreTask<T> right = new ScoreTask<>(candidates, mid, to, scorer, minScore, k, chunkSize);
+            left.fork();
+            PriorityQueue<Scored<T>> merged = right.compute();
+            for (Scored<T> scored : left.join()) {
+                offer(merged, scored.item(), scored.score(), minScore, k);
+            }
+            return merged;
+        }
+    }
+
+    public record Scored<T>(T item, double score) {
+    }
+}
@@ -0,0 +1,58 @@
+package com.travelmate.service.recommendation;
+
+/**
+ * 추천용 사용자 특성 벡터 (원시 타입 인코딩)
+ *
+ * @param styleMask     여행 스타일 비트 (TravelStyle ordinal 위치, 미설정 시 기본 스타일 묶음)
+ * @param interestBits  관심사 비트셋
+ * @param regionBits    선호 지역 비트셋
+ * @param ageBucket     연령대 (나이 / 10)
+ */
+public record ProfileVector(
+        long userId,
+        int styleMask,
+        long[] interestBits,
+        long[] regionBits,
+        byte ageBucket
+) {
+
+    /**
+     * 두 사용자 간 유사도 (0.0 ~ 1.0)
+     * 스타일 30%, 관심사 40%, 지역 20%, 연령대 10% 가중 합
+     */
+    public double similarity(ProfileVector other) {
+        double styleScore = jaccard(Integer.bitCount(styleMask & other.styleMask),
+                Integer.bitCount(styleMask), Integer.bitCount(other.styleMask));
+        double interestScore = jaccard(interestBits, other.interestBits);
+        double regionScore = jaccard(regionBits, other.regionBits);
+
+        int ageDiff = Math.abs(ageBucket - other.ageBucket);
+        double ageScore = ageDiff == 0 ? 1.0 : (ageDiff <= 1 ? 0.7 : 0.3);
+
+        return styleScore * 0.3 + interestScore * 0.4 + regionScore * 0.2 + ageScore * 0.1;
+    }
+
+    private static double jaccard(long[] a, long[] b) {
+        int intersection = 0;
+        for (int i = 0, n = Math.min(a.length, b.length); i < n; i++) {
+            intersection += Long.bitCount(a[i] & b[i]);
+        }
+        return jaccard(intersection, cardinality(a), cardinality(b));
+    }
+
+    // 한쪽이라도 비어 있으면 중립값 0.5 (Jaccard = |A∩B| / |A∪B|)
+    private static double jaccard(int intersection, int sizeA, int sizeB) {
+        if (sizeA == 0 || sizeB == 0) {
+            return 0.5;
+        }
+        return (double) intersection / (sizeA + sizeB - intersection);
+    }
+
+    private static int cardinality(long[] words) {
+        int count = 0;
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+}
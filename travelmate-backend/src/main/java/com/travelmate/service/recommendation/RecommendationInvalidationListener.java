@@ -0,0 +1,50 @@
+package com.travelmate.service.recommendation;
+
+import com.travelmate.event.GroupChangedEvent;
+import com.travelmate.event.GroupMembershipChangedEvent;
+import com.travelmate.event.UserProfileChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 도메인 이벤트에 따라 영향받는 추천 목록만 무효화 (트랜잭션 커밋 후)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RecommendationInvalidationListener {
+
+    private final RecommendationStore recommendationStore;
+
+    /**
+     * 프로필 변경: 본인 목록과 이 사용자가 포함된 동행자 목록
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserProfileChanged(UserProfileChangedEvent event) {
+        recommendationStore.evictUser(event.userId());
+        recommendationStore.evictTravelMateReferences(event.userId());
+    }
+
+    /**
+     * 그룹 변경: 수정/마감/삭제된 그룹이 포함된 그룹 목록
+     * 새 그룹은 특정 사용자에 묶이지 않으므로 주기적 갱신에서 반영한다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGroupChanged(GroupChangedEvent event) {
+        if (event.type() != GroupChangedEvent.Type.CREATED) {
+            recommendationStore.evictGroupReferences(event.groupId());
+        }
+    }
+
+    /**
+     * 참여/탈퇴: 본인의 그룹 목록 (가입 그룹 제외 조건이 바뀜)과
+     * 이 그룹이 포함된 모든 그룹 목록 (인원/인기도와 멤버 기반 협업 점수가 바뀜)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMembershipChanged(GroupMembershipChangedEvent event) {
+        recommendationStore.evictGroups(event.userId());
+        recommendationStore.evictGroupReferences(event.groupId());
+    }
+}
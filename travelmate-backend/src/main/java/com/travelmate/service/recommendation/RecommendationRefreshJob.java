@@ -0,0 +1,68 @@
+package com.travelmate.service.recommendation;
+
+import com.travelmate.entity.TravelGroup;
+import com.travelmate.repository.TravelGroupRepository;
+import com.travelmate.repository.UserRepository;
+import com.travelmate.service.RecommendationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 추천 목록 주기적 사전 계산
+ * 최근 활동한 사용자를 ID 순으로 나눠 배치마다 그룹/동행자 추천을 계산해 저장소에 넣는다.
+ * 그룹 목록은 실행마다 한 번만 조회하고, 배치마다 별도의 짧은 읽기 트랜잭션을 사용한다.
+ * 새로 생성된 그룹처럼 대상을 특정할 수 없는 변경은 이 갱신 주기 안에 반영된다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RecommendationRefreshJob {
+
+    private final UserRepository userRepository;
+    private final TravelGroupRepository travelGroupRepository;
+    private final RecommendationService recommendationService;
+    private final RecommendationTimings timings;
+
+    @Value("${app.recommendation.refresh.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${app.recommendation.refresh.batch-size:100}")
+    private int batchSize = 100;
+
+    @Value("${app.recommendation.refresh.active-days:7}")
+    private int activeDays = 7;
+
+    @Scheduled(fixedDelayString = "${app.recommendation.refresh.interval-ms:900000}",
+               initialDelayString = "${app.recommendation.refresh.initial-delay-ms:60000}")
+    public void refresh() {
+        if (!enabled) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+        LocalDateTime since = LocalDateTime.now().minusDays(activeDays);
+        long afterId = 0L;
+        int total = 0;
+        try {
+            List<TravelGroup> groups = travelGroupRepository.findAll();
+            while (true) {
+                List<Long> userIds = userRepository.findRecentlyActiveUserIds(
+                        since, afterId, PageRequest.of(0, batchSize));
+                if (userIds.isEmpty()) {
+                    break;
+                }
+                total += timings.time("materialize.batch", () -> recommendationService.materialize(userIds, groups));
+                afterId = userIds.get(userIds.size() - 1);
+            }
+            log.info("추천 목록 사전 계산 완료: {}명, {}ms", total, System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.error("추천 목록 사전 계산 실패 ({}명까지 완료)", total, e);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.travelmate.service.recommendation;
+
+import com.travelmate.dto.RecommendationDto;
+
+import java.util.List;
+
+/**
+ * 사용자별 사전 계산된 추천 목록 저장소
+ * Redis 또는 인메모리 구현체를 사용할 수 있음 (RecommendationCacheConfig 참고)
+ */
+public interface RecommendationStore {
+
+    // 그룹 추천 목록 조회 (없거나 만료되면 null)
+    List<RecommendationDto.GroupRecommendation> getGroups(Long userId);
+
+    void putGroups(Long userId, List<RecommendationDto.GroupRecommendation> recommendations);
+
+    // 동행자 추천 목록 조회 (없거나 만료되면 null)
+    List<RecommendationDto.UserRecommendation> getTravelMates(Long userId);
+
+    void putTravelMates(Long userId, List<RecommendationDto.UserRecommendation> recommendations);
+
+    // 사용자 본인의 그룹/동행자 추천 목록 삭제
+    void evictUser(Long userId);
+
+    // 사용자 본인의 그룹 추천 목록 삭제
+    void evictGroups(Long userId);
+
+    // 해당 그룹이 포함된 모든 사용자의 그룹 추천 목록 삭제
+    void evictGroupReferences(Long groupId);
+
+    // 해당 사용자가 포함된 모든 사용자의 동행자 추천 목록 삭제
+    void evictTravelMateReferences(Long userId);
+}
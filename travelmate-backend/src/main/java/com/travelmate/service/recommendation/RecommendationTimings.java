@@ -0,0 +1,80 @@
+package com.travelmate.service.recommendation;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 추천 파이프라인 단계별 소요 시간 집계
+ * 단계 이름별로 호출 수/누적/최대 시간을 모아 두고 주기적으로 로그에 남긴다. (추후 모니터링 연동)
+ */
+@Component
+@Slf4j
+public class RecommendationTimings {
+
+    private final Map<String, StageStats> stages = new ConcurrentHashMap<>();
+
+    public <T> T time(String stage, Supplier<T> work) {
+        long start = System.nanoTime();
+        try {
+            return work.get();
+        } finally {
+            record(stage, System.nanoTime() - start);
+        }
+    }
+
+    public void record(String stage, long elapsedNanos) {
+        stages.computeIfAbsent(stage, s -> new StageStats()).add(elapsedNanos);
+    }
+
+    /**
+     * 단계별 현재 집계 (단계 이름 순)
+     */
+    public Map<String, StageSnapshot> snapshot() {
+        Map<String, StageSnapshot> result = new TreeMap<>();
+        stages.forEach((stage, stats) -> result.put(stage, stats.snapshot()));
+        return result;
+    }
+
+    /**
+     * 직전 주기 동안의 단계별 소요 시간 로그 후 초기화
+     */
+    @Scheduled(fixedDelayString = "${app.recommendation.timings.log-interval-ms:300000}")
+    public void logAndReset() {
+        Map<String, StageSnapshot> current = snapshot();
+        if (current.isEmpty()) {
+            return;
+        }
+        stages.clear();
+        current.forEach((stage, s) -> log.info("추천 단계 소요시간 [{}] 호출={} 평균={}ms 최대={}ms",
+                stage, s.count(), String.format("%.2f", s.avgMillis()), String.format("%.2f", s.maxMillis())));
+    }
+
+    public record StageSnapshot(long count, double avgMillis, double maxMillis) {
+    }
+
+    private static final class StageStats {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0L);
+
+        void add(long nanos) {
+            count.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulate(nanos);
+        }
+
+        StageSnapshot snapshot() {
+            long n = count.sum();
+            double avg = n == 0 ? 0.0 : totalNanos.sum() / (double) n / 1_000_000.0;
+            return new StageSnapshot(n, avg, maxNanos.get() / 1_000_000.0);
+        }
+    }
+}
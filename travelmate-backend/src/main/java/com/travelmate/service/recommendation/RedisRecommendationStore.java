@@ -0,0 +1,110 @@
+package com.travelmate.service.recommendation;
+
+import com.travelmate.dto.RecommendationDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Redis 추천 저장소
+ * 목록은 사용자별 키에 TTL과 함께 저장하고, 선택적 무효화를 위해 그룹/동행자별 역참조 집합을 함께 유지한다.
+ * 역참조 집합에 남은 오래된 항목은 불필요한 삭제만 일으키므로 TTL로 정리되도록 둔다.
+ */
+@Slf4j
+public class RedisRecommendationStore implements RecommendationStore {
+
+    private static final String GROUPS_PREFIX = "recommendation:groups:";
+    private static final String MATES_PREFIX = "recommendation:mates:";
+    private static final String GROUP_REFS_PREFIX = "recommendation:group-refs:";
+    private static final String MATE_REFS_PREFIX = "recommendation:mate-refs:";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final Duration ttl;
+
+    public RedisRecommendationStore(RedisTemplate<String, Object> redisTemplate, Duration ttl) {
+        this.redisTemplate = redisTemplate;
+        this.ttl = ttl;
+    }
+
+    @Override
+    public List<RecommendationDto.GroupRecommendation> getGroups(Long userId) {
+        return read(GROUPS_PREFIX + userId);
+    }
+
+    @Override
+    public void putGroups(Long userId, List<RecommendationDto.GroupRecommendation> recommendations) {
+        write(GROUPS_PREFIX + userId, userId, recommendations, r -> GROUP_REFS_PREFIX + r.getGroupId());
+    }
+
+    @Override
+    public List<RecommendationDto.UserRecommendation> getTravelMates(Long userId) {
+        return read(MATES_PREFIX + userId);
+    }
+
+    @Override
+    public void putTravelMates(Long userId, List<RecommendationDto.UserRecommendation> recommendations) {
+        write(MATES_PREFIX + userId, userId, recommendations, r -> MATE_REFS_PREFIX + r.getUserId());
+    }
+
+    @Override
+    public void evictUser(Long userId) {
+        redisTemplate.delete(List.of(GROUPS_PREFIX + userId, MATES_PREFIX + userId));
+    }
+
+    @Override
+    public void evictGroups(Long userId) {
+        redisTemplate.delete(GROUPS_PREFIX + userId);
+    }
+
+    @Override
+    public void evictGroupReferences(Long groupId) {
+        evictReferences(GROUP_REFS_PREFIX + groupId, GROUPS_PREFIX);
+    }
+
+    @Override
+    public void evictTravelMateReferences(Long userId) {
+        evictReferences(MATE_REFS_PREFIX + userId, MATES_PREFIX);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> List<T> read(String key) {
+        return (List<T>) redisTemplate.opsForValue().get(key);
+    }
+
+    // 목록 저장과 역참조 갱신을 한 번의 파이프라인으로 전송
+    private <T> void write(String key, Long userId, List<T> recommendations, Function<T, String> refKey) {
+        ArrayList<T> value = new ArrayList<>(recommendations);
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                operations.opsForValue().set(key, value, ttl);
+                for (T recommendation : value) {
+                    String ref = refKey.apply(recommendation);
+                    operations.opsForSet().add(ref, userId);
+                    operations.expire(ref, ttl);
+                }
+                return null;
+            }
+        });
+    }
+
+    private void evictReferences(String refKey, String listPrefix) {
+        Set<Object> userIds = redisTemplate.opsForSet().members(refKey);
+        List<String> keys = new ArrayList<>();
+        keys.add(refKey);
+        if (userIds != null) {
+            userIds.forEach(id -> keys.add(listPrefix + id));
+        }
+        redisTemplate.delete(keys);
+        log.debug("추천 목록 무효화: {} ({}건)", refKey, keys.size() - 1);
+    }
+}
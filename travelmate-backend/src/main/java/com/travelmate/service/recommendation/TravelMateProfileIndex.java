@@ -0,0 +1,191 @@
+package com.travelmate.service.recommendation;
+
+import com.travelmate.entity.User;
+import com.travelmate.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 동행자 추천용 사용자 특성 벡터 인덱스
+ * 활성 사용자마다 원시 타입으로 인코딩한 프로필을 메모리에 유지하고,
+ * 추천 요청 시 엔티티 로딩 없이 비트 연산으로 점수를 매겨 상위 K명만 뽑는다.
+ * 프로필 변경은 즉시 반영하고, 주기적으로 DB 스냅샷과 맞춰 놓친 변경을 바로잡는다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TravelMateProfileIndex {
+
+    // RecommendationService.extractUserPreferences 와 동일한 기본값
+    static final List<String> DEFAULT_INTERESTS = List.of("FOOD", "HISTORY", "PHOTOGRAPHY");
+    static final List<String> DEFAULT_REGIONS = List.of("ASIA", "EUROPE");
+    static final int DEFAULT_AGE = 30;
+
+    // 여행 스타일 미설정 사용자는 ADVENTURE + CULTURAL(열거형에 없는 값) 묶음으로 간주
+    private static final int DEFAULT_STYLE_MASK =
+            (1 << User.TravelStyle.ADVENTURE.ordinal()) | (1 << User.TravelStyle.values().length);
+
+    private final UserRepository userRepository;
+    private final ParallelScorer parallelScorer;
+
+    private final FeatureDictionary interestDictionary = new FeatureDictionary();
+    private final FeatureDictionary regionDictionary = new FeatureDictionary();
+    private final Map<Long, ProfileVector> vectors = new ConcurrentHashMap<>();
+    // 선호 지역은 아직 프로필에 없어 모든 사용자가 기본 지역을 공유
+    private final long[] defaultRegionBits = regionDictionary.encode(DEFAULT_REGIONS);
+    private final ReentrantLock warmUpLock = new ReentrantLock();
+    // 적재 중 스냅샷이 덮어쓰면 안 되는 사용자 (적재마다 새 집합으로 교체)
+    private volatile Set<Long> touched = ConcurrentHashMap.newKeySet();
+    private volatile boolean ready = false;
+
+    /**
+     * 활성 사용자 프로필 적재 (엔티티 대신 필요한 컬럼만 조회)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        warmUpLock.lock();
+        try {
+            if (!ready) {
+                load();
+            }
+        } finally {
+            warmUpLock.unlock();
+        }
+    }
+
+    /**
+     * DB 스냅샷으로 인덱스를 맞춘다 (놓친 갱신, 다른 인스턴스의 변경 보정)
+     */
+    @Scheduled(fixedDelayString = "${app.recommendation.profile-index.reconcile-interval-ms:600000}",
+               initialDelayString = "${app.recommendation.profile-index.reconcile-interval-ms:600000}")
+    public void reload() {
+        if (!warmUpLock.tryLock()) {
+            return;
+        }
+        try {
+            load();
+        } finally {
+            warmUpLock.unlock();
+        }
+    }
+
+    // 직전/이번 적재 이후 직접 반영된 사용자는 스냅샷보다 새 값일 수 있으므로 건드리지 않는다
+    private void load() {
+        try {
+            Set<Long> previous = touched;
+            Set<Long> current = ConcurrentHashMap.newKeySet();
+            touched = current;
+
+            Map<Long, List<String>> interests = new HashMap<>();
+            for (Object[] row : userRepository.findActiveInterestSnapshot()) {
+                interests.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add((String) row[1]);
+            }
+            // 직접 반영 여부는 사용자별 갱신 안에서 확인 (확인과 쓰기 사이에 끼어든 반영을 덮어쓰지 않도록)
+            Set<Long> loaded = new HashSet<>();
+            for (Object[] row : userRepository.findActiveProfileSnapshot()) {
+                Long userId = (Long) row[0];
+                loaded.add(userId);
+                ProfileVector vector = encode(userId, (User.TravelStyle) row[1], (Integer) row[2],
+                        interests.getOrDefault(userId, List.of()));
+                vectors.compute(userId, (id, existing) ->
+                        previous.contains(id) || current.contains(id) ? existing : vector);
+            }
+            for (Long userId : new ArrayList<>(vectors.keySet())) {
+                if (!loaded.contains(userId)) {
+                    vectors.computeIfPresent(userId, (id, existing) ->
+                            previous.contains(id) || current.contains(id) ? existing : null);
+                }
+            }
+            ready = true;
+            log.info("추천 프로필 인덱스 적재 완료: {}명, 관심사 {}종", vectors.size(), interestDictionary.size());
+        } catch (Exception e) {
+            log.error("추천 프로필 인덱스 적재 실패", e);
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 프로필 변경 반영 (가입/프로필 수정/비활성화 시 호출)
+     */
+    public void upsert(User user) {
+        if (user.getId() == null) {
+            return;
+        }
+        touched.add(user.getId());
+        if (!Boolean.TRUE.equals(user.getIsActive())) {
+            vectors.remove(user.getId());
+            return;
+        }
+        vectors.put(user.getId(), vectorOf(user));
+    }
+
+    public void remove(Long userId) {
+        touched.add(userId);
+        vectors.remove(userId);
+    }
+
+    /**
+     * 인덱스에 있는 사용자 벡터 (비활성/미적재 사용자는 null)
+     */
+    public ProfileVector get(Long userId) {
+        return vectors.get(userId);
+    }
+
+    /**
+     * 사용자 엔티티를 특성 벡터로 인코딩 (인덱스에는 저장하지 않음)
+     */
+    public ProfileVector vectorOf(User user) {
+        return encode(user.getId(), user.getTravelStyle(), user.getAge(),
+                user.getInterests() != null ? user.getInterests() : List.of());
+    }
+
+    /**
+     * 유사도 상위 K명 (유사도 내림차순)
+     *
+     * @param minSimilarity 이 값 이하인 후보는 제외
+     */
+    public List<ScoredUser> topK(ProfileVector query, int k, double minSimilarity) {
+        // 본인은 최소 유사도 이하로 취급해 제외
+        List<ParallelScorer.Scored<ProfileVector>> scored = parallelScorer.topK("travel-mates", vectors.values(),
+                candidate -> candidate.userId() == query.userId()
+                        ? Double.NEGATIVE_INFINITY
+                        : query.similarity(candidate),
+                minSimilarity, k);
+
+        List<ScoredUser> result = new ArrayList<>(scored.size());
+        for (ParallelScorer.Scored<ProfileVector> s : scored) {
+            result.add(new ScoredUser(s.item().userId(), s.score()));
+        }
+        return result;
+    }
+
+    public int size() {
+        return vectors.size();
+    }
+
+    private ProfileVector encode(Long userId, User.TravelStyle travelStyle, Integer age, List<String> interests) {
+        int styleMask = travelStyle != null ? 1 << travelStyle.ordinal() : DEFAULT_STYLE_MASK;
+        long[] interestBits = interestDictionary.encode(interests.isEmpty() ? DEFAULT_INTERESTS : interests);
+        byte ageBucket = (byte) ((age != null ? age : DEFAULT_AGE) / 10);
+        return new ProfileVector(userId, styleMask, interestBits, defaultRegionBits, ageBucket);
+    }
+
+    public record ScoredUser(long userId, double similarity) {
+    }
+}
@@ -0,0 +1,92 @@
+package com.travelmate.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ExecutorMetrics 테스트")
+class ExecutorMetricsTest {
+
+    private final ExecutorMetrics metrics = new ExecutorMetrics();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private ThreadPoolTaskExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("성공 - abort 정책은 거부를 집계하고 예외로 알림")
+    void register_CountsRejections() throws InterruptedException {
+        // Given - 스레드 1개, 대기열 1개
+        executor = saturated("abort");
+
+        // When & Then
+        assertThatThrownBy(() -> executor.execute(() -> { }))
+                .isInstanceOf(RejectedExecutionException.class);
+        ExecutorMetrics.Snapshot snapshot = metrics.snapshot().get("test");
+        assertThat(snapshot.rejected()).isEqualTo(1);
+        assertThat(snapshot.queued()).isEqualTo(1);
+        assertThat(snapshot.active()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("성공 - caller-runs 정책은 호출 스레드에서 실행")
+    void register_CallerRuns() throws InterruptedException {
+        // Given
+        executor = saturated("caller-runs");
+        AtomicReference<Thread> ranOn = new AtomicReference<>();
+
+        // When
+        executor.execute(() -> ranOn.set(Thread.currentThread()));
+
+        // Then
+        assertThat(ranOn.get()).isSameAs(Thread.currentThread());
+        assertThat(metrics.snapshot().get("test").rejected()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("실패 - 지원하지 않는 포화 정책")
+    void register_UnknownPolicy() {
+        assertThatThrownBy(() -> metrics.register("test", new ThreadPoolTaskExecutor(), "drop-all"))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private ThreadPoolTaskExecutor saturated(String policy) throws InterruptedException {
+        ThreadPoolTaskExecutor pool = new ThreadPoolTaskExecutor();
+        pool.setCorePoolSize(1);
+        pool.setMaxPoolSize(1);
+        pool.setQueueCapacity(1);
+        metrics.register("test", pool, policy);
+        pool.initialize();
+
+        CountDownLatch started = new CountDownLatch(1);
+        pool.execute(() -> {
+            started.countDown();
+            awaitRelease();
+        });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        pool.execute(this::awaitRelease);
+        return pool;
+    }
+
+    private void awaitRelease() {
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.travelmate.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("VirtualThreadMode 테스트")
+class VirtualThreadModeTest {
+
+    @Test
+    @DisplayName("성공 - JDK 21 미만이면 요청해도 플랫폼 스레드 유지")
+    void apply_FallsBackBelowJdk21() throws Exception {
+        // Given
+        VirtualThreadMode mode = new VirtualThreadMode(true, 17);
+        ThreadPoolTaskExecutor executor = mode.apply(new ThreadPoolTaskExecutor());
+        executor.initialize();
+
+        try {
+            // When
+            boolean virtual = CompletableFuture.supplyAsync(VirtualThreadModeTest::isVirtual, executor)
+                    .get(5, TimeUnit.SECONDS);
+
+            // Then
+            assertThat(mode.isEnabled()).isFalse();
+            assertThat(virtual).isFalse();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("성공 - 요청하지 않으면 JDK 버전과 무관하게 비활성")
+    void disabledUnlessRequested() {
+        assertThat(new VirtualThreadMode(false, 21).isEnabled()).isFalse();
+        assertThat(new VirtualThreadMode(true, 21).isEnabled()).isTrue();
+    }
+
+    // JDK 17 에서도 컴파일되도록 리플렉션으로 확인
+    private static boolean isVirtual() {
+        try {
+            return (boolean) Thread.class.getMethod("isVirtual").invoke(Thread.currentThread());
+        } catch (ReflectiveOperationException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,237 @@
+package com.travelmate.config;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompBrokerRelayMessageHandler;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.junit.jupiter.web.SpringJUnitWebConfig;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 외부 STOMP 브로커 릴레이 통합 테스트
+ * 실제 브로커 대신 CONNECT 에 응답하고 수신 프레임을 기록하는 로컬 STOMP 서버를 사용한다.
+ */
+@SpringJUnitWebConfig(WebSocketConfig.class)
+@DisplayName("WebSocket 브로커 릴레이 통합 테스트")
+class WebSocketBrokerRelayIntegrationTest {
+
+    private static final StubStompBroker broker = StubStompBroker.start();
+
+    @Autowired
+    private StompBrokerRelayMessageHandler relayHandler;
+
+    @Autowired
+    private SimpMessagingTemplate messagingTemplate;
+
+    @Autowired
+    private ExecutorSubscribableChannel clientInboundChannel;
+
+    @DynamicPropertySource
+    static void brokerProperties(DynamicPropertyRegistry registry) {
+        registry.add("app.websocket.broker.mode", () -> "relay");
+        registry.add("app.websocket.broker.relay.host", () -> "127.0.0.1");
+        registry.add("app.websocket.broker.relay.port", broker::port);
+        registry.add("app.websocket.inbound.core-pool-size", () -> 3);
+        registry.add("app.websocket.inbound.queue-capacity", () -> 50);
+    }
+
+    @AfterAll
+    static void stopBroker() {
+        broker.stop();
+    }
+
+    @BeforeEach
+    void awaitBroker() {
+        await(relayHandler::isBrokerAvailable);
+    }
+
+    @Test
+    @DisplayName("성공 - 시스템 세션 연결 후 사용자 목적지 브로드캐스트 구독")
+    void relay_ConnectsSystemSession() {
+        // Then
+        await(() -> broker.frames("SUBSCRIBE").stream()
+                .anyMatch(f -> "/topic/unresolved-user-destination".equals(f.headers().get("destination"))));
+        Frame connect = broker.frames("CONNECT").get(0);
+        assertThat(connect.headers()).containsEntry("login", "guest");
+    }
+
+    @Test
+    @DisplayName("성공 - 서버 메시지를 외부 브로커로 릴레이")
+    void relay_ForwardsTopicMessage() {
+        // When
+        messagingTemplate.convertAndSend("/topic/chat/1", "hello");
+
+        // Then
+        await(() -> broker.frames("SEND").stream()
+                .anyMatch(f -> "/topic/chat/1".equals(f.headers().get("destination"))
+                        && f.body().contains("hello")));
+    }
+
+    @Test
+    @DisplayName("성공 - 로컬 세션이 없는 사용자 메시지는 브로드캐스트 목적지로 전달")
+    void relay_BroadcastsUnresolvedUserDestination() {
+        // When
+        messagingTemplate.convertAndSendToUser("ghost", "/queue/notifications", "ping");
+
+        // Then
+        await(() -> broker.frames("SEND").stream()
+                .anyMatch(f -> "/topic/unresolved-user-destination".equals(f.headers().get("destination"))
+                        && f.body().contains("ping")));
+    }
+
+    @Test
+    @DisplayName("성공 - 클라이언트 수신 채널 스레드 풀 설정 적용")
+    void inboundChannel_UsesConfiguredPool() {
+        // When
+        ThreadPoolTaskExecutor executor = (ThreadPoolTaskExecutor) clientInboundChannel.getExecutor();
+
+        // Then
+        assertThat(executor).isNotNull();
+        assertThat(executor.getCorePoolSize()).isEqualTo(3);
+        assertThat(executor.getQueueCapacity()).isEqualTo(50);
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                fail("조건이 10초 안에 충족되지 않았습니다");
+            }
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                fail("대기 중 인터럽트");
+            }
+        }
+    }
+
+    record Frame(String command, Map<String, String> headers, String body) {
+    }
+
+    /**
+     * 최소 STOMP 브로커 대역: CONNECT 에 CONNECTED 로 응답하고 나머지 프레임은 기록만 한다.
+     */
+    static class StubStompBroker {
+
+        private final ServerSocket serverSocket;
+        private final List<Frame> frames = new CopyOnWriteArrayList<>();
+        private final List<Socket> clients = new CopyOnWriteArrayList<>();
+
+        private StubStompBroker(ServerSocket serverSocket) {
+            this.serverSocket = serverSocket;
+        }
+
+        static StubStompBroker start() {
+            try {
+                StubStompBroker broker = new StubStompBroker(new ServerSocket(0, 50, InetAddress.getLoopbackAddress()));
+                Thread acceptor = new Thread(broker::acceptLoop, "stub-stomp-broker");
+                acceptor.setDaemon(true);
+                acceptor.start();
+                return broker;
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        int port() {
+            return serverSocket.getLocalPort();
+        }
+
+        List<Frame> frames(String command) {
+            return frames.stream().filter(f -> f.command().equals(command)).toList();
+        }
+
+        void stop() {
+            try {
+                serverSocket.close();
+                for (Socket client : clients) {
+                    client.close();
+                }
+            } catch (IOException ignored) {
+            }
+        }
+
+        private void acceptLoop() {
+            while (!serverSocket.isClosed()) {
+                try {
+                    Socket client = serverSocket.accept();
+                    clients.add(client);
+                    Thread reader = new Thread(() -> serve(client), "stub-stomp-client");
+                    reader.setDaemon(true);
+                    reader.start();
+                } catch (IOException e) {
+                    return;
+                }
+            }
+        }
+
+        private void serve(Socket client) {
+            try (InputStream in = client.getInputStream(); OutputStream out = client.getOutputStream()) {
+                Frame frame;
+                while ((frame = readFrame(in)) != null) {
+                    frames.add(frame);
+                    if (frame.command().equals("CONNECT") || frame.command().equals("STOMP")) {
+                        out.write("CONNECTED\nversion:1.2\nheart-beat:0,0\n\n\0".getBytes(StandardCharsets.UTF_8));
+                        out.flush();
+                    }
+                }
+            } catch (IOException ignored) {
+            }
+        }
+
+        private Frame readFrame(InputStream in) throws IOException {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            int b;
+            while ((b = in.read()) != -1) {
+                if (b == 0) {
+                    String raw = buffer.toString(StandardCharsets.UTF_8).replaceFirst("^[\\r\\n]+", "");
+                    if (raw.isEmpty()) {
+                        buffer.reset();
+                        continue;
+                    }
+                    return parse(raw);
+                }
+                buffer.write(b);
+            }
+            return null;
+        }
+
+        private Frame parse(String raw) {
+            int split = raw.indexOf("\n\n");
+            String head = split >= 0 ? raw.substring(0, split) : raw;
+            String body = split >= 0 ? raw.substring(split + 2) : "";
+            String[] lines = head.split("\n");
+            Map<String, String> headers = new LinkedHashMap<>();
+            for (int i = 1; i < lines.length; i++) {
+                int colon = lines[i].indexOf(':');
+                if (colon > 0) {
+                    headers.putIfAbsent(lines[i].substring(0, colon), lines[i].substring(colon + 1));
+                }
+            }
+            return new Frame(lines[0].trim(), headers, body);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.travelmate.controller;
+
+import com.travelmate.entity.User;
+import com.travelmate.repository.UserRepository;
+import com.travelmate.security.JwtAuthenticationFilter;
+import com.travelmate.service.JwtService;
+import com.travelmate.service.point.PointGrantPipeline;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * PointAdminController 권한 테스트
+ */
+@WebMvcTest(controllers = PointAdminController.class,
+        excludeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE,
+                classes = {JwtAuthenticationFilter.class}))
+@org.springframework.context.annotation.Import(com.travelmate.config.TestSecurityConfig.class)
+class PointAdminControllerTest {
+
+    private static final String GRANT_REQUEST = """
+            {"grants": [{"userId": 2, "amount": 100, "source": "ADMIN", "referenceId": 7, "referenceType": "EVENT"}]}
+            """;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private PointGrantPipeline pointGrantPipeline;
+
+    @MockBean
+    private UserRepository userRepository;
+
+    @MockBean
+    private JwtService jwtService;
+
+    @BeforeEach
+    void setUp() {
+        UsernamePasswordAuthenticationToken auth = new UsernamePasswordAuthenticationToken(
+                "1", null, Collections.emptyList());
+        SecurityContextHolder.getContext().setAuthentication(auth);
+    }
+
+    @Test
+    void 일반_사용자는_포인트_대량_지급_불가() throws Exception {
+        // Given
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user(User.Role.USER)));
+
+        // When & Then
+        mockMvc.perform(post("/api/admin/points/grants")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(GRANT_REQUEST))
+                .andExpect(status().isForbidden());
+
+        verifyNoInteractions(pointGrantPipeline);
+    }
+
+    @Test
+    void 관리자는_포인트_대량_지급_가능() throws Exception {
+        // Given
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user(User.Role.ADMIN)));
+        when(pointGrantPipeline.grant(anyList()))
+                .thenReturn(new PointGrantPipeline.Result(1, 1, 0, 0, 0, 0, 100L, 5L));
+
+        // When & Then
+        mockMvc.perform(post("/api/admin/points/grants")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(GRANT_REQUEST))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.granted").value(1));
+
+        verify(pointGrantPipeline, times(1)).grant(anyList());
+    }
+
+    private static User user(User.Role role) {
+        User user = new User();
+        user.setId(1L);
+        user.setRole(role);
+        return user;
+    }
+}
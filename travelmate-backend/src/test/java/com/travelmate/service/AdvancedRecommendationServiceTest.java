@@ -0,0 +1,40 @@
+package com.travelmate.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.annotation.AnnotationTransactionAttributeSource;
+import org.springframework.transaction.interceptor.TransactionAttribute;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("AdvancedRecommendationService 테스트")
+class AdvancedRecommendationServiceTest {
+
+    private final AnnotationTransactionAttributeSource attributeSource = new AnnotationTransactionAttributeSource();
+
+    @Test
+    @DisplayName("성공 - 매칭 알림을 기록하는 지능형 매칭은 쓰기 트랜잭션에서 실행")
+    void performIntelligentMatching_RunsInReadWriteTransaction() throws NoSuchMethodException {
+        // When
+        TransactionAttribute attribute = attributeSource.getTransactionAttribute(
+                AdvancedRecommendationService.class.getMethod("performIntelligentMatching", Long.class),
+                AdvancedRecommendationService.class);
+
+        // Then
+        assertThat(attribute).isNotNull();
+        assertThat(attribute.isReadOnly()).isFalse();
+    }
+
+    @Test
+    @DisplayName("성공 - 조회 전용 추천은 읽기 전용 트랜잭션 유지")
+    void getPersonalizedRecommendations_StaysReadOnly() throws NoSuchMethodException {
+        // When
+        TransactionAttribute attribute = attributeSource.getTransactionAttribute(
+                AdvancedRecommendationService.class.getMethod("getPersonalizedRecommendations", Long.class),
+                AdvancedRecommendationService.class);
+
+        // Then
+        assertThat(attribute).isNotNull();
+        assertThat(attribute.isReadOnly()).isTrue();
+    }
+}
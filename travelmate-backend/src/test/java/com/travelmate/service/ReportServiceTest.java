@@ -7,6 +7,8 @@ import com.travelmate.entity.User;
 import com.travelmate.exception.BusinessException;
 import com.travelmate.repository.ReportRepository;
 import com.travelmate.repository.UserRepository;
+import com.travelmate.service.geo.UserLocationIndex;
+import com.travelmate.service.recommendation.TravelMateProfileIndex;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -15,6 +17,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
@@ -38,6 +41,15 @@ class ReportServiceTest {
     @Mock
     private NotificationService notificationService;
 
+    @Mock
+    private UserLocationIndex userLocationIndex;
+
+    @Mock
+    private TravelMateProfileIndex travelMateProfileIndex;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private ReportService reportService;
 
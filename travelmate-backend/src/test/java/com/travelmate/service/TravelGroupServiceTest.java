@@ -4,10 +4,12 @@ import com.travelmate.dto.TravelGroupDto;
 import com.travelmate.entity.GroupMember;
 import com.travelmate.entity.TravelGroup;
 import com.travelmate.entity.User;
+import com.travelmate.event.GroupMembershipChangedEvent;
 import com.travelmate.exception.TravelGroupException;
 import com.travelmate.repository.GroupMemberRepository;
 import com.travelmate.repository.TravelGroupRepository;
 import com.travelmate.repository.UserRepository;
+import com.travelmate.service.recommendation.GroupProfileCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -16,6 +18,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -43,6 +46,12 @@ class TravelGroupServiceTest {
     @Mock
     private NotificationService notificationService;
 
+    @Mock
+    private GroupProfileCache groupProfileCache;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private TravelGroupService travelGroupService;
 
@@ -168,6 +177,8 @@ class TravelGroupServiceTest {
 
             // Then
             verify(groupMemberRepository).save(any(GroupMember.class));
+            verify(groupProfileCache).memberJoined(1L, 2L);
+            verify(eventPublisher).publishEvent(new GroupMembershipChangedEvent(1L, 2L, true));
             verify(notificationService).sendNotification(eq(1L), anyString());
         }
 
@@ -240,6 +251,8 @@ class TravelGroupServiceTest {
 
             // Then
             verify(groupMemberRepository).delete(memberRecord);
+            verify(groupProfileCache).memberLeft(1L, 2L);
+            verify(eventPublisher).publishEvent(new GroupMembershipChangedEvent(1L, 2L, false));
         }
 
         @Test
@@ -0,0 +1,94 @@
+package com.travelmate.service.achievement;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.travelmate.entity.nft.Achievement;
+import com.travelmate.entity.nft.AchievementType;
+import com.travelmate.entity.nft.LocationCategory;
+import com.travelmate.entity.nft.Rarity;
+import com.travelmate.repository.nft.AchievementRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AchievementIndex 테스트")
+class AchievementIndexTest {
+
+    @Mock
+    private AchievementRepository achievementRepository;
+
+    private AchievementIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new AchievementIndex(achievementRepository, new ObjectMapper());
+    }
+
+    @Test
+    @DisplayName("성공 - 수집한 NFT 의 희귀도/카테고리/지역에 맞는 업적만 후보로 반환")
+    void candidates_OnlyMatchingDimensions() {
+        // Given
+        when(achievementRepository.findByTypeAndIsActiveTrueOrderByDisplayOrderAsc(AchievementType.COLLECTION))
+                .thenReturn(List.of(
+                        achievement(1L, "{\"type\":\"TOTAL_COLLECT\",\"target\":1}"),
+                        achievement(2L, "{\"type\":\"RARITY_COLLECT\",\"target\":3,\"rarity\":\"EPIC\"}"),
+                        achievement(3L, "{\"type\":\"RARITY_COLLECT\",\"target\":3,\"rarity\":\"COMMON\"}"),
+                        achievement(4L, "{\"type\":\"CATEGORY_COLLECT\",\"target\":5,\"category\":\"NATURE\"}"),
+                        achievement(5L, "{\"type\":\"REGION_COLLECT\",\"target\":10,\"region\":\"제주도\"}"),
+                        achievement(6L, "{\"type\":\"REGION_COLLECT\",\"target\":10,\"region\":\"유럽\"}"),
+                        achievement(7L, "{\"type\":\"RARITY_COLLECT\",\"rarity\":\"MYTHIC\"}"),
+                        achievement(8L, "not json")));
+        index.reload();
+
+        // When
+        List<AchievementIndex.Entry> candidates = index.candidates(Rarity.EPIC, LocationCategory.NATURE, "제주도");
+
+        // Then - 잘못된 희귀도는 제외, 파싱 실패는 기존과 같이 첫 수집 업적으로 취급
+        assertThat(candidates).extracting(AchievementIndex.Entry::achievementId)
+                .containsExactlyInAnyOrder(1L, 8L, 2L, 4L, 5L);
+        assertThat(candidates).allSatisfy(entry ->
+                assertThat(entry.condition().matches(Rarity.EPIC, LocationCategory.NATURE, "제주도")).isTrue());
+        assertThat(index.candidates(Rarity.COMMON, LocationCategory.CITY, null))
+                .extracting(AchievementIndex.Entry::achievementId)
+                .containsExactlyInAnyOrder(1L, 8L, 3L);
+    }
+
+    @Test
+    @DisplayName("성공 - 조건은 한 번만 컴파일하고 conditionJson 이 바뀌면 다시 컴파일")
+    void conditionOf_CompilesOnce() {
+        // Given
+        Achievement achievement = achievement(1L, "{\"type\":\"CATEGORY_COLLECT\",\"target\":4,\"category\":\"CITY\"}");
+
+        // When
+        AchievementCondition first = index.conditionOf(achievement);
+        AchievementCondition second = index.conditionOf(achievement);
+        achievement.setConditionJson("{\"type\":\"TOTAL_COLLECT\",\"target\":2}");
+        AchievementCondition changed = index.conditionOf(achievement);
+
+        // Then
+        assertThat(second).isSameAs(first);
+        assertThat(first.kind()).isEqualTo(AchievementCondition.Kind.CATEGORY_COLLECT);
+        assertThat(first.target()).isEqualTo(4);
+        assertThat(changed.kind()).isEqualTo(AchievementCondition.Kind.TOTAL_COLLECT);
+        assertThat(changed.target()).isEqualTo(2);
+    }
+
+    private Achievement achievement(Long id, String conditionJson) {
+        return Achievement.builder()
+                .id(id)
+                .code("A" + id)
+                .name("업적 " + id)
+                .type(AchievementType.COLLECTION)
+                .rarity(Rarity.COMMON)
+                .conditionJson(conditionJson)
+                .build();
+    }
+}
@@ -0,0 +1,64 @@
+package com.travelmate.service.chat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ChatMessageIdGenerator 테스트")
+class ChatMessageIdGeneratorTest {
+
+    private static final long NOW = ChatMessageIdGenerator.EPOCH_MILLIS + 1_000_000L;
+
+    @Test
+    @DisplayName("성공 - 같은 밀리초 안에서도 단조 증가하고 발급 시각을 복원")
+    void nextId_MonotonicWithinMillisecond() {
+        // Given
+        ChatMessageIdGenerator generator = new ChatMessageIdGenerator(3);
+
+        // When
+        long first = generator.nextId(NOW);
+        long second = generator.nextId(NOW);
+
+        // Then
+        assertThat(second).isGreaterThan(first);
+        assertThat(ChatMessageIdGenerator.timestampOf(first)).isEqualTo(NOW);
+        assertThat((first >> ChatMessageIdGenerator.SEQUENCE_BITS) & ChatMessageIdGenerator.MAX_NODE_ID).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("성공 - 시계가 뒤로 가거나 시퀀스가 소진돼도 증가")
+    void nextId_ClockSkewAndSequenceOverflow() {
+        // Given
+        ChatMessageIdGenerator generator = new ChatMessageIdGenerator(0);
+        long last = generator.nextId(NOW);
+
+        // When & Then
+        for (int i = 0; i < 1000; i++) {
+            long next = generator.nextId(NOW - 5);
+            assertThat(next).isGreaterThan(last);
+            last = next;
+        }
+    }
+
+    @Test
+    @DisplayName("성공 - JavaScript 안전 정수 범위 내 (약 69년)")
+    void nextId_FitsJavaScriptSafeInteger() {
+        // Given
+        ChatMessageIdGenerator generator = new ChatMessageIdGenerator(ChatMessageIdGenerator.MAX_NODE_ID);
+        long farFuture = ChatMessageIdGenerator.EPOCH_MILLIS + 69L * 365 * 24 * 3600 * 1000;
+
+        // When
+        long id = generator.nextId(farFuture);
+
+        // Then
+        assertThat(id).isLessThanOrEqualTo((1L << 53) - 1);
+    }
+
+    @Test
+    @DisplayName("실패 - 노드 ID 범위 초과")
+    void constructor_InvalidNodeId() {
+        assertThatThrownBy(() -> new ChatMessageIdGenerator(16))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
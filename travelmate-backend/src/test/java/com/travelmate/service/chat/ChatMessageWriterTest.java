@@ -0,0 +1,185 @@
+package com.travelmate.service.chat;
+
+import com.travelmate.entity.ChatMessage;
+import com.travelmate.repository.ChatRoomRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ChatMessageWriter 테스트")
+class ChatMessageWriterTest {
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private ChatRoomRepository chatRoomRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final List<OutgoingMessage> delivered = new ArrayList<>();
+
+    @Nested
+    @DisplayName("write-behind 테스트")
+    class WriteBehindTest {
+
+        @Test
+        @DisplayName("성공 - 즉시 전달하고 플러시 때 배치 저장, 최근 메시지는 방별 한 번만 갱신")
+        void append_DeliversThenFlushesInBatch() {
+            // Given
+            ChatMessageWriter writer = writer(false, 1000, 900_000);
+
+            // When
+            writer.append(1L, id -> message(id, 1L, "안녕", ChatMessage.MessageType.TEXT), delivered::add);
+            writer.append(2L, id -> message(id, 2L, "방2", ChatMessage.MessageType.TEXT), delivered::add);
+            writer.append(1L, id -> message(id, 1L, "반가워요", ChatMessage.MessageType.TEXT), delivered::add);
+            writer.append(1L, id -> message(id, 1L, "입장", ChatMessage.MessageType.SYSTEM), delivered::add);
+
+            // Then - 플러시 전에는 DB 접근 없이 전달만
+            assertThat(delivered).hasSize(4);
+            assertThat(delivered).extracting(OutgoingMessage::id).isSorted();
+            assertThat(writer.pendingCount()).isEqualTo(4);
+            verifyNoInteractions(entityManager, chatRoomRepository);
+
+            // When
+            writer.flush();
+
+            // Then
+            ArgumentCaptor<ChatMessage> persisted = ArgumentCaptor.forClass(ChatMessage.class);
+            verify(entityManager, times(4)).persist(persisted.capture());
+            assertThat(persisted.getAllValues()).extracting(ChatMessage::getContent)
+                    .containsExactly("안녕", "반가워요", "입장", "방2");
+            verify(chatRoomRepository).updateLastMessage(eq(1L), eq("반가워요"), any());
+            verify(chatRoomRepository).updateLastMessage(eq(2L), eq("방2"), any());
+            verifyNoMoreInteractions(chatRoomRepository);
+            assertThat(writer.pendingCount()).isZero();
+            assertThat(writer.isPending(delivered.get(0).id())).isFalse();
+        }
+
+        @Test
+        @DisplayName("성공 - 채팅방별 기록 전 메시지 조회")
+        void pendingIn_ReturnsRoomMessagesUntilFlushed() {
+            // Given
+            ChatMessageWriter writer = writer(false, 1000, 900_000);
+            writer.append(1L, id -> message(id, 1L, "안녕", ChatMessage.MessageType.TEXT), delivered::add);
+            writer.append(2L, id -> message(id, 2L, "방2", ChatMessage.MessageType.TEXT), delivered::add);
+
+            // When & Then
+            assertThat(writer.pendingIn(1L)).extracting(OutgoingMessage::content).containsExactly("안녕");
+            writer.flush();
+            assertThat(writer.pendingIn(1L)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("실패 - 제약 위반 행만 골라내 dead-letter 로 돌리고 나머지는 기록")
+        void flush_IsolatesBadRow() {
+            // Given
+            ChatMessageWriter writer = writer(false, 1000, 900_000);
+            doAnswer(invocation -> {
+                ChatMessage entity = invocation.getArgument(0);
+                if ("불량".equals(entity.getContent())) {
+                    throw new DataIntegrityViolationException("FK 위반");
+                }
+                return null;
+            }).when(entityManager).persist(any());
+            writer.append(1L, id -> message(id, 1L, "앞", ChatMessage.MessageType.TEXT), delivered::add);
+            writer.append(1L, id -> message(id, 1L, "불량", ChatMessage.MessageType.TEXT), delivered::add);
+            writer.append(1L, id -> message(id, 1L, "뒤", ChatMessage.MessageType.TEXT), delivered::add);
+
+            // When
+            writer.flush();
+
+            // Then
+            assertThat(writer.pendingCount()).isZero();
+            verify(chatRoomRepository).updateLastMessage(eq(1L), eq("앞"), any());
+            verify(chatRoomRepository).updateLastMessage(eq(1L), eq("뒤"), any());
+            verifyNoMoreInteractions(chatRoomRepository);
+            verify(transactionManager, times(3)).rollback(any());
+        }
+
+        @Test
+        @DisplayName("실패 - 일시 오류는 폐기하지 않고 백오프가 지난 뒤에만 재시도")
+        void flush_BacksOffTransientFailure() {
+            // Given
+            ChatMessageWriter writer = writer(false, 60_000, 900_000);
+            doThrow(new RuntimeException("DB 연결 실패")).when(entityManager).persist(any());
+            writer.append(1L, id -> message(id, 1L, "안녕", ChatMessage.MessageType.TEXT), delivered::add);
+
+            // When
+            writer.flush();
+            writer.flush();
+
+            // Then
+            assertThat(writer.pendingCount()).isEqualTo(1);
+            verify(entityManager, times(1)).persist(any());
+            verify(transactionManager, times(1)).rollback(any());
+        }
+
+        @Test
+        @DisplayName("실패 - 재시도 기간이 지나면 dead-letter 로 남기고 대기열에서 제거")
+        void flush_DeadLettersAfterRetryWindow() {
+            // Given
+            ChatMessageWriter writer = writer(false, 0, 0);
+            doThrow(new RuntimeException("DB 연결 실패")).when(entityManager).persist(any());
+            writer.append(1L, id -> message(id, 1L, "안녕", ChatMessage.MessageType.TEXT), delivered::add);
+
+            // When
+            writer.flush();
+
+            // Then
+            assertThat(writer.pendingCount()).isZero();
+            assertThat(writer.isPending(delivered.get(0).id())).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("write-through 테스트")
+    class WriteThroughTest {
+
+        @Test
+        @DisplayName("성공 - 저장 후 전달")
+        void append_PersistsBeforeDelivery() {
+            // Given
+            ChatMessageWriter writer = writer(true, 1000, 900_000);
+            Runnable deliveredHook = mock(Runnable.class);
+
+            // When
+            writer.append(1L, id -> message(id, 1L, "안녕", ChatMessage.MessageType.TEXT), m -> deliveredHook.run());
+
+            // Then
+            InOrder inOrder = inOrder(entityManager, chatRoomRepository, deliveredHook);
+            inOrder.verify(entityManager).persist(any(ChatMessage.class));
+            inOrder.verify(chatRoomRepository).updateLastMessage(eq(1L), eq("안녕"), any());
+            inOrder.verify(deliveredHook).run();
+            assertThat(writer.pendingCount()).isZero();
+        }
+    }
+
+    private ChatMessageWriter writer(boolean writeThrough, long retryBackoffMillis, long retryWindowMillis) {
+        return new ChatMessageWriter(entityManager, chatRoomRepository, new ChatMessageIdGenerator(0),
+                transactionManager, writeThrough, true, 500, 1000, retryBackoffMillis, 60_000, retryWindowMillis);
+    }
+
+    private OutgoingMessage message(long id, long roomId, String content, ChatMessage.MessageType type) {
+        Long senderId = type == ChatMessage.MessageType.SYSTEM ? null : 10L;
+        return new OutgoingMessage(id, roomId, senderId, content, type, null, null, null, null, LocalDateTime.now());
+    }
+}
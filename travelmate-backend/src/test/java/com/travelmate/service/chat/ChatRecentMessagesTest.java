@@ -0,0 +1,126 @@
+package com.travelmate.service.chat;
+
+import com.travelmate.dto.ChatDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ChatRecentMessages 테스트")
+class ChatRecentMessagesTest {
+
+    private final ChatRecentMessages recentMessages = new ChatRecentMessages(3, 2, "simple");
+
+    @Nested
+    @DisplayName("버퍼 조회 테스트")
+    class BeforeTest {
+
+        @Test
+        @DisplayName("성공 - 버퍼 안에서 충족되면 DB 커서 없이 최신순 반환")
+        void before_ServedFromBuffer() {
+            // Given
+            recentMessages.add(message(1L, 10L));
+            recentMessages.add(message(1L, 11L));
+            recentMessages.add(message(1L, 12L));
+
+            // When
+            ChatRecentMessages.Page latest = recentMessages.before(1L, null, 2);
+            ChatRecentMessages.Page older = recentMessages.before(1L, 12L, 2);
+
+            // Then
+            assertThat(latest.messages()).extracting(ChatDto.MessageResponse::getId).containsExactly(12L, 11L);
+            assertThat(latest.continueBefore()).isNull();
+            assertThat(older.messages()).extracting(ChatDto.MessageResponse::getId).containsExactly(11L, 10L);
+            assertThat(older.continueBefore()).isNull();
+        }
+
+        @Test
+        @DisplayName("성공 - 가득 차면 오래된 메시지를 덮어쓰고 부족분은 가장 오래된 ID를 커서로")
+        void before_ContinuesFromOldestBuffered() {
+            // Given
+            for (long id = 10; id <= 14; id++) {
+                recentMessages.add(message(1L, id));
+            }
+
+            // When
+            ChatRecentMessages.Page page = recentMessages.before(1L, null, 5);
+
+            // Then
+            assertThat(page.messages()).extracting(ChatDto.MessageResponse::getId).containsExactly(14L, 13L, 12L);
+            assertThat(page.continueBefore()).isEqualTo(12L);
+        }
+
+        @Test
+        @DisplayName("성공 - 버퍼가 없는 채팅방은 null")
+        void before_UnknownRoom() {
+            assertThat(recentMessages.before(9L, null, 10)).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("버퍼 갱신 테스트")
+    class UpdateTest {
+
+        @Test
+        @DisplayName("성공 - 역순 도착 메시지는 정렬 위치에, 삭제 메시지는 제외")
+        void add_OutOfOrderAndRemove() {
+            // Given
+            recentMessages.add(message(1L, 10L));
+            recentMessages.add(message(1L, 12L));
+            recentMessages.add(message(1L, 11L));
+            recentMessages.add(message(1L, 5L));
+
+            // When
+            recentMessages.remove(1L, 12L);
+
+            // Then
+            assertThat(recentMessages.before(1L, null, 3).messages())
+                    .extracting(ChatDto.MessageResponse::getId).containsExactly(11L, 10L);
+        }
+
+        @Test
+        @DisplayName("성공 - 시드는 기존 버퍼를 덮어쓰지 않고, 채팅방 수는 최대치 유지")
+        void seed_KeepsExistingAndEvictsLeastRecent() {
+            // Given
+            recentMessages.add(message(1L, 20L));
+
+            // When
+            recentMessages.seed(1L, List.of(message(1L, 15L)));
+            recentMessages.seed(2L, List.of(message(2L, 8L), message(2L, 7L)));
+            recentMessages.add(message(3L, 30L));
+
+            // Then
+            assertThat(recentMessages.roomCount()).isEqualTo(2);
+            assertThat(recentMessages.before(1L, null, 3)).isNull();
+            assertThat(recentMessages.before(2L, null, 3).messages())
+                    .extracting(ChatDto.MessageResponse::getId).containsExactly(8L, 7L);
+        }
+
+        @Test
+        @DisplayName("성공 - simple 브로커가 아니면 버퍼를 만들지 않아 항상 DB에서 조회")
+        void add_DisabledOutsideSimpleBroker() {
+            // Given
+            ChatRecentMessages relayed = new ChatRecentMessages(3, 2, "redis");
+
+            // When
+            relayed.add(message(1L, 10L));
+            relayed.seed(2L, List.of(message(2L, 8L)));
+
+            // Then
+            assertThat(relayed.roomCount()).isZero();
+            assertThat(relayed.before(1L, null, 3)).isNull();
+            assertThat(relayed.before(2L, null, 3)).isNull();
+        }
+    }
+
+    private ChatDto.MessageResponse message(long roomId, long id) {
+        ChatDto.MessageResponse message = new ChatDto.MessageResponse();
+        message.setId(id);
+        message.setChatRoomId(roomId);
+        message.setContent("메시지 " + id);
+        return message;
+    }
+}
@@ -0,0 +1,122 @@
+package com.travelmate.service.chat;
+
+import com.travelmate.service.messaging.UserPresenceRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ChatTypingIndicators 테스트")
+class ChatTypingIndicatorsTest {
+
+    private static final long TTL_NANOS = TimeUnit.MILLISECONDS.toNanos(5000);
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    @Mock
+    private UserSummaryCache userSummaryCache;
+
+    private ChatTypingIndicators indicators;
+
+    @BeforeEach
+    void setUp() {
+        // 구독자 유무를 단정하지 않는 모드 (항상 전송)
+        indicators = new ChatTypingIndicators(messagingTemplate, userSummaryCache,
+                new UserPresenceRegistry("relay", 60000), 5000);
+    }
+
+    @Nested
+    @DisplayName("브로드캐스트 테스트")
+    class BroadcastTest {
+
+        @Test
+        @DisplayName("성공 - 연속 입력은 채팅방별로 한 번만 전송")
+        void broadcast_CoalescesPerRoom() {
+            // Given
+            when(userSummaryCache.getAll(anyCollection())).thenReturn(Map.of(
+                    10L, new UserSummaryCache.UserSummary(10L, "여행자", null)));
+            long now = System.nanoTime();
+            indicators.update(1L, 10L, true, now);
+            indicators.update(1L, 10L, true, now + 1);
+            indicators.update(1L, 10L, true, now + 2);
+
+            // When
+            indicators.broadcast();
+            indicators.broadcast();
+
+            // Then
+            verify(messagingTemplate, times(1)).convertAndSend("/topic/chat/1/typing", (Object) List.of("여행자"));
+        }
+
+        @Test
+        @DisplayName("성공 - 이미 타이핑 중인 사용자의 갱신은 전송하지 않음")
+        void broadcast_SkipsRefresh() {
+            // Given
+            when(userSummaryCache.getAll(anyCollection())).thenReturn(Map.of());
+            indicators.update(1L, 10L, true, System.nanoTime());
+            indicators.broadcast();
+
+            // When
+            indicators.update(1L, 10L, true, System.nanoTime());
+            indicators.broadcast();
+
+            // Then
+            verify(messagingTemplate, times(1)).convertAndSend(anyString(), any(Object.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("만료 정리 테스트")
+    class SweepTest {
+
+        @Test
+        @DisplayName("성공 - 만료된 사용자를 제거하고 변경을 전송한 뒤 빈 채팅방 삭제")
+        void sweep_ExpiresAndRemovesEmptyRooms() {
+            // Given
+            long now = System.nanoTime();
+            indicators.update(1L, 10L, true, now);
+            indicators.broadcast();
+
+            // When
+            indicators.sweep(now + TTL_NANOS + 1);
+
+            // Then - 빈 목록을 전송하기 전까지는 채팅방 유지
+            assertThat(indicators.roomCount()).isEqualTo(1);
+            indicators.broadcast();
+            verify(messagingTemplate).convertAndSend("/topic/chat/1/typing", (Object) List.of());
+            indicators.sweep(now + TTL_NANOS + 2);
+            assertThat(indicators.roomCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("성공 - 조회 시 자신은 제외")
+        void typingUsers_ExcludesRequester() {
+            // Given
+            when(userSummaryCache.getAll(List.of(20L))).thenReturn(Map.of(
+                    20L, new UserSummaryCache.UserSummary(20L, "동행", null)));
+            indicators.update(1L, 10L, true);
+            indicators.update(1L, 20L, true);
+
+            // When
+            List<String> typing = indicators.typingUsers(1L, 10L);
+
+            // Then
+            assertThat(typing).containsExactly("동행");
+            assertThat(indicators.typingUsers(2L, 10L)).isEmpty();
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.travelmate.service.chat;
+
+import com.travelmate.repository.ChatMessageRepository;
+import com.travelmate.repository.ChatParticipantRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("InMemoryChatUnreadCounters 테스트")
+class InMemoryChatUnreadCountersTest {
+
+    @Mock
+    private ChatParticipantRepository chatParticipantRepository;
+
+    @Mock
+    private ChatMessageRepository chatMessageRepository;
+
+    @Mock
+    private ChatMessageWriter chatMessageWriter;
+
+    private final ChatMessageIdGenerator idGenerator = new ChatMessageIdGenerator(0);
+
+    private InMemoryChatUnreadCounters counters;
+
+    @BeforeEach
+    void setUp() {
+        counters = new InMemoryChatUnreadCounters(chatParticipantRepository, chatMessageRepository, chatMessageWriter, idGenerator);
+    }
+
+    @Nested
+    @DisplayName("카운터 갱신 테스트")
+    class CounterTest {
+
+        @BeforeEach
+        void load() {
+            // 방 1: 사용자 10(읽지 않음 2), 20(0)
+            when(chatParticipantRepository.countUnreadSnapshot(anyLong())).thenReturn(rows(
+                    new Object[]{1L, 10L, 2L},
+                    new Object[]{1L, 20L, 0L}));
+            when(chatMessageRepository.findLastMessageIdsByRoom()).thenReturn(rows(new Object[]{1L, 500L}));
+            counters.reconcile();
+        }
+
+        @Test
+        @DisplayName("성공 - 새 메시지는 발신자를 제외한 참가자만 증가")
+        void onMessage_IncrementsOthers() {
+            // When
+            counters.onMessage(1L, idGenerator.nextId(), 20L);
+
+            // Then
+            assertThat(counters.isReady()).isTrue();
+            assertThat(counters.countsFor(10L, List.of(1L))).containsEntry(1L, 3);
+            assertThat(counters.countsFor(20L, List.of(1L))).isEmpty();
+            assertThat(counters.lastMessageId(1L)).isGreaterThan(500L);
+        }
+
+        @Test
+        @DisplayName("성공 - 읽음 처리는 0, 퇴장 후에는 증가하지 않음")
+        void markReadAndLeave() {
+            // When
+            counters.markRead(1L, 10L);
+            counters.leave(1L, 20L);
+            counters.join(1L, 30L);
+            counters.onMessage(1L, idGenerator.nextId(), null);
+
+            // Then
+            assertThat(counters.countsFor(10L, List.of(1L))).containsEntry(1L, 1);
+            assertThat(counters.countsFor(20L, List.of(1L))).isEmpty();
+            assertThat(counters.countsFor(30L, List.of(1L))).containsEntry(1L, 1);
+        }
+    }
+
+    @Nested
+    @DisplayName("재계산 테스트")
+    class ReconcileTest {
+
+        @Test
+        @DisplayName("성공 - 재계산 중 들어온 메시지와 읽음 처리를 결과에 반영")
+        void reconcile_MergesConcurrentChanges() {
+            // Given - 스냅샷 조회 도중 메시지 전송과 읽음 처리가 일어남
+            when(chatParticipantRepository.countUnreadSnapshot(anyLong())).thenAnswer(invocation -> {
+                counters.onMessage(1L, idGenerator.nextId(), 10L);
+                counters.markRead(1L, 20L);
+                return rows(
+                        new Object[]{1L, 10L, 0L},
+                        new Object[]{1L, 20L, 5L},
+                        new Object[]{1L, 30L, 1L});
+            });
+            when(chatMessageRepository.findLastMessageIdsByRoom()).thenReturn(List.of());
+
+            // When
+            counters.reconcile();
+
+            // Then
+            verify(chatMessageWriter).flush();
+            assertThat(counters.countsFor(10L, List.of(1L))).isEmpty();
+            assertThat(counters.countsFor(20L, List.of(1L))).isEmpty();
+            assertThat(counters.countsFor(30L, List.of(1L))).containsEntry(1L, 2);
+        }
+
+        @Test
+        @DisplayName("실패 - 조회 실패 시 기존 카운터 유지")
+        void reconcile_KeepsCountersOnFailure() {
+            // Given
+            when(chatParticipantRepository.countUnreadSnapshot(anyLong())).thenThrow(new RuntimeException("DB 오류"));
+
+            // When
+            counters.reconcile();
+
+            // Then
+            assertThat(counters.isReady()).isFalse();
+        }
+    }
+
+    private List<Object[]> rows(Object[]... rows) {
+        return new ArrayList<>(List.of(rows));
+    }
+}
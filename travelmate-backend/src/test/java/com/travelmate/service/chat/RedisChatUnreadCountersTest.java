@@ -0,0 +1,118 @@
+package com.travelmate.service.chat;
+
+import com.travelmate.repository.ChatMessageRepository;
+import com.travelmate.repository.ChatParticipantRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RedisChatUnreadCounters 테스트")
+class RedisChatUnreadCountersTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    @Mock
+    private ChatParticipantRepository chatParticipantRepository;
+
+    @Mock
+    private ChatMessageRepository chatMessageRepository;
+
+    @Mock
+    private ChatMessageWriter chatMessageWriter;
+
+    private RedisChatUnreadCounters counters;
+
+    @BeforeEach
+    void setUp() {
+        counters = new RedisChatUnreadCounters(redisTemplate, chatParticipantRepository, chatMessageRepository,
+                chatMessageWriter, new ChatMessageIdGenerator(0), Duration.ofMinutes(10));
+        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        lenient().when(redisTemplate.<Object, Object>opsForHash()).thenReturn(hashOperations);
+    }
+
+    @Test
+    @DisplayName("성공 - 새 메시지는 채팅방 해시/마지막 ID/버전을 한 스크립트로 갱신")
+    void onMessage_RunsScriptWithSender() {
+        // When
+        counters.onMessage(1L, 500L, 20L);
+
+        // Then
+        verify(redisTemplate).execute(any(RedisScript.class),
+                eq(List.of("chat:unread:room:1", "chat:unread:last-message", "chat:unread:version")),
+                eq("1"), eq("500"), eq("20"));
+    }
+
+    @Test
+    @DisplayName("성공 - 다른 인스턴스가 재계산 중이면 건너뜀")
+    void reconcile_SkipsWithoutLock() {
+        // Given
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(false);
+
+        // When
+        counters.reconcile();
+
+        // Then
+        verifyNoInteractions(chatParticipantRepository, chatMessageRepository, chatMessageWriter);
+    }
+
+    @Test
+    @DisplayName("성공 - 기록 전 메시지가 있는 채팅방은 건너뛰고 나머지는 스냅샷 시점 버전으로 교체")
+    void reconcile_ReplacesOnlyFlushedRooms() {
+        // Given - 방 1 은 DB 에 마지막 메시지까지 있고, 방 2 는 다른 인스턴스에 기록 전 메시지(900)가 있음
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+        when(hashOperations.entries("chat:unread:version")).thenReturn(Map.of("1", "7"));
+        when(hashOperations.entries("chat:unread:last-message")).thenReturn(Map.of("1", "500", "2", "900"));
+        when(chatMessageRepository.findLastMessageIdsByRoom()).thenReturn(rows(
+                new Object[]{1L, 500L},
+                new Object[]{2L, 800L}));
+        when(chatParticipantRepository.countUnreadSnapshot(anyLong())).thenReturn(rows(
+                new Object[]{1L, 10L, 2L},
+                new Object[]{1L, 20L, 0L},
+                new Object[]{2L, 10L, 4L}));
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenReturn(1L);
+
+        // When
+        counters.reconcile();
+
+        // Then
+        verify(chatMessageWriter).flush();
+        ArgumentCaptor<List<String>> keys = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+        // 교체 1회 + 잠금 해제 1회
+        verify(redisTemplate, times(2)).execute(any(RedisScript.class), keys.capture(), args.capture());
+        assertThat(keys.getAllValues().get(0)).containsExactly("chat:unread:room:1", "chat:unread:version");
+        assertThat(args.getAllValues().get(0)).containsExactly("1", "7", "10", "2", "20", "0");
+        assertThat(keys.getAllValues().get(1)).containsExactly("chat:unread:reconcile-lock");
+        verify(valueOperations).set(eq("chat:unread:ready"), anyString());
+        assertThat(counters.isReady()).isTrue();
+    }
+
+    private static List<Object[]> rows(Object[]... rows) {
+        return new ArrayList<>(List.of(rows));
+    }
+}
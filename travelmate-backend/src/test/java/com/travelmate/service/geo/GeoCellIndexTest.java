@@ -0,0 +1,139 @@
+package com.travelmate.service.geo;
+
+import com.travelmate.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("GeoCellIndex 테스트")
+class GeoCellIndexTest {
+
+    // 서울 시청
+    private static final double LAT = 37.5665;
+    private static final double LNG = 126.9780;
+
+    private GeoCellIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new GeoCellIndex(0.05);
+    }
+
+    @Nested
+    @DisplayName("반경 검색 테스트")
+    class FindNearbyTest {
+
+        @Test
+        @DisplayName("성공 - 반경 내 사용자만 가까운 순으로 반환")
+        void findNearby_SortedByDistance() {
+            // Given
+            index.upsert(1L, LAT, LNG, true, true, User.TravelStyle.ADVENTURE);
+            index.upsert(2L, LAT + 0.02, LNG, true, true, User.TravelStyle.ADVENTURE);   // 약 2.2km
+            index.upsert(3L, LAT + 0.005, LNG, true, true, User.TravelStyle.ADVENTURE);  // 약 0.6km
+            index.upsert(4L, LAT + 0.5, LNG, true, true, User.TravelStyle.ADVENTURE);    // 약 55km
+
+            // When
+            List<GeoCellIndex.Hit> hits = index.findNearby(LAT, LNG, 5.0, 1L, null, 0);
+
+            // Then
+            assertThat(hits).extracting(GeoCellIndex.Hit::userId).containsExactly(3L, 2L);
+            assertThat(hits.get(0).distanceKm()).isLessThan(hits.get(1).distanceKm());
+        }
+
+        @Test
+        @DisplayName("성공 - 필터와 최대 결과 수 적용")
+        void findNearby_FilterAndLimit() {
+            // Given
+            index.upsert(1L, LAT + 0.001, LNG, true, false, User.TravelStyle.RELAXATION);
+            index.upsert(2L, LAT + 0.002, LNG, true, true, User.TravelStyle.RELAXATION);
+            index.upsert(3L, LAT + 0.003, LNG, true, true, User.TravelStyle.RELAXATION);
+
+            // When
+            List<GeoCellIndex.Hit> hits = index.findNearby(LAT, LNG, 1.0, null,
+                    GeoCellIndex.Entry::matchingEnabled, 1);
+
+            // Then
+            assertThat(hits).extracting(GeoCellIndex.Hit::userId).containsExactly(2L);
+        }
+
+        @Test
+        @DisplayName("성공 - 날짜변경선을 넘는 반경 검색")
+        void findNearby_AcrossAntimeridian() {
+            // Given
+            index.upsert(1L, 0.0, 179.99, true, true, User.TravelStyle.ADVENTURE);
+
+            // When
+            List<GeoCellIndex.Hit> hits = index.findNearby(0.0, -179.99, 5.0, null, null, 0);
+
+            // Then
+            assertThat(hits).extracting(GeoCellIndex.Hit::userId).containsExactly(1L);
+        }
+
+        @Test
+        @DisplayName("성공 - 경도 전체를 도는 극지방 검색에서도 같은 사용자를 한 번만 반환")
+        void findNearby_NearPoleWithoutDuplicates() {
+            // Given - 검색 중심 반대편 경도 (전체 순회의 양 끝이 만나는 셀)
+            index.upsert(1L, 89.99, -90.0, true, true, User.TravelStyle.ADVENTURE);
+            index.upsert(2L, 89.99, 0.0, true, true, User.TravelStyle.ADVENTURE);
+
+            // When
+            List<GeoCellIndex.Hit> hits = index.findNearby(89.99, 90.0, 5.0, null, null, 0);
+
+            // Then
+            assertThat(hits).extracting(GeoCellIndex.Hit::userId).containsExactlyInAnyOrder(1L, 2L);
+        }
+
+        @Test
+        @DisplayName("성공 - 고위도에서 중심보다 극에 가까운 반경 동쪽 끝 사용자도 검색")
+        void findNearby_HighLatitudeEdge() {
+            // Given - 중심 위도 기준 경도차(약 25.9도)보다 동쪽이지만 반경 안 (약 494km)
+            index.upsert(1L, 81.0, 26.5, true, true, User.TravelStyle.ADVENTURE);
+            assertThat(GeoMath.distanceKm(80.0, 0.0, 81.0, 26.5)).isLessThan(500.0);
+
+            // When
+            List<GeoCellIndex.Hit> hits = index.findNearby(80.0, 0.0, 500.0, null, null, 0);
+
+            // Then
+            assertThat(hits).extracting(GeoCellIndex.Hit::userId).containsExactly(1L);
+        }
+    }
+
+    @Nested
+    @DisplayName("위치 갱신 테스트")
+    class UpsertTest {
+
+        @Test
+        @DisplayName("성공 - 셀 이동 후 이전 위치에서 검색되지 않음")
+        void upsert_MovesBetweenCells() {
+            // Given
+            index.upsert(1L, LAT, LNG, true, true, User.TravelStyle.ADVENTURE);
+
+            // When
+            index.upsert(1L, LAT + 1.0, LNG, true, true, User.TravelStyle.ADVENTURE);
+
+            // Then
+            assertThat(index.size()).isEqualTo(1);
+            assertThat(index.findNearby(LAT, LNG, 5.0, null, null, 0)).isEmpty();
+            assertThat(index.findNearby(LAT + 1.0, LNG, 5.0, null, null, 0)).hasSize(1);
+        }
+
+        @Test
+        @DisplayName("성공 - 제거된 사용자는 검색되지 않음")
+        void remove_ExcludesUser() {
+            // Given
+            index.upsert(1L, LAT, LNG, true, true, User.TravelStyle.ADVENTURE);
+
+            // When
+            index.remove(1L);
+
+            // Then
+            assertThat(index.size()).isZero();
+            assertThat(index.findNearby(LAT, LNG, 5.0, null, null, 0)).isEmpty();
+        }
+    }
+}
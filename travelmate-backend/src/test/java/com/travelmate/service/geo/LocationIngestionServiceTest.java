@@ -0,0 +1,156 @@
+package com.travelmate.service.geo;
+
+import com.travelmate.entity.User;
+import com.travelmate.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LocationIngestionService 테스트")
+class LocationIngestionServiceTest {
+
+    private static final double LAT = 37.5665;
+    private static final double LNG = 126.9780;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private UserLocationIndex userLocationIndex;
+    private LocationIngestionService ingestionService;
+
+    @BeforeEach
+    void setUp() {
+        when(userRepository.findLocationSnapshot()).thenReturn(List.of());
+        userLocationIndex = new UserLocationIndex(userRepository, 0.05);
+        userLocationIndex.warmUp();
+        ingestionService = new LocationIngestionService(userRepository, userLocationIndex,
+                jdbcTemplate, transactionManager, "travelmate", 500);
+    }
+
+    @Nested
+    @DisplayName("위치 수신 테스트")
+    class SubmitTest {
+
+        @Test
+        @DisplayName("성공 - 추적 중인 사용자는 인덱스만 즉시 갱신하고 마지막 위치만 배치 기록")
+        void submit_CoalescesTrackedUser() {
+            // Given
+            userLocationIndex.track(user(1L));
+
+            // When
+            ingestionService.submit(1L, LAT + 0.01, LNG);
+            ingestionService.submit(1L, LAT + 0.02, LNG);
+            ingestionService.flush();
+
+            // Then
+            assertThat(userLocationIndex.findNearbyHits(null, LAT + 0.02, LNG, 0.1, e -> true, 0))
+                    .extracting(GeoCellIndex.Hit::userId).containsExactly(1L);
+            verify(userRepository, never()).findById(any());
+
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<Collection<Object>> batch = ArgumentCaptor.forClass(Collection.class);
+            verify(jdbcTemplate).batchUpdate(
+                    eq("UPDATE travelmate.users SET current_latitude = ?, current_longitude = ? WHERE id = ?"),
+                    batch.capture(), eq(500), any(ParameterizedPreparedStatementSetter.class));
+            assertThat(batch.getValue()).hasSize(1);
+            assertThat(ingestionService.pendingCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("성공 - 처음 위치를 켜는 사용자는 즉시 저장 후 추적 시작")
+        void submit_SavesUntrackedUser() {
+            // Given
+            User user = user(2L);
+            user.setIsLocationEnabled(false);
+            when(userRepository.findById(2L)).thenReturn(Optional.of(user));
+            when(userRepository.save(user)).thenReturn(user);
+
+            // When
+            ingestionService.submit(2L, LAT, LNG);
+
+            // Then
+            assertThat(user.getIsLocationEnabled()).isTrue();
+            assertThat(userLocationIndex.size()).isEqualTo(1);
+            assertThat(ingestionService.pendingCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("실패 - 존재하지 않는 사용자")
+        void submit_UserNotFound() {
+            // Given
+            when(userRepository.findById(3L)).thenReturn(Optional.empty());
+
+            // When & Then
+            assertThatThrownBy(() -> ingestionService.submit(3L, LAT, LNG))
+                    .isInstanceOf(RuntimeException.class)
+                    .hasMessage("사용자를 찾을 수 없습니다.");
+        }
+    }
+
+    @Nested
+    @DisplayName("배치 기록 테스트")
+    class FlushTest {
+
+        @Test
+        @DisplayName("실패 - 기록 실패 시 다음 주기에 재시도")
+        void flush_RequeuesOnFailure() {
+            // Given
+            userLocationIndex.track(user(1L));
+            ingestionService.submit(1L, LAT, LNG);
+            when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(),
+                    any(ParameterizedPreparedStatementSetter.class)))
+                    .thenThrow(new DataAccessResourceFailureException("down"));
+
+            // When
+            ingestionService.flush();
+
+            // Then
+            assertThat(ingestionService.pendingCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("성공 - 대기 중인 위치가 없으면 DB 미접근")
+        void flush_NothingPending() {
+            // When
+            ingestionService.flush();
+
+            // Then
+            verifyNoInteractions(jdbcTemplate, transactionManager);
+        }
+    }
+
+    private User user(Long id) {
+        User user = new User();
+        user.setId(id);
+        user.setCurrentLatitude(LAT);
+        user.setCurrentLongitude(LNG);
+        user.setIsLocationEnabled(true);
+        user.setIsActive(true);
+        user.setIsMatchingEnabled(true);
+        return user;
+    }
+}
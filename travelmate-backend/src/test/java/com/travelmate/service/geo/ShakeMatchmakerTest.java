@@ -0,0 +1,149 @@
+package com.travelmate.service.geo;
+
+import com.travelmate.repository.UserRepository;
+import com.travelmate.service.NotificationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ShakeMatchmaker 테스트")
+class ShakeMatchmakerTest {
+
+    // 인천공항
+    private static final double LAT = 37.4602;
+    private static final double LNG = 126.4407;
+    // 최소 반경(0.5km)으로 맞춰지는 약한 흔들기
+    private static final double WEAK = 10.0;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private UserLocationIndex userLocationIndex;
+
+    @Mock
+    private NotificationService notificationService;
+
+    private ShakeMatchmaker matchmaker;
+
+    @BeforeEach
+    void setUp() {
+        matchmaker = new ShakeMatchmaker(userRepository, userLocationIndex, notificationService, 0.5, 5.0, 5000L, 100);
+        lenient().when(userLocationIndex.filterMatchable(anyCollection()))
+                .thenAnswer(invocation -> new HashSet<Long>(invocation.getArgument(0)));
+    }
+
+    @Nested
+    @DisplayName("매칭 주기 테스트")
+    class TickTest {
+
+        @Test
+        @DisplayName("성공 - 근처에서 함께 흔든 사용자끼리 가까운 순으로 짝지음")
+        void tick_PairsNearestShakers() {
+            // Given
+            matchmaker.submit(1L, LAT, LNG, WEAK);
+            matchmaker.submit(2L, LAT + 0.004, LNG, WEAK);   // 약 450m
+            matchmaker.submit(3L, LAT + 0.001, LNG, WEAK);   // 약 110m
+            when(userRepository.findNicknamesByIds(anyCollection())).thenReturn(List.of(
+                    new Object[]{1L, "one"}, new Object[]{3L, "three"}));
+
+            // When
+            List<ShakeMatchmaker.Match> matches = matchmaker.tick(System.currentTimeMillis());
+
+            // Then
+            assertThat(matches).hasSize(1);
+            assertThat(matches.get(0).userId()).isEqualTo(1L);
+            assertThat(matches.get(0).partnerId()).isEqualTo(3L);
+            assertThat(matchmaker.pendingCount()).isEqualTo(1);
+            verify(notificationService).sendMatchingNotifications(List.of(
+                    new NotificationService.MatchingNotice(1L, 3L, "three"),
+                    new NotificationService.MatchingNotice(3L, 1L, "one")));
+            verify(userRepository, times(1)).findNicknamesByIds(anyCollection());
+        }
+
+        @Test
+        @DisplayName("성공 - 반경 밖 사용자는 매칭하지 않고 시간 창이 지나면 제거")
+        void tick_ExpiresUnmatched() {
+            // Given
+            matchmaker.submit(1L, LAT, LNG, WEAK);
+            matchmaker.submit(2L, LAT + 0.05, LNG, WEAK);    // 약 5.5km
+
+            // When
+            List<ShakeMatchmaker.Match> first = matchmaker.tick(System.currentTimeMillis());
+            List<ShakeMatchmaker.Match> expired = matchmaker.tick(System.currentTimeMillis() + 10_000L);
+
+            // Then
+            assertThat(first).isEmpty();
+            assertThat(expired).isEmpty();
+            assertThat(matchmaker.pendingCount()).isZero();
+            verifyNoInteractions(notificationService, userRepository);
+        }
+
+        @Test
+        @DisplayName("성공 - 강하게 흔들수록 넓은 반경에서 찾되 서로의 반경 안에 있어야 매칭")
+        void tick_UsesIntensityRadius() {
+            // Given - 약 2.2km 떨어진 두 쌍 (3km 반경끼리, 3km 와 0.5km 반경)
+            matchmaker.submit(1L, LAT, LNG, 60.0);
+            matchmaker.submit(2L, LAT + 0.02, LNG, 60.0);
+            matchmaker.submit(3L, LAT + 1.0, LNG, 60.0);
+            matchmaker.submit(4L, LAT + 1.02, LNG, WEAK);
+            when(userRepository.findNicknamesByIds(anyCollection())).thenReturn(List.of(
+                    new Object[]{1L, "one"}, new Object[]{2L, "two"}));
+
+            // When
+            List<ShakeMatchmaker.Match> matches = matchmaker.tick(System.currentTimeMillis());
+
+            // Then
+            assertThat(matchmaker.radiusFor(60.0)).isEqualTo(3.0);
+            assertThat(matchmaker.radiusFor(500.0)).isEqualTo(5.0);
+            assertThat(matches).extracting(ShakeMatchmaker.Match::userId, ShakeMatchmaker.Match::partnerId)
+                    .containsExactly(tuple(1L, 2L));
+            assertThat(matchmaker.pendingCount()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("성공 - 매칭을 끈 사용자는 가까워도 짝짓지 않음")
+        void tick_SkipsIneligibleUsers() {
+            // Given
+            matchmaker.submit(1L, LAT, LNG, WEAK);
+            matchmaker.submit(2L, LAT + 0.001, LNG, WEAK);   // 약 110m, 매칭 꺼짐
+            matchmaker.submit(3L, LAT + 0.003, LNG, WEAK);   // 약 330m
+            when(userLocationIndex.filterMatchable(anyCollection())).thenReturn(Set.of(1L, 3L));
+            when(userRepository.findNicknamesByIds(anyCollection())).thenReturn(List.of(
+                    new Object[]{1L, "one"}, new Object[]{3L, "three"}));
+
+            // When
+            List<ShakeMatchmaker.Match> matches = matchmaker.tick(System.currentTimeMillis());
+
+            // Then
+            assertThat(matches).extracting(ShakeMatchmaker.Match::userId, ShakeMatchmaker.Match::partnerId)
+                    .containsExactly(tuple(1L, 3L));
+            assertThat(matchmaker.pendingCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("실패 - 대기열이 가득 차면 새 이벤트 거부")
+        void submit_RejectsWhenFull() {
+            // Given
+            ShakeMatchmaker small = new ShakeMatchmaker(userRepository, userLocationIndex, notificationService, 0.5, 5.0, 5000L, 1);
+            small.submit(1L, LAT, LNG, WEAK);
+
+            // When & Then
+            assertThat(small.submit(2L, LAT, LNG, WEAK)).isFalse();
+            assertThat(small.submit(1L, LAT, LNG, WEAK)).isTrue();
+        }
+    }
+}
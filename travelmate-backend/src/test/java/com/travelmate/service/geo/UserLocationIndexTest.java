@@ -0,0 +1,114 @@
+package com.travelmate.service.geo;
+
+import com.travelmate.entity.User;
+import com.travelmate.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserLocationIndex 테스트")
+class UserLocationIndexTest {
+
+    private static final double LAT = 37.5665;
+    private static final double LNG = 126.9780;
+
+    @Mock
+    private UserRepository userRepository;
+
+    private UserLocationIndex locationIndex;
+
+    @BeforeEach
+    void setUp() {
+        locationIndex = new UserLocationIndex(userRepository, 0.05);
+    }
+
+    @Test
+    @DisplayName("성공 - 기동 적재가 실패해도 재시도로 준비 상태가 됨")
+    void retryWarmUp_AfterFailure() {
+        // Given
+        when(userRepository.findLocationSnapshot())
+                .thenThrow(new RuntimeException("DB 연결 실패"))
+                .thenReturn(rows(row(1L, LAT, LNG)));
+        locationIndex.warmUp();
+        assertThat(locationIndex.isReady()).isFalse();
+
+        // When
+        locationIndex.retryWarmUp();
+
+        // Then
+        assertThat(locationIndex.isReady()).isTrue();
+        assertThat(locationIndex.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("성공 - 적재 중 반영된 위치는 이전 스냅샷으로 덮어쓰지 않음")
+    void reload_KeepsUpdateDuringLoad() {
+        // Given
+        when(userRepository.findLocationSnapshot())
+                .thenReturn(rows(row(1L, LAT, LNG)))
+                .thenAnswer(invocation -> {
+                    locationIndex.moveTo(1L, LAT + 1.0, LNG);
+                    return rows(row(1L, LAT, LNG));
+                });
+        locationIndex.warmUp();
+
+        // When
+        locationIndex.reload();
+
+        // Then
+        assertThat(hitIds(LAT + 1.0)).containsExactly(1L);
+        assertThat(hitIds(LAT)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("성공 - 스냅샷에서 빠진 사용자는 제거하되 직접 반영된 사용자는 유지")
+    void reload_RemovesMissingUsers() {
+        // Given
+        when(userRepository.findLocationSnapshot())
+                .thenReturn(rows(row(1L, LAT, LNG), row(2L, LAT, LNG)))
+                .thenReturn(rows());
+        locationIndex.warmUp();
+        locationIndex.track(user(3L));
+
+        // When
+        locationIndex.reload();
+
+        // Then
+        assertThat(hitIds(LAT)).containsExactly(3L);
+    }
+
+    private List<Long> hitIds(double latitude) {
+        return locationIndex.findNearbyHits(null, latitude, LNG, 1.0, entry -> true, 0).stream()
+                .map(GeoCellIndex.Hit::userId)
+                .toList();
+    }
+
+    private static Object[] row(Long id, double latitude, double longitude) {
+        return new Object[]{id, latitude, longitude, true, true, User.TravelStyle.ADVENTURE};
+    }
+
+    private static List<Object[]> rows(Object[]... rows) {
+        return new ArrayList<>(List.of(rows));
+    }
+
+    private static User user(Long id) {
+        User user = new User();
+        user.setId(id);
+        user.setCurrentLatitude(LAT);
+        user.setCurrentLongitude(LNG);
+        user.setIsLocationEnabled(true);
+        user.setIsActive(true);
+        user.setIsMatchingEnabled(true);
+        return user;
+    }
+}
@@ -0,0 +1,161 @@
+package com.travelmate.service.messaging;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MimeTypeUtils;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RedisBrokerFanout 테스트")
+class RedisBrokerFanoutTest {
+
+    private static final String CHANNEL = "travelmate:stomp-broadcast";
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private MessageChannel brokerChannel;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private RedisBrokerFanout fanout;
+
+    @BeforeEach
+    void setUp() {
+        fanout = new RedisBrokerFanout(redisTemplate, brokerChannel, objectMapper, CHANNEL);
+    }
+
+    @Nested
+    @DisplayName("발행 테스트")
+    class PublishTest {
+
+        @Test
+        @DisplayName("성공 - 브로커 메시지를 Redis 채널에 발행")
+        void preSend_PublishesBrokerMessage() throws Exception {
+            // Given
+            Message<byte[]> message = message("/topic/chat/1", "hello");
+
+            // When
+            Message<?> result = fanout.preSend(message, brokerChannel);
+
+            // Then
+            assertThat(result).isSameAs(message);
+            ArgumentCaptor<String> json = ArgumentCaptor.forClass(String.class);
+            verify(redisTemplate).convertAndSend(eq(CHANNEL), json.capture());
+            RedisBrokerFanout.Envelope envelope = objectMapper.readValue(json.getValue(), RedisBrokerFanout.Envelope.class);
+            assertThat(envelope.origin()).isEqualTo(fanout.getInstanceId());
+            assertThat(envelope.destination()).isEqualTo("/topic/chat/1");
+            assertThat(new String(envelope.payload(), StandardCharsets.UTF_8)).isEqualTo("hello");
+        }
+
+        @Test
+        @DisplayName("성공 - 세션 목적지로 변환된 사용자 메시지와 재전달 메시지는 발행하지 않음")
+        void preSend_SkipsResolvedAndRelayedMessages() {
+            // Given
+            SimpMessageHeaderAccessor resolved = accessor("/queue/notifications-user123");
+            resolved.setHeader(SimpMessageHeaderAccessor.ORIGINAL_DESTINATION, "/user/queue/notifications");
+            SimpMessageHeaderAccessor relayed = accessor("/topic/chat/1");
+            relayed.setHeader(RedisBrokerFanout.ORIGIN_HEADER, "other-instance");
+
+            // When
+            fanout.preSend(MessageBuilder.createMessage(new byte[0], resolved.getMessageHeaders()), brokerChannel);
+            fanout.preSend(MessageBuilder.createMessage(new byte[0], relayed.getMessageHeaders()), brokerChannel);
+
+            // Then
+            verify(redisTemplate, never()).convertAndSend(anyString(), any());
+        }
+
+        @Test
+        @DisplayName("성공 - Redis 발행 실패해도 로컬 전달은 계속")
+        void preSend_IgnoresPublishFailure() {
+            // Given
+            Message<byte[]> message = message("/topic/chat/1", "hello");
+            when(redisTemplate.convertAndSend(anyString(), any())).thenThrow(new RuntimeException("connection refused"));
+
+            // When & Then
+            assertThat(fanout.preSend(message, brokerChannel)).isSameAs(message);
+        }
+    }
+
+    @Nested
+    @DisplayName("수신 테스트")
+    class ReceiveTest {
+
+        @Test
+        @DisplayName("성공 - 다른 인스턴스 메시지를 로컬 브로커로 전달")
+        void onMessage_ForwardsRemoteMessage() throws Exception {
+            // Given
+            RedisBrokerFanout.Envelope envelope = new RedisBrokerFanout.Envelope("other-instance",
+                    "/user/alice/queue/notifications", "application/json",
+                    "{\"id\":1}".getBytes(StandardCharsets.UTF_8));
+
+            // When
+            fanout.onMessage(redisMessage(envelope), null);
+
+            // Then
+            ArgumentCaptor<Message<?>> captor = ArgumentCaptor.forClass(Message.class);
+            verify(brokerChannel).send(captor.capture());
+            Message<?> forwarded = captor.getValue();
+            assertThat(SimpMessageHeaderAccessor.getDestination(forwarded.getHeaders()))
+                    .isEqualTo("/user/alice/queue/notifications");
+            assertThat(forwarded.getHeaders().get(MessageHeaders.CONTENT_TYPE)).isEqualTo(MimeTypeUtils.APPLICATION_JSON);
+            assertThat(forwarded.getHeaders().get(RedisBrokerFanout.ORIGIN_HEADER)).isEqualTo("other-instance");
+
+            // 재전달 메시지는 다시 발행되지 않음
+            fanout.preSend(forwarded, brokerChannel);
+            verify(redisTemplate, never()).convertAndSend(anyString(), any());
+        }
+
+        @Test
+        @DisplayName("성공 - 자신이 발행한 메시지는 무시")
+        void onMessage_IgnoresOwnMessage() throws Exception {
+            // Given
+            RedisBrokerFanout.Envelope envelope = new RedisBrokerFanout.Envelope(fanout.getInstanceId(),
+                    "/topic/chat/1", null, new byte[0]);
+
+            // When
+            fanout.onMessage(redisMessage(envelope), null);
+
+            // Then
+            verify(brokerChannel, never()).send(any());
+        }
+    }
+
+    private Message<byte[]> message(String destination, String payload) {
+        return MessageBuilder.createMessage(payload.getBytes(StandardCharsets.UTF_8),
+                accessor(destination).getMessageHeaders());
+    }
+
+    private SimpMessageHeaderAccessor accessor(String destination) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setDestination(destination);
+        accessor.setLeaveMutable(true);
+        return accessor;
+    }
+
+    private DefaultMessage redisMessage(RedisBrokerFanout.Envelope envelope) throws Exception {
+        return new DefaultMessage(CHANNEL.getBytes(StandardCharsets.UTF_8),
+                objectMapper.writeValueAsBytes(envelope));
+    }
+}
@@ -0,0 +1,119 @@
+package com.travelmate.service.messaging;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.security.Principal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("UserPresenceRegistry 테스트")
+class UserPresenceRegistryTest {
+
+    private final UserPresenceRegistry registry = new UserPresenceRegistry("simple", 60000);
+
+    @Nested
+    @DisplayName("접속 상태 테스트")
+    class OnlineTest {
+
+        @Test
+        @DisplayName("성공 - 세션이 하나라도 남아 있으면 접속 중")
+        void isOnline_TracksSessionsPerUser() {
+            // Given
+            registry.onConnected(new SessionConnectedEvent(this, message(SimpMessageType.CONNECT_ACK, "s1", null, null), user(10L)));
+            registry.onConnected(new SessionConnectedEvent(this, message(SimpMessageType.CONNECT_ACK, "s2", null, null), user(10L)));
+            registry.onConnected(new SessionConnectedEvent(this, message(SimpMessageType.CONNECT_ACK, "s3", null, null), user(20L)));
+
+            // When
+            registry.onDisconnect(new SessionDisconnectEvent(this, message(SimpMessageType.DISCONNECT, "s1", null, null), "s1", CloseStatus.NORMAL));
+
+            // Then
+            assertThat(registry.isOnline(10L)).isTrue();
+            assertThat(registry.onlineUsers(List.of(10L, 20L, 30L))).containsExactly(10L, 20L);
+
+            // When
+            registry.onDisconnect(new SessionDisconnectEvent(this, message(SimpMessageType.DISCONNECT, "s2", null, null), "s2", CloseStatus.NORMAL));
+
+            // Then
+            assertThat(registry.isOnline(10L)).isFalse();
+        }
+
+        @Test
+        @DisplayName("성공 - 활동(하트비트 포함)이 끊긴 세션은 정리")
+        void sweep_ExpiresIdleSessions() {
+            // Given
+            long connectedAt = System.nanoTime() - TimeUnit.SECONDS.toNanos(61);
+            registry.connect("s1", 10L, connectedAt);
+            registry.connect("s2", 20L, connectedAt);
+            registry.preSend(message(SimpMessageType.HEARTBEAT, "s2", null, null), null);
+
+            // When
+            registry.sweep(System.nanoTime());
+
+            // Then
+            assertThat(registry.isOnline(10L)).isFalse();
+            assertThat(registry.isOnline(20L)).isTrue();
+            assertThat(registry.sessionCount()).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("구독 테스트")
+    class SubscriptionTest {
+
+        @Test
+        @DisplayName("성공 - 구독/구독 해제로 목적지 구독자 추적")
+        void subscribe_TracksDestinationMembers() {
+            // Given
+            registry.connect("s1", 10L, System.nanoTime());
+            registry.onSubscribe(new SessionSubscribeEvent(this, message(SimpMessageType.SUBSCRIBE, "s1", "sub-0", "/topic/chat/1")));
+            registry.onSubscribe(new SessionSubscribeEvent(this, message(SimpMessageType.SUBSCRIBE, "s1", "sub-1", "/topic/group/2")));
+
+            // Then
+            assertThat(registry.hasSubscribers("/topic/chat/1")).isTrue();
+            assertThat(registry.subscribedUsers("/topic/chat/1")).containsExactly(10L);
+            assertThat(registry.hasSubscribers("/topic/chat/9")).isFalse();
+
+            // When
+            registry.onUnsubscribe(new SessionUnsubscribeEvent(this, message(SimpMessageType.UNSUBSCRIBE, "s1", "sub-0", null)));
+            registry.disconnect("s1");
+
+            // Then
+            assertThat(registry.hasSubscribers("/topic/chat/1")).isFalse();
+            assertThat(registry.hasSubscribers("/topic/group/2")).isFalse();
+        }
+
+        @Test
+        @DisplayName("성공 - 다른 인스턴스에 구독자가 있을 수 있는 브로커 모드는 항상 true")
+        void hasSubscribers_NonLocalBroker() {
+            UserPresenceRegistry relayRegistry = new UserPresenceRegistry("relay", 60000);
+
+            assertThat(relayRegistry.hasSubscribers("/topic/chat/1")).isTrue();
+        }
+    }
+
+    private Message<byte[]> message(SimpMessageType type, String sessionId, String subscriptionId, String destination) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(type);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        accessor.setDestination(destination);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private Principal user(Long userId) {
+        return new UsernamePasswordAuthenticationToken(userId.toString(), null, List.of());
+    }
+}
@@ -0,0 +1,201 @@
+package com.travelmate.service.nft;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.travelmate.dto.NftDto;
+import com.travelmate.entity.User;
+import com.travelmate.entity.nft.*;
+import com.travelmate.repository.UserRepository;
+import com.travelmate.repository.nft.AchievementRepository;
+import com.travelmate.repository.nft.UserAchievementRepository;
+import com.travelmate.repository.nft.UserNftCollectionRepository;
+import com.travelmate.service.achievement.AchievementIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AchievementService 테스트")
+class AchievementServiceTest {
+
+    private static final Long USER_ID = 1L;
+
+    @Mock
+    private AchievementRepository achievementRepository;
+
+    @Mock
+    private UserAchievementRepository userAchievementRepository;
+
+    @Mock
+    private UserNftCollectionRepository userNftCollectionRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PointService pointService;
+
+    private AchievementService achievementService;
+
+    @BeforeEach
+    void setUp() {
+        AchievementIndex index = new AchievementIndex(achievementRepository, new ObjectMapper());
+        achievementService = new AchievementService(achievementRepository, userAchievementRepository,
+                userNftCollectionRepository, userRepository, pointService, index);
+        when(achievementRepository.findByTypeAndIsActiveTrueOrderByDisplayOrderAsc(AchievementType.COLLECTION))
+                .thenReturn(List.of(
+                        achievement(10L, "{\"type\":\"TOTAL_COLLECT\",\"target\":1}", 100),
+                        achievement(11L, "{\"type\":\"TOTAL_COLLECT\",\"target\":10}", 500),
+                        achievement(20L, "{\"type\":\"REGION_COLLECT\",\"target\":3,\"region\":\"제주도\"}", 300),
+                        achievement(30L, "{\"type\":\"RARITY_COLLECT\",\"target\":2,\"rarity\":\"LEGENDARY\"}", 900)));
+        index.reload();
+    }
+
+    @Nested
+    @DisplayName("수집 업적 체크 테스트")
+    class CheckOnCollectTest {
+
+        @Test
+        @DisplayName("성공 - 맞는 업적만 +1, 목표에 도달한 업적은 한 번만 완료")
+        void checkOnCollect_IncrementsOnlyMatching() {
+            // Given - 모든 후보에 진행 기록이 있고 지역 업적은 이번 수집으로 3/3
+            List<Object[]> progress = new ArrayList<>();
+            progress.add(new Object[]{10L, 5, 1, true});
+            progress.add(new Object[]{11L, 6, 10, false});
+            progress.add(new Object[]{20L, 3, 3, false});
+            when(userAchievementRepository.findProgressByAchievementIds(eq(USER_ID), anyCollection())).thenReturn(progress);
+            when(userAchievementRepository.completeIfReached(eq(USER_ID), eq(20L), any())).thenReturn(1);
+
+            // When
+            List<NftDto.AchievementUnlocked> unlocked =
+                    achievementService.checkAchievementsOnCollect(USER_ID, location(Rarity.COMMON, "제주도"));
+
+            // Then - 전설 희귀도 업적은 건드리지 않고, 수집 수를 다시 세지 않음
+            verify(userAchievementRepository).incrementProgress(USER_ID, List.of(10L, 11L, 20L));
+            assertThat(unlocked).extracting(NftDto.AchievementUnlocked::getAchievementId).containsExactly(20L);
+            verify(pointService).earnPoints(eq(USER_ID), eq(300L), eq(PointSource.ACHIEVEMENT), anyString(),
+                    eq(20L), eq("ACHIEVEMENT"));
+            verifyNoInteractions(userNftCollectionRepository);
+            verify(userAchievementRepository, never()).saveAll(anyList());
+        }
+
+        @Test
+        @DisplayName("성공 - 진행 기록이 없던 업적은 차원별로 한 번 센 수집 수로 시작")
+        void checkOnCollect_SeedsMissingProgress() {
+            // Given
+            when(userAchievementRepository.findProgressByAchievementIds(eq(USER_ID), anyCollection())).thenReturn(List.of());
+            when(userNftCollectionRepository.countByUserId(USER_ID)).thenReturn(1);
+            when(userRepository.getReferenceById(USER_ID)).thenReturn(new User());
+
+            // When - 첫 수집
+            List<NftDto.AchievementUnlocked> unlocked =
+                    achievementService.checkAchievementsOnCollect(USER_ID, location(Rarity.RARE, null));
+
+            // Then - 전체 수집 업적 두 개에 COUNT 는 한 번
+            verify(userNftCollectionRepository, times(1)).countByUserId(USER_ID);
+            assertThat(unlocked).extracting(NftDto.AchievementUnlocked::getAchievementId).containsExactly(10L);
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<List<UserAchievement>> saved = ArgumentCaptor.forClass(List.class);
+            verify(userAchievementRepository).saveAll(saved.capture());
+            assertThat(saved.getValue()).extracting(UserAchievement::getCurrentProgress, UserAchievement::getTargetProgress,
+                    UserAchievement::getIsCompleted)
+                    .containsExactly(tuple(1, 1, true), tuple(1, 10, false));
+        }
+    }
+
+    @Nested
+    @DisplayName("소유 변경 재동기화 테스트")
+    class SyncCollectionProgressTest {
+
+        // 진행 기록 (achievementId -> [achievementId, current, target, completed]), 저장소 UPDATE 를 그대로 반영
+        private final Map<Long, Object[]> rows = new HashMap<>();
+
+        @BeforeEach
+        void stubProgressRows() {
+            rows.put(10L, new Object[]{10L, 9, 1, true});
+            rows.put(11L, new Object[]{11L, 9, 10, false});
+            when(userAchievementRepository.findProgressByAchievementIds(eq(USER_ID), anyCollection()))
+                    .thenAnswer(invocation -> new ArrayList<>(rows.values()));
+            lenient().when(userAchievementRepository.resetProgress(eq(USER_ID), anyLong(), anyInt()))
+                    .thenAnswer(invocation -> {
+                        rows.get(invocation.<Long>getArgument(1))[1] = invocation.<Integer>getArgument(2);
+                        return 1;
+                    });
+            lenient().when(userAchievementRepository.incrementProgress(eq(USER_ID), anyCollection()))
+                    .thenAnswer(invocation -> {
+                        rows.values().stream().filter(row -> !(Boolean) row[3])
+                                .forEach(row -> row[1] = (Integer) row[1] + 1);
+                        return 1;
+                    });
+        }
+
+        @Test
+        @DisplayName("성공 - 판매 후 수집해도 판매자 업적은 실제 수집 수 기준 (조기 달성 없음)")
+        void sellThenCollect_SellerDoesNotUnlockEarly() {
+            // Given - 9/10 진행 중에 NFT 하나를 팔아 실제 보유는 8개
+            when(userNftCollectionRepository.countByUserId(USER_ID)).thenReturn(8);
+
+            // When
+            achievementService.syncCollectionProgress(USER_ID, location(Rarity.COMMON, null));
+            List<NftDto.AchievementUnlocked> unlocked =
+                    achievementService.checkAchievementsOnCollect(USER_ID, location(Rarity.COMMON, null));
+
+            // Then - 완료된 업적은 건드리지 않음
+            verify(userAchievementRepository).resetProgress(USER_ID, 11L, 8);
+            verify(userAchievementRepository, never()).resetProgress(eq(USER_ID), eq(10L), anyInt());
+            assertThat(rows.get(11L)[1]).isEqualTo(9);
+            assertThat(unlocked).isEmpty();
+            verify(pointService, never()).earnPoints(anyLong(), anyLong(), any(), anyString(), anyLong(), anyString());
+        }
+
+        @Test
+        @DisplayName("성공 - 구매 후 수집하면 구매한 NFT까지 세어 목표 달성")
+        void buyThenCollect_BuyerCountsPurchasedNft() {
+            // Given - 9/10 진행 중에 NFT 하나를 사서 실제 보유는 10개
+            when(userNftCollectionRepository.countByUserId(USER_ID)).thenReturn(10);
+            when(userAchievementRepository.completeIfReached(eq(USER_ID), eq(11L), any())).thenReturn(1);
+
+            // When
+            achievementService.syncCollectionProgress(USER_ID, location(Rarity.COMMON, null));
+            List<NftDto.AchievementUnlocked> unlocked =
+                    achievementService.checkAchievementsOnCollect(USER_ID, location(Rarity.COMMON, null));
+
+            // Then
+            assertThat(rows.get(11L)[1]).isEqualTo(11);
+            assertThat(unlocked).extracting(NftDto.AchievementUnlocked::getAchievementId).containsExactly(11L);
+        }
+    }
+
+    private static Achievement achievement(Long id, String conditionJson, int pointReward) {
+        return Achievement.builder()
+                .id(id)
+                .code("A" + id)
+                .name("업적 " + id)
+                .type(AchievementType.COLLECTION)
+                .rarity(Rarity.RARE)
+                .pointReward(pointReward)
+                .conditionJson(conditionJson)
+                .build();
+    }
+
+    private static CollectibleLocation location(Rarity rarity, String region) {
+        CollectibleLocation location = new CollectibleLocation();
+        location.setRarity(rarity);
+        location.setCategory(LocationCategory.LANDMARK);
+        location.setRegion(region);
+        return location;
+    }
+}
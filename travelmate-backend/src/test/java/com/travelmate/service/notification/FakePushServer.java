@@ -0,0 +1,118 @@
+package com.travelmate.service.notification;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 테스트용 로컬 푸시 서버 (FCM 레거시 멀티캐스트 형식)
+ * 토큰별 오류와 요청 전체 실패를 지정할 수 있고, 받은 요청을 기록한다.
+ */
+class FakePushServer implements AutoCloseable {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpServer server;
+    private final List<JsonNode> requests = new CopyOnWriteArrayList<>();
+    private final Set<String> invalidTokens = ConcurrentHashMap.newKeySet();
+    private final Set<String> unavailableTokens = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger failuresRemaining = new AtomicInteger();
+    private volatile int failureStatus = 503;
+
+    FakePushServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/send", this::handle);
+        server.start();
+    }
+
+    String url() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/send";
+    }
+
+    FakePushServer invalid(String... tokens) {
+        invalidTokens.addAll(List.of(tokens));
+        return this;
+    }
+
+    FakePushServer unavailable(String... tokens) {
+        unavailableTokens.addAll(List.of(tokens));
+        return this;
+    }
+
+    /**
+     * 다음 count 번의 요청을 status 로 실패
+     */
+    FakePushServer failNext(int count, int status) {
+        failureStatus = status;
+        failuresRemaining.set(count);
+        return this;
+    }
+
+    List<JsonNode> requests() {
+        return requests;
+    }
+
+    List<List<String>> tokenBatches() {
+        List<List<String>> batches = new ArrayList<>();
+        for (JsonNode request : requests) {
+            List<String> tokens = new ArrayList<>();
+            request.path("registration_ids").forEach(token -> tokens.add(token.asText()));
+            batches.add(tokens);
+        }
+        return batches;
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        JsonNode request = objectMapper.readTree(exchange.getRequestBody());
+        requests.add(request);
+        if (failuresRemaining.getAndUpdate(n -> Math.max(0, n - 1)) > 0) {
+            respond(exchange, failureStatus, "{\"error\":\"failure\"}");
+            return;
+        }
+
+        ObjectNode response = objectMapper.createObjectNode();
+        ArrayNode results = response.putArray("results");
+        int success = 0;
+        for (JsonNode token : request.path("registration_ids")) {
+            ObjectNode result = results.addObject();
+            if (invalidTokens.contains(token.asText())) {
+                result.put("error", "NotRegistered");
+            } else if (unavailableTokens.contains(token.asText())) {
+                result.put("error", "Unavailable");
+            } else {
+                result.put("message_id", "0:" + requests.size() + ":" + token.asText());
+                success++;
+            }
+        }
+        response.put("success", success);
+        response.put("failure", results.size() - success);
+        respond(exchange, 200, objectMapper.writeValueAsString(response));
+    }
+
+    private void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
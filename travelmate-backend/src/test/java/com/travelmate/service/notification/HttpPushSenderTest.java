@@ -0,0 +1,67 @@
+package com.travelmate.service.notification;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.HttpServerErrorException;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("HttpPushSender 테스트")
+class HttpPushSenderTest {
+
+    private static final PushSender.PushMessage MESSAGE = new PushSender.PushMessage("알림", "내용", "/groups/1");
+
+    private FakePushServer server;
+    private HttpPushSender sender;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new FakePushServer();
+        sender = new HttpPushSender(server.url(), "test-key", 500, 1000, 2000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    @Test
+    @DisplayName("성공 - 한 요청으로 여러 토큰에 보내고 토큰별 결과 매핑")
+    void send_MapsPerTokenResults() {
+        // Given
+        server.invalid("t2").unavailable("t3");
+
+        // When
+        List<PushSender.Outcome> outcomes = sender.send(MESSAGE, List.of("t1", "t2", "t3"));
+
+        // Then
+        assertThat(outcomes).containsExactly(
+                PushSender.Outcome.DELIVERED, PushSender.Outcome.INVALID_TOKEN, PushSender.Outcome.RETRY);
+        assertThat(server.tokenBatches()).containsExactly(List.of("t1", "t2", "t3"));
+        assertThat(server.requests().get(0).path("notification").path("title").asText()).isEqualTo("알림");
+        assertThat(server.requests().get(0).path("data").path("actionUrl").asText()).isEqualTo("/groups/1");
+    }
+
+    @Test
+    @DisplayName("실패 - 5xx 는 예외(전부 재시도), 4xx 는 전부 거부")
+    void send_HandlesRequestFailures() {
+        // Given
+        server.failNext(1, 503);
+
+        // When & Then
+        assertThatThrownBy(() -> sender.send(MESSAGE, List.of("t1")))
+                .isInstanceOf(HttpServerErrorException.class);
+
+        // Given
+        server.failNext(1, 401);
+
+        // When & Then
+        assertThat(sender.send(MESSAGE, List.of("t1", "t2")))
+                .containsOnly(PushSender.Outcome.REJECTED);
+    }
+}
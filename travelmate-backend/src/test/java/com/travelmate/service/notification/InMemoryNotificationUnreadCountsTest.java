@@ -0,0 +1,96 @@
+package com.travelmate.service.notification;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("InMemoryNotificationUnreadCounts 테스트")
+class InMemoryNotificationUnreadCountsTest {
+
+    @Test
+    @DisplayName("성공 - 캐시된 값에 새 알림을 더하고 읽음/삭제 시 다시 셈")
+    void get_CachesAndTracksChanges() {
+        // Given
+        NotificationUnreadCounts counts = new InMemoryNotificationUnreadCounts(100, 60000);
+        AtomicInteger loads = new AtomicInteger();
+
+        // When & Then
+        assertThat(counts.get(1L, () -> { loads.incrementAndGet(); return 5; })).isEqualTo(5);
+        counts.addedAll(List.of(1L, 2L));
+        assertThat(counts.get(1L, () -> { loads.incrementAndGet(); return 0; })).isEqualTo(6);
+        assertThat(loads).hasValue(1);
+
+        counts.cleared(1L);
+        assertThat(counts.get(1L, () -> 99)).isZero();
+
+        counts.evict(1L);
+        assertThat(counts.get(1L, () -> 3)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("성공 - 캐시에 없는 사용자의 새 알림은 무시하고 한도를 넘으면 오래된 사용자부터 제거")
+    void added_IgnoresUncachedAndEvictsLeastRecent() {
+        // Given
+        NotificationUnreadCounts counts = new InMemoryNotificationUnreadCounts(1, 60000);
+        counts.added(1L);
+        counts.get(1L, () -> 1);
+
+        // When
+        counts.get(2L, () -> 2);
+
+        // Then
+        assertThat(counts.get(1L, () -> 7)).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("성공 - 세는 동안 새 알림이 반영되면 센 값을 캐시하지 않음")
+    void get_DiscardsLoadRacingWithAdd() {
+        // Given
+        NotificationUnreadCounts counts = new InMemoryNotificationUnreadCounts(100, 60000);
+
+        // When - 센 값(2)에 동시에 커밋된 알림이 포함됐는지 알 수 없음
+        long loaded = counts.get(1L, () -> {
+            counts.added(1L);
+            return 2;
+        });
+
+        // Then
+        assertThat(loaded).isEqualTo(2);
+        assertThat(counts.get(1L, () -> 3)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("성공 - 트랜잭션 안의 변경은 커밋된 뒤에만 반영")
+    void added_AppliesOnlyAfterCommit() {
+        // Given
+        NotificationUnreadCounts counts = new InMemoryNotificationUnreadCounts(100, 60000);
+        counts.get(1L, () -> 5);
+
+        // When - 롤백된 트랜잭션과 커밋된 트랜잭션에서 각각 추가
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            counts.added(1L);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.initSynchronization();
+        List<TransactionSynchronization> committed;
+        try {
+            counts.added(1L);
+            assertThat(counts.get(1L, () -> 0)).isEqualTo(5);
+            committed = TransactionSynchronizationManager.getSynchronizations();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        committed.forEach(TransactionSynchronization::afterCommit);
+
+        // Then
+        assertThat(counts.get(1L, () -> 0)).isEqualTo(6);
+    }
+}
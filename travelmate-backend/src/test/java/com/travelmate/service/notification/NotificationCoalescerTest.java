@@ -0,0 +1,91 @@
+package com.travelmate.service.notification;
+
+import com.travelmate.entity.Notification;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("NotificationCoalescer 테스트")
+class NotificationCoalescerTest {
+
+    private static final long WINDOW_NANOS = TimeUnit.MILLISECONDS.toNanos(10000);
+
+    private final NotificationCoalescer coalescer = new NotificationCoalescer(10000, 100,
+            EnumSet.of(Notification.NotificationType.LIKE, Notification.NotificationType.COMMENT));
+
+    @Nested
+    @DisplayName("묶음 테스트")
+    class CoalesceTest {
+
+        @Test
+        @DisplayName("성공 - 창 안의 같은 사용자/대상 알림은 요약 한 건으로")
+        void drain_SummarizesWithinWindow() {
+            // Given
+            long now = System.nanoTime();
+            for (int i = 1; i <= 12; i++) {
+                assertThat(coalescer.offer(like(1L, 100L, "사용자" + i + "님이 게시글을 좋아합니다"), now)).isTrue();
+            }
+            coalescer.offer(like(1L, 200L, "다른 게시글"), now);
+            coalescer.offer(like(2L, 100L, "다른 사용자"), now);
+
+            // When - 창이 닫히기 전
+            List<NotificationCoalescer.Draft> early = coalescer.drain(now + WINDOW_NANOS - 1, false);
+
+            // Then
+            assertThat(early).isEmpty();
+            assertThat(coalescer.pendingCount()).isEqualTo(3);
+
+            // When
+            List<NotificationCoalescer.Draft> due = coalescer.drain(now + WINDOW_NANOS, false);
+
+            // Then
+            assertThat(due).hasSize(3);
+            NotificationCoalescer.Draft summary = due.stream()
+                    .filter(d -> d.userId() == 1L && d.relatedId() == 100L).findFirst().orElseThrow();
+            assertThat(summary.count()).isEqualTo(12);
+            assertThat(summary.title()).isEqualTo("좋아요 12건");
+            assertThat(summary.message()).isEqualTo("사용자12님이 게시글을 좋아합니다 외 11건");
+            assertThat(due).filteredOn(d -> d.count() == 1).extracting(NotificationCoalescer.Draft::title)
+                    .containsOnly("좋아요");
+            assertThat(coalescer.pendingCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("성공 - 대상 유형이 아니거나 관련 엔티티가 없으면 즉시 전송")
+        void offer_RejectsNonCoalescedNotifications() {
+            // Given
+            NotificationCoalescer.Draft system = new NotificationCoalescer.Draft(1L,
+                    Notification.NotificationType.SYSTEM, "시스템 알림", "점검 안내", null, 1L, "SYSTEM");
+            NotificationCoalescer.Draft noRelated = new NotificationCoalescer.Draft(1L,
+                    Notification.NotificationType.LIKE, "좋아요", "좋아요", null, null, null);
+
+            // When & Then
+            assertThat(coalescer.offer(system)).isFalse();
+            assertThat(coalescer.offer(noRelated)).isFalse();
+        }
+
+        @Test
+        @DisplayName("성공 - 보관 한도를 넘으면 새 대상은 즉시 전송, 종료 시 모두 꺼냄")
+        void offer_RespectsMaxPending() {
+            // Given
+            NotificationCoalescer small = new NotificationCoalescer(10000, 1, EnumSet.of(Notification.NotificationType.LIKE));
+            assertThat(small.offer(like(1L, 100L, "첫 번째"))).isTrue();
+
+            // When & Then
+            assertThat(small.offer(like(1L, 200L, "두 번째"))).isFalse();
+            assertThat(small.offer(like(1L, 100L, "같은 대상"))).isTrue();
+            assertThat(small.drainAll()).singleElement().extracting(NotificationCoalescer.Draft::count).isEqualTo(2);
+        }
+    }
+
+    private NotificationCoalescer.Draft like(Long userId, Long postId, String message) {
+        return new NotificationCoalescer.Draft(userId, Notification.NotificationType.LIKE, "좋아요", message,
+                "/posts/" + postId, postId, "POST");
+    }
+}
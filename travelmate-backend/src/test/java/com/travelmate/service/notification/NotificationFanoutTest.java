@@ -0,0 +1,191 @@
+package com.travelmate.service.notification;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.travelmate.entity.Notification;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NotificationFanout 테스트")
+class NotificationFanoutTest {
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private NotificationUnreadCounts unreadCounts;
+
+    private NotificationFanout fanout;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(messagingTemplate.getUserDestinationPrefix()).thenReturn("/user/");
+        fanout = new NotificationFanout(messagingTemplate, new ObjectMapper(), jdbcTemplate, unreadCounts, transactionManager,
+                Runnable::run, "travelmate", 2);
+    }
+
+    @Nested
+    @DisplayName("팬아웃 테스트")
+    class PublishTest {
+
+        @Test
+        @DisplayName("성공 - 한 번 직렬화한 메시지를 중복 없이 수신자별로 전송하고 배치 기록")
+        @SuppressWarnings("unchecked")
+        void publish_SerializesOnceAndBatchesPerChunk() {
+            // Given
+            NotificationFanout.Persisted persisted = new NotificationFanout.Persisted(
+                    Notification.NotificationType.SYSTEM, "알림", "그룹 상태 변경", null, 5L, "SYSTEM");
+
+            // When
+            fanout.publish(List.of(1L, 2L, 2L, 3L), "/topic/notifications", Map.of("message", "그룹 상태 변경"), persisted);
+
+            // Then
+            ArgumentCaptor<Message<?>> messages = ArgumentCaptor.forClass(Message.class);
+            verify(messagingTemplate).send(eq("/user/1/topic/notifications"), messages.capture());
+            verify(messagingTemplate).send(eq("/user/2/topic/notifications"), messages.capture());
+            verify(messagingTemplate).send(eq("/user/3/topic/notifications"), messages.capture());
+            assertThat(messages.getAllValues()).allSatisfy(m -> assertThat(m).isSameAs(messages.getValue()));
+            assertThat(new String((byte[]) messages.getValue().getPayload(), StandardCharsets.UTF_8))
+                    .contains("그룹 상태 변경");
+
+            ArgumentCaptor<Collection<?>> rows = ArgumentCaptor.forClass(Collection.class);
+            verify(jdbcTemplate).batchUpdate(startsWith("INSERT INTO travelmate.notifications"),
+                    rows.capture(), eq(2), any());
+            assertThat(rows.getValue()).hasSize(3);
+            verify(unreadCounts).addedAll(List.of(1L, 2L, 3L));
+
+            NotificationFanout.Stats stats = fanout.stats();
+            assertThat(stats.published()).isEqualTo(1);
+            assertThat(stats.delivered()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("성공 - 기록 내용이 없으면 실시간 전송만")
+        void publish_WithoutPersistence() {
+            // When
+            fanout.publish(List.of(1L), "/topic/matching", Map.of("type", "MATCHING"), null);
+
+            // Then
+            verify(messagingTemplate).send(eq("/user/1/topic/matching"), any(Message.class));
+            verifyNoInteractions(jdbcTemplate);
+        }
+
+        @Test
+        @DisplayName("성공 - 수신자별 알림은 각자의 페이로드로 전송하고 기록할 알림만 배치 기록")
+        @SuppressWarnings("unchecked")
+        void publishEach_SendsPerRecipientPayloads() {
+            // Given
+            NotificationFanout.Persisted persisted = new NotificationFanout.Persisted(
+                    Notification.NotificationType.SYSTEM, "매칭", "매칭되었습니다", null, 2L, "MATCHING");
+
+            // When
+            fanout.publishEach("/topic/matching", List.of(
+                    new NotificationFanout.Notice(1L, Map.of("matchedUserId", 2L), persisted),
+                    new NotificationFanout.Notice(2L, Map.of("matchedUserId", 1L), null)));
+
+            // Then
+            ArgumentCaptor<Message<?>> first = ArgumentCaptor.forClass(Message.class);
+            ArgumentCaptor<Message<?>> second = ArgumentCaptor.forClass(Message.class);
+            verify(messagingTemplate).send(eq("/user/1/topic/matching"), first.capture());
+            verify(messagingTemplate).send(eq("/user/2/topic/matching"), second.capture());
+            assertThat(new String((byte[]) first.getValue().getPayload(), StandardCharsets.UTF_8)).contains("2");
+            assertThat(new String((byte[]) second.getValue().getPayload(), StandardCharsets.UTF_8)).contains("1");
+
+            ArgumentCaptor<Collection<?>> rows = ArgumentCaptor.forClass(Collection.class);
+            verify(jdbcTemplate).batchUpdate(anyString(), rows.capture(), anyInt(), any());
+            assertThat(rows.getValue()).hasSize(1);
+            verify(unreadCounts).addedAll(List.of(1L));
+        }
+
+        @Test
+        @DisplayName("성공 - 호출 측 트랜잭션 안이면 커밋된 뒤에 전송")
+        void publish_DeliversAfterCommit() {
+            // Given
+            TransactionSynchronizationManager.initSynchronization();
+            List<TransactionSynchronization> synchronizations;
+            try {
+                // When
+                fanout.publish(List.of(1L), "/topic/notifications", Map.of("message", "알림"), null);
+                verifyNoInteractions(messagingTemplate);
+                synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+
+            // Then
+            verify(messagingTemplate).send(eq("/user/1/topic/notifications"), any(Message.class));
+        }
+
+        @Test
+        @DisplayName("성공 - 호출 측이 읽기 전용 트랜잭션이면 별도 쓰기 트랜잭션으로 기록")
+        void publish_PersistsInSeparateTransactionUnderReadOnlyCaller() {
+            // Given
+            NotificationFanout.Persisted persisted = new NotificationFanout.Persisted(
+                    Notification.NotificationType.SYSTEM, "매칭", "매칭되었습니다", null, null, "MATCHING");
+            TransactionSynchronizationManager.initSynchronization();
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+            try {
+                // When
+                fanout.publish(List.of(1L), "/topic/matching", Map.of("type", "MATCHING"), persisted);
+            } finally {
+                TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+
+            // Then
+            ArgumentCaptor<TransactionDefinition> definition = ArgumentCaptor.forClass(TransactionDefinition.class);
+            verify(transactionManager).getTransaction(definition.capture());
+            assertThat(definition.getValue().getPropagationBehavior())
+                    .isEqualTo(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+            assertThat(definition.getValue().isReadOnly()).isFalse();
+            verify(jdbcTemplate).batchUpdate(anyString(), anyCollection(), anyInt(), any());
+        }
+
+        @Test
+        @DisplayName("실패 - 기록 실패는 호출 측으로 전파하고 전송하지 않음")
+        void publish_PropagatesPersistenceFailure() {
+            // Given
+            when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any()))
+                    .thenThrow(new RuntimeException("DB 오류"));
+            NotificationFanout.Persisted persisted = new NotificationFanout.Persisted(
+                    Notification.NotificationType.SYSTEM, "매칭", "매칭되었습니다", null, null, "MATCHING");
+
+            // When & Then
+            assertThatThrownBy(() ->
+                    fanout.publish(List.of(1L), "/topic/matching", Map.of("type", "MATCHING"), persisted))
+                    .hasMessage("DB 오류");
+            verify(transactionManager).rollback(any());
+            verify(messagingTemplate, never()).send(anyString(), any(Message.class));
+            verifyNoInteractions(unreadCounts);
+        }
+    }
+}
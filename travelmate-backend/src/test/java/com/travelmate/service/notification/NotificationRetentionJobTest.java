@@ -0,0 +1,101 @@
+package com.travelmate.service.notification;
+
+import com.travelmate.repository.NotificationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NotificationRetentionJob 테스트")
+class NotificationRetentionJobTest {
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    @Mock
+    private NotificationUnreadCounts unreadCounts;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private NotificationRetentionJob job;
+
+    @BeforeEach
+    void setUp() {
+        job = new NotificationRetentionJob(notificationRepository, unreadCounts, transactionManager, 90, 2, 10, 0);
+    }
+
+    @Nested
+    @DisplayName("정리 테스트")
+    class PurgeTest {
+
+        @Test
+        @DisplayName("성공 - 청크마다 별도 트랜잭션으로 삭제하고 읽지 않은 알림 사용자 카운트 무효화")
+        void purge_DeletesInChunks() {
+            // Given
+            LocalDateTime before = LocalDateTime.now().minusDays(90);
+            when(notificationRepository.findIdsCreatedBefore(eq(before), any(Pageable.class)))
+                    .thenReturn(List.of(1L, 2L), List.of(3L));
+            when(notificationRepository.findUnreadUserIdsByIds(List.of(1L, 2L))).thenReturn(List.of(10L));
+            when(notificationRepository.findUnreadUserIdsByIds(List.of(3L))).thenReturn(List.of());
+            when(notificationRepository.deleteByIds(anyList())).thenAnswer(invocation -> invocation.<List<Long>>getArgument(0).size());
+
+            // When
+            int purged = job.purgeOlderThan(before);
+
+            // Then
+            assertThat(purged).isEqualTo(3);
+            verify(transactionManager, times(2)).commit(any());
+            verify(unreadCounts).evictAll(List.of(10L));
+            NotificationRetentionJob.Stats stats = job.stats();
+            assertThat(stats.purgedTotal()).isEqualTo(3);
+            assertThat(stats.lastRun().chunks()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("성공 - 실행당 최대 청크 수까지만 삭제")
+        void purge_StopsAtMaxChunks() {
+            // Given
+            NotificationRetentionJob limited = new NotificationRetentionJob(
+                    notificationRepository, unreadCounts, transactionManager, 90, 2, 1, 0);
+            when(notificationRepository.findIdsCreatedBefore(any(), any(Pageable.class))).thenReturn(List.of(1L, 2L));
+            when(notificationRepository.deleteByIds(anyList())).thenReturn(2);
+
+            // When
+            int purged = limited.purgeOlderThan(LocalDateTime.now());
+
+            // Then
+            assertThat(purged).isEqualTo(2);
+            verify(notificationRepository, times(1)).deleteByIds(anyList());
+        }
+
+        @Test
+        @DisplayName("실패 - 삭제 실패 시 그때까지의 건수만 기록하고 중단")
+        void purge_StopsOnFailure() {
+            // Given
+            when(notificationRepository.findIdsCreatedBefore(any(), any(Pageable.class))).thenReturn(List.of(1L, 2L));
+            when(notificationRepository.deleteByIds(anyList())).thenReturn(2).thenThrow(new RuntimeException("잠금 대기 시간 초과"));
+
+            // When
+            int purged = job.purgeOlderThan(LocalDateTime.now());
+
+            // Then
+            assertThat(purged).isEqualTo(2);
+            verify(transactionManager).rollback(any());
+            assertThat(job.stats().runs()).isEqualTo(1);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.travelmate.service.notification;
+
+import com.travelmate.entity.PushOutbox;
+import com.travelmate.repository.PushOutboxRepository;
+import com.travelmate.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PushDispatcher 테스트")
+class PushDispatcherTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+    @Mock
+    private PushOutboxRepository pushOutboxRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private FakePushServer server;
+    private PushDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new FakePushServer();
+        // 멀티캐스트 한도 2, 최대 3회 시도, 백오프 1초~1분
+        HttpPushSender sender = new HttpPushSender(server.url(), "", 2, 1000, 2000);
+        dispatcher = new PushDispatcher(pushOutboxRepository, userRepository, sender, transactionManager,
+                100, 5, 3, 60_000, 1_000, 60_000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    @Nested
+    @DisplayName("전송 테스트")
+    class DispatchTest {
+
+        @Test
+        @DisplayName("성공 - 같은 내용끼리 멀티캐스트, 성공은 삭제하고 무효 토큰은 사용자에서 제거")
+        void dispatch_MulticastsAndInvalidatesTokens() {
+            // Given
+            server.invalid("t2");
+            List<PushOutbox> due = List.of(
+                    entry(1L, 10L, "t1", "그룹 공지", 0),
+                    entry(2L, 20L, "t2", "그룹 공지", 0),
+                    entry(3L, 30L, "t3", "그룹 공지", 0),
+                    entry(4L, 40L, "t4", "매칭", 0));
+            when(pushOutboxRepository.findDueForUpdate(eq(NOW), any(Pageable.class))).thenReturn(due);
+
+            // When
+            int claimed = dispatcher.dispatchBatch(NOW);
+
+            // Then - 같은 내용 3건은 한도 2로 나뉘어 두 요청, 다른 내용은 별도 요청
+            assertThat(claimed).isEqualTo(4);
+            assertThat(server.tokenBatches()).containsExactly(List.of("t1", "t2"), List.of("t3"), List.of("t4"));
+            verify(pushOutboxRepository).deleteByIds(List.of(1L, 2L, 3L, 4L));
+            verify(userRepository).clearFcmToken(20L, "t2");
+            verify(pushOutboxRepository).deletePendingByTokens(List.of("t2"));
+            verify(pushOutboxRepository, never()).saveAll(anyList());
+            verify(transactionManager, times(2)).commit(any());
+            assertThat(dispatcher.stats().delivered()).isEqualTo(3);
+            assertThat(dispatcher.stats().invalidated()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("실패 - 서버 오류는 백오프 후 재시도, 시도 한도를 넘으면 DEAD")
+        void dispatch_RetriesWithBackoffThenGivesUp() {
+            // Given - 방금 가져온 행은 시도 1회째, 이미 두 번 실패한 행은 3회째
+            server.failNext(1, 503);
+            PushOutbox fresh = entry(1L, 10L, "t1", "공지", 0);
+            PushOutbox exhausted = entry(2L, 20L, "t2", "공지", 2);
+            when(pushOutboxRepository.findDueForUpdate(eq(NOW), any(Pageable.class))).thenReturn(List.of(fresh, exhausted));
+
+            // When
+            dispatcher.dispatchBatch(NOW);
+
+            // Then
+            verify(pushOutboxRepository).saveAll(List.of(fresh, exhausted));
+            verify(pushOutboxRepository, never()).deleteByIds(anyList());
+            assertThat(fresh.getStatus()).isEqualTo(PushOutbox.Status.PENDING);
+            assertThat(fresh.getAttempts()).isEqualTo(1);
+            assertThat(fresh.getNextAttemptAt()).isBetween(NOW.plusNanos(500_000_000), NOW.plusSeconds(1));
+            assertThat(exhausted.getStatus()).isEqualTo(PushOutbox.Status.DEAD);
+            assertThat(exhausted.getLastError()).isNotBlank();
+        }
+
+        @Test
+        @DisplayName("성공 - 대기 중인 푸시가 없으면 전송하지 않음")
+        void dispatch_NothingDue() {
+            // Given
+            when(pushOutboxRepository.findDueForUpdate(eq(NOW), any(Pageable.class))).thenReturn(List.of());
+
+            // When
+            int claimed = dispatcher.dispatchBatch(NOW);
+
+            // Then
+            assertThat(claimed).isZero();
+            assertThat(server.requests()).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("성공 - 백오프는 지수 증가하고 상한을 넘지 않음")
+    void backoff_GrowsExponentiallyWithCap() {
+        for (int attempts = 1; attempts <= 40; attempts++) {
+            long expected = Math.min(60_000L, 1_000L << Math.min(attempts - 1, 30));
+            assertThat(dispatcher.backoffMillis(attempts)).isBetween(expected / 2, expected);
+        }
+    }
+
+    private PushOutbox entry(long id, long userId, String token, String title, int attempts) {
+        return PushOutbox.builder()
+                .id(id)
+                .userId(userId)
+                .token(token)
+                .title(title)
+                .body(title + " 내용")
+                .attempts(attempts)
+                .nextAttemptAt(NOW)
+                .build();
+    }
+}
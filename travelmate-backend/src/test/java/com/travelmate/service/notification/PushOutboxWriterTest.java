@@ -0,0 +1,96 @@
+package com.travelmate.service.notification;
+
+import com.travelmate.repository.UserRepository;
+import com.travelmate.service.messaging.UserPresenceRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PushOutboxWriter 테스트")
+class PushOutboxWriterTest {
+
+    private static final PushSender.PushMessage MESSAGE = new PushSender.PushMessage("TravelMate", "알림", null);
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private UserPresenceRegistry userPresenceRegistry;
+
+    private PushOutboxWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        userPresenceRegistry = new UserPresenceRegistry("simple", 60_000);
+        writer = new PushOutboxWriter(jdbcTemplate, userRepository, userPresenceRegistry, transactionManager, "travelmate");
+    }
+
+    @Test
+    @DisplayName("성공 - 접속 중이 아닌 토큰 보유자만 호출 측 트랜잭션에서 예약")
+    @SuppressWarnings("unchecked")
+    void enqueueOffline_JoinsCallerTransaction() {
+        // Given
+        when(userRepository.findFcmTokensByIds(anyCollection()))
+                .thenReturn(rows(new Object[]{1L, "token-1"}, new Object[]{2L, "token-2"}));
+
+        // When
+        int enqueued = writer.enqueueOffline(List.of(1L, 2L), MESSAGE);
+
+        // Then
+        assertThat(enqueued).isEqualTo(2);
+        ArgumentCaptor<Collection<?>> targets = ArgumentCaptor.forClass(Collection.class);
+        verify(jdbcTemplate).batchUpdate(startsWith("INSERT INTO travelmate.push_outbox"), targets.capture(), eq(2), any());
+        assertThat(targets.getValue()).hasSize(2);
+        verifyNoInteractions(transactionManager);
+    }
+
+    @Test
+    @DisplayName("성공 - 호출 측이 읽기 전용 트랜잭션이면 별도 쓰기 트랜잭션으로 예약")
+    void enqueueOffline_UsesSeparateTransactionUnderReadOnlyCaller() {
+        // Given
+        when(userRepository.findFcmTokensByIds(anyCollection()))
+                .thenReturn(rows(new Object[]{1L, "token-1"}));
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        try {
+            // When
+            writer.enqueueOffline(List.of(1L), MESSAGE);
+        } finally {
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        }
+
+        // Then
+        ArgumentCaptor<TransactionDefinition> definition = ArgumentCaptor.forClass(TransactionDefinition.class);
+        verify(transactionManager).getTransaction(definition.capture());
+        assertThat(definition.getValue().getPropagationBehavior())
+                .isEqualTo(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        assertThat(definition.getValue().isReadOnly()).isFalse();
+        verify(jdbcTemplate).batchUpdate(anyString(), anyCollection(), anyInt(), any());
+        verify(transactionManager).commit(any());
+    }
+
+    private static List<Object[]> rows(Object[]... rows) {
+        return new ArrayList<>(List.of(rows));
+    }
+}
@@ -0,0 +1,80 @@
+package com.travelmate.service.notification;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RedisNotificationUnreadCounts 테스트")
+class RedisNotificationUnreadCountsTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    private RedisNotificationUnreadCounts counts;
+
+    @BeforeEach
+    void setUp() {
+        counts = new RedisNotificationUnreadCounts(redisTemplate, Duration.ofMinutes(5));
+        lenient().when(redisTemplate.<Object, Object>opsForHash()).thenReturn(hashOperations);
+    }
+
+    @Test
+    @DisplayName("성공 - 캐시된 값이 없으면 세기 전에 읽은 버전과 함께 저장")
+    void get_StoresLoadedCountWithVersion() {
+        // Given
+        when(hashOperations.multiGet(eq("notification:unread:1"), anyCollection()))
+                .thenReturn(Arrays.<Object>asList(null, "7"));
+
+        // When
+        long count = counts.get(1L, () -> 4L);
+
+        // Then
+        assertThat(count).isEqualTo(4L);
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of("notification:unread:1")),
+                eq("7"), eq("4"), eq("300000"));
+    }
+
+    @Test
+    @DisplayName("성공 - 캐시된 값이 있으면 세지 않음")
+    void get_ReturnsCachedCount() {
+        // Given
+        when(hashOperations.multiGet(eq("notification:unread:1"), anyCollection()))
+                .thenReturn(Arrays.<Object>asList("3", "7"));
+
+        // When
+        long count = counts.get(1L, () -> { throw new AssertionError("세지 않아야 함"); });
+
+        // Then
+        assertThat(count).isEqualTo(3L);
+        verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), any());
+    }
+
+    @Test
+    @DisplayName("성공 - 여러 사용자의 새 알림을 한 스크립트로 반영")
+    void addedAll_RunsOneScript() {
+        // When
+        counts.addedAll(List.of(1L, 2L, 1L));
+
+        // Then
+        verify(redisTemplate).execute(any(RedisScript.class),
+                eq(List.of("notification:unread:1", "notification:unread:2")), eq("add"), eq("300000"));
+    }
+}
@@ -0,0 +1,51 @@
+package com.travelmate.service.point;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("InMemoryPointLeaderboard 테스트")
+class InMemoryPointLeaderboardTest {
+
+    private final InMemoryPointLeaderboard leaderboard = new InMemoryPointLeaderboard();
+
+    @Test
+    @DisplayName("성공 - 재구성 중 들어온 갱신을 스냅샷보다 우선 반영")
+    void rebuild_KeepsConcurrentUpdates() {
+        // When - 스냅샷 조회 도중 사용자 1의 포인트 변경
+        leaderboard.rebuild(() -> {
+            leaderboard.update(1L, 500, 500);
+            return List.of(
+                    new PointLeaderboard.Score(1L, 100, 100),
+                    new PointLeaderboard.Score(2L, 300, 50));
+        });
+
+        // Then
+        assertThat(leaderboard.isReady()).isTrue();
+        assertThat(leaderboard.rank(PointLeaderboard.Board.TOTAL, 1L)).isEqualTo(1);
+        assertThat(leaderboard.rank(PointLeaderboard.Board.TOTAL, 2L)).isEqualTo(2);
+        assertThat(leaderboard.top(PointLeaderboard.Board.SEASON, 10))
+                .extracting(RankedScores.Entry::userId).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("성공 - 기록 없는 사용자는 0점 순위, 시즌 초기화는 전체 순위 유지")
+    void rankOfUnknownUserAndSeasonReset() {
+        // Given
+        leaderboard.rebuild(() -> List.of(
+                new PointLeaderboard.Score(1L, 100, 100),
+                new PointLeaderboard.Score(2L, 0, 0)));
+
+        // When
+        leaderboard.resetSeason();
+
+        // Then
+        assertThat(leaderboard.rank(PointLeaderboard.Board.TOTAL, 99L)).isEqualTo(2);
+        assertThat(leaderboard.top(PointLeaderboard.Board.TOTAL, 1))
+                .containsExactly(new RankedScores.Entry(1L, 100, 1));
+        assertThat(leaderboard.top(PointLeaderboard.Board.SEASON, 10)).isEmpty();
+    }
+}
@@ -0,0 +1,245 @@
+package com.travelmate.service.point;
+
+import com.travelmate.entity.User;
+import com.travelmate.entity.nft.PointSource;
+import com.travelmate.entity.nft.PointTransaction;
+import com.travelmate.entity.nft.UserPoint;
+import com.travelmate.repository.UserRepository;
+import com.travelmate.repository.nft.PointTransactionRepository;
+import com.travelmate.repository.nft.UserPointRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 포인트 대량 지급 테스트 (H2, JDBC 배치 SQL 확인)
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("PointGrantPipeline 테스트")
+class PointGrantPipelineTest {
+
+    private static final String SEASON_BONUS = "SEASON_BONUS";
+
+    @SpringBootConfiguration
+    @EntityScan("com.travelmate.entity")
+    @EnableJpaRepositories("com.travelmate.repository")
+    static class TestConfig {
+    }
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserPointRepository userPointRepository;
+
+    @Autowired
+    private PointTransactionRepository pointTransactionRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private InMemoryPointLeaderboard leaderboard;
+    private PointLedger ledger;
+    private PointGrantPipeline pipeline;
+
+    @BeforeEach
+    void setUp() {
+        pointTransactionRepository.deleteAll();
+        userPointRepository.deleteAll();
+        userRepository.deleteAll();
+        leaderboard = new InMemoryPointLeaderboard();
+        // 청크 2건
+        ledger = new PointLedger(transactionManager, 16, 1000, 3);
+        pipeline = new PointGrantPipeline(ledger, leaderboard,
+                userRepository, userPointRepository, pointTransactionRepository, new JdbcTemplate(dataSource),
+                "", 2, 1);
+    }
+
+    @Test
+    @DisplayName("성공 - 중복/없는 사용자를 거르고 잔액 증분과 거래 내역을 청크로 기록")
+    void grant_DedupesAndUpsertsInChunks() {
+        // Given - alice 는 포인트 행과 시즌 보상 1회차 기록이 있고, bob 은 포인트 행이 없음
+        Long alice = saveUser("alice").getId();
+        Long bob = saveUser("bob").getId();
+        new JdbcTemplate(dataSource).update(
+                "INSERT INTO user_points (user_id, total_points, lifetime_earned, lifetime_spent, season_points, version)" +
+                        " VALUES (?, 100, 100, 0, 100, 0)", alice);
+        pipeline.grant(List.of(grant(alice, 100, 1L)));
+        UserPoint before = userPointRepository.findByUserId(alice).orElseThrow();
+
+        List<PointGrantPipeline.Grant> grants = List.of(
+                grant(alice, 50, 1L),          // 이미 지급됨
+                grant(alice, 30, 2L),
+                grant(bob, 20, 2L),
+                grant(bob, 20, 2L),            // 입력 안 중복
+                grant(bob, 5, null),           // 참조 없는 지급은 매번 지급
+                grant(9_999_999L, 10, 2L),     // 없는 사용자
+                grant(bob, 0, 3L));            // 잘못된 금액
+        List<PointGrantPipeline.Progress> progress = new ArrayList<>();
+
+        // When
+        PointGrantPipeline.Result result = pipeline.grant(grants, progress::add);
+
+        // Then
+        assertThat(before.getTotalPoints()).isEqualTo(200L);
+        assertThat(result.requested()).isEqualTo(7);
+        assertThat(result.granted()).isEqualTo(3);
+        assertThat(result.duplicates()).isEqualTo(2);
+        assertThat(result.unknownUsers()).isEqualTo(1);
+        assertThat(result.invalid()).isEqualTo(1);
+        assertThat(result.failed()).isZero();
+        assertThat(result.points()).isEqualTo(55L);
+        assertThat(progress).hasSize(3);
+        assertThat(progress.get(2).processed()).isEqualTo(5);
+
+        UserPoint alicePoint = userPointRepository.findByUserId(alice).orElseThrow();
+        UserPoint bobPoint = userPointRepository.findByUserId(bob).orElseThrow();
+        assertThat(alicePoint.getTotalPoints()).isEqualTo(230L);
+        assertThat(alicePoint.getSeasonPoints()).isEqualTo(230L);
+        assertThat(alicePoint.getVersion()).isGreaterThan(before.getVersion());
+        assertThat(bobPoint.getTotalPoints()).isEqualTo(25L);
+        assertThat(bobPoint.getLifetimeEarned()).isEqualTo(25L);
+        assertThat(transactions(bob)).extracting(PointTransaction::getBalanceAfter).containsExactly(20L, 25L);
+        assertThat(transactions(alice)).extracting(PointTransaction::getBalanceAfter).containsExactly(200L, 230L);
+        assertThat(leaderboard.rank(PointLeaderboard.Board.TOTAL, alice)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("성공 - 개별 포인트 변경이 스트라이프를 잡고 있어도 대량 지급은 기다리지 않음")
+    void grant_DoesNotWaitForLedgerStripes() throws Exception {
+        // Given - 다른 스레드가 alice 의 스트라이프를 잡은 채 트랜잭션 진행 중
+        Long alice = saveUser("alice").getId();
+        CountDownLatch held = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<?> holder = executor.submit(() -> new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            ledger.lock(alice);
+            held.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        assertThat(held.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When
+        PointGrantPipeline.Result result;
+        try {
+            result = pipeline.grant(List.of(grant(alice, 40, 1L)));
+        } finally {
+            release.countDown();
+            holder.get(5, TimeUnit.SECONDS);
+            executor.shutdown();
+        }
+
+        // Then
+        assertThat(result.granted()).isEqualTo(1);
+        assertThat(result.failed()).isZero();
+        assertThat(userPointRepository.findByUserId(alice).orElseThrow().getTotalPoints()).isEqualTo(40L);
+        assertThat(ledger.stats().lockTimeouts()).isZero();
+    }
+
+    @Test
+    @DisplayName("성공 - 같은 참조 키로 동시에 대량 지급해도 한 번만 지급")
+    void grant_ConcurrentRunsPayReferenceOnce() throws Exception {
+        // Given - 포인트 행이 있는 사용자와 없는 사용자가 섞인 같은 지급 목록
+        List<Long> users = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            users.add(saveUser("user" + i).getId());
+        }
+        new JdbcTemplate(dataSource).update(
+                "INSERT INTO user_points (user_id, total_points, lifetime_earned, lifetime_spent, season_points, version)" +
+                        " VALUES (?, 0, 0, 0, 0, 0)", users.get(0));
+        List<PointGrantPipeline.Grant> grants = users.stream().map(userId -> grant(userId, 10, 1L)).toList();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        // When
+        List<Future<PointGrantPipeline.Result>> runs = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            runs.add(executor.submit(() -> {
+                start.await();
+                return pipeline.grant(grants);
+            }));
+        }
+        start.countDown();
+        int granted = 0;
+        int duplicates = 0;
+        try {
+            for (Future<PointGrantPipeline.Result> run : runs) {
+                PointGrantPipeline.Result result = run.get(30, TimeUnit.SECONDS);
+                assertThat(result.failed()).isZero();
+                granted += result.granted();
+                duplicates += result.duplicates();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        // Then
+        assertThat(granted).isEqualTo(users.size());
+        assertThat(duplicates).isEqualTo(users.size());
+        for (Long userId : users) {
+            assertThat(userPointRepository.findByUserId(userId).orElseThrow().getTotalPoints()).isEqualTo(10L);
+            assertThat(transactions(userId)).hasSize(1);
+        }
+    }
+
+    @Test
+    @DisplayName("실패 - 트랜잭션 안에서 호출하면 거절")
+    void grant_RejectsInsideTransaction() {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+
+        assertThatThrownBy(() -> template.executeWithoutResult(status -> pipeline.grant(List.of())))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private List<PointTransaction> transactions(Long userId) {
+        return pointTransactionRepository.findAll().stream()
+                .filter(transaction -> transaction.getUser().getId().equals(userId))
+                .sorted(Comparator.comparing(PointTransaction::getId))
+                .toList();
+    }
+
+    private static PointGrantPipeline.Grant grant(Long userId, long amount, Long round) {
+        return new PointGrantPipeline.Grant(userId, amount, PointSource.EVENT_REWARD, round,
+                round != null ? SEASON_BONUS : null, "시즌 보상");
+    }
+
+    private User saveUser(String nickname) {
+        User user = new User();
+        user.setEmail(nickname + "@travelmate.test");
+        user.setPassword("password");
+        user.setNickname(nickname);
+        return userRepository.save(user);
+    }
+}
@@ -0,0 +1,188 @@
+package com.travelmate.service.point;
+
+import com.travelmate.entity.User;
+import com.travelmate.entity.nft.PointSource;
+import com.travelmate.entity.nft.PointTransaction;
+import com.travelmate.entity.nft.PointTransactionType;
+import com.travelmate.entity.nft.UserPoint;
+import com.travelmate.repository.UserRepository;
+import com.travelmate.repository.nft.PointTransactionRepository;
+import com.travelmate.repository.nft.UserPointRepository;
+import com.travelmate.service.nft.PointService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 포인트 원장 동시성 스트레스 테스트 (H2)
+ * 두 인스턴스를 흉내 내 PointLedger 를 따로 둔 PointService 두 개로 같은 사용자들을 동시에 변경한다.
+ * 인스턴스 안은 스트라이프 잠금으로, 인스턴스 사이는 @Version 재시도로 갱신 유실이 없어야 한다.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("PointLedger 동시성 테스트")
+class PointLedgerConcurrencyTest {
+
+    private static final int USERS = 6;
+    private static final int THREADS_PER_INSTANCE = 4;
+    private static final int OPERATIONS_PER_THREAD = 40;
+    private static final long INITIAL_POINTS = 500L;
+
+    @SpringBootConfiguration
+    @EntityScan("com.travelmate.entity")
+    @EnableJpaRepositories("com.travelmate.repository")
+    static class TestConfig {
+    }
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserPointRepository userPointRepository;
+
+    @Autowired
+    private PointTransactionRepository pointTransactionRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    @DisplayName("성공 - 동시 획득/사용/전송 후 잔액이 거래 내역 합계와 일치")
+    void concurrentMutations_BalanceEqualsLedgerSum() throws InterruptedException {
+        // Given
+        List<PointService> instances = List.of(pointService(), pointService());
+        List<Long> userIds = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            userIds.add(saveUser(i).getId());
+        }
+        for (Long userId : userIds) {
+            instances.get(0).earnPoints(userId, INITIAL_POINTS, PointSource.ADMIN, "초기 지급", null, null);
+        }
+
+        // When - 인스턴스마다 여러 스레드가 무작위로 획득/사용/전송 (전송은 양방향)
+        ConcurrentLinkedQueue<Throwable> unexpected = new ConcurrentLinkedQueue<>();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS_PER_INSTANCE * instances.size());
+        CountDownLatch start = new CountDownLatch(1);
+        for (PointService service : instances) {
+            for (int t = 0; t < THREADS_PER_INSTANCE; t++) {
+                executor.submit(() -> {
+                    start.await();
+                    for (int op = 0; op < OPERATIONS_PER_THREAD; op++) {
+                        try {
+                            mutate(service, userIds);
+                        } catch (IllegalStateException e) {
+                            // 잔액 부족은 정상 거절
+                            if (!e.getMessage().startsWith("포인트가 부족합니다")) {
+                                unexpected.add(e);
+                            }
+                        } catch (Throwable e) {
+                            unexpected.add(e);
+                        }
+                    }
+                    return null;
+                });
+            }
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(2, TimeUnit.MINUTES)).isTrue();
+
+        // Then
+        assertThat(unexpected).isEmpty();
+        Map<Long, List<PointTransaction>> ledger = new HashMap<>();
+        for (PointTransaction transaction : pointTransactionRepository.findAll()) {
+            ledger.computeIfAbsent(transaction.getUser().getId(), id -> new ArrayList<>()).add(transaction);
+        }
+        long totalBalance = 0;
+        long netIssued = 0;
+        for (Long userId : userIds) {
+            UserPoint userPoint = userPointRepository.findByUserId(userId).orElseThrow();
+            List<PointTransaction> transactions = ledger.get(userId);
+            transactions.sort(Comparator.comparing(PointTransaction::getId));
+
+            // 거래마다 직전 잔액 + 변동 = 기록된 잔액 (사용자별로 한 줄로 처리됨)
+            long balance = 0;
+            for (PointTransaction transaction : transactions) {
+                balance += signed(transaction);
+                assertThat(transaction.getBalanceAfter()).isEqualTo(balance);
+                if (transaction.getType() == PointTransactionType.EARN) {
+                    netIssued += transaction.getAmount();
+                } else if (transaction.getType() == PointTransactionType.SPEND) {
+                    netIssued -= transaction.getAmount();
+                }
+            }
+            assertThat(userPoint.getTotalPoints()).isEqualTo(balance);
+            totalBalance += userPoint.getTotalPoints();
+        }
+        // 전송은 총량을 바꾸지 않음
+        assertThat(totalBalance).isEqualTo(netIssued);
+    }
+
+    private void mutate(PointService service, List<Long> userIds) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Long userId = userIds.get(random.nextInt(userIds.size()));
+        switch (random.nextInt(3)) {
+            case 0 -> service.earnPoints(userId, random.nextLong(1, 50), PointSource.DAILY_LOGIN, "획득", null, null);
+            case 1 -> service.spendPoints(userId, random.nextLong(1, 80), PointSource.MARKETPLACE_PURCHASE, "사용", null, null);
+            default -> {
+                Long receiverId = userIds.get(random.nextInt(userIds.size()));
+                if (!receiverId.equals(userId)) {
+                    service.transferPoints(userId, receiverId, random.nextLong(1, 60), null);
+                }
+            }
+        }
+    }
+
+    private static long signed(PointTransaction transaction) {
+        return switch (transaction.getType()) {
+            case EARN, TRANSFER_IN -> transaction.getAmount();
+            case SPEND, TRANSFER_OUT -> -transaction.getAmount();
+        };
+    }
+
+    // 인스턴스마다 별도 잠금 (인스턴스 간 충돌은 @Version 으로만 막힘)
+    private PointService pointService() {
+        PointLeaderboard leaderboard = new InMemoryPointLeaderboard();
+        PointRankJob rankJob = new PointRankJob(leaderboard, userPointRepository, new JdbcTemplate(dataSource),
+                transactionManager, "", 1000, 0);
+        PointLedger ledger = new PointLedger(transactionManager, 256, 2000, 50);
+        return new PointService(userPointRepository, pointTransactionRepository, userRepository,
+                leaderboard, rankJob, ledger);
+    }
+
+    private User saveUser(int index) {
+        User user = new User();
+        user.setEmail("ledger" + index + "@travelmate.test");
+        user.setPassword("password");
+        user.setNickname("ledger" + index);
+        return userRepository.save(user);
+    }
+}
@@ -0,0 +1,143 @@
+package com.travelmate.service.point;
+
+import com.travelmate.repository.nft.UserPointRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PointRankJob 테스트")
+class PointRankJobTest {
+
+    @Mock
+    private UserPointRepository userPointRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private InMemoryPointLeaderboard leaderboard;
+    private PointRankJob job;
+
+    @BeforeEach
+    void setUp() {
+        leaderboard = new InMemoryPointLeaderboard();
+        leaderboard.rebuild(() -> List.of(
+                new PointLeaderboard.Score(1L, 300L, 0L),
+                new PointLeaderboard.Score(2L, 200L, 0L),
+                new PointLeaderboard.Score(3L, 100L, 0L),
+                new PointLeaderboard.Score(4L, 50L, 0L)));
+        // 청크 2건, 대기 없음
+        job = new PointRankJob(leaderboard, userPointRepository, jdbcTemplate, transactionManager, "", 2, 0);
+    }
+
+    @Test
+    @DisplayName("성공 - 기록된 순위와 달라진 사용자만 청크로 기록하고 스냅샷 공개")
+    void refresh_WritesOnlyChangedRanks() {
+        // Given - 1, 2번은 이미 맞는 순위가 기록되어 있음
+        List<Object[]> recorded = new ArrayList<>();
+        recorded.add(new Object[]{1L, 1});
+        recorded.add(new Object[]{2L, 2});
+        recorded.add(new Object[]{3L, 9});
+        when(userPointRepository.findRankSnapshot()).thenReturn(recorded);
+
+        // When
+        int written = job.refresh();
+
+        // Then
+        assertThat(written).isEqualTo(2);
+        assertThat(writtenRows()).containsExactly(List.of(3L, 3L), List.of(4L, 4L));
+        PointRankJob.RankSnapshot snapshot = job.snapshot();
+        assertThat(snapshot.version()).isEqualTo(1L);
+        assertThat(snapshot.rankOf(3L)).isEqualTo(3);
+        assertThat(snapshot.rankOf(99L)).isNull();
+
+        // When - 4번이 2위로 올라가면 2, 3, 4번만 다시 기록 (청크 2건씩)
+        clearInvocations(jdbcTemplate);
+        leaderboard.update(4L, 250L, 0L);
+        int rewritten = job.refresh();
+
+        // Then
+        assertThat(rewritten).isEqualTo(3);
+        assertThat(writtenRows()).containsExactly(List.of(4L, 2L), List.of(2L, 3L), List.of(3L, 4L));
+        assertThat(job.snapshot().version()).isEqualTo(2L);
+        assertThat(job.snapshot().rankOf(4L)).isEqualTo(2);
+        verify(userPointRepository, times(1)).findRankSnapshot();
+    }
+
+    @Test
+    @DisplayName("성공 - 마지막 실행 이후 점수 변경이 없으면 건너뜀")
+    void refresh_SkipsWhenUnchanged() {
+        // Given
+        when(userPointRepository.findRankSnapshot()).thenReturn(List.of());
+        job.refresh();
+        clearInvocations(jdbcTemplate);
+
+        // When
+        int written = job.refresh();
+
+        // Then
+        assertThat(written).isZero();
+        verifyNoInteractions(jdbcTemplate);
+        assertThat(job.snapshot().version()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("성공 - 다른 인스턴스가 기록 중이면 건너뛰고 그 인스턴스가 공개한 버전을 DB 에서 읽음")
+    void refreshRanks_SyncsFromOtherInstance() {
+        // Given
+        PointLeaderboard shared = mock(PointLeaderboard.class);
+        when(shared.isReady()).thenReturn(true);
+        when(shared.runExclusively(any())).thenReturn(false);
+        when(shared.publishedRankVersion()).thenReturn(7L);
+        List<Object[]> recorded = new ArrayList<>();
+        recorded.add(new Object[]{1L, 1});
+        when(userPointRepository.findRankSnapshot()).thenReturn(recorded);
+        PointRankJob sharedJob = new PointRankJob(shared, userPointRepository, jdbcTemplate, transactionManager,
+                "", 2, 0);
+
+        // When
+        sharedJob.refreshRanks();
+        sharedJob.refreshRanks();
+
+        // Then - 같은 버전은 다시 읽지 않음
+        assertThat(sharedJob.snapshot().version()).isEqualTo(7L);
+        assertThat(sharedJob.snapshot().rankOf(1L)).isEqualTo(1);
+        verify(userPointRepository, times(1)).findRankSnapshot();
+        verify(shared, never()).forEachRanked(any(), any());
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    // batchUpdate 로 넘어간 (userId, rank) 행들
+    @SuppressWarnings("unchecked")
+    private List<List<Long>> writtenRows() {
+        ArgumentCaptor<Collection<long[]>> rows = ArgumentCaptor.forClass(Collection.class);
+        verify(jdbcTemplate, atLeastOnce()).batchUpdate(anyString(), rows.capture(), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class));
+        List<List<Long>> result = new ArrayList<>();
+        for (Collection<long[]> chunk : rows.getAllValues()) {
+            assertThat(chunk).hasSizeLessThanOrEqualTo(2);
+            for (long[] row : chunk) {
+                result.add(List.of(row[0], row[1]));
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,98 @@
+package com.travelmate.service.point;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("RankedScores 테스트")
+class RankedScoresTest {
+
+    @Test
+    @DisplayName("성공 - 동점은 같은 순위, 상위 목록은 점수 내림차순/ID 오름차순")
+    void rankAndTop_WithTies() {
+        // Given
+        RankedScores scores = new RankedScores();
+        scores.put(1L, 100);
+        scores.put(2L, 300);
+        scores.put(3L, 100);
+        scores.put(4L, 50);
+
+        // When & Then
+        assertThat(scores.rankOf(2L)).isEqualTo(1);
+        assertThat(scores.rankOf(1L)).isEqualTo(2);
+        assertThat(scores.rankOf(3L)).isEqualTo(2);
+        assertThat(scores.rankOf(4L)).isEqualTo(4);
+        assertThat(scores.rankOf(5L)).isNull();
+        assertThat(scores.rankOfScore(0L)).isEqualTo(5);
+        assertThat(scores.top(3)).containsExactly(
+                new RankedScores.Entry(2L, 300, 1),
+                new RankedScores.Entry(1L, 100, 2),
+                new RankedScores.Entry(3L, 100, 2));
+    }
+
+    @Test
+    @DisplayName("성공 - 복사본은 이후 갱신과 무관하게 복사 시점 순위로 순회")
+    void copy_IsUnaffectedByLaterUpdates() {
+        // Given
+        RankedScores scores = new RankedScores();
+        scores.put(1L, 100);
+        scores.put(2L, 300);
+        scores.put(3L, 100);
+        RankedScores.Ranking ranking = scores.copy();
+
+        // When
+        scores.put(4L, 500);
+        scores.remove(2L);
+        List<RankedScores.Entry> entries = new ArrayList<>();
+        ranking.forEach(entries::add);
+
+        // Then
+        assertThat(ranking.size()).isEqualTo(3);
+        assertThat(entries).containsExactly(
+                new RankedScores.Entry(2L, 300, 1),
+                new RankedScores.Entry(1L, 100, 2),
+                new RankedScores.Entry(3L, 100, 2));
+    }
+
+    @Test
+    @DisplayName("성공 - 무작위 갱신/삭제 후에도 전체 정렬 기준 순위와 일치")
+    void randomOperations_MatchBruteForce() {
+        // Given
+        RankedScores scores = new RankedScores();
+        Map<Long, Long> expected = new HashMap<>();
+        Random random = new Random(42);
+
+        // When
+        for (int i = 0; i < 20_000; i++) {
+            long userId = random.nextInt(2_000);
+            if (random.nextInt(10) == 0) {
+                scores.remove(userId);
+                expected.remove(userId);
+            } else {
+                long score = random.nextInt(500);
+                scores.put(userId, score);
+                expected.put(userId, score);
+            }
+        }
+
+        // Then
+        assertThat(scores.size()).isEqualTo(expected.size());
+        for (Map.Entry<Long, Long> entry : expected.entrySet()) {
+            long higher = expected.values().stream().filter(score -> score > entry.getValue()).count();
+            assertThat(scores.rankOf(entry.getKey())).isEqualTo((int) higher + 1);
+        }
+        List<Map.Entry<Long, Long>> sorted = new ArrayList<>(expected.entrySet());
+        sorted.sort(Map.Entry.<Long, Long>comparingByValue(Comparator.reverseOrder())
+                .thenComparing(Map.Entry.comparingByKey()));
+        assertThat(scores.top(100)).extracting(RankedScores.Entry::userId)
+                .containsExactlyElementsOf(sorted.subList(0, 100).stream().map(Map.Entry::getKey).toList());
+    }
+}
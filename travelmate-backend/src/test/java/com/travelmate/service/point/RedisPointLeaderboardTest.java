@@ -0,0 +1,154 @@
+package com.travelmate.service.point;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RedisPointLeaderboard 테스트")
+class RedisPointLeaderboardTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    private RedisPointLeaderboard leaderboard;
+
+    @BeforeEach
+    void setUp() {
+        leaderboard = new RedisPointLeaderboard(redisTemplate, Duration.ofMinutes(10));
+        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        lenient().when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+    }
+
+    @Test
+    @DisplayName("성공 - 점수 갱신은 두 순위표와 갱신 순번을 한 스크립트로 기록")
+    void update_RunsScriptWithSequence() {
+        // When
+        leaderboard.update(1L, 300L, 50L);
+
+        // Then
+        verify(redisTemplate).execute(any(RedisScript.class),
+                eq(List.of("leaderboard:points:total", "leaderboard:points:season",
+                        "leaderboard:points:seq", "leaderboard:points:updated")),
+                eq("1"), eq("300"), eq("50"));
+    }
+
+    @Test
+    @DisplayName("성공 - 다른 인스턴스가 재구성 중이면 스냅샷을 읽지 않고 건너뜀")
+    @SuppressWarnings("unchecked")
+    void rebuild_SkipsWithoutLock() {
+        // Given
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(false);
+        Supplier<List<PointLeaderboard.Score>> snapshot = mock(Supplier.class);
+
+        // When
+        boolean rebuilt = leaderboard.rebuild(snapshot);
+
+        // Then
+        assertThat(rebuilt).isFalse();
+        verifyNoInteractions(snapshot);
+        verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), any(Object[].class));
+        assertThat(leaderboard.isReady()).isFalse();
+    }
+
+    @Test
+    @DisplayName("성공 - 실행별 임시 키에 채우고 스냅샷 시점 순번/시즌 세대로 교체")
+    @SuppressWarnings("unchecked")
+    void rebuild_SwapsUniqueTempKeysWithStartSequence() {
+        // Given
+        when(valueOperations.setIfAbsent(eq("leaderboard:points:rebuild-lock"), anyString(), any(Duration.class)))
+                .thenReturn(true);
+        when(valueOperations.get("leaderboard:points:seq")).thenReturn("42");
+        when(valueOperations.get("leaderboard:points:season-epoch")).thenReturn(null);
+
+        // When
+        boolean rebuilt = leaderboard.rebuild(() -> List.of(new PointLeaderboard.Score(1L, 300L, 50L)));
+
+        // Then
+        assertThat(rebuilt).isTrue();
+        verify(redisTemplate).executePipelined(any(SessionCallback.class));
+        ArgumentCaptor<List<String>> keys = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+        // 교체 1회 + 잠금 해제 1회
+        verify(redisTemplate, times(2)).execute(any(RedisScript.class), keys.capture(), args.capture());
+        List<String> swapKeys = keys.getAllValues().get(0);
+        assertThat(swapKeys.subList(0, 2)).containsExactly("leaderboard:points:total", "leaderboard:points:season");
+        assertThat(swapKeys.get(2)).startsWith("leaderboard:points:total:rebuild:");
+        assertThat(swapKeys.get(3)).startsWith("leaderboard:points:season:rebuild:");
+        assertThat(swapKeys.subList(4, 6))
+                .containsExactly("leaderboard:points:updated", "leaderboard:points:season-epoch");
+        assertThat(args.getAllValues().get(0)).containsExactly("42", "0");
+        assertThat(keys.getAllValues().get(1)).containsExactly("leaderboard:points:rebuild-lock");
+        verify(valueOperations).set(eq("leaderboard:points:ready"), anyString());
+        assertThat(leaderboard.isReady()).isTrue();
+    }
+
+    @Test
+    @DisplayName("성공 - 순위 순회는 ZUNIONSTORE 로 복사한 키를 페이지로 읽고 지움")
+    void forEachRanked_ReadsCopiedSnapshot() {
+        // Given
+        ArgumentCaptor<String> snapshotKey = ArgumentCaptor.forClass(String.class);
+        when(zSetOperations.unionAndStore(eq("leaderboard:points:total"), eq(List.of()), snapshotKey.capture()))
+                .thenReturn(2L);
+        Set<ZSetOperations.TypedTuple<String>> page = new LinkedHashSet<>(List.of(
+                ZSetOperations.TypedTuple.of("2", 300.0),
+                ZSetOperations.TypedTuple.of("1", 300.0)));
+        when(zSetOperations.reverseRangeWithScores(anyString(), eq(0L), anyLong())).thenReturn(page);
+        when(zSetOperations.reverseRangeWithScores(anyString(), eq(1000L), anyLong())).thenReturn(Set.of());
+        List<RankedScores.Entry> entries = new ArrayList<>();
+
+        // When
+        leaderboard.forEachRanked(PointLeaderboard.Board.TOTAL, entries::add);
+
+        // Then
+        assertThat(snapshotKey.getValue()).startsWith("leaderboard:points:total:snapshot:");
+        verify(zSetOperations, never()).reverseRangeWithScores(eq("leaderboard:points:total"), anyLong(), anyLong());
+        verify(zSetOperations).reverseRangeWithScores(snapshotKey.getValue(), 0L, 999L);
+        assertThat(entries).containsExactly(
+                new RankedScores.Entry(2L, 300L, 1),
+                new RankedScores.Entry(1L, 300L, 1));
+        verify(redisTemplate).delete(snapshotKey.getValue());
+    }
+
+    @Test
+    @DisplayName("성공 - 다른 인스턴스가 순위 기록 잠금을 잡고 있으면 실행하지 않음")
+    void runExclusively_SkipsWithoutLock() {
+        // Given
+        when(valueOperations.setIfAbsent(eq("leaderboard:points:rank-lock"), anyString(), any(Duration.class)))
+                .thenReturn(false);
+        Runnable task = mock(Runnable.class);
+
+        // When
+        boolean ran = leaderboard.runExclusively(task);
+
+        // Then
+        assertThat(ran).isFalse();
+        verifyNoInteractions(task);
+    }
+}
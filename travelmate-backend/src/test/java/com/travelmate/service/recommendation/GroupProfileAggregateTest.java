@@ -0,0 +1,82 @@
+package com.travelmate.service.recommendation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("GroupProfileAggregate 테스트")
+class GroupProfileAggregateTest {
+
+    // 관심사 비트: 0=FOOD, 1=HISTORY, 2=NATURE / 지역 비트: 0=ASIA
+    private static final long[] ASIA = {0b1L};
+
+    @Nested
+    @DisplayName("협업 유사도 테스트")
+    class SimilarityTest {
+
+        @Test
+        @DisplayName("성공 - 멤버 특성 공유 비율로 계산")
+        void similarity_SharedFeatureRatio() {
+            // Given - 두 멤버 중 한 명만 같은 스타일, 관심사 FOOD 는 둘 다 / HISTORY 는 한 명
+            GroupProfileAggregate aggregate = GroupProfileAggregate.of(List.of(
+                    vector(2L, 0b01, 0b011L, (byte) 2),
+                    vector(3L, 0b10, 0b101L, (byte) 3)));
+            ProfileVector user = vector(1L, 0b01, 0b011L, (byte) 2);
+
+            // When
+            double similarity = aggregate.similarity(user);
+
+            // Then - 스타일 1/2, 관심사 (2+1)/4, 지역 1, 연령대 (1.0 + 0.7)/2
+            assertThat(similarity).isCloseTo(0.5 * 0.3 + 0.75 * 0.4 + 1.0 * 0.2 + 0.85 * 0.1, within(1e-9));
+        }
+
+        @Test
+        @DisplayName("성공 - 본인이 멤버면 본인을 제외하고 계산")
+        void similarity_ExcludesSelf() {
+            // Given
+            ProfileVector user = vector(1L, 0b01, 0b001L, (byte) 2);
+            GroupProfileAggregate withSelf = GroupProfileAggregate.of(List.of(user, vector(2L, 0b10, 0b010L, (byte) 5)));
+            GroupProfileAggregate others = GroupProfileAggregate.of(List.of(vector(2L, 0b10, 0b010L, (byte) 5)));
+
+            // When & Then
+            assertThat(withSelf.similarity(user)).isCloseTo(others.similarity(user), within(1e-9));
+        }
+
+        @Test
+        @DisplayName("성공 - 멤버가 없으면 0")
+        void similarity_EmptyGroup() {
+            assertThat(GroupProfileAggregate.EMPTY.similarity(vector(1L, 0b01, 0b1L, (byte) 2))).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("멤버 변경 테스트")
+    class MembershipChangeTest {
+
+        @Test
+        @DisplayName("성공 - 참여 후 탈퇴하면 원래 집계와 같은 점수")
+        void plusThenMinus_RestoresAggregate() {
+            // Given
+            GroupProfileAggregate base = GroupProfileAggregate.of(List.of(vector(2L, 0b01, 0b011L, (byte) 2)));
+            ProfileVector joiner = vector(3L, 0b10, 0b100L, (byte) 4);
+            ProfileVector user = vector(1L, 0b01, 0b001L, (byte) 2);
+
+            // When
+            GroupProfileAggregate joined = base.plus(joiner);
+            GroupProfileAggregate left = joined.minus(3L);
+
+            // Then
+            assertThat(joined.memberCount()).isEqualTo(2);
+            assertThat(left.memberCount()).isEqualTo(1);
+            assertThat(left.similarity(user)).isCloseTo(base.similarity(user), within(1e-9));
+        }
+    }
+
+    private ProfileVector vector(long userId, int styleMask, long interests, byte ageBucket) {
+        return new ProfileVector(userId, styleMask, new long[]{interests}, ASIA, ageBucket);
+    }
+}
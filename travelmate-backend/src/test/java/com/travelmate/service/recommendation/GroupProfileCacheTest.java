@@ -0,0 +1,110 @@
+package com.travelmate.service.recommendation;
+
+import com.travelmate.entity.User;
+import com.travelmate.event.UserProfileChangedEvent;
+import com.travelmate.repository.GroupMemberRepository;
+import com.travelmate.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GroupProfileCache 테스트")
+class GroupProfileCacheTest {
+
+    @Mock
+    private GroupMemberRepository groupMemberRepository;
+
+    private TravelMateProfileIndex profileIndex;
+
+    private GroupProfileCache cache;
+
+    @BeforeEach
+    void setUp() {
+        profileIndex = new TravelMateProfileIndex(mock(UserRepository.class),
+                new ParallelScorer(false, 1, 1, 1, new RecommendationTimings()));
+        profileIndex.upsert(user(1L, 28));
+        profileIndex.upsert(user(2L, 45));
+        cache = new GroupProfileCache(groupMemberRepository, profileIndex, 2, 600_000);
+    }
+
+    @Test
+    @DisplayName("성공 - 적재 중 참여가 반영되면 적재 값을 캐시하지 않고 다음 조회에서 다시 적재")
+    void getAll_DiscardsLoadRacingWithJoin() {
+        // Given
+        when(groupMemberRepository.findAcceptedMemberIdsByGroupIds(anyCollection()))
+                .thenAnswer(invocation -> {
+                    cache.memberJoined(10L, 2L);
+                    return rows(new Object[]{10L, 1L});
+                })
+                .thenReturn(rows(new Object[]{10L, 1L}, new Object[]{10L, 2L}));
+
+        // When
+        Map<Long, GroupProfileAggregate> first = cache.getAll(List.of(10L));
+        Map<Long, GroupProfileAggregate> second = cache.getAll(List.of(10L));
+
+        // Then
+        assertThat(first.get(10L).memberCount()).isEqualTo(1);
+        assertThat(second.get(10L).memberCount()).isEqualTo(2);
+        verify(groupMemberRepository, times(2)).findAcceptedMemberIdsByGroupIds(anyCollection());
+    }
+
+    @Test
+    @DisplayName("성공 - 멤버 프로필 변경 시 캐시된 집계의 벡터를 교체")
+    void onUserProfileChanged_ReplacesMemberVector() {
+        // Given
+        when(groupMemberRepository.findAcceptedMemberIdsByGroupIds(anyCollection()))
+                .thenReturn(rows(new Object[]{10L, 1L}, new Object[]{10L, 2L}));
+        cache.getAll(List.of(10L));
+        ProfileVector probe = profileIndex.vectorOf(user(3L, 60));
+        double before = cache.getAll(List.of(10L)).get(10L).similarity(probe);
+
+        // When
+        profileIndex.upsert(user(1L, 60));
+        cache.onUserProfileChanged(new UserProfileChangedEvent(1L));
+
+        // Then
+        GroupProfileAggregate updated = cache.getAll(List.of(10L)).get(10L);
+        assertThat(updated.memberCount()).isEqualTo(2);
+        assertThat(updated.similarity(probe)).isGreaterThan(before);
+        verify(groupMemberRepository, times(1)).findAcceptedMemberIdsByGroupIds(anyCollection());
+    }
+
+    @Test
+    @DisplayName("성공 - 최대 크기를 넘으면 오래 쓰지 않은 그룹부터 제거")
+    void getAll_BoundedBySize() {
+        // Given
+        when(groupMemberRepository.findAcceptedMemberIdsByGroupIds(anyCollection())).thenReturn(rows());
+
+        // When
+        cache.getAll(List.of(10L, 11L, 12L));
+
+        // Then
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    private static List<Object[]> rows(Object[]... rows) {
+        return new ArrayList<>(List.of(rows));
+    }
+
+    private static User user(Long id, int age) {
+        User user = new User();
+        user.setId(id);
+        user.setTravelStyle(User.TravelStyle.FOOD);
+        user.setAge(age);
+        user.setInterests(new ArrayList<>(List.of("FOOD")));
+        user.setIsActive(true);
+        return user;
+    }
+}
@@ -0,0 +1,113 @@
+package com.travelmate.service.recommendation;
+
+import com.travelmate.dto.RecommendationDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("InMemoryRecommendationStore 테스트")
+class InMemoryRecommendationStoreTest {
+
+    private InMemoryRecommendationStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new InMemoryRecommendationStore(2, 60_000L);
+    }
+
+    @Nested
+    @DisplayName("저장/조회 테스트")
+    class PutGetTest {
+
+        @Test
+        @DisplayName("성공 - 저장한 목록 조회")
+        void get_ReturnsStoredList() {
+            // Given
+            store.putGroups(1L, List.of(group(10L), group(11L)));
+
+            // When & Then
+            assertThat(store.getGroups(1L)).extracting(RecommendationDto.GroupRecommendation::getGroupId)
+                    .containsExactly(10L, 11L);
+            assertThat(store.getTravelMates(1L)).isNull();
+        }
+
+        @Test
+        @DisplayName("성공 - 사용자 수 상한 초과 시 가장 오래 조회되지 않은 목록 제거")
+        void put_EvictsLeastRecentlyUsed() {
+            // Given
+            store.putGroups(1L, List.of(group(10L)));
+            store.putGroups(2L, List.of(group(10L)));
+            store.getGroups(1L);
+
+            // When
+            store.putGroups(3L, List.of(group(10L)));
+
+            // Then
+            assertThat(store.getGroups(1L)).isNotNull();
+            assertThat(store.getGroups(2L)).isNull();
+            assertThat(store.getGroups(3L)).isNotNull();
+        }
+
+        @Test
+        @DisplayName("성공 - 만료된 목록은 조회되지 않음")
+        void get_ExpiredEntry() {
+            // Given
+            InMemoryRecommendationStore expiring = new InMemoryRecommendationStore(10, -1L);
+            expiring.putTravelMates(1L, List.of(mate(2L)));
+
+            // When & Then
+            assertThat(expiring.getTravelMates(1L)).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("선택적 무효화 테스트")
+    class EvictTest {
+
+        @Test
+        @DisplayName("성공 - 그룹이 포함된 목록만 제거")
+        void evictGroupReferences_OnlyReferencingLists() {
+            // Given
+            store.putGroups(1L, List.of(group(10L), group(11L)));
+            store.putGroups(2L, List.of(group(12L)));
+
+            // When
+            store.evictGroupReferences(11L);
+
+            // Then
+            assertThat(store.getGroups(1L)).isNull();
+            assertThat(store.getGroups(2L)).isNotNull();
+        }
+
+        @Test
+        @DisplayName("성공 - 동행자로 포함된 목록과 본인 목록 제거")
+        void evictTravelMateReferences_OnlyReferencingLists() {
+            // Given
+            store.putTravelMates(1L, List.of(mate(2L)));
+            store.putTravelMates(3L, List.of(mate(4L)));
+            store.putGroups(2L, List.of(group(10L)));
+
+            // When
+            store.evictUser(2L);
+            store.evictTravelMateReferences(2L);
+
+            // Then
+            assertThat(store.getTravelMates(1L)).isNull();
+            assertThat(store.getTravelMates(3L)).isNotNull();
+            assertThat(store.getGroups(2L)).isNull();
+        }
+    }
+
+    private RecommendationDto.GroupRecommendation group(Long groupId) {
+        return RecommendationDto.GroupRecommendation.builder().groupId(groupId).build();
+    }
+
+    private RecommendationDto.UserRecommendation mate(Long userId) {
+        return RecommendationDto.UserRecommendation.builder().userId(userId).build();
+    }
+}
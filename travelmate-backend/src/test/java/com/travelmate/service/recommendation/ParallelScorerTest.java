@@ -0,0 +1,86 @@
+package com.travelmate.service.recommendation;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ParallelScorer 테스트")
+class ParallelScorerTest {
+
+    private RecommendationTimings timings;
+    private ParallelScorer parallelScorer;
+    private ParallelScorer sequentialScorer;
+
+    @BeforeEach
+    void setUp() {
+        timings = new RecommendationTimings();
+        // 임계값 100, 청크 16 - 1000개 후보면 여러 작업으로 분할된다
+        parallelScorer = new ParallelScorer(true, 4, 100, 16, timings);
+        sequentialScorer = new ParallelScorer(false, 1, 100, 16, timings);
+    }
+
+    @AfterEach
+    void tearDown() {
+        parallelScorer.destroy();
+        sequentialScorer.destroy();
+    }
+
+    @Nested
+    @DisplayName("상위 K개 조회 테스트")
+    class TopKTest {
+
+        @Test
+        @DisplayName("성공 - 병렬 결과가 순차 결과와 동일")
+        void topK_ParallelMatchesSequential() {
+            // Given - 점수가 모두 다른 후보 1000개
+            List<Integer> candidates = IntStream.range(0, 1000).boxed().toList();
+
+            // When
+            List<ParallelScorer.Scored<Integer>> parallel =
+                    parallelScorer.topK("test", candidates, ParallelScorerTest::score, 0.1, 25);
+            List<ParallelScorer.Scored<Integer>> sequential =
+                    sequentialScorer.topK("test", candidates, ParallelScorerTest::score, 0.1, 25);
+
+            // Then
+            assertThat(parallel).hasSize(25).containsExactlyElementsOf(sequential);
+            assertThat(parallel).extracting(ParallelScorer.Scored::score)
+                    .isSortedAccordingTo((a, b) -> Double.compare(b, a));
+            assertThat(timings.snapshot()).containsKeys("test.score", "test.score.parallel");
+        }
+
+        @Test
+        @DisplayName("성공 - 최소 점수 이하 후보 제외")
+        void topK_FiltersMinScore() {
+            // Given
+            Set<Integer> candidates = new HashSet<>(IntStream.range(0, 500).boxed().toList());
+
+            // When
+            List<ParallelScorer.Scored<Integer>> result =
+                    parallelScorer.topK("test", candidates, i -> i < 3 ? 1.0 : 0.0, 0.0, 10);
+
+            // Then
+            assertThat(result).extracting(ParallelScorer.Scored::item).containsExactlyInAnyOrder(0, 1, 2);
+        }
+
+        @Test
+        @DisplayName("성공 - 빈 후보 또는 K가 0이면 빈 결과")
+        void topK_EmptyInput() {
+            assertThat(parallelScorer.topK("test", List.<Integer>of(), i -> 1.0, 0.0, 5)).isEmpty();
+            assertThat(parallelScorer.topK("test", List.of(1, 2), i -> 1.0, 0.0, 0)).isEmpty();
+        }
+    }
+
+    // 후보마다 서로 다른 점수 (순서가 섞이도록 곱셈 해시 사용)
+    private static double score(int i) {
+        return ((i * 2654435761L) & 0xFFFF) / 65536.0;
+    }
+}
@@ -0,0 +1,33 @@
+package com.travelmate.service.recommendation;
+
+import com.travelmate.event.GroupMembershipChangedEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RecommendationInvalidationListener 테스트")
+class RecommendationInvalidationListenerTest {
+
+    @Mock
+    private RecommendationStore recommendationStore;
+
+    @InjectMocks
+    private RecommendationInvalidationListener listener;
+
+    @Test
+    @DisplayName("성공 - 참여/탈퇴 시 본인 목록과 그 그룹이 포함된 모든 그룹 목록 무효화")
+    void onMembershipChanged_EvictsGroupReferences() {
+        // When
+        listener.onMembershipChanged(new GroupMembershipChangedEvent(10L, 1L, true));
+
+        // Then
+        verify(recommendationStore).evictGroups(1L);
+        verify(recommendationStore).evictGroupReferences(10L);
+    }
+}
@@ -0,0 +1,173 @@
+package com.travelmate.service.recommendation;
+
+import com.travelmate.entity.User;
+import com.travelmate.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TravelMateProfileIndex 테스트")
+class TravelMateProfileIndexTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private TravelMateProfileIndex profileIndex;
+
+    private User current;
+
+    @BeforeEach
+    void setUp() {
+        profileIndex = new TravelMateProfileIndex(userRepository,
+                new ParallelScorer(false, 1, 1, 1, new RecommendationTimings()));
+        current = user(1L, User.TravelStyle.FOOD, 28, "FOOD", "HISTORY");
+    }
+
+    @Nested
+    @DisplayName("유사도 계산 테스트")
+    class SimilarityTest {
+
+        @Test
+        @DisplayName("성공 - 동일 프로필은 1.0")
+        void similarity_IdenticalProfile() {
+            // Given
+            User same = user(2L, User.TravelStyle.FOOD, 25, "HISTORY", "FOOD");
+
+            // When
+            double similarity = profileIndex.vectorOf(current).similarity(profileIndex.vectorOf(same));
+
+            // Then
+            assertThat(similarity).isCloseTo(1.0, within(1e-9));
+        }
+
+        @Test
+        @DisplayName("성공 - 스타일/관심사/연령대 가중 합")
+        void similarity_WeightedSum() {
+            // Given - 스타일 불일치(0), 관심사 1/3, 지역 동일(1), 연령대 한 단계 차이(0.7)
+            User other = user(2L, User.TravelStyle.NATURE, 35, "FOOD", "NATURE");
+
+            // When
+            double similarity = profileIndex.vectorOf(current).similarity(profileIndex.vectorOf(other));
+
+            // Then
+            assertThat(similarity).isCloseTo(0.0 * 0.3 + (1.0 / 3) * 0.4 + 1.0 * 0.2 + 0.7 * 0.1, within(1e-9));
+        }
+
+        @Test
+        @DisplayName("성공 - 미설정 값은 기본 관심사/스타일로 비교")
+        void similarity_DefaultsApplied() {
+            // Given - 기본 스타일 {ADVENTURE, CULTURAL}, 기본 관심사 {FOOD, HISTORY, PHOTOGRAPHY}
+            User blank = user(2L, null, null);
+            User adventurer = user(3L, User.TravelStyle.ADVENTURE, 30, "FOOD", "HISTORY", "PHOTOGRAPHY");
+
+            // When
+            double similarity = profileIndex.vectorOf(blank).similarity(profileIndex.vectorOf(adventurer));
+
+            // Then
+            assertThat(similarity).isCloseTo(0.5 * 0.3 + 1.0 * 0.4 + 1.0 * 0.2 + 1.0 * 0.1, within(1e-9));
+        }
+    }
+
+    @Nested
+    @DisplayName("상위 K명 조회 테스트")
+    class TopKTest {
+
+        @Test
+        @DisplayName("성공 - 유사도 내림차순 상위 K명만 반환")
+        void topK_ReturnsBestMatches() {
+            // Given
+            profileIndex.upsert(user(2L, User.TravelStyle.FOOD, 28, "FOOD", "HISTORY"));
+            profileIndex.upsert(user(3L, User.TravelStyle.FOOD, 45, "FOOD"));
+            profileIndex.upsert(user(4L, User.TravelStyle.NATURE, 60, "SHOPPING"));
+            profileIndex.upsert(user(5L, User.TravelStyle.FOOD, 29, "FOOD", "HISTORY", "ART"));
+            profileIndex.upsert(current);
+
+            // When
+            List<TravelMateProfileIndex.ScoredUser> result = profileIndex.topK(profileIndex.vectorOf(current), 2, 0.3);
+
+            // Then
+            assertThat(result).extracting(TravelMateProfileIndex.ScoredUser::userId).containsExactly(2L, 5L);
+        }
+
+        @Test
+        @DisplayName("성공 - 최소 유사도 이하와 비활성 사용자 제외")
+        void topK_FiltersLowScoresAndInactive() {
+            // Given
+            profileIndex.upsert(user(2L, User.TravelStyle.NATURE, 60, "SHOPPING"));
+            User inactive = user(3L, User.TravelStyle.FOOD, 28, "FOOD", "HISTORY");
+            inactive.setIsActive(false);
+            profileIndex.upsert(inactive);
+
+            // When
+            List<TravelMateProfileIndex.ScoredUser> result = profileIndex.topK(profileIndex.vectorOf(current), 10, 0.3);
+
+            // Then
+            assertThat(result).isEmpty();
+            assertThat(profileIndex.size()).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("스냅샷 적재 테스트")
+    class ReloadTest {
+
+        @Test
+        @DisplayName("성공 - 적재 중 반영된 프로필은 이전 스냅샷으로 덮어쓰지 않음")
+        void reload_KeepsUpsertDuringLoad() {
+            // Given
+            User updated = user(2L, User.TravelStyle.FOOD, 28, "FOOD", "HISTORY");
+            when(userRepository.findActiveInterestSnapshot()).thenReturn(List.of());
+            when(userRepository.findActiveProfileSnapshot()).thenAnswer(invocation -> {
+                profileIndex.upsert(updated);
+                return List.<Object[]>of(new Object[]{2L, User.TravelStyle.NATURE, 60});
+            });
+
+            // When
+            profileIndex.warmUp();
+
+            // Then
+            assertThat(profileIndex.get(2L).ageBucket()).isEqualTo((byte) 2);
+            assertThat(profileIndex.get(2L).styleMask()).isEqualTo(1 << User.TravelStyle.FOOD.ordinal());
+        }
+
+        @Test
+        @DisplayName("성공 - 스냅샷에서 빠진 사용자는 다음 적재에서 제거")
+        void reload_RemovesMissingUsers() {
+            // Given
+            when(userRepository.findActiveInterestSnapshot()).thenReturn(List.of());
+            when(userRepository.findActiveProfileSnapshot())
+                    .thenReturn(List.<Object[]>of(new Object[]{2L, User.TravelStyle.FOOD, 28},
+                            new Object[]{3L, User.TravelStyle.FOOD, 28}))
+                    .thenReturn(List.<Object[]>of(new Object[]{2L, User.TravelStyle.FOOD, 28}));
+            profileIndex.warmUp();
+
+            // When
+            profileIndex.reload();
+
+            // Then
+            assertThat(profileIndex.get(2L)).isNotNull();
+            assertThat(profileIndex.get(3L)).isNull();
+        }
+    }
+
+    private User user(Long id, User.TravelStyle travelStyle, Integer age, String... interests) {
+        User user = new User();
+        user.setId(id);
+        user.setTravelStyle(travelStyle);
+        user.setAge(age);
+        user.setInterests(new ArrayList<>(List.of(interests)));
+        user.setIsActive(true);
+        return user;
+    }
+}